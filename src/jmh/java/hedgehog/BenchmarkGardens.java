@@ -0,0 +1,95 @@
+package hedgehog;
+
+import hedgehog.model.Garden;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * <p>The gardens shared by the benchmarks. A garden is identified by its {@link Shape} and
+ * <code>size</code> (the length of its longer side) and its contents are random but
+ * deterministic; the same shape and size always give the same apples, between <code>0</code> and
+ * <code>255</code> under each tree.</p>
+ */
+public final class BenchmarkGardens {
+
+  private static final int MAX_APPLES = 256;
+
+  private BenchmarkGardens() {
+    super();
+  }
+
+  public enum Shape {
+
+    SQUARE(1, 1),
+    TALL(1, 16),
+    WIDE(16, 1);
+
+    private final int widthRatio;
+    private final int heightRatio;
+
+    Shape(final int widthRatio, final int heightRatio) {
+      this.widthRatio = widthRatio;
+      this.heightRatio = heightRatio;
+    }
+
+    public int width(final int size) {
+      return Math.max(1, size * widthRatio / Math.max(widthRatio, heightRatio));
+    }
+
+    public int height(final int size) {
+      return Math.max(1, size * heightRatio / Math.max(widthRatio, heightRatio));
+    }
+  }
+
+  public static Garden garden(final Shape shape, final int size) {
+
+    final int width = shape.width(size);
+    final int height = shape.height(size);
+    final Random random = random(shape, size);
+    final Garden.Builder builder = new Garden.Builder().width(width).height(height);
+    final int[] appleRow = new int[width];
+
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        appleRow[x] = random.nextInt(MAX_APPLES);
+      }
+      builder.appleRow(appleRow);
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * <p>Writes the same garden as {@link #garden(Shape, int)} to <code>path</code> in the input
+   * format, without holding the garden in memory.</p>
+   */
+  public static void write(final Shape shape, final int size, final Path path)
+      throws IOException {
+
+    final int width = shape.width(size);
+    final int height = shape.height(size);
+    final Random random = random(shape, size);
+
+    try (final BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.US_ASCII)) {
+      writer.write(width + " " + height);
+      for (int y = 0; y < height; y++) {
+        writer.newLine();
+        for (int x = 0; x < width; x++) {
+          if (x > 0) {
+            writer.write(' ');
+          }
+          writer.write(Integer.toString(random.nextInt(MAX_APPLES)));
+        }
+      }
+    }
+  }
+
+  private static Random random(final Shape shape, final int size) {
+    return new Random(31L * size + shape.ordinal());
+  }
+
+}
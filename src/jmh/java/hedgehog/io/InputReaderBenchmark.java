@@ -0,0 +1,83 @@
+package hedgehog.io;
+
+import hedgehog.BenchmarkGardens;
+import hedgehog.exception.InputReadException;
+import hedgehog.model.Garden;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Measures reading square, tall and wide gardens from <code>3</code> up to <code>10000</code>
+ * squares along the longer side with each {@link InputReader}. The input file is written to a
+ * temporary directory once per trial and read from the file system.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class InputReaderBenchmark {
+
+  public enum Reader {
+
+    FILE(FileInputReader::new),
+    CHANNEL(ChannelInputReader::new),
+    MAPPED(MappedInputReader::new);
+
+    private final Supplier<InputReader> supplier;
+
+    Reader(final Supplier<InputReader> supplier) {
+      this.supplier = supplier;
+    }
+  }
+
+  @Param
+  private Reader reader;
+
+  @Param
+  private BenchmarkGardens.Shape shape;
+
+  @Param({"3", "100", "1000", "10000"})
+  private int size;
+
+  private Path directory;
+  private String inputFileLocation;
+  private InputReader inputReader;
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("hedgehog-benchmark");
+    final Path input = directory.resolve("input.txt");
+    BenchmarkGardens.write(shape, size, input);
+    inputFileLocation = input.toString();
+    inputReader = reader.supplier.get();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(directory.resolve("input.txt"));
+    Files.deleteIfExists(directory);
+  }
+
+  @Benchmark
+  public Garden read() throws InputReadException {
+    return inputReader.read(inputFileLocation);
+  }
+
+}
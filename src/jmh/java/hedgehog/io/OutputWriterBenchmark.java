@@ -0,0 +1,92 @@
+package hedgehog.io;
+
+import hedgehog.BenchmarkGardens;
+import hedgehog.exception.OutputWriteException;
+import hedgehog.model.Route;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Measures {@link FileOutputWriter} writing a solution (<code>solution</code>) and a
+ * {@link Route} (<code>route</code>) for square, tall and wide gardens from <code>3</code> up to
+ * <code>10000</code> squares along the longer side. The route is random but deterministic for
+ * each shape and size.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutputWriterBenchmark {
+
+  @Param
+  private BenchmarkGardens.Shape shape;
+
+  @Param({"3", "100", "1000", "10000"})
+  private int size;
+
+  private Path directory;
+  private String outputFileLocation;
+  private OutputWriter outputWriter;
+  private Route route;
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("hedgehog-benchmark");
+    outputFileLocation = directory.resolve("output.txt").toString();
+    outputWriter = new FileOutputWriter();
+    route = route(shape.width(size), shape.height(size), new Random(31L * size + shape.ordinal()));
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(directory.resolve("output.txt"));
+    Files.deleteIfExists(directory);
+  }
+
+  @Benchmark
+  public void solution() throws OutputWriteException {
+    outputWriter.write(route.apples(), outputFileLocation);
+  }
+
+  @Benchmark
+  public void route() throws OutputWriteException {
+    outputWriter.write(route, outputFileLocation);
+  }
+
+  /**
+   * @return a route whose down moves are chosen uniformly at random.
+   */
+  private static Route route(final int width, final int height, final Random random) {
+
+    final int moveCount = width + height - 2;
+    final long[] moves = new long[Route.words(moveCount)];
+    int downMoves = height - 1;
+
+    for (int move = 0; move < moveCount; move++) {
+      if (random.nextInt(moveCount - move) < downMoves) {
+        moves[move >>> 6] |= 1L << move;
+        downMoves--;
+      }
+    }
+
+    return new Route((long) moveCount * 128, width, height, moves);
+  }
+
+}
@@ -0,0 +1,51 @@
+package hedgehog.strategy;
+
+import hedgehog.BenchmarkGardens;
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Measures {@link BinarySolutionStrategy}, which examines every one of the
+ * <code>C(width + height - 2, height - 1)</code> paths and so is limited to small gardens.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinarySolutionStrategyBenchmark {
+
+  @Param
+  private BenchmarkGardens.Shape shape;
+
+  @Param({"3", "5", "8"})
+  private int size;
+
+  private Garden garden;
+  private SolutionStrategy solutionStrategy;
+
+  @Setup
+  public void setUp() {
+    garden = BenchmarkGardens.garden(shape, size);
+    solutionStrategy = new BinarySolutionStrategy();
+  }
+
+  @Benchmark
+  public long solve() throws SolutionException {
+    return solutionStrategy.solve(garden);
+  }
+
+}
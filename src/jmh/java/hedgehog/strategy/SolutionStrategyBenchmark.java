@@ -0,0 +1,71 @@
+package hedgehog.strategy;
+
+import hedgehog.BenchmarkGardens;
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Measures every polynomial {@link SolutionStrategy} on square, tall and wide gardens from
+ * <code>3</code> up to <code>10000</code> squares along the longer side. The exponential
+ * {@link BinarySolutionStrategy} is measured separately by
+ * {@link BinarySolutionStrategyBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g", "--add-modules", "jdk.incubator.vector"})
+public class SolutionStrategyBenchmark {
+
+  public enum Strategy {
+
+    DYNAMIC_PROGRAMMING(DynamicProgrammingSolutionStrategy::new),
+    PARALLEL_WAVEFRONT(ParallelWavefrontSolutionStrategy::new),
+    VECTOR(VectorSolutionStrategy::new),
+    HIRSCHBERG(HirschbergSolutionStrategy::new);
+
+    private final Supplier<SolutionStrategy> supplier;
+
+    Strategy(final Supplier<SolutionStrategy> supplier) {
+      this.supplier = supplier;
+    }
+  }
+
+  @Param
+  private Strategy strategy;
+
+  @Param
+  private BenchmarkGardens.Shape shape;
+
+  @Param({"3", "100", "1000", "10000"})
+  private int size;
+
+  private Garden garden;
+  private SolutionStrategy solutionStrategy;
+
+  @Setup
+  public void setUp() {
+    garden = BenchmarkGardens.garden(shape, size);
+    solutionStrategy = strategy.supplier.get();
+  }
+
+  @Benchmark
+  public long solve() throws SolutionException {
+    return solutionStrategy.solve(garden);
+  }
+
+}
@@ -0,0 +1,71 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Compares {@link VectorSolutionStrategy} against the scalar
+ * {@link DynamicProgrammingSolutionStrategy} on square gardens, both including the cost of skewing
+ * the garden (<code>vector</code>) and on a garden that has already been skewed
+ * (<code>vectorSkewed</code>).</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class VectorSolutionStrategyBenchmark {
+
+  @Param({"1000", "4000"})
+  private int size;
+
+  private Garden garden;
+  private SolutionStrategy scalarStrategy;
+  private VectorSolutionStrategy vectorStrategy;
+  private SkewedGarden skewedGarden;
+
+  @Setup
+  public void setUp() {
+    final Random random = new Random(size);
+    final int[][] appleTable = new int[size][size];
+    for (final int[] appleRow : appleTable) {
+      for (int x = 0; x < appleRow.length; x++) {
+        appleRow[x] = random.nextInt(256);
+      }
+    }
+    garden = new Garden(size, size, appleTable);
+    scalarStrategy = new DynamicProgrammingSolutionStrategy();
+    vectorStrategy = new VectorSolutionStrategy();
+    skewedGarden = vectorStrategy.skew(garden);
+  }
+
+  @Benchmark
+  public long scalar() throws SolutionException {
+    return scalarStrategy.solve(garden);
+  }
+
+  @Benchmark
+  public long vector() throws SolutionException {
+    return vectorStrategy.solve(vectorStrategy.skew(garden));
+  }
+
+  @Benchmark
+  public long vectorSkewed() throws SolutionException {
+    return vectorStrategy.solve(skewedGarden);
+  }
+
+}
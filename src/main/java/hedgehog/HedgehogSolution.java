@@ -4,12 +4,25 @@ import hedgehog.exception.InputReadException;
 import hedgehog.exception.OutputWriteException;
 import hedgehog.exception.SolutionException;
 import hedgehog.io.FileOutputWriter;
+import hedgehog.io.GardenHeader;
 import hedgehog.io.InputReader;
 import hedgehog.io.FileInputReader;
 import hedgehog.io.OutputWriter;
+import hedgehog.io.StreamingInputReader;
+import hedgehog.memory.AdmissionControl;
+import hedgehog.memory.MemoryBudget;
 import hedgehog.model.Garden;
-import hedgehog.strategy.BinarySolutionStrategy;
+import hedgehog.model.Route;
+import hedgehog.strategy.CachingSolutionStrategy;
+import hedgehog.strategy.HirschbergSolutionStrategy;
+import hedgehog.strategy.MemoryEstimator;
+import hedgehog.strategy.OutOfCoreSolver;
+import hedgehog.strategy.PlanningSolutionStrategy;
+import hedgehog.strategy.RouteSolutionStrategy;
 import hedgehog.strategy.SolutionStrategy;
+import hedgehog.strategy.StreamingSolver;
+import java.time.Duration;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -17,16 +30,57 @@ import java.util.logging.Logger;
 public class HedgehogSolution {
 
   private final InputReader inputReader;
+  private final StreamingInputReader streamingInputReader;
   private final OutputWriter outputWriter;
   private final SolutionStrategy solutionStrategy;
+  private final RouteSolutionStrategy routeSolutionStrategy;
+  private final AdmissionControl admissionControl;
 
   private static final Logger LOGGER = Logger.getLogger(HedgehogSolution.class.getSimpleName());
 
   public HedgehogSolution() {
+    this(new PlanningSolutionStrategy());
+  }
+
+  /**
+   * <p>Solves with <code>solutionStrategy</code>, for example a {@link CachingSolutionStrategy}
+   * around another strategy, instead of the default {@link PlanningSolutionStrategy}.</p>
+   */
+  public HedgehogSolution(final SolutionStrategy solutionStrategy) {
+    this(
+        solutionStrategy,
+        new AdmissionControl(MemoryBudget.global(), new MemoryEstimator(), Duration.ZERO));
+  }
+
+  /**
+   * <p>Admits each garden with <code>admissionControl</code> before it is read, instead of with
+   * the default, which shares {@link MemoryBudget#global()} with every other job in the JVM and
+   * does not wait for it; a garden that does not fit what is left of it is rejected at once,
+   * rather than holding up the caller. A garden whose estimate is more than the budget is solved
+   * out of core from its file by {@link #execute(String, String)} if that fits, and otherwise
+   * rejected without being read.</p>
+   */
+  public HedgehogSolution(
+      final SolutionStrategy solutionStrategy,
+      final AdmissionControl admissionControl) {
+
     super();
-    inputReader = new FileInputReader();
+
+    if (Objects.isNull(solutionStrategy)) {
+      throw new IllegalArgumentException("Illegal argument; 'solutionStrategy' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(admissionControl)) {
+      throw new IllegalArgumentException("Illegal argument; 'admissionControl' cannot be 'null'.");
+    }
+
+    final FileInputReader fileInputReader = new FileInputReader();
+    inputReader = fileInputReader;
+    streamingInputReader = fileInputReader;
     outputWriter = new FileOutputWriter();
-    solutionStrategy = new BinarySolutionStrategy();
+    this.solutionStrategy = solutionStrategy;
+    routeSolutionStrategy = new HirschbergSolutionStrategy();
+    this.admissionControl = admissionControl;
   }
 
   public void execute(final String inputFileLocation, final String outputFileLocation) {
@@ -38,11 +92,111 @@ public class HedgehogSolution {
             inputFileLocation,
             outputFileLocation));
 
-    read(inputFileLocation)
-        .flatMap(this::solve)
+    admit(inputFileLocation, true)
+        .ifPresent(admission -> {
+          try (admission) {
+            switch (admission.decision()) {
+              case IN_MEMORY:
+                read(inputFileLocation)
+                    .flatMap(this::solve)
+                    .ifPresent(solution -> write(solution, outputFileLocation));
+                break;
+              case OUT_OF_CORE:
+                solveOutOfCore(inputFileLocation, admission.bytes())
+                    .ifPresent(solution -> write(solution, outputFileLocation));
+                break;
+              default:
+                reject(inputFileLocation, admission);
+            }
+          }
+        });
+  }
+
+  public void executeRoute(final String inputFileLocation, final String outputFileLocation) {
+
+    LOGGER.log(
+        Level.INFO,
+        String.format(
+            "executeRoute[inputFileLocation == %s, outputFileLocation == %s]",
+            inputFileLocation,
+            outputFileLocation));
+
+    admit(inputFileLocation, false)
+        .ifPresent(admission -> {
+          try (admission) {
+            if (admission.decision() == AdmissionControl.Decision.IN_MEMORY) {
+              read(inputFileLocation)
+                  .flatMap(this::solveRoute)
+                  .ifPresent(route -> write(route, outputFileLocation));
+            } else {
+              reject(inputFileLocation, admission);
+            }
+          }
+        });
+  }
+
+  /**
+   * <p>Solves the garden at <code>inputFileLocation</code> while it is being read, so that only a
+   * single row of the garden is ever held in memory. The solution is the same as for
+   * {@link #execute(String, String)}.</p>
+   */
+  public void executeStreaming(final String inputFileLocation, final String outputFileLocation) {
+
+    LOGGER.log(
+        Level.INFO,
+        String.format(
+            "executeStreaming[inputFileLocation == %s, outputFileLocation == %s]",
+            inputFileLocation,
+            outputFileLocation));
+
+    readAndSolve(inputFileLocation)
         .ifPresent(solution -> write(solution, outputFileLocation));
   }
 
+  private Optional<AdmissionControl.Admission> admit(
+      final String inputFileLocation,
+      final boolean outOfCore) {
+
+    LOGGER.log(Level.INFO, String.format("admit[inputFileLocation == %s]", inputFileLocation));
+
+    AdmissionControl.Admission admission = null;
+
+    try {
+      final GardenHeader header = inputReader.peek(inputFileLocation);
+      admission = admissionControl.admit(header, outOfCore);
+    } catch (final InputReadException e) {
+      LOGGER.log(
+          Level.SEVERE,
+          String.format(
+              "InputReadException caught while attempting to read input file header. "
+                  + "[inputFileLocation == %s]",
+              inputFileLocation),
+          e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOGGER.log(
+          Level.SEVERE,
+          String.format(
+              "InterruptedException caught while waiting for memory. [inputFileLocation == %s]",
+              inputFileLocation),
+          e);
+    }
+
+    return Optional.ofNullable(admission);
+  }
+
+  private void reject(
+      final String inputFileLocation,
+      final AdmissionControl.Admission admission) {
+
+    LOGGER.log(
+        Level.SEVERE,
+        String.format(
+            "Input file rejected; not enough memory. [inputFileLocation == %s, reason == %s]",
+            inputFileLocation,
+            admission.reason()));
+  }
+
   private Optional<Garden> read(final String inputFileLocation) {
 
     LOGGER.log(Level.INFO, String.format("read[inputFileLocation == %s]", inputFileLocation));
@@ -64,11 +218,79 @@ public class HedgehogSolution {
     return Optional.ofNullable(garden);
   }
 
-  private Optional<Integer> solve(final Garden garden) {
+  private Optional<Long> readAndSolve(final String inputFileLocation) {
+
+    LOGGER.log(
+        Level.INFO,
+        String.format("readAndSolve[inputFileLocation == %s]", inputFileLocation));
+
+    final StreamingSolver streamingSolver = new StreamingSolver();
+    Long solution = null;
+
+    try {
+      streamingInputReader.read(inputFileLocation, streamingSolver);
+      solution = streamingSolver.solution();
+    } catch (final InputReadException e) {
+      LOGGER.log(
+          Level.SEVERE,
+          String.format(
+              "InputReadException caught while attempting to read input file. "
+                  + "[inputFileLocation == %s]",
+              inputFileLocation),
+          e);
+    } catch (final SolutionException e) {
+      LOGGER.log(
+          Level.SEVERE,
+          String.format(
+              "SolutionException caught while attempting to solve. [inputFileLocation == %s]",
+              inputFileLocation),
+          e);
+    }
+
+    return Optional.ofNullable(solution);
+  }
+
+  private Optional<Long> solveOutOfCore(final String inputFileLocation, final long memoryBudget) {
+
+    LOGGER.log(
+        Level.INFO,
+        String.format(
+            "solveOutOfCore[inputFileLocation == %s, memoryBudget == %d]",
+            inputFileLocation,
+            memoryBudget));
+
+    Long solution = null;
+
+    try {
+      final OutOfCoreSolver.Report report =
+          new OutOfCoreSolver(memoryBudget, Integer.MAX_VALUE, true).solve(inputFileLocation);
+      LOGGER.log(Level.INFO, report.toString());
+      solution = report.solution();
+    } catch (final InputReadException e) {
+      LOGGER.log(
+          Level.SEVERE,
+          String.format(
+              "InputReadException caught while attempting to read input file. "
+                  + "[inputFileLocation == %s]",
+              inputFileLocation),
+          e);
+    } catch (final SolutionException e) {
+      LOGGER.log(
+          Level.SEVERE,
+          String.format(
+              "SolutionException caught while attempting to solve. [inputFileLocation == %s]",
+              inputFileLocation),
+          e);
+    }
+
+    return Optional.ofNullable(solution);
+  }
+
+  private Optional<Long> solve(final Garden garden) {
 
     LOGGER.log(Level.INFO, String.format("solve[garden == %s]", garden));
 
-    Integer solution = null;
+    Long solution = null;
 
     try {
       solution = solutionStrategy.solve(garden);
@@ -84,7 +306,27 @@ public class HedgehogSolution {
     return Optional.ofNullable(solution);
   }
 
-  private void write(final int solution, final String outputFileLocation) {
+  private Optional<Route> solveRoute(final Garden garden) {
+
+    LOGGER.log(Level.INFO, String.format("solveRoute[garden == %s]", garden));
+
+    Route route = null;
+
+    try {
+      route = routeSolutionStrategy.solveRoute(garden);
+    } catch (final SolutionException e) {
+      LOGGER.log(
+          Level.SEVERE,
+          String.format(
+              "SolutionException caught while attempting to solve route. [garden == %s]",
+              garden),
+          e);
+    }
+
+    return Optional.ofNullable(route);
+  }
+
+  private void write(final long solution, final String outputFileLocation) {
 
     LOGGER.log(
         Level.INFO,
@@ -107,4 +349,27 @@ public class HedgehogSolution {
     }
   }
 
+  private void write(final Route route, final String outputFileLocation) {
+
+    LOGGER.log(
+        Level.INFO,
+        String.format(
+            "write[route == %s, outputFileLocation == %s]",
+            route,
+            outputFileLocation));
+
+    try {
+      outputWriter.write(route, outputFileLocation);
+    } catch (final OutputWriteException e) {
+      LOGGER.log(
+          Level.SEVERE,
+          String.format(
+              "OutputWriteException caught while attempting to write output file. [route == %s, "
+                  + "outputFileLocation == %s]",
+              route,
+              outputFileLocation),
+          e);
+    }
+  }
+
 }
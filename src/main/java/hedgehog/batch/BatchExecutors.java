@@ -0,0 +1,45 @@
+package hedgehog.batch;
+
+import hedgehog.concurrent.VirtualThreads;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <p>The thread pools a {@link BatchSolution} can run on; virtual threads where the Java version
+ * has them (see {@link VirtualThreads}).</p>
+ */
+public final class BatchExecutors {
+
+  private BatchExecutors() {
+    super();
+  }
+
+  public static ExecutorService platform(final int threads) {
+
+    if (threads <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'threads' cannot be less than or equal to zero. "
+                  + "[threads == %d]",
+              threads));
+    }
+
+    return Executors.newFixedThreadPool(threads);
+  }
+
+  /**
+   * @return an executor that starts a new virtual thread for every task.
+   *
+   * @throws UnsupportedOperationException if this Java version does not support virtual threads.
+   *
+   * @see VirtualThreads#executor()
+   */
+  public static ExecutorService virtual() {
+    return VirtualThreads.executor();
+  }
+
+  public static boolean isVirtualSupported() {
+    return VirtualThreads.isSupported();
+  }
+
+}
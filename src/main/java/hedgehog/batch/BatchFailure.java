@@ -0,0 +1,8 @@
+package hedgehog.batch;
+
+/**
+ * <p>A {@link BatchJob} that could not be completed, and the exception that stopped it; an
+ * {@link Error} is wrapped in a {@link RuntimeException}.</p>
+ */
+public record BatchFailure(BatchJob job, Exception exception) {
+}
@@ -0,0 +1,23 @@
+package hedgehog.batch;
+
+import java.util.Objects;
+
+/**
+ * <p>A single garden to be solved by a {@link BatchSolution}; where to read it from and where to
+ * write its solution to.</p>
+ */
+public record BatchJob(String inputFileLocation, String outputFileLocation) {
+
+  public BatchJob {
+
+    if (Objects.isNull(inputFileLocation)) {
+      throw new IllegalArgumentException("Illegal argument; 'inputFileLocation' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(outputFileLocation)) {
+      throw new IllegalArgumentException(
+          "Illegal argument; 'outputFileLocation' cannot be 'null'.");
+    }
+  }
+
+}
@@ -0,0 +1,109 @@
+package hedgehog.batch;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <p>Creates the {@link BatchJob}s for a {@link BatchSolution}, either from every file in a
+ * directory or from a manifest.</p>
+ */
+public final class BatchJobs {
+
+  private BatchJobs() {
+    super();
+  }
+
+  /**
+   * <p>Creates a job for every regular file in <code>inputDirectory</code> (but not its
+   * subdirectories), in name order, writing each solution to a file of the same name in
+   * <code>outputDirectory</code>. The output directory is created if it does not exist.</p>
+   */
+  public static List<BatchJob> fromDirectory(final Path inputDirectory, final Path outputDirectory)
+      throws IOException {
+
+    if (Objects.isNull(inputDirectory)) {
+      throw new IllegalArgumentException("Illegal argument; 'inputDirectory' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(outputDirectory)) {
+      throw new IllegalArgumentException("Illegal argument; 'outputDirectory' cannot be 'null'.");
+    }
+
+    if (!Files.isDirectory(inputDirectory)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'inputDirectory' must be a directory. [inputDirectory == %s]",
+              inputDirectory));
+    }
+
+    if (Files.isSameFile(inputDirectory, Files.createDirectories(outputDirectory))) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'outputDirectory' cannot be the same as 'inputDirectory'. "
+                  + "[outputDirectory == %s]",
+              outputDirectory));
+    }
+
+    try (final Stream<Path> files = Files.list(inputDirectory)) {
+      return files
+          .filter(Files::isRegularFile)
+          .sorted()
+          .map(input ->
+              new BatchJob(
+                  input.toString(),
+                  outputDirectory.resolve(input.getFileName()).toString()))
+          .collect(Collectors.toList());
+    }
+  }
+
+  /**
+   * <p>Creates a job for every line of <code>manifest</code> that is not blank and does not start
+   * with <code>#</code>. Each line holds the input location and the output location separated by
+   * whitespace; relative locations are resolved against the directory holding the manifest.</p>
+   */
+  public static List<BatchJob> fromManifest(final Path manifest) throws IOException {
+
+    if (Objects.isNull(manifest)) {
+      throw new IllegalArgumentException("Illegal argument; 'manifest' cannot be 'null'.");
+    }
+
+    final Path base = manifest.toAbsolutePath().getParent();
+    final List<BatchJob> jobs = new ArrayList<>();
+    int lineNumber = 0;
+
+    for (final String line : Files.readAllLines(manifest)) {
+
+      lineNumber++;
+
+      final String trimmed = line.trim();
+      if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+        continue;
+      }
+
+      final String[] locations = trimmed.split("\\s+");
+
+      if (locations.length != 2) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; each line of 'manifest' must hold an input and an output "
+                    + "location. [manifest == %s, line == %d]",
+                manifest,
+                lineNumber));
+      }
+
+      jobs.add(
+          new BatchJob(
+              base.resolve(locations[0]).toString(),
+              base.resolve(locations[1]).toString()));
+    }
+
+    return jobs;
+  }
+
+}
@@ -0,0 +1,89 @@
+package hedgehog.batch;
+
+import hedgehog.io.ChannelInputReader;
+import hedgehog.io.FileOutputWriter;
+import hedgehog.strategy.DynamicProgrammingSolutionStrategy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Solves a whole batch of gardens in one JVM. The arguments are;</p>
+ *
+ * <ol>
+ *   <li>an input directory, or a manifest file of <code>input output</code> lines;</li>
+ *   <li>the output directory (required for, and only used with, an input directory);</li>
+ *   <li>the number of platform threads, or <code>virtual</code> for a virtual thread per job
+ *   (default: the number of processors);</li>
+ *   <li>the maximum number of jobs in flight (default: four per processor).</li>
+ * </ol>
+ */
+public class BatchMain {
+
+  private static final Logger LOGGER = Logger.getLogger(BatchMain.class.getSimpleName());
+
+  private static final String VIRTUAL = "virtual";
+
+  public static void main(final String... args) throws Exception {
+
+    LOGGER.log(Level.INFO, String.format("main [args == %s]", Arrays.toString(args)));
+
+    if (args.length < 1) {
+      throw new IllegalArgumentException(
+          "Illegal argument; usage: <inputDirectory outputDirectory | manifest> "
+              + "[threads | virtual] [maxInFlight]");
+    }
+
+    final Path source = Path.of(args[0]);
+    final boolean directory = Files.isDirectory(source);
+    final int next = directory ? 2 : 1;
+
+    final List<BatchJob> jobs =
+        directory
+            ? BatchJobs.fromDirectory(source, Path.of(args[1]))
+            : BatchJobs.fromManifest(source);
+
+    final int processors = Runtime.getRuntime().availableProcessors();
+    final String threads = args.length > next ? args[next] : Integer.toString(processors);
+    final int maxInFlight =
+        args.length > next + 1 ? Integer.parseInt(args[next + 1]) : 4 * processors;
+
+    final ExecutorService executorService = executorService(threads);
+
+    try {
+      final BatchSummary summary =
+          new BatchSolution(
+              new ChannelInputReader(),
+              new DynamicProgrammingSolutionStrategy(),
+              new FileOutputWriter(),
+              executorService,
+              maxInFlight)
+              .execute(jobs);
+      System.out.println(summary);
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  private static ExecutorService executorService(final String threads) {
+
+    if (!VIRTUAL.equalsIgnoreCase(threads)) {
+      return BatchExecutors.platform(Integer.parseInt(threads));
+    }
+
+    if (BatchExecutors.isVirtualSupported()) {
+      return BatchExecutors.virtual();
+    }
+
+    LOGGER.log(
+        Level.WARNING,
+        "Virtual threads are not supported by this Java version; using platform threads.");
+
+    return BatchExecutors.platform(Runtime.getRuntime().availableProcessors());
+  }
+
+}
@@ -0,0 +1,205 @@
+package hedgehog.batch;
+
+import hedgehog.io.InputReader;
+import hedgehog.io.OutputWriter;
+import hedgehog.memory.AdmissionControl;
+import hedgehog.memory.MemoryBudget;
+import hedgehog.model.Garden;
+import hedgehog.strategy.SolutionStrategy;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Solves many gardens in a single JVM. Each {@link BatchJob} is read, solved and written on the
+ * supplied {@link ExecutorService}, with at most <code>maxInFlight</code> jobs started but not yet
+ * finished at any time so that the number of gardens held in memory stays bounded however many
+ * jobs there are.</p>
+ *
+ * <p>A job that fails is logged and recorded in the {@link BatchSummary}; it does not stop the
+ * rest of the batch. The reader, strategy and writer are shared by every job and so must be
+ * thread safe.</p>
+ *
+ * <p>With an {@link AdmissionControl}, each job's header is read first and the job waits for its
+ * estimate to be reserved from the control's {@link MemoryBudget} before its garden is read, so
+ * that the gardens held at once fit in the budget however large <code>maxInFlight</code> is; a job
+ * that cannot be admitted fails without being read.</p>
+ */
+public class BatchSolution {
+
+  private static final Logger LOGGER = Logger.getLogger(BatchSolution.class.getSimpleName());
+
+  private final InputReader inputReader;
+  private final SolutionStrategy solutionStrategy;
+  private final OutputWriter outputWriter;
+  private final ExecutorService executorService;
+  private final int maxInFlight;
+  private final AdmissionControl admissionControl;
+
+  public BatchSolution(
+      final InputReader inputReader,
+      final SolutionStrategy solutionStrategy,
+      final OutputWriter outputWriter,
+      final ExecutorService executorService,
+      final int maxInFlight) {
+
+    this(inputReader, solutionStrategy, outputWriter, executorService, maxInFlight, null);
+  }
+
+  /**
+   * @param admissionControl admits each job before it is read; <code>null</code> to admit every
+   * job.
+   */
+  public BatchSolution(
+      final InputReader inputReader,
+      final SolutionStrategy solutionStrategy,
+      final OutputWriter outputWriter,
+      final ExecutorService executorService,
+      final int maxInFlight,
+      final AdmissionControl admissionControl) {
+
+    super();
+
+    if (Objects.isNull(inputReader)) {
+      throw new IllegalArgumentException("Illegal argument; 'inputReader' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(solutionStrategy)) {
+      throw new IllegalArgumentException("Illegal argument; 'solutionStrategy' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(outputWriter)) {
+      throw new IllegalArgumentException("Illegal argument; 'outputWriter' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(executorService)) {
+      throw new IllegalArgumentException("Illegal argument; 'executorService' cannot be 'null'.");
+    }
+
+    if (maxInFlight <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'maxInFlight' cannot be less than or equal to zero. "
+                  + "[maxInFlight == %d]",
+              maxInFlight));
+    }
+
+    this.inputReader = inputReader;
+    this.solutionStrategy = solutionStrategy;
+    this.outputWriter = outputWriter;
+    this.executorService = executorService;
+    this.maxInFlight = maxInFlight;
+    this.admissionControl = admissionControl;
+  }
+
+  /**
+   * <p>Runs every job and waits for them all to finish.</p>
+   *
+   * @return a summary of the batch.
+   *
+   * @throws InterruptedException if interrupted while waiting; jobs already started carry on.
+   */
+  public BatchSummary execute(final List<BatchJob> jobs) throws InterruptedException {
+
+    if (Objects.isNull(jobs)) {
+      throw new IllegalArgumentException("Illegal argument; 'jobs' cannot be 'null'.");
+    }
+
+    LOGGER.log(
+        Level.INFO,
+        String.format("execute[jobs == %d, maxInFlight == %d]", jobs.size(), maxInFlight));
+
+    final Semaphore inFlight = new Semaphore(maxInFlight);
+    final CountDownLatch finished = new CountDownLatch(jobs.size());
+    final Queue<BatchFailure> failures = new ConcurrentLinkedQueue<>();
+    final LongAdder succeeded = new LongAdder();
+    final LongAdder cells = new LongAdder();
+    final long start = System.nanoTime();
+
+    for (final BatchJob job : jobs) {
+
+      inFlight.acquire();
+
+      try {
+        executorService.execute(() -> {
+          try {
+            cells.add(run(job));
+            succeeded.increment();
+          } catch (final Throwable e) {
+            // An Error, such as running out of memory on one garden, fails only that job.
+            final Exception exception =
+                e instanceof Exception ? (Exception) e : new RuntimeException(e);
+            failures.add(new BatchFailure(job, exception));
+          } finally {
+            inFlight.release();
+            finished.countDown();
+          }
+        });
+      } catch (final RejectedExecutionException e) {
+        failures.add(new BatchFailure(job, e));
+        inFlight.release();
+        finished.countDown();
+      }
+    }
+
+    finished.await();
+
+    final BatchSummary summary =
+        new BatchSummary(
+            jobs.size(),
+            succeeded.intValue(),
+            List.copyOf(failures),
+            cells.sum(),
+            System.nanoTime() - start);
+
+    LOGGER.log(Level.INFO, summary.toString());
+
+    return summary;
+  }
+
+  /**
+   * @return the number of squares in the garden that was solved.
+   */
+  private long run(final BatchJob job) throws Exception {
+    try {
+      if (Objects.isNull(admissionControl)) {
+        return solve(job);
+      }
+      try (final AdmissionControl.Admission admission =
+          admissionControl.admit(inputReader.peek(job.inputFileLocation()), false)) {
+        if (admission.decision() != AdmissionControl.Decision.IN_MEMORY) {
+          throw new IllegalStateException(
+              String.format(
+                  "Illegal state; job not admitted. [reason == %s]", admission.reason()));
+        }
+        return solve(job);
+      }
+    } catch (final Exception | Error e) {
+      LOGGER.log(
+          Level.SEVERE,
+          String.format(
+              "%s caught while attempting to solve batch job. [inputFileLocation == %s, "
+                  + "outputFileLocation == %s]",
+              e.getClass().getSimpleName(),
+              job.inputFileLocation(),
+              job.outputFileLocation()),
+          e);
+      throw e;
+    }
+  }
+
+  private long solve(final BatchJob job) throws Exception {
+    final Garden garden = inputReader.read(job.inputFileLocation());
+    outputWriter.write(solutionStrategy.solve(garden), job.outputFileLocation());
+    return (long) garden.width() * garden.height();
+  }
+
+}
@@ -0,0 +1,47 @@
+package hedgehog.batch;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>The outcome of a {@link BatchSolution}; how many gardens were solved, which failed and how
+ * quickly the batch ran. <code>cells</code> is the total number of squares in the gardens that
+ * were solved.</p>
+ */
+public record BatchSummary(
+    int jobs,
+    int succeeded,
+    List<BatchFailure> failures,
+    long cells,
+    long elapsedNanos) {
+
+  public BatchSummary {
+    failures = List.copyOf(failures);
+  }
+
+  public double jobsPerSecond() {
+    return perSecond(jobs);
+  }
+
+  public double cellsPerSecond() {
+    return perSecond(cells);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s[jobs=%d, succeeded=%d, failed=%d, elapsed=%dms, jobs/s=%.1f, cells/s=%.0f]",
+        BatchSummary.class.getSimpleName(),
+        jobs,
+        succeeded,
+        failures.size(),
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+        jobsPerSecond(),
+        cellsPerSecond());
+  }
+
+  private double perSecond(final long count) {
+    return elapsedNanos == 0 ? 0 : count * 1e9 / elapsedNanos;
+  }
+
+}
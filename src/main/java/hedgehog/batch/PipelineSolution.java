@@ -0,0 +1,275 @@
+package hedgehog.batch;
+
+import hedgehog.io.InputReader;
+import hedgehog.io.OutputWriter;
+import hedgehog.model.Garden;
+import hedgehog.strategy.SolutionStrategy;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Solves many gardens with reading, solving and writing overlapped, so that the disk is busy
+ * reading (or writing) one garden while the CPU is busy solving another. Each stage runs on its
+ * own pool of threads and the stages are chained with {@link CompletableFuture}s.</p>
+ *
+ * <p>Each stage also has a queue depth; the number of jobs that may be queued for, or running in,
+ * that stage at once. A job only moves on to the next stage once that stage has room for it, and
+ * until then it keeps its place (and its thread) in the current stage. A slow stage therefore
+ * holds back the stages before it, down to {@link #execute(List)} itself, and the number of
+ * gardens held in memory never exceeds the sum of the queue depths.</p>
+ *
+ * <p>As with {@link BatchSolution}, a job that fails is logged and recorded in the
+ * {@link BatchSummary} without stopping the rest. Instances own their threads and must be
+ * {@link #close() closed}.</p>
+ */
+public class PipelineSolution implements AutoCloseable {
+
+  private static final Logger LOGGER = Logger.getLogger(PipelineSolution.class.getSimpleName());
+
+  private final InputReader inputReader;
+  private final SolutionStrategy solutionStrategy;
+  private final OutputWriter outputWriter;
+  private final StageExecutor read;
+  private final StageExecutor solve;
+  private final StageExecutor write;
+
+  public PipelineSolution(
+      final InputReader inputReader,
+      final SolutionStrategy solutionStrategy,
+      final OutputWriter outputWriter,
+      final Stage readStage,
+      final Stage solveStage,
+      final Stage writeStage) {
+
+    super();
+
+    if (Objects.isNull(inputReader)) {
+      throw new IllegalArgumentException("Illegal argument; 'inputReader' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(solutionStrategy)) {
+      throw new IllegalArgumentException("Illegal argument; 'solutionStrategy' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(outputWriter)) {
+      throw new IllegalArgumentException("Illegal argument; 'outputWriter' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(readStage) || Objects.isNull(solveStage) || Objects.isNull(writeStage)) {
+      throw new IllegalArgumentException(
+          "Illegal argument; 'readStage', 'solveStage' and 'writeStage' cannot be 'null'.");
+    }
+
+    this.inputReader = inputReader;
+    this.solutionStrategy = solutionStrategy;
+    this.outputWriter = outputWriter;
+    this.read = new StageExecutor("read", readStage);
+    this.solve = new StageExecutor("solve", solveStage);
+    this.write = new StageExecutor("write", writeStage);
+  }
+
+  /**
+   * <p>Runs every job through the pipeline and waits for them all to finish.</p>
+   *
+   * @return a summary of the batch.
+   *
+   * @throws InterruptedException if interrupted while waiting for room in the read stage; jobs
+   * already started carry on.
+   */
+  public BatchSummary execute(final List<BatchJob> jobs) throws InterruptedException {
+
+    if (Objects.isNull(jobs)) {
+      throw new IllegalArgumentException("Illegal argument; 'jobs' cannot be 'null'.");
+    }
+
+    LOGGER.log(Level.INFO, String.format("execute[jobs == %d]", jobs.size()));
+
+    final Queue<BatchFailure> failures = new ConcurrentLinkedQueue<>();
+    final LongAdder cells = new LongAdder();
+    final CompletableFuture<?>[] futures = new CompletableFuture<?>[jobs.size()];
+    final long start = System.nanoTime();
+
+    for (int i = 0; i < jobs.size(); i++) {
+
+      final BatchJob job = jobs.get(i);
+      final Ticket ticket = new Ticket();
+
+      read.permits.acquire();
+      ticket.held = read.permits;
+
+      futures[i] =
+          CompletableFuture
+              .supplyAsync(() -> handOver(ticket, solve, read(job)), read.executor)
+              .thenApplyAsync(
+                  garden -> handOver(ticket, write, new Solved(garden, solve(garden))),
+                  solve.executor)
+              .thenAcceptAsync(
+                  solved -> {
+                    write(solved.solution, job);
+                    cells.add((long) solved.garden.width() * solved.garden.height());
+                  },
+                  write.executor)
+              .whenComplete((ignored, e) -> {
+                ticket.held.release();
+                if (Objects.nonNull(e)) {
+                  failures.add(new BatchFailure(job, failure(job, e)));
+                }
+              });
+    }
+
+    CompletableFuture.allOf(futures).exceptionally(e -> null).join();
+
+    final BatchSummary summary =
+        new BatchSummary(
+            jobs.size(),
+            jobs.size() - failures.size(),
+            List.copyOf(failures),
+            cells.sum(),
+            System.nanoTime() - start);
+
+    LOGGER.log(Level.INFO, summary.toString());
+
+    return summary;
+  }
+
+  @Override
+  public void close() {
+    read.executor.shutdown();
+    solve.executor.shutdown();
+    write.executor.shutdown();
+  }
+
+  private Garden read(final BatchJob job) {
+    try {
+      return inputReader.read(job.inputFileLocation());
+    } catch (final Exception e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  private long solve(final Garden garden) {
+    try {
+      return solutionStrategy.solve(garden);
+    } catch (final Exception e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  private void write(final long solution, final BatchJob job) {
+    try {
+      outputWriter.write(solution, job.outputFileLocation());
+    } catch (final Exception e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  /**
+   * <p>Waits for room in the <code>next</code> stage and then gives up the job's place in the
+   * current one.</p>
+   */
+  private static <T> T handOver(final Ticket ticket, final StageExecutor next, final T value) {
+    try {
+      next.permits.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CompletionException(e);
+    }
+    ticket.held.release();
+    ticket.held = next.permits;
+    return value;
+  }
+
+  private static Exception failure(final BatchJob job, final Throwable throwable) {
+
+    final Throwable cause =
+        throwable instanceof CompletionException && Objects.nonNull(throwable.getCause())
+            ? throwable.getCause()
+            : throwable;
+    final Exception exception =
+        cause instanceof Exception ? (Exception) cause : new RuntimeException(cause);
+
+    LOGGER.log(
+        Level.SEVERE,
+        String.format(
+            "%s caught while attempting to solve pipeline job. [inputFileLocation == %s, "
+                + "outputFileLocation == %s]",
+            exception.getClass().getSimpleName(),
+            job.inputFileLocation(),
+            job.outputFileLocation()),
+        exception);
+
+    return exception;
+  }
+
+  /**
+   * <p>The configuration of one stage of the pipeline; the number of threads it runs on and the
+   * number of jobs that may be queued for, or running in, it at once.</p>
+   */
+  public record Stage(int threads, int queueDepth) {
+
+    public Stage {
+
+      if (threads <= 0) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; 'threads' cannot be less than or equal to zero. "
+                    + "[threads == %d]",
+                threads));
+      }
+
+      if (queueDepth < threads) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; 'queueDepth' cannot be less than 'threads'. "
+                    + "[queueDepth == %d, threads == %d]",
+                queueDepth,
+                threads));
+      }
+    }
+  }
+
+  private static final class StageExecutor {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    private StageExecutor(final String name, final Stage stage) {
+      this.executor = Executors.newFixedThreadPool(stage.threads(), threadFactory(name));
+      this.permits = new Semaphore(stage.queueDepth());
+    }
+
+    private static ThreadFactory threadFactory(final String name) {
+      final AtomicInteger count = new AtomicInteger();
+      return runnable -> {
+        final Thread thread =
+            new Thread(runnable, String.format("hedgehog-%s-%d", name, count.incrementAndGet()));
+        thread.setDaemon(true);
+        return thread;
+      };
+    }
+  }
+
+  /**
+   * <p>The permit, for a place in one of the stages, that a job currently holds. Only one stage
+   * works on a job at a time and the stages are chained, so no synchronisation is needed.</p>
+   */
+  private static final class Ticket {
+    private Semaphore held;
+  }
+
+  private record Solved(Garden garden, long solution) {
+  }
+
+}
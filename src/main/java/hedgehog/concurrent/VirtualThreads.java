@@ -0,0 +1,43 @@
+package hedgehog.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <p>Virtual threads, looked up reflectively so that the application still builds and runs on
+ * Java versions without them; for the batch runner and the server alike.</p>
+ */
+public final class VirtualThreads {
+
+  private VirtualThreads() {
+    super();
+  }
+
+  /**
+   * @return an executor that starts a new virtual thread for every task.
+   *
+   * @throws UnsupportedOperationException if this Java version does not support virtual threads.
+   */
+  public static ExecutorService executor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (final ReflectiveOperationException e) {
+      throw new UnsupportedOperationException(
+          String.format(
+              "Virtual threads are not supported by this Java version. [java.version == %s]",
+              System.getProperty("java.version")),
+          e);
+    }
+  }
+
+  public static boolean isSupported() {
+    try {
+      Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return true;
+    } catch (final NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+}
@@ -3,9 +3,38 @@ package hedgehog.exception;
 public class InputReadException extends Exception {
 
   private static final String MESSAGE = "Exception while attempting to read input.";
+  private static final String POSITIONED_MESSAGE =
+      "Exception while attempting to read input. [line == %d, column == %d]";
+
+  private final int line;
+  private final int column;
 
   public InputReadException(final Throwable cause) {
     super(MESSAGE, cause);
+    this.line = -1;
+    this.column = -1;
+  }
+
+  public InputReadException(final int line, final int column, final Throwable cause) {
+    super(String.format(POSITIONED_MESSAGE, line, column), cause);
+    this.line = line;
+    this.column = column;
+  }
+
+  /**
+   * @return the (one based) line of the input at which the exception occurred, or
+   * <code>-1</code> if it is not known.
+   */
+  public int getLine() {
+    return line;
+  }
+
+  /**
+   * @return the (one based) column of the input at which the exception occurred, or
+   * <code>-1</code> if it is not known.
+   */
+  public int getColumn() {
+    return column;
   }
 
 }
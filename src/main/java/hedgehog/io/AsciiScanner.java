@@ -0,0 +1,179 @@
+package hedgehog.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+/**
+ * <p>Scans whitespace separated ASCII integers straight out of a {@link ByteBuffer} without
+ * creating any objects per value. Spaces, tabs and carriage returns separate values and any number
+ * of them may appear together; line feeds separate lines.</p>
+ *
+ * <p>The scanner either reads a fixed range of a buffer (e.g. a memory mapped file) or, when given
+ * a {@link ReadableByteChannel}, refills the buffer from the channel as it goes. It keeps track of
+ * the (one based) line and column of each value so that problems can be reported precisely.</p>
+ */
+final class AsciiScanner {
+
+  private final ReadableByteChannel channel;
+  private final ByteBuffer buffer;
+  private int position;
+  private int limit;
+
+  private int line;
+  private int column;
+
+  private int valueLine;
+  private int valueColumn;
+  private int value;
+
+  /**
+   * @param channel The channel to refill the buffer from.
+   * @param buffer An empty buffer to read the channel into.
+   */
+  AsciiScanner(final ReadableByteChannel channel, final ByteBuffer buffer) {
+    this.channel = channel;
+    this.buffer = buffer;
+    this.position = 0;
+    this.limit = 0;
+    this.line = 1;
+    this.column = 1;
+  }
+
+  /**
+   * @param buffer The buffer to read.
+   * @param start The index of the first byte to read.
+   * @param end The index after the last byte to read.
+   * @param line The line number of the first byte.
+   */
+  AsciiScanner(final ByteBuffer buffer, final int start, final int end, final int line) {
+    this.channel = null;
+    this.buffer = buffer;
+    this.position = start;
+    this.limit = end;
+    this.line = line;
+    this.column = 1;
+  }
+
+  /**
+   * <p>Advances to the next value.</p>
+   *
+   * @return <code>true</code> if there was another value, <code>false</code> at the end of the
+   * input.
+   *
+   * @throws NumberFormatException if the next value is not a valid <code>int</code>.
+   * @throws IOException if the channel could not be read.
+   */
+  boolean next() throws IOException {
+
+    while (true) {
+      if (position == limit && !fill()) {
+        valueLine = line;
+        valueColumn = column;
+        return false;
+      }
+      final byte b = buffer.get(position);
+      if (b == '\n') {
+        line++;
+        column = 1;
+      } else if (b == ' ' || b == '\t' || b == '\r') {
+        column++;
+      } else {
+        break;
+      }
+      position++;
+    }
+
+    valueLine = line;
+    valueColumn = column;
+
+    final boolean negative = buffer.get(position) == '-';
+    if (negative) {
+      position++;
+      column++;
+    }
+
+    long magnitude = 0;
+    int digits = 0;
+
+    while (position < limit || fill()) {
+      final byte b = buffer.get(position);
+      if (b >= '0' && b <= '9') {
+        magnitude = magnitude * 10 + (b - '0');
+        if (magnitude > (long) Integer.MAX_VALUE + 1) {
+          throw numberFormatException("Value out of range");
+        }
+        digits++;
+      } else if (b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+        break;
+      } else {
+        throw numberFormatException(String.format("For input character: \"%c\"", (char) b));
+      }
+      position++;
+      column++;
+    }
+
+    if (digits == 0) {
+      throw numberFormatException("Missing digits");
+    }
+
+    final long signed = negative ? -magnitude : magnitude;
+
+    if (signed > Integer.MAX_VALUE) {
+      throw numberFormatException("Value out of range");
+    }
+
+    value = (int) signed;
+    return true;
+  }
+
+  /**
+   * @return the value found by the last call to {@link #next()}.
+   */
+  int value() {
+    return value;
+  }
+
+  /**
+   * @return the line of the value found by the last call to {@link #next()}, or of the end of the
+   * input if there was none.
+   */
+  int valueLine() {
+    return valueLine;
+  }
+
+  /**
+   * @return the column of the value found by the last call to {@link #next()}, or of the end of
+   * the input if there was none.
+   */
+  int valueColumn() {
+    return valueColumn;
+  }
+
+  private boolean fill() throws IOException {
+
+    if (Objects.isNull(channel)) {
+      return false;
+    }
+
+    buffer.clear();
+
+    int read;
+    do {
+      read = channel.read(buffer);
+    } while (read == 0);
+
+    buffer.flip();
+    position = 0;
+    limit = buffer.limit();
+
+    return read > 0;
+  }
+
+  private NumberFormatException numberFormatException(final String reason) {
+    return new NumberFormatException(
+        String.format("%s [line == %d, column == %d]", reason, valueLine, column));
+  }
+
+}
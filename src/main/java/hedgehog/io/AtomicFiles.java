@@ -0,0 +1,74 @@
+package hedgehog.io;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * <p>Replaces files so that a reader, or a restart after a crash, sees either the old file or the
+ * whole of the new one. The new file is written to a temporary file alongside the target, forced
+ * to the storage device, and only then moved over the target; without the force, the move could
+ * reach the device before the data does, and a crash would leave a damaged file where a good one
+ * used to be.</p>
+ */
+public final class AtomicFiles {
+
+  private AtomicFiles() {
+    super();
+  }
+
+  /**
+   * @return a new, empty file in the same directory as <code>target</code>, so that it can be moved
+   * over it atomically.
+   */
+  public static Path createTemporary(final Path target) throws IOException {
+
+    if (Objects.isNull(target)) {
+      throw new IllegalArgumentException("Illegal argument; 'target' cannot be 'null'.");
+    }
+
+    return Files.createTempFile(
+        target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+  }
+
+  /**
+   * <p>Forces <code>temporary</code> to the storage device and moves it over
+   * <code>target</code>; atomically where the file system supports it. The directory is then
+   * forced too, where the platform allows, so that the move itself survives a crash.</p>
+   */
+  public static void replace(final Path temporary, final Path target) throws IOException {
+
+    if (Objects.isNull(temporary)) {
+      throw new IllegalArgumentException("Illegal argument; 'temporary' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(target)) {
+      throw new IllegalArgumentException("Illegal argument; 'target' cannot be 'null'.");
+    }
+
+    try (final FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+      channel.force(true);
+    }
+
+    try {
+      Files.move(
+          temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final AtomicMoveNotSupportedException e) {
+      Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    final Path directory = target.toAbsolutePath().getParent();
+
+    try (final FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (final IOException e) {
+      // Not every platform can open a directory; the move is then as durable as it can be made.
+    }
+  }
+
+}
@@ -0,0 +1,169 @@
+package hedgehog.io;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.model.BandConsumer;
+import hedgehog.model.Cells;
+import hedgehog.model.RowConsumer;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * <p>Reads a garden, in either the text format or the {@link BinaryGardenFormat}, as bands of
+ * rows passed to a {@link BandConsumer}, reading the file once and holding no more than one band
+ * of it in memory. The format is told by the first four bytes of the file.</p>
+ *
+ * <p>A binary file holds the bottom row first, so its bands are read from the end of the file
+ * back, a band at a time; text is parsed as by {@link ChannelInputReader}.</p>
+ */
+public class BandedInputReader {
+
+  private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+  public BandedInputReader() {
+    super();
+  }
+
+  /**
+   * @return the number of bytes read from the file.
+   */
+  public long read(final String inputFileLocation, final BandConsumer bandConsumer)
+      throws InputReadException {
+
+    if (Objects.isNull(bandConsumer)) {
+      throw new IllegalArgumentException("Illegal argument; 'bandConsumer' cannot be 'null'.");
+    }
+
+    final Path path = Locations.toPath(inputFileLocation);
+
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+      if (isBinary(channel)) {
+        return readBinary(channel, bandConsumer);
+      }
+
+      final BandingRowConsumer rowConsumer = new BandingRowConsumer(bandConsumer);
+      GardenTextParser.parse(
+          new AsciiScanner(channel, ByteBuffer.allocate(SCAN_BUFFER_SIZE)), rowConsumer);
+      rowConsumer.flush();
+
+      return channel.size();
+
+    } catch (final InputReadException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new InputReadException(e);
+    }
+  }
+
+  private static boolean isBinary(final FileChannel channel) throws IOException {
+    final ByteBuffer magic = BinaryGardenFormat.allocate(Integer.BYTES);
+    while (magic.hasRemaining() && channel.read(magic, magic.position()) >= 0) {
+      // Keep reading until the magic is read or the file ends.
+    }
+    return !magic.hasRemaining() && magic.getInt(0) == BinaryGardenFormat.MAGIC;
+  }
+
+  private static long readBinary(final FileChannel channel, final BandConsumer bandConsumer)
+      throws IOException {
+
+    final BinaryGardenFormat.Header header = BinaryGardenFormat.readHeader(channel);
+    final int width = header.width();
+    final int height = header.height();
+    final Cells.Encoding encoding = header.encoding();
+    final int bandHeight = validateBandHeight(bandConsumer.dimensions(width, height, encoding));
+    final int maxRows = Math.min(bandHeight, height);
+    final int rowBytes = Math.multiplyExact(width, encoding.bytes());
+    final int[] cells = new int[Math.multiplyExact(maxRows, width)];
+    final ByteBuffer buffer = BinaryGardenFormat.allocate(Math.multiplyExact(maxRows, rowBytes));
+
+    // The rows of each band, from the top; y is that of the band's bottom row.
+    for (int top = 0; top < height; top += maxRows) {
+
+      final int rows = Math.min(maxRows, height - top);
+      final int y = height - top - rows;
+
+      buffer.clear().limit(rows * rowBytes);
+      long position = BinaryGardenFormat.HEADER_BYTES + (long) y * rowBytes;
+      while (buffer.hasRemaining()) {
+        final int read = channel.read(buffer, position);
+        // The file's size was checked against its header, but it may have shrunk since.
+        if (read < 0) {
+          throw new EOFException(
+              String.format("The file ended before its rows. [position == %d]", position));
+        }
+        position += read;
+      }
+
+      for (int r = 0; r < rows; r++) {
+        buffer.clear().position((rows - 1 - r) * rowBytes);
+        encoding.decode(buffer, cells, r * width, width);
+      }
+
+      bandConsumer.band(cells, rows);
+    }
+
+    return header.fileSize();
+  }
+
+  private static int validateBandHeight(final int bandHeight) {
+    if (bandHeight <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; the band height cannot be less than or equal to zero. "
+                  + "[bandHeight == %d]",
+              bandHeight));
+    }
+    return bandHeight;
+  }
+
+  /**
+   * <p>Gathers the rows parsed from text into bands.</p>
+   */
+  private static final class BandingRowConsumer implements RowConsumer {
+
+    private final BandConsumer bandConsumer;
+
+    private int width;
+    private int maxRows;
+    private int rows;
+    private int[] cells;
+
+    BandingRowConsumer(final BandConsumer bandConsumer) {
+      this.bandConsumer = bandConsumer;
+    }
+
+    @Override
+    public void dimensions(final int width, final int height) {
+      this.width = width;
+      maxRows =
+          Math.min(
+              validateBandHeight(bandConsumer.dimensions(width, height, Cells.Encoding.INT)),
+              height);
+      cells = new int[Math.multiplyExact(maxRows, width)];
+    }
+
+    @Override
+    public void row(final int[] appleRow) {
+      System.arraycopy(appleRow, 0, cells, rows * width, width);
+      if (++rows == maxRows) {
+        flush();
+      }
+    }
+
+    /**
+     * <p>Passes on the rows gathered since the last band, if there are any.</p>
+     */
+    void flush() {
+      if (rows > 0) {
+        bandConsumer.band(cells, rows);
+        rows = 0;
+      }
+    }
+  }
+
+}
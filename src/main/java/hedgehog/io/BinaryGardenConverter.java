@@ -0,0 +1,206 @@
+package hedgehog.io;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.exception.OutputWriteException;
+import hedgehog.model.Cells;
+import hedgehog.model.Garden;
+import hedgehog.model.RowConsumer;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+/**
+ * <p>Converts gardens from the text format into the {@link BinaryGardenFormat}, so that they are
+ * parsed once rather than on every read. The arguments to {@link #main(String...)} are the text
+ * input location and the binary output path.</p>
+ *
+ * <p>The text is streamed with {@link ChannelInputReader}, so only a row of the garden is held in
+ * memory. As the largest number of apples is only known at the end, each row is first written as
+ * <code>int</code>s into its place in the output (the text gives the top row first, the format the
+ * bottom row first); the cells are then narrowed in place, in one sequential pass, to the
+ * narrowest encoding that holds them, and the checksum is taken as they are.</p>
+ */
+public final class BinaryGardenConverter {
+
+  private static final Logger LOGGER =
+      Logger.getLogger(BinaryGardenConverter.class.getSimpleName());
+
+  private static final int BUFFER_CELLS = 64 * 1024;
+
+  private BinaryGardenConverter() {
+    super();
+  }
+
+  public static void main(final String... args) throws Exception {
+
+    LOGGER.log(Level.INFO, String.format("main [args == %s]", Arrays.toString(args)));
+
+    if (args.length != 2) {
+      throw new IllegalArgumentException(
+          "Illegal argument; usage: <textInputLocation> <binaryOutputPath>");
+    }
+
+    convert(args[0], Path.of(args[1]));
+  }
+
+  /**
+   * <p>Converts the text garden at <code>inputFileLocation</code> into a binary garden at
+   * <code>path</code>, which is written alongside and then moved into place.</p>
+   *
+   * @throws InputReadException if the text garden cannot be read or is not valid.
+   * @throws OutputWriteException if the binary garden cannot be written.
+   */
+  public static void convert(final String inputFileLocation, final Path path)
+      throws InputReadException, OutputWriteException {
+
+    if (Objects.isNull(path)) {
+      throw new IllegalArgumentException("Illegal argument; 'path' cannot be 'null'.");
+    }
+
+    try {
+      final Path temporary = AtomicFiles.createTemporary(path);
+      try {
+        try (final FileChannel channel =
+            FileChannel.open(temporary, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+          final RowWriter rowWriter = new RowWriter(channel);
+
+          try {
+            new ChannelInputReader().read(inputFileLocation, rowWriter);
+          } catch (final InputReadException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+              throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
+          }
+
+          rowWriter.finish();
+        }
+        AtomicFiles.replace(temporary, path);
+      } finally {
+        Files.deleteIfExists(temporary);
+      }
+    } catch (final IOException e) {
+      throw new OutputWriteException(e);
+    }
+  }
+
+  /**
+   * <p>Writes each row, as <code>int</code>s, to its place in the output.</p>
+   */
+  private static final class RowWriter implements RowConsumer {
+
+    private final FileChannel channel;
+
+    private int width;
+    private int height;
+    private int rowIndex;
+    private int maxApples;
+    private ByteBuffer buffer;
+
+    RowWriter(final FileChannel channel) {
+      this.channel = channel;
+    }
+
+    @Override
+    public void dimensions(final int width, final int height) {
+
+      if ((long) width * height > Garden.MAX_CELLS) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; 'width' multiplied by 'height' is too large to be stored. "
+                    + "[width == %d, height == %d]",
+                width,
+                height));
+      }
+
+      this.width = width;
+      this.height = height;
+      buffer = BinaryGardenFormat.allocate(width * Integer.BYTES);
+    }
+
+    @Override
+    public void row(final int[] appleRow) {
+
+      for (int x = 0; x < width; x++) {
+        maxApples = Math.max(maxApples, appleRow[x]);
+      }
+
+      buffer.clear();
+      Cells.Encoding.INT.encode(appleRow, 0, width, buffer);
+      buffer.flip();
+
+      long position =
+          BinaryGardenFormat.HEADER_BYTES
+              + (long) (height - 1 - rowIndex++) * width * Integer.BYTES;
+
+      try {
+        while (buffer.hasRemaining()) {
+          position += channel.write(buffer, position);
+        }
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    /**
+     * <p>Narrows the cells to the narrowest encoding, takes their checksum and writes the
+     * header.</p>
+     */
+    void finish() throws IOException {
+
+      final Cells.Encoding encoding = Cells.Encoding.narrowest(maxApples);
+      final long length = (long) width * height;
+      final int[] values = new int[BUFFER_CELLS];
+      final ByteBuffer source = BinaryGardenFormat.allocate(BUFFER_CELLS * Integer.BYTES);
+      final ByteBuffer target = BinaryGardenFormat.allocate(BUFFER_CELLS * encoding.bytes());
+      final CRC32C crc = new CRC32C();
+
+      // The cells are read ahead of where they are written, so narrowing in place overwrites
+      // only cells that have already been read.
+      for (long index = 0; index < length; index += BUFFER_CELLS) {
+
+        final int count = (int) Math.min(BUFFER_CELLS, length - index);
+
+        source.clear().limit(count * Integer.BYTES);
+        long readPosition = BinaryGardenFormat.HEADER_BYTES + index * Integer.BYTES;
+        while (source.hasRemaining()) {
+          final int read = channel.read(source, readPosition);
+          if (read < 0) {
+            throw new EOFException();
+          }
+          readPosition += read;
+        }
+        source.flip();
+        Cells.Encoding.INT.decode(source, values, 0, count);
+
+        target.clear();
+        encoding.encode(values, 0, count, target);
+        target.flip();
+        crc.update(target.duplicate());
+
+        if (encoding != Cells.Encoding.INT) {
+          long writePosition = BinaryGardenFormat.HEADER_BYTES + index * encoding.bytes();
+          while (target.hasRemaining()) {
+            writePosition += channel.write(target, writePosition);
+          }
+        }
+      }
+
+      channel.truncate(BinaryGardenFormat.HEADER_BYTES + length * encoding.bytes());
+      BinaryGardenFormat.writeHeader(
+          channel, new BinaryGardenFormat.Header(width, height, encoding, crc.getValue()));
+    }
+  }
+
+}
@@ -0,0 +1,252 @@
+package hedgehog.io;
+
+import hedgehog.exception.OutputWriteException;
+import hedgehog.model.Cells;
+import hedgehog.model.Garden;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+/**
+ * <p>The binary garden format, read by {@link BinaryInputReader}. Every value is little-endian. A
+ * file is a header of {@value #HEADER_BYTES} bytes;</p>
+ *
+ * <p><code>
+ * 0 &nbsp;magic, the ASCII bytes "HDGH"<br>
+ * 4 &nbsp;version, a <code>short</code>; currently {@value #VERSION}<br>
+ * 6 &nbsp;bytes per cell, a <code>byte</code>; 1, 2 or 4 (see {@link Cells.Encoding})<br>
+ * 7 &nbsp;reserved, zero<br>
+ * 8 &nbsp;width, an <code>int</code><br>
+ * 12 height, an <code>int</code><br>
+ * 16 CRC-32C of the cells, a <code>long</code><br>
+ * 24 CRC-32C of the 24 bytes above, an <code>int</code><br>
+ * 28 reserved, zero<br>
+ * </code></p>
+ *
+ * <p>followed by the <code>width * height</code> cells in the order of {@link Garden#cells()};
+ * row-major with the bottom row first, unsigned in the encoding's size. The header's own checksum
+ * is always checked as it is read; the cells' checksum only on request, as that reads the whole
+ * file.</p>
+ */
+public final class BinaryGardenFormat {
+
+  /**
+   * <p>The bytes "HDGH" read as a little-endian <code>int</code>.</p>
+   */
+  public static final int MAGIC = 0x48474448;
+
+  public static final short VERSION = 1;
+
+  public static final int HEADER_BYTES = 32;
+
+  private static final int BUFFER_CELLS = 16 * 1024;
+
+  private BinaryGardenFormat() {
+    super();
+  }
+
+  /**
+   * <p>The header of a binary garden file.</p>
+   */
+  public record Header(int width, int height, Cells.Encoding encoding, long checksum) {
+
+    /**
+     * @return the size of a file holding this header and its cells.
+     */
+    public long fileSize() {
+      return HEADER_BYTES + (long) width * height * encoding.bytes();
+    }
+  }
+
+  /**
+   * <p>Writes <code>garden</code> to <code>path</code> in the encoding of its cells. The file is
+   * written alongside <code>path</code> and then moved into place, so a reader never sees a partly
+   * written file.</p>
+   */
+  public static void write(final Garden garden, final Path path) throws OutputWriteException {
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(path)) {
+      throw new IllegalArgumentException("Illegal argument; 'path' cannot be 'null'.");
+    }
+
+    final Cells cells = garden.cells();
+    final Cells.Encoding encoding = cells.encoding();
+
+    try {
+      final Path temporary = AtomicFiles.createTemporary(path);
+      try {
+        try (final FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+
+          final CRC32C crc = new CRC32C();
+          final int[] values = new int[Math.min(BUFFER_CELLS, cells.length())];
+          final ByteBuffer buffer = allocate(values.length * encoding.bytes());
+
+          channel.position(HEADER_BYTES);
+
+          for (int index = 0; index < cells.length(); index += values.length) {
+            final int count = Math.min(values.length, cells.length() - index);
+            cells.copy(index, values, 0, count);
+            buffer.clear();
+            encoding.encode(values, 0, count, buffer);
+            buffer.flip();
+            crc.update(buffer.duplicate());
+            writeFully(channel, buffer);
+          }
+
+          writeHeader(
+              channel,
+              new Header(garden.width(), garden.height(), encoding, crc.getValue()));
+        }
+        AtomicFiles.replace(temporary, path);
+      } finally {
+        Files.deleteIfExists(temporary);
+      }
+    } catch (final IOException e) {
+      throw new OutputWriteException(e);
+    }
+  }
+
+  /**
+   * <p>Reads the header at the start of <code>channel</code>, checking its magic, version and
+   * checksum and that the file is the size that it gives.</p>
+   *
+   * @throws IllegalArgumentException if the header is not that of a valid binary garden file.
+   */
+  static Header readHeader(final FileChannel channel) throws IOException {
+
+    final ByteBuffer buffer = allocate(HEADER_BYTES);
+
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, buffer.position()) < 0) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; the file is too short to hold a header. [size == %d]",
+                channel.size()));
+      }
+    }
+
+    return parseHeader(buffer.flip(), channel.size());
+  }
+
+  /**
+   * <p>Parses the header at the start of <code>buffer</code>, a little-endian buffer holding at
+   * least {@value #HEADER_BYTES} bytes, with the same checks as {@link #readHeader(FileChannel)}
+   * against a file of <code>size</code> bytes.</p>
+   *
+   * @throws IllegalArgumentException if the header is not that of a valid binary garden file.
+   */
+  static Header parseHeader(final ByteBuffer buffer, final long size) {
+
+    if (buffer.getInt(0) != MAGIC) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; the file is not a binary garden file. [magic == %08x]",
+              buffer.getInt(0)));
+    }
+
+    if (buffer.getShort(4) != VERSION) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; unsupported binary garden version. [version == %d]",
+              buffer.getShort(4)));
+    }
+
+    final CRC32C crc = new CRC32C();
+    crc.update(buffer.duplicate().position(0).limit(24));
+
+    if ((int) crc.getValue() != buffer.getInt(24)) {
+      throw new IllegalArgumentException(
+          "Illegal argument; the header does not match its checksum.");
+    }
+
+    final Header header =
+        new Header(
+            buffer.getInt(8),
+            buffer.getInt(12),
+            encoding(buffer.get(6)),
+            buffer.getLong(16));
+
+    if (header.width() <= 0 || header.height() <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'width' and 'height' must be greater than zero. "
+                  + "[width == %d, height == %d]",
+              header.width(),
+              header.height()));
+    }
+
+    if (header.fileSize() != size) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; the file is not the size given by its header. "
+                  + "[size == %d, expected == %d]",
+              size,
+              header.fileSize()));
+    }
+
+    return header;
+  }
+
+  static void writeHeader(final FileChannel channel, final Header header) throws IOException {
+
+    final ByteBuffer buffer = allocate(HEADER_BYTES);
+    putHeader(buffer, header);
+    buffer.flip();
+
+    while (buffer.hasRemaining()) {
+      channel.write(buffer, buffer.position());
+    }
+  }
+
+  /**
+   * <p>Puts <code>header</code> into <code>buffer</code>, a little-endian buffer, from its
+   * position.</p>
+   */
+  static void putHeader(final ByteBuffer buffer, final Header header) {
+
+    final int start = buffer.position();
+    buffer.putInt(MAGIC);
+    buffer.putShort(VERSION);
+    buffer.put((byte) header.encoding().bytes());
+    buffer.put((byte) 0);
+    buffer.putInt(header.width());
+    buffer.putInt(header.height());
+    buffer.putLong(header.checksum());
+
+    final CRC32C crc = new CRC32C();
+    crc.update(buffer.duplicate().position(start).limit(start + 24));
+    buffer.putInt((int) crc.getValue());
+    buffer.putInt(0);
+  }
+
+  static ByteBuffer allocate(final int capacity) {
+    return ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private static Cells.Encoding encoding(final byte bytes) {
+    for (final Cells.Encoding encoding : Cells.Encoding.values()) {
+      if (encoding.bytes() == bytes) {
+        return encoding;
+      }
+    }
+    throw new IllegalArgumentException(
+        String.format("Illegal argument; unsupported bytes per cell. [bytes == %d]", bytes));
+  }
+
+}
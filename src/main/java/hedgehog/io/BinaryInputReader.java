@@ -0,0 +1,116 @@
+package hedgehog.io;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.model.Cells;
+import hedgehog.model.Garden;
+import hedgehog.model.MappedCells;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * <p>Reads gardens in the {@link BinaryGardenFormat} by memory mapping the file, so the garden is
+ * not copied onto the heap and opening it takes the same time whatever its size. Pages are read
+ * in by the operating system as a solver first touches them. See {@link MappedCells}.</p>
+ *
+ * <p>Cells are indexed by <code>int</code>, so a garden can hold at most {@link Garden#MAX_CELLS}
+ * of them, whatever their encoding; larger gardens can be solved from their file out of core
+ * instead. Only the header is checked by default. With <code>verify</code> set, the cells are also
+ * checked against their checksum, and <code>INT</code> cells for fewer than zero apples, before
+ * the garden is returned; that reads the whole file once.</p>
+ */
+public class BinaryInputReader implements InputReader {
+
+  private static final int VERIFY_BUFFER_CELLS = 16 * 1024;
+
+  private final boolean verify;
+
+  public BinaryInputReader() {
+    this(false);
+  }
+
+  public BinaryInputReader(final boolean verify) {
+    super();
+    this.verify = verify;
+  }
+
+  @Override
+  public Garden read(final String inputFileLocation) throws InputReadException {
+
+    final Path path = Locations.toPath(inputFileLocation);
+
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+      final BinaryGardenFormat.Header header = BinaryGardenFormat.readHeader(channel);
+      final long cells = (long) header.width() * header.height();
+
+      if (cells > Garden.MAX_CELLS) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; the garden has more cells than can be mapped. "
+                    + "[width == %d, height == %d, cells == %d, maximum == %d]",
+                header.width(),
+                header.height(),
+                cells,
+                Garden.MAX_CELLS));
+      }
+
+      final Garden garden =
+          Garden.mapped(
+              header.width(),
+              header.height(),
+              MappedCells.map(
+                  channel,
+                  BinaryGardenFormat.HEADER_BYTES,
+                  header.encoding(),
+                  (int) cells));
+
+      if (verify) {
+        verify(header, (MappedCells) garden.cells());
+      }
+
+      return garden;
+
+    } catch (final Exception e) {
+      throw new InputReadException(e);
+    }
+  }
+
+  private static void verify(final BinaryGardenFormat.Header header, final MappedCells cells) {
+
+    final CRC32C crc = new CRC32C();
+    cells.update(crc);
+
+    if (crc.getValue() != header.checksum()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; the cells do not match their checksum. "
+                  + "[checksum == %x, expected == %x]",
+              crc.getValue(),
+              header.checksum()));
+    }
+
+    if (cells.encoding() != Cells.Encoding.INT) {
+      return;
+    }
+
+    final int[] values = new int[Math.min(VERIFY_BUFFER_CELLS, cells.length())];
+
+    for (int index = 0; index < cells.length(); index += values.length) {
+      final int count = Math.min(values.length, cells.length() - index);
+      cells.copy(index, values, 0, count);
+      for (int i = 0; i < count; i++) {
+        if (values[i] < 0) {
+          throw new IllegalArgumentException(
+              String.format(
+                  "Illegal argument; 'apples' cannot be less than zero. "
+                      + "[index == %d, apples == %d]",
+                  index + i,
+                  values[i]));
+        }
+      }
+    }
+  }
+
+}
@@ -0,0 +1,102 @@
+package hedgehog.io;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.model.Garden;
+import hedgehog.model.RowConsumer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+public class ChannelInputReader implements InputReader, StreamingInputReader {
+
+  private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  private final int bufferSize;
+
+  public ChannelInputReader() {
+    this(DEFAULT_BUFFER_SIZE);
+  }
+
+  public ChannelInputReader(final int bufferSize) {
+
+    super();
+
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'bufferSize' cannot be less than or equal to zero. "
+                  + "[bufferSize == %d]",
+              bufferSize));
+    }
+
+    this.bufferSize = bufferSize;
+  }
+
+  /**
+   * <p>Reads the garden at <code>inputFileLocation</code> into a {@link Garden}. See
+   * {@link #read(String, RowConsumer)} for details of how the input is parsed.</p>
+   */
+  @Override
+  public Garden read(final String inputFileLocation) throws InputReadException {
+    final BuilderConsumer builderConsumer = new BuilderConsumer();
+    read(inputFileLocation, builderConsumer);
+    return builderConsumer.builder.build();
+  }
+
+  /**
+   * <p>Reads the garden at <code>inputFileLocation</code> one row at a time, passing each row to
+   * <code>rowConsumer</code> as soon as it has been parsed.</p>
+   *
+   * <p>The file is read through a {@link FileChannel} into a single reused buffer and the integers
+   * are parsed directly from the raw ASCII bytes into a single reused <code>int[]</code> row, so
+   * no objects are created per row or per value. Values may be separated by any number of spaces
+   * or tabs, lines may end with <code>\n</code> or <code>\r\n</code> and blank lines are
+   * ignored.</p>
+   *
+   * <p>The input is validated in the same way as {@link FileInputReader}; any problem is reported
+   * as an {@link InputReadException} whose cause is the same type of exception and which also
+   * gives the line and column at which the problem was found.</p>
+   *
+   * <p>The location is first looked up on the classpath and then on the file system.</p>
+   */
+  @Override
+  public void read(final String inputFileLocation, final RowConsumer rowConsumer)
+      throws InputReadException {
+
+    if (Objects.isNull(rowConsumer)) {
+      throw new IllegalArgumentException("Illegal argument; 'rowConsumer' cannot be 'null'.");
+    }
+
+    final Path path = Locations.toPath(inputFileLocation);
+
+    try (final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+      GardenTextParser.parse(
+          new AsciiScanner(fileChannel, ByteBuffer.allocate(bufferSize)),
+          rowConsumer);
+
+    } catch (final InputReadException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new InputReadException(e);
+    }
+  }
+
+  private static final class BuilderConsumer implements RowConsumer {
+
+    private final Garden.Builder builder = new Garden.Builder();
+
+    @Override
+    public void dimensions(final int width, final int height) {
+      builder.width(width).height(height);
+    }
+
+    @Override
+    public void row(final int[] appleRow) {
+      builder.appleRow(appleRow);
+    }
+  }
+
+}
@@ -0,0 +1,87 @@
+package hedgehog.io;
+
+/**
+ * <p>Validation shared by the readers that check each value as they parse it, before it reaches
+ * {@link hedgehog.model.Garden.Builder}. The checks and messages mirror those made by
+ * {@link hedgehog.model.Garden} so that every reader reports the same problems in the same
+ * way.</p>
+ */
+final class Dimensions {
+
+  private Dimensions() {
+    super();
+  }
+
+  static void validate(final int width, final int height) {
+
+    if (width <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'width' cannot be less than or equal to zero. [width == %d]",
+              width));
+    }
+
+    if (height <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'height' cannot be less than or equal to zero. [height == %d]",
+              height));
+    }
+  }
+
+  static void validateRow(
+      final int rowIndex,
+      final int rowLength,
+      final int width,
+      final int height) {
+
+    if (rowIndex >= height) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'appleTable' must have a length equal to the specified 'height'. "
+                  + "[appleTable.length > %d, height == %d]",
+              rowIndex,
+              height));
+    }
+
+    if (rowLength != width) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'appleTable[%d]' must have a length equal to the specified "
+                  + "'width'. [appleTable[%d].length == %d, width == %d]",
+              rowIndex, rowIndex,
+              rowLength,
+              width));
+    }
+  }
+
+  static void validateApples(final int rowIndex, final int columnIndex, final int apples) {
+
+    if (apples < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'appleTable[%d][%d]' cannot be less than zero. "
+                  + "[appleTable[%d][%d] == %d]",
+              rowIndex, columnIndex, rowIndex, columnIndex,
+              apples));
+    }
+  }
+
+  static void validateRowCount(final int rowCount, final int height) {
+
+    if (rowCount == 0) {
+      throw new IllegalStateException(
+          "Illegal state; cannot build Garden, 'appleTable' not specified.");
+    }
+
+    if (rowCount != height) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'appleTable' must have a length equal to the specified 'height'. "
+                  + "[appleTable.length == %d, height == %d]",
+              rowCount,
+              height));
+    }
+  }
+
+}
@@ -1,15 +1,18 @@
 package hedgehog.io;
 
 import hedgehog.exception.InputReadException;
+import hedgehog.model.Cells;
 import hedgehog.model.Garden;
+import hedgehog.model.RowConsumer;
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
-public class FileInputReader implements InputReader {
+public class FileInputReader implements InputReader, StreamingInputReader {
 
   private static final String DELIMITER = " ";
 
@@ -20,28 +23,7 @@ public class FileInputReader implements InputReader {
   @Override
   public Garden read(final String inputFileLocation) throws InputReadException {
 
-    if (Objects.isNull(inputFileLocation)) {
-      throw new IllegalArgumentException("Illegal argument; 'inputFileLocation' cannot be 'null'.");
-    }
-
-    if (inputFileLocation.trim().isEmpty()) {
-      throw new IllegalArgumentException(
-          String.format(
-              "Illegal argument; 'inputFileLocation' cannot be empty or whitespace only. "
-                  + "[inputFileLocation == %s]",
-              inputFileLocation));
-    }
-
-    final InputStream inputStream = getClass().getResourceAsStream(inputFileLocation);
-
-    if (Objects.isNull(inputStream)) {
-      throw new IllegalArgumentException(
-          String.format(
-              "Illegal argument; file cannot be found at 'inputFileLocation'. "
-                  + "[inputFileLocation == %s]",
-              inputFileLocation));
-    }
-
+    final InputStream inputStream = open(inputFileLocation);
     final InputStreamReader inputStreamReader = new InputStreamReader(inputStream);
 
     try (final BufferedReader bufferedReader = new BufferedReader(inputStreamReader)) {
@@ -56,10 +38,15 @@ public class FileInputReader implements InputReader {
           .height(Integer.parseInt(splitLine[1]));
 
       while (Objects.nonNull(line = bufferedReader.readLine())) {
-        builder.appleRow(
-            Arrays.stream(line.split(DELIMITER))
-                .map(Integer::parseInt)
-                .collect(Collectors.toList()));
+        final int[] appleRow = parseRow(line);
+        try {
+          builder.appleRow(appleRow);
+        } catch (final IllegalArgumentException e) {
+          // A value that is not a number anywhere in the file is reported ahead of a row of the
+          // wrong shape; only the rest of the file is parsed, and no more rows are kept.
+          parseRows(bufferedReader);
+          throw e;
+        }
       }
 
       return builder.build();
@@ -69,4 +56,138 @@ public class FileInputReader implements InputReader {
     }
   }
 
+  /**
+   * <p>Reads the garden at <code>inputFileLocation</code> one row at a time, passing each row to
+   * <code>rowConsumer</code> as soon as it has been parsed. Only a single row is held in memory at
+   * any point, regardless of the height of the garden.</p>
+   *
+   * <p>The input is validated in the same way as {@link #read(String)}; any problem is reported
+   * as an {@link InputReadException} whose cause is the same type of exception.</p>
+   */
+  @Override
+  public void read(final String inputFileLocation, final RowConsumer rowConsumer)
+      throws InputReadException {
+
+    if (Objects.isNull(rowConsumer)) {
+      throw new IllegalArgumentException("Illegal argument; 'rowConsumer' cannot be 'null'.");
+    }
+
+    final InputStream inputStream = open(inputFileLocation);
+    final InputStreamReader inputStreamReader = new InputStreamReader(inputStream);
+
+    try (final BufferedReader bufferedReader = new BufferedReader(inputStreamReader)) {
+
+      String line = bufferedReader.readLine();
+      final String[] splitLine = line.split(DELIMITER);
+
+      final int width = Integer.parseInt(splitLine[0]);
+      final int height = Integer.parseInt(splitLine[1]);
+
+      Dimensions.validate(width, height);
+
+      rowConsumer.dimensions(width, height);
+
+      final int[] appleRow = new int[width];
+      int rowIndex = 0;
+
+      while (Objects.nonNull(line = bufferedReader.readLine())) {
+
+        final String[] splitRow = line.split(DELIMITER);
+
+        Dimensions.validateRow(rowIndex, splitRow.length, width, height);
+
+        for (int columnIndex = 0; columnIndex < width; columnIndex++) {
+          appleRow[columnIndex] = Integer.parseInt(splitRow[columnIndex]);
+          Dimensions.validateApples(rowIndex, columnIndex, appleRow[columnIndex]);
+        }
+
+        rowConsumer.row(appleRow);
+        rowIndex++;
+      }
+
+      Dimensions.validateRowCount(rowIndex, height);
+
+    } catch (final Exception e) {
+      throw new InputReadException(e);
+    }
+  }
+
+  /**
+   * <p>Reads the first line of the garden, from the classpath or the file system as
+   * {@link #read(String)} does; the file size is not known for a garden on the classpath, and is
+   * given as <code>-1</code>.</p>
+   */
+  @Override
+  public GardenHeader peek(final String inputFileLocation) throws InputReadException {
+
+    final InputStream inputStream = open(inputFileLocation);
+    final InputStreamReader inputStreamReader = new InputStreamReader(inputStream);
+
+    try (final BufferedReader bufferedReader = new BufferedReader(inputStreamReader)) {
+
+      final String[] splitLine = bufferedReader.readLine().split(DELIMITER);
+
+      return new GardenHeader(
+          Integer.parseInt(splitLine[0]),
+          Integer.parseInt(splitLine[1]),
+          GardenHeader.Format.TEXT,
+          Cells.Encoding.INT,
+          Objects.isNull(getClass().getResource(inputFileLocation))
+              ? Files.size(Locations.toPath(inputFileLocation))
+              : -1);
+
+    } catch (final Exception e) {
+      throw new InputReadException(e);
+    }
+  }
+
+  private static int[] parseRow(final String line) {
+    return Arrays.stream(line.split(DELIMITER)).mapToInt(Integer::parseInt).toArray();
+  }
+
+  /**
+   * <p>Parses the remaining rows of <code>bufferedReader</code> without keeping them.</p>
+   *
+   * @throws NumberFormatException if a value is not a number.
+   */
+  private static void parseRows(final BufferedReader bufferedReader) throws IOException {
+    String line;
+    while (Objects.nonNull(line = bufferedReader.readLine())) {
+      parseRow(line);
+    }
+  }
+
+  private InputStream open(final String inputFileLocation) {
+
+    if (Objects.isNull(inputFileLocation)) {
+      throw new IllegalArgumentException("Illegal argument; 'inputFileLocation' cannot be 'null'.");
+    }
+
+    if (inputFileLocation.trim().isEmpty()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'inputFileLocation' cannot be empty or whitespace only. "
+                  + "[inputFileLocation == %s]",
+              inputFileLocation));
+    }
+
+    final InputStream inputStream = getClass().getResourceAsStream(inputFileLocation);
+
+    if (Objects.nonNull(inputStream)) {
+      return inputStream;
+    }
+
+    // Not on the classpath; fall back to the file system.
+    try {
+      return Files.newInputStream(Locations.toPath(inputFileLocation));
+    } catch (final IOException e) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; file cannot be read at 'inputFileLocation'. "
+                  + "[inputFileLocation == %s]",
+              inputFileLocation),
+          e);
+    }
+  }
+
 }
@@ -1,6 +1,7 @@
 package hedgehog.io;
 
 import hedgehog.exception.OutputWriteException;
+import hedgehog.model.Route;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -13,7 +14,47 @@ public class FileOutputWriter implements OutputWriter {
   }
 
   @Override
-  public void write(final int result, final String outputFileLocation) throws OutputWriteException {
+  public void write(final long result, final String outputFileLocation)
+      throws OutputWriteException {
+
+    final FileWriter fileWriter = fileWriter(outputFileLocation);
+
+    try (final BufferedWriter bufferedWriter = new BufferedWriter(fileWriter)) {
+
+      bufferedWriter.append(Long.toString(result));
+
+    } catch (final Exception e) {
+      throw new OutputWriteException(e);
+    }
+  }
+
+  /**
+   * <p>Writes the number of apples collected along the <code>route</code> on the first line and
+   * its moves on the second line, as a binary string where <code>0</code> means 'move right' and
+   * <code>1</code> means 'move down'.</p>
+   */
+  @Override
+  public void write(final Route route, final String outputFileLocation)
+      throws OutputWriteException {
+
+    if (Objects.isNull(route)) {
+      throw new IllegalArgumentException("Illegal argument; 'route' cannot be 'null'.");
+    }
+
+    final FileWriter fileWriter = fileWriter(outputFileLocation);
+
+    try (final BufferedWriter bufferedWriter = new BufferedWriter(fileWriter)) {
+
+      bufferedWriter.append(Long.toString(route.apples()));
+      bufferedWriter.newLine();
+      bufferedWriter.append(route.toMoveString());
+
+    } catch (final Exception e) {
+      throw new OutputWriteException(e);
+    }
+  }
+
+  private static FileWriter fileWriter(final String outputFileLocation) {
 
     if (Objects.isNull(outputFileLocation)) {
       throw new IllegalArgumentException(
@@ -28,10 +69,8 @@ public class FileOutputWriter implements OutputWriter {
               outputFileLocation));
     }
 
-    final FileWriter fileWriter;
-
     try {
-      fileWriter = new FileWriter(outputFileLocation);
+      return new FileWriter(outputFileLocation);
     } catch (final IOException e) {
       throw new IllegalArgumentException(
           String.format(
@@ -40,14 +79,6 @@ public class FileOutputWriter implements OutputWriter {
               outputFileLocation),
           e);
     }
-
-    try (final BufferedWriter bufferedWriter = new BufferedWriter(fileWriter)) {
-
-      bufferedWriter.append(Integer.toString(result));
-
-    } catch (final Exception e) {
-      throw new OutputWriteException(e);
-    }
   }
 
 }
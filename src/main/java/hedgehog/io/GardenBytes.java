@@ -0,0 +1,255 @@
+package hedgehog.io;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.model.Cells;
+import hedgehog.model.Garden;
+import hedgehog.model.RowConsumer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+/**
+ * <p>Gardens held in memory rather than in files, in either of the file formats; for gardens
+ * sent over a connection (see <code>hedgehog.server</code>).</p>
+ */
+public final class GardenBytes {
+
+  /**
+   * <p>The fewest bytes a tree takes in the text format; a digit, and a space or the end of its
+   * line.</p>
+   */
+  static final int MIN_TEXT_BYTES_PER_TREE = 2;
+
+  private GardenBytes() {
+    super();
+  }
+
+  /**
+   * <p>Reads the garden in the remaining bytes of <code>bytes</code>; in the binary format (see
+   * {@link BinaryGardenFormat}) if they start with its magic number, whose cells' checksum is
+   * checked, and otherwise in the text format, validated as {@link ChannelInputReader} validates a
+   * file. A text header of more trees than the bytes could hold is rejected before the garden is
+   * allocated. The buffer's position and byte order are left as they were.</p>
+   *
+   * @throws InputReadException if the bytes do not hold a valid garden.
+   */
+  public static Garden decode(final ByteBuffer bytes) throws InputReadException {
+
+    if (Objects.isNull(bytes)) {
+      throw new IllegalArgumentException("Illegal argument; 'bytes' cannot be 'null'.");
+    }
+
+    final ByteBuffer buffer = bytes.slice().order(ByteOrder.LITTLE_ENDIAN);
+
+    if (buffer.remaining() >= BinaryGardenFormat.HEADER_BYTES
+        && buffer.getInt(0) == BinaryGardenFormat.MAGIC) {
+      try {
+        return decodeBinary(buffer);
+      } catch (final Exception e) {
+        throw new InputReadException(e);
+      }
+    }
+
+    final Garden.Builder builder = new Garden.Builder();
+
+    try {
+      GardenTextParser.parse(
+          new AsciiScanner(buffer, 0, buffer.limit(), 1),
+          new RowConsumer() {
+
+            @Override
+            public void dimensions(final int width, final int height) {
+              validateText(width, height, buffer.limit());
+              builder.width(width).height(height);
+            }
+
+            @Override
+            public void row(final int[] appleRow) {
+              builder.appleRow(appleRow);
+            }
+          });
+      return builder.build();
+    } catch (final InputReadException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new InputReadException(e);
+    }
+  }
+
+  /**
+   * <p>Reads only the header of the garden in the remaining bytes of <code>bytes</code>, as
+   * {@link #decode(ByteBuffer)} would read it, so that the memory to decode it can be reserved
+   * first. The buffer's position and byte order are left as they were.</p>
+   *
+   * @return the header, whose file size is the number of bytes remaining.
+   *
+   * @throws InputReadException if the header is not valid, or if it is of a text garden with more
+   * trees than the bytes could hold.
+   */
+  public static GardenHeader peek(final ByteBuffer bytes) throws InputReadException {
+
+    if (Objects.isNull(bytes)) {
+      throw new IllegalArgumentException("Illegal argument; 'bytes' cannot be 'null'.");
+    }
+
+    final ByteBuffer buffer = bytes.slice().order(ByteOrder.LITTLE_ENDIAN);
+
+    if (buffer.remaining() >= BinaryGardenFormat.HEADER_BYTES
+        && buffer.getInt(0) == BinaryGardenFormat.MAGIC) {
+      try {
+        final BinaryGardenFormat.Header header =
+            BinaryGardenFormat.parseHeader(buffer, buffer.remaining());
+        return new GardenHeader(
+            header.width(),
+            header.height(),
+            GardenHeader.Format.BINARY,
+            header.encoding(),
+            buffer.remaining());
+      } catch (final Exception e) {
+        throw new InputReadException(e);
+      }
+    }
+
+    final GardenTextParser.Header header =
+        GardenTextParser.parseHeader(new AsciiScanner(buffer, 0, buffer.limit(), 1));
+
+    try {
+      validateText(header.width(), header.height(), buffer.limit());
+      return new GardenHeader(
+          header.width(),
+          header.height(),
+          GardenHeader.Format.TEXT,
+          Cells.Encoding.INT,
+          buffer.limit());
+    } catch (final Exception e) {
+      throw new InputReadException(header.line(), 1, e);
+    }
+  }
+
+  /**
+   * @return <code>garden</code> in the text format; a line of its width and height, then a line of
+   * apples per row from the top.
+   */
+  public static byte[] encodeText(final Garden garden) {
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'.");
+    }
+
+    final long capacity = 4L * garden.width() * garden.height() + 32;
+    final StringBuilder text = new StringBuilder((int) Math.min(Integer.MAX_VALUE - 8, capacity));
+    final int[] appleRow = new int[garden.width()];
+
+    text.append(garden.width()).append(' ').append(garden.height());
+
+    for (int row = garden.height() - 1; row >= 0; row--) {
+      garden.copyRow(row, appleRow);
+      text.append('\n');
+      for (int x = 0; x < appleRow.length; x++) {
+        if (x > 0) {
+          text.append(' ');
+        }
+        text.append(appleRow[x]);
+      }
+    }
+
+    return text.toString().getBytes(StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * @return <code>garden</code> in the binary format, in the encoding of its cells.
+   */
+  public static byte[] encodeBinary(final Garden garden) {
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'.");
+    }
+
+    final Cells cells = garden.cells();
+    final Cells.Encoding encoding = cells.encoding();
+    final long size =
+        BinaryGardenFormat.HEADER_BYTES + (long) cells.length() * encoding.bytes();
+
+    if (size > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; the garden is too large to be held in an array. [size == %d]",
+              size));
+    }
+
+    final byte[] bytes = new byte[(int) size];
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.position(BinaryGardenFormat.HEADER_BYTES);
+    final int[] appleRow = new int[garden.width()];
+
+    // Cells are held bottom row first, as are the rows of the binary format.
+    for (int row = 0; row < garden.height(); row++) {
+      garden.copyRow(row, appleRow);
+      encoding.encode(appleRow, 0, appleRow.length, buffer);
+    }
+
+    final CRC32C crc = new CRC32C();
+    crc.update(buffer.flip().position(BinaryGardenFormat.HEADER_BYTES));
+
+    BinaryGardenFormat.putHeader(
+        buffer.clear(),
+        new BinaryGardenFormat.Header(garden.width(), garden.height(), encoding, crc.getValue()));
+
+    return bytes;
+  }
+
+  /**
+   * <p>Rejects a text header of more trees than <code>size</code> bytes could hold, so that a
+   * short request cannot have a large garden allocated.</p>
+   */
+  private static void validateText(final int width, final int height, final long size) {
+
+    final long trees = (long) width * height;
+
+    if (trees > size / MIN_TEXT_BYTES_PER_TREE) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; the garden has more trees than its bytes can hold. "
+                  + "[width == %d, height == %d, size == %d]",
+              width,
+              height,
+              size));
+    }
+  }
+
+  private static Garden decodeBinary(final ByteBuffer buffer) {
+
+    final BinaryGardenFormat.Header header =
+        BinaryGardenFormat.parseHeader(buffer, buffer.remaining());
+    final ByteBuffer cellBytes = buffer.position(BinaryGardenFormat.HEADER_BYTES).slice();
+
+    final CRC32C crc = new CRC32C();
+    crc.update(cellBytes.duplicate());
+
+    if (crc.getValue() != header.checksum()) {
+      throw new IllegalArgumentException(
+          "Illegal argument; the cells do not match their checksum.");
+    }
+
+    cellBytes.order(ByteOrder.LITTLE_ENDIAN);
+
+    final Garden.Builder builder =
+        new Garden.Builder()
+            .encoding(header.encoding())
+            .width(header.width())
+            .height(header.height());
+    final int[] appleRow = new int[header.width()];
+    final int rowBytes = header.width() * header.encoding().bytes();
+
+    // The builder takes rows from the top, the last in the buffer.
+    for (int row = header.height() - 1; row >= 0; row--) {
+      header.encoding().decode(cellBytes.position(row * rowBytes), appleRow, 0, appleRow.length);
+      builder.appleRow(appleRow);
+    }
+
+    return builder.build();
+  }
+
+}
@@ -0,0 +1,110 @@
+package hedgehog.io;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.model.Cells;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * <p>What can be told of a garden file from its header alone, without reading its cells; see
+ * {@link InputReader#peek(String)}.</p>
+ *
+ * @param encoding the encoding of the cells of a binary file; for text, whose largest number of
+ * apples is not known until it is read, the widest encoding.
+ * @param fileSize the size of the file, in bytes, or <code>-1</code> if it is not known.
+ */
+public record GardenHeader(
+    int width,
+    int height,
+    Format format,
+    Cells.Encoding encoding,
+    long fileSize) {
+
+  private static final int SCAN_BUFFER_SIZE = 256;
+
+  public GardenHeader {
+
+    Dimensions.validate(width, height);
+
+    if (Objects.isNull(format) || Objects.isNull(encoding)) {
+      throw new IllegalArgumentException(
+          "Illegal argument; 'format' and 'encoding' cannot be 'null'.");
+    }
+  }
+
+  public long squares() {
+    return (long) width * height;
+  }
+
+  /**
+   * <p>The layout of a garden file.</p>
+   */
+  public enum Format {
+
+    /**
+     * <p>The text format; a header line, then a line of apples per row.</p>
+     */
+    TEXT,
+
+    /**
+     * <p>The sparse text format of {@link SparseInputReader}; a header line, then a line per tree
+     * with apples.</p>
+     */
+    SPARSE,
+
+    /**
+     * <p>The {@link BinaryGardenFormat}.</p>
+     */
+    BINARY
+  }
+
+  /**
+   * @return the header of the garden at <code>inputFileLocation</code>; that of a binary file if it
+   * starts with the binary format's magic number, otherwise the first line of a file in
+   * <code>textFormat</code>.
+   */
+  static GardenHeader peek(final String inputFileLocation, final Format textFormat)
+      throws InputReadException {
+
+    final Path path = Locations.toPath(inputFileLocation);
+
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+      final ByteBuffer magic = BinaryGardenFormat.allocate(Integer.BYTES);
+      while (magic.hasRemaining() && channel.read(magic, magic.position()) >= 0) {
+        // Keep reading until the magic is read or the file ends.
+      }
+
+      if (!magic.hasRemaining() && magic.getInt(0) == BinaryGardenFormat.MAGIC) {
+        final BinaryGardenFormat.Header header = BinaryGardenFormat.readHeader(channel);
+        return new GardenHeader(
+            header.width(),
+            header.height(),
+            Format.BINARY,
+            header.encoding(),
+            channel.size());
+      }
+
+      channel.position(0);
+      final GardenTextParser.Header header =
+          GardenTextParser.parseHeader(
+              new AsciiScanner(channel, ByteBuffer.allocate(SCAN_BUFFER_SIZE)));
+
+      return new GardenHeader(
+          header.width(),
+          header.height(),
+          textFormat,
+          Cells.Encoding.INT,
+          channel.size());
+
+    } catch (final InputReadException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new InputReadException(e);
+    }
+  }
+
+}
@@ -0,0 +1,184 @@
+package hedgehog.io;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.model.RowConsumer;
+
+/**
+ * <p>Parses the text garden format from an {@link AsciiScanner}, validating it as it goes. The
+ * header and the rows are parsed separately so that the rows can be split into ranges and parsed
+ * independently of one another.</p>
+ */
+final class GardenTextParser {
+
+  private GardenTextParser() {
+    super();
+  }
+
+  /**
+   * <p>Parses the header, then every row, then checks that the number of rows matches the
+   * header.</p>
+   */
+  static void parse(final AsciiScanner scanner, final RowConsumer rowConsumer)
+      throws InputReadException {
+
+    final Header header = parseHeader(scanner);
+
+    try {
+      rowConsumer.dimensions(header.width(), header.height());
+    } catch (final Exception e) {
+      throw new InputReadException(header.line(), 1, e);
+    }
+
+    final int rowCount =
+        parseRows(
+            scanner,
+            header.width(),
+            header.height(),
+            0,
+            header.line(),
+            (rowIndex, appleRow) -> rowConsumer.row(appleRow));
+
+    validateRowCount(rowCount, header.height(), scanner.valueLine(), scanner.valueColumn());
+  }
+
+  /**
+   * <p>Parses and validates the header line; the width and the height.</p>
+   */
+  static Header parseHeader(final AsciiScanner scanner) throws InputReadException {
+
+    int errorColumn = 1;
+
+    try {
+
+      if (!scanner.next()) {
+        throw new NumberFormatException("Missing 'width'");
+      }
+
+      final int line = scanner.valueLine();
+      final int width = scanner.value();
+      errorColumn = scanner.valueColumn();
+
+      if (!scanner.next() || scanner.valueLine() != line) {
+        throw new NumberFormatException("Missing 'height'");
+      }
+
+      final int height = scanner.value();
+      errorColumn = scanner.valueColumn();
+
+      Dimensions.validate(width, height);
+
+      return new Header(width, height, line);
+
+    } catch (final NumberFormatException e) {
+      throw new InputReadException(scanner.valueLine(), scanner.valueColumn(), e);
+    } catch (final Exception e) {
+      throw new InputReadException(scanner.valueLine(), errorColumn, e);
+    }
+  }
+
+  /**
+   * <p>Parses rows until the scanner is exhausted, passing each, with its index, to
+   * <code>rowConsumer</code>.</p>
+   *
+   * @param firstRowIndex The index (from the top of the garden) of the first row to be parsed.
+   * @param previousLine The line before the first row; a value on this line is an error.
+   *
+   * @return the number of rows parsed.
+   */
+  static int parseRows(
+      final AsciiScanner scanner,
+      final int width,
+      final int height,
+      final int firstRowIndex,
+      final int previousLine,
+      final IndexedRowConsumer rowConsumer) throws InputReadException {
+
+    int errorLine = previousLine;
+    int errorColumn = 1;
+
+    try {
+
+      final int[] appleRow = new int[width];
+      int rowIndex = firstRowIndex;
+      int rowLine = previousLine;
+      int columnIndex = 0;
+      int lastColumn = 1;
+
+      while (scanner.next()) {
+
+        errorLine = scanner.valueLine();
+        errorColumn = scanner.valueColumn();
+
+        if (scanner.valueLine() == previousLine) {
+          throw new NumberFormatException("Unexpected value after 'height'");
+        }
+
+        if (scanner.valueLine() != rowLine) {
+          if (columnIndex > 0) {
+            errorLine = rowLine;
+            errorColumn = lastColumn;
+            Dimensions.validateRow(rowIndex, columnIndex, width, height);
+            rowConsumer.row(rowIndex, appleRow);
+            rowIndex++;
+            errorLine = scanner.valueLine();
+            errorColumn = scanner.valueColumn();
+          }
+          rowLine = scanner.valueLine();
+          columnIndex = 0;
+        }
+
+        if (columnIndex == width) {
+          Dimensions.validateRow(rowIndex, columnIndex + 1, width, height);
+        }
+
+        Dimensions.validateApples(rowIndex, columnIndex, scanner.value());
+
+        appleRow[columnIndex++] = scanner.value();
+        lastColumn = scanner.valueColumn();
+      }
+
+      if (columnIndex > 0) {
+        errorLine = rowLine;
+        errorColumn = lastColumn;
+        Dimensions.validateRow(rowIndex, columnIndex, width, height);
+        rowConsumer.row(rowIndex, appleRow);
+        rowIndex++;
+      }
+
+      return rowIndex - firstRowIndex;
+
+    } catch (final NumberFormatException e) {
+      throw new InputReadException(scanner.valueLine(), scanner.valueColumn(), e);
+    } catch (final Exception e) {
+      throw new InputReadException(errorLine, errorColumn, e);
+    }
+  }
+
+  static void validateRowCount(
+      final int rowCount,
+      final int height,
+      final int line,
+      final int column) throws InputReadException {
+    try {
+      Dimensions.validateRowCount(rowCount, height);
+    } catch (final Exception e) {
+      throw new InputReadException(line, column, e);
+    }
+  }
+
+  record Header(int width, int height, int line) {
+  }
+
+  /**
+   * <p>Receives the rows of a range parsed by
+   * {@link #parseRows(AsciiScanner, int, int, int, int, IndexedRowConsumer)}, each with its index
+   * from the top of the garden; the dimensions are known from the header, parsed separately. The
+   * array is reused for the next row, so it must not be retained.</p>
+   */
+  @FunctionalInterface
+  interface IndexedRowConsumer {
+
+    void row(int rowIndex, int[] appleRow);
+  }
+
+}
@@ -7,4 +7,13 @@ public interface InputReader {
 
   Garden read(String location) throws InputReadException;
 
+  /**
+   * <p>Reads only the header of the garden at <code>location</code>, so that the memory that
+   * reading it would take can be weighed before it is read. By default a file that starts with the
+   * magic number of the {@link BinaryGardenFormat} is taken as binary and any other as text.</p>
+   */
+  default GardenHeader peek(final String location) throws InputReadException {
+    return GardenHeader.peek(location, GardenHeader.Format.TEXT);
+  }
+
 }
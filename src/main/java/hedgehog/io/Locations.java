@@ -0,0 +1,58 @@
+package hedgehog.io;
+
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * <p>Resolves input locations for the readers that need direct access to a file rather than a
+ * stream. As with {@link FileInputReader}, a location is first looked up on the classpath; if it is
+ * not found there (or the classpath entry is not a plain file, e.g. it is inside a jar) it is
+ * treated as a path on the file system.</p>
+ */
+final class Locations {
+
+  private Locations() {
+    super();
+  }
+
+  static Path toPath(final String inputFileLocation) {
+
+    if (Objects.isNull(inputFileLocation)) {
+      throw new IllegalArgumentException("Illegal argument; 'inputFileLocation' cannot be 'null'.");
+    }
+
+    if (inputFileLocation.trim().isEmpty()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'inputFileLocation' cannot be empty or whitespace only. "
+                  + "[inputFileLocation == %s]",
+              inputFileLocation));
+    }
+
+    final URL resource = Locations.class.getResource(inputFileLocation);
+
+    if (Objects.nonNull(resource) && "file".equals(resource.getProtocol())) {
+      try {
+        return Path.of(resource.toURI());
+      } catch (final URISyntaxException e) {
+        // Fall through to the file system.
+      }
+    }
+
+    final Path path = Path.of(inputFileLocation);
+
+    if (!Files.isRegularFile(path)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; file cannot be found at 'inputFileLocation'. "
+                  + "[inputFileLocation == %s]",
+              inputFileLocation));
+    }
+
+    return path;
+  }
+
+}
@@ -0,0 +1,254 @@
+package hedgehog.io;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.model.Garden;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public class MappedInputReader implements InputReader {
+
+  private static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+  private static final int MAX_CHUNK_SIZE = 1024 * 1024 * 1024;
+  private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+  private final ForkJoinPool forkJoinPool;
+  private final int chunkSize;
+
+  public MappedInputReader() {
+    this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+  }
+
+  public MappedInputReader(final ForkJoinPool forkJoinPool, final int chunkSize) {
+
+    super();
+
+    if (Objects.isNull(forkJoinPool)) {
+      throw new IllegalArgumentException("Illegal argument; 'forkJoinPool' cannot be 'null'.");
+    }
+
+    if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'chunkSize' must be greater than zero and less than or equal to "
+                  + "%d. [chunkSize == %d]",
+              MAX_CHUNK_SIZE,
+              chunkSize));
+    }
+
+    this.forkJoinPool = forkJoinPool;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * <p>Reads the garden at <code>inputFileLocation</code> by memory mapping the file and parsing
+   * it in parallel.</p>
+   *
+   * <p>After the header line, the file is split into chunks of roughly <code>chunkSize</code>
+   * bytes, each extended to the end of the line it finishes in so that no row is split between
+   * chunks. Each chunk is mapped with {@link FileChannel#map} and the chunks are processed on the
+   * configured {@link ForkJoinPool} in two passes; the first counts the rows (and lines) in every
+   * chunk, so that the total can be checked against the header and each chunk knows the index of
+   * its first row, and the second parses every chunk straight into its rows of the garden through
+   * {@link Garden.Builder#appleRow(int, int[])}.</p>
+   *
+   * <p>The input format and validation are the same as for {@link ChannelInputReader} and the
+   * resulting {@link Garden} is identical to that read by {@link FileInputReader}.</p>
+   */
+  @Override
+  public Garden read(final String inputFileLocation) throws InputReadException {
+
+    final Path path = Locations.toPath(inputFileLocation);
+
+    try (final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+      final long size = fileChannel.size();
+      final long headerEnd = endOfFirstNonBlankLine(fileChannel, size);
+
+      final MappedByteBuffer headerBuffer =
+          fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, headerEnd);
+      final GardenTextParser.Header header =
+          GardenTextParser.parseHeader(new AsciiScanner(headerBuffer, 0, (int) headerEnd, 1));
+      final int headerLines = count(headerBuffer, (byte) '\n');
+
+      final List<Chunk> chunks = new ArrayList<>();
+      for (long start = headerEnd; start < size; ) {
+        final long end = start + chunkSize >= size
+            ? size
+            : startOfNextLine(fileChannel, start + chunkSize, size);
+        chunks.add(new Chunk(fileChannel.map(FileChannel.MapMode.READ_ONLY, start, end - start)));
+        start = end;
+      }
+
+      invokeAll(chunks.stream().<Callable<Void>>map(chunk -> () -> chunk.count()).toList());
+
+      int rowCount = 0;
+      int lineCount = headerLines;
+      for (final Chunk chunk : chunks) {
+        chunk.firstRowIndex = rowCount;
+        chunk.firstLine = lineCount + 1;
+        rowCount += chunk.rows;
+        lineCount += chunk.lines;
+      }
+
+      GardenTextParser.validateRowCount(rowCount, header.height(), lineCount + 1, 1);
+
+      final Garden.Builder builder =
+          new Garden.Builder().width(header.width()).height(header.height());
+
+      invokeAll(
+          chunks.stream()
+              .<Callable<Void>>map(chunk -> () -> chunk.parse(header, builder))
+              .toList());
+
+      return builder.build();
+
+    } catch (final InputReadException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new InputReadException(e);
+    }
+  }
+
+  private void invokeAll(final List<Callable<Void>> tasks)
+      throws InputReadException, InterruptedException {
+
+    for (final Future<Void> future : forkJoinPool.invokeAll(tasks)) {
+      try {
+        future.get();
+      } catch (final ExecutionException e) {
+        // ForkJoinPool wraps checked exceptions thrown by a Callable in a RuntimeException.
+        for (Throwable cause = e.getCause(); Objects.nonNull(cause); cause = cause.getCause()) {
+          if (cause instanceof InputReadException) {
+            throw (InputReadException) cause;
+          }
+        }
+        throw new InputReadException(e.getCause());
+      }
+    }
+  }
+
+  /**
+   * @return the index after the first line feed that follows a non-whitespace byte, or
+   * <code>size</code> if there is none.
+   */
+  private static long endOfFirstNonBlankLine(final FileChannel fileChannel, final long size)
+      throws IOException {
+
+    final ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+    boolean nonBlank = false;
+
+    for (long position = 0; position < size; ) {
+      buffer.clear();
+      final int read = fileChannel.read(buffer, position);
+      for (int i = 0; i < read; i++) {
+        final byte b = buffer.get(i);
+        if (b == '\n' && nonBlank) {
+          return position + i + 1;
+        } else if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+          nonBlank = true;
+        }
+      }
+      position += Math.max(read, 0);
+    }
+
+    return size;
+  }
+
+  /**
+   * @return the index after the first line feed at or after <code>from</code>, or
+   * <code>size</code> if there is none.
+   */
+  private static long startOfNextLine(
+      final FileChannel fileChannel,
+      final long from,
+      final long size) throws IOException {
+
+    final ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+
+    for (long position = from; position < size; ) {
+      buffer.clear();
+      final int read = fileChannel.read(buffer, position);
+      for (int i = 0; i < read; i++) {
+        if (buffer.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+      position += Math.max(read, 0);
+    }
+
+    return size;
+  }
+
+  private static int count(final ByteBuffer buffer, final byte target) {
+    int count = 0;
+    for (int i = 0; i < buffer.limit(); i++) {
+      if (buffer.get(i) == target) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static final class Chunk {
+
+    private final MappedByteBuffer buffer;
+    private int lines;
+    private int rows;
+    private int firstLine;
+    private int firstRowIndex;
+
+    private Chunk(final MappedByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    /**
+     * <p>Counts the line feeds, and the lines that are not blank (i.e. the rows), in the
+     * chunk.</p>
+     */
+    private Void count() {
+
+      boolean nonBlank = false;
+
+      for (int i = 0; i < buffer.limit(); i++) {
+        final byte b = buffer.get(i);
+        if (b == '\n') {
+          lines++;
+          rows += nonBlank ? 1 : 0;
+          nonBlank = false;
+        } else if (b != ' ' && b != '\t' && b != '\r') {
+          nonBlank = true;
+        }
+      }
+
+      rows += nonBlank ? 1 : 0;
+
+      return null;
+    }
+
+    private Void parse(final GardenTextParser.Header header, final Garden.Builder builder)
+        throws InputReadException {
+
+      GardenTextParser.parseRows(
+          new AsciiScanner(buffer, 0, buffer.limit(), firstLine),
+          header.width(),
+          header.height(),
+          firstRowIndex,
+          firstLine - 1,
+          builder::appleRow);
+
+      return null;
+    }
+  }
+
+}
@@ -1,9 +1,12 @@
 package hedgehog.io;
 
 import hedgehog.exception.OutputWriteException;
+import hedgehog.model.Route;
 
 public interface OutputWriter {
 
-  void write(int result, String location) throws OutputWriteException;
+  void write(long result, String location) throws OutputWriteException;
+
+  void write(Route route, String location) throws OutputWriteException;
 
 }
@@ -0,0 +1,173 @@
+package hedgehog.io;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.model.Garden;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * <p>Reads gardens in the sparse text format, for gardens in which most trees have no apples. The
+ * first line holds the width and the height, as in the dense format; each following line holds
+ * <code>x y apples</code> for one tree that has apples (using the axes of
+ * {@link Garden#getApples(int, int)}, so <code>y = 0</code> is the bottom row). Every other tree
+ * has none. For example, the garden</p>
+ *
+ * <p><code>
+ * 0 0 5<br>
+ * 0 0 0<br>
+ * 7 0 0<br>
+ * </code></p>
+ *
+ * <p>is written as</p>
+ *
+ * <p><code>
+ * 3 3<br>
+ * 2 2 5<br>
+ * 0 0 7<br>
+ * </code></p>
+ *
+ * <p>The file is scanned in the same way as by {@link ChannelInputReader} and the garden is created
+ * with {@link Garden#sparse(int, int, int[], int[], int[])}, so it takes memory in proportion to
+ * the number of lines rather than to the size of the garden. Problems with a line are reported as
+ * an {@link InputReadException} giving its line and column.</p>
+ */
+public class SparseInputReader implements InputReader {
+
+  private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  public SparseInputReader() {
+    super();
+  }
+
+  @Override
+  public Garden read(final String inputFileLocation) throws InputReadException {
+
+    final Path path = Locations.toPath(inputFileLocation);
+
+    try (final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+      return parse(new AsciiScanner(fileChannel, ByteBuffer.allocate(DEFAULT_BUFFER_SIZE)));
+
+    } catch (final InputReadException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new InputReadException(e);
+    }
+  }
+
+  @Override
+  public GardenHeader peek(final String inputFileLocation) throws InputReadException {
+    return GardenHeader.peek(inputFileLocation, GardenHeader.Format.SPARSE);
+  }
+
+  private static Garden parse(final AsciiScanner scanner) throws InputReadException {
+
+    final GardenTextParser.Header header = GardenTextParser.parseHeader(scanner);
+
+    int[] x = new int[16];
+    int[] y = new int[16];
+    int[] apples = new int[16];
+    int count = 0;
+    int line = header.line();
+    int values = 3;
+    int lastColumn = 1;
+
+    try {
+
+      while (scanner.next()) {
+
+        if (scanner.valueLine() != line) {
+          if (values != 3) {
+            throw new InputReadException(line, lastColumn, missingValues());
+          }
+          if (count == x.length) {
+            x = Arrays.copyOf(x, count * 2);
+            y = Arrays.copyOf(y, count * 2);
+            apples = Arrays.copyOf(apples, count * 2);
+          }
+          line = scanner.valueLine();
+          values = 0;
+          count++;
+        }
+
+        if (values == 3) {
+          throw new InputReadException(
+              scanner.valueLine(),
+              scanner.valueColumn(),
+              new IllegalArgumentException(
+                  line == header.line()
+                      ? "Illegal argument; unexpected value after 'height'."
+                      : "Illegal argument; a tree must be given as 'x y apples'."));
+        }
+
+        final int[] target = values == 0 ? x : values == 1 ? y : apples;
+        target[count - 1] = scanner.value();
+        values++;
+        lastColumn = scanner.valueColumn();
+
+        if (values == 3) {
+          validateTree(x[count - 1], y[count - 1], apples[count - 1], header, line);
+        }
+      }
+
+      if (values != 3) {
+        throw new InputReadException(line, lastColumn, missingValues());
+      }
+
+    } catch (final NumberFormatException e) {
+      throw new InputReadException(scanner.valueLine(), scanner.valueColumn(), e);
+    } catch (final InputReadException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new InputReadException(e);
+    }
+
+    return Garden.sparse(
+        header.width(),
+        header.height(),
+        Arrays.copyOf(x, count),
+        Arrays.copyOf(y, count),
+        Arrays.copyOf(apples, count));
+  }
+
+  private static void validateTree(
+      final int x,
+      final int y,
+      final int apples,
+      final GardenTextParser.Header header,
+      final int line) throws InputReadException {
+
+    if (x < 0 || x >= header.width() || y < 0 || y >= header.height()) {
+      throw new InputReadException(
+          line,
+          1,
+          new IllegalArgumentException(
+              String.format(
+                  "Illegal argument; the tree must be inside the garden. "
+                      + "[x == %d, y == %d, width == %d, height == %d]",
+                  x,
+                  y,
+                  header.width(),
+                  header.height())));
+    }
+
+    if (apples < 0) {
+      throw new InputReadException(
+          line,
+          1,
+          new IllegalArgumentException(
+              String.format(
+                  "Illegal argument; 'apples' cannot be less than zero. [apples == %d]",
+                  apples)));
+    }
+  }
+
+  private static IllegalArgumentException missingValues() {
+    return new IllegalArgumentException(
+        "Illegal argument; a tree must be given as 'x y apples'.");
+  }
+
+}
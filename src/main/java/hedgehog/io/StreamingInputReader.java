@@ -0,0 +1,10 @@
+package hedgehog.io;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.model.RowConsumer;
+
+public interface StreamingInputReader {
+
+  void read(String location, RowConsumer rowConsumer) throws InputReadException;
+
+}
@@ -0,0 +1,201 @@
+package hedgehog.memory;
+
+import hedgehog.io.GardenHeader;
+import hedgehog.strategy.MemoryEstimator;
+import hedgehog.strategy.OutOfCoreSolver;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Decides, from a garden's header and before any of it is read, how a job is to be run within
+ * a {@link MemoryBudget}:</p>
+ *
+ * <ul>
+ *   <li>in memory, once the {@link MemoryEstimator estimate} for reading and solving it has been
+ *   reserved, waiting up to <code>maxWait</code> for other jobs to release it;</li>
+ *   <li>out of core, from its file with {@link OutOfCoreSolver}, if the estimate is more than the
+ *   whole budget but a band of a single row is not;</li>
+ *   <li>or not at all; the job is rejected if even that is more than the budget, if out of core is
+ *   not allowed, or if the wait runs out.</li>
+ * </ul>
+ *
+ * <p>An out of core job reserves {@value #DEFAULT_OUT_OF_CORE_BYTES} bytes, or a quarter of the
+ * budget if that is less, for its bands; more if a single row needs it.</p>
+ */
+public class AdmissionControl {
+
+  private static final Logger LOGGER = Logger.getLogger(AdmissionControl.class.getSimpleName());
+
+  public static final long DEFAULT_OUT_OF_CORE_BYTES = 64L * 1024 * 1024;
+
+  public static final Duration DEFAULT_MAX_WAIT = Duration.ofMinutes(1);
+
+  private final MemoryBudget memoryBudget;
+  private final MemoryEstimator memoryEstimator;
+  private final Duration maxWait;
+
+  public AdmissionControl() {
+    this(MemoryBudget.global(), new MemoryEstimator(), DEFAULT_MAX_WAIT);
+  }
+
+  public AdmissionControl(
+      final MemoryBudget memoryBudget,
+      final MemoryEstimator memoryEstimator,
+      final Duration maxWait) {
+
+    super();
+
+    if (Objects.isNull(memoryBudget)) {
+      throw new IllegalArgumentException("Illegal argument; 'memoryBudget' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(memoryEstimator)) {
+      throw new IllegalArgumentException("Illegal argument; 'memoryEstimator' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(maxWait) || maxWait.isNegative()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'maxWait' cannot be 'null' or negative. [maxWait == %s]",
+              maxWait));
+    }
+
+    this.memoryBudget = memoryBudget;
+    this.memoryEstimator = memoryEstimator;
+    this.maxWait = maxWait;
+  }
+
+  /**
+   * @param outOfCore whether the job can be run out of core.
+   *
+   * @return the decision, holding any bytes reserved until it is closed.
+   *
+   * @throws InterruptedException if interrupted while waiting; nothing is reserved.
+   */
+  public Admission admit(final GardenHeader header, final boolean outOfCore)
+      throws InterruptedException {
+
+    if (Objects.isNull(header)) {
+      throw new IllegalArgumentException("Illegal argument; 'header' cannot be 'null'.");
+    }
+
+    final MemoryEstimator.Estimate estimate = memoryEstimator.estimate(header);
+    final long capacity = memoryBudget.capacity();
+    final Admission admission;
+
+    if (estimate.inMemoryBytes() <= capacity) {
+
+      admission =
+          memoryBudget.reserve(estimate.inMemoryBytes(), maxWait)
+              ? new Admission(
+                  Decision.IN_MEMORY,
+                  estimate.inMemoryBytes(),
+                  String.format(
+                      "needs %d bytes of %d", estimate.inMemoryBytes(), capacity))
+              : new Admission(
+                  Decision.REJECTED,
+                  0,
+                  String.format(
+                      "%d bytes were not released within %s", estimate.inMemoryBytes(), maxWait));
+
+    } else if (outOfCore && estimate.outOfCoreBytes() <= capacity) {
+
+      final long bytes =
+          Math.max(
+              estimate.outOfCoreBytes(), Math.min(capacity / 4, DEFAULT_OUT_OF_CORE_BYTES));
+
+      admission =
+          memoryBudget.reserve(bytes, maxWait)
+              ? new Admission(
+                  Decision.OUT_OF_CORE,
+                  bytes,
+                  String.format(
+                      "needs %d bytes of %d in memory, so %d bytes out of core",
+                      estimate.inMemoryBytes(),
+                      capacity,
+                      bytes))
+              : new Admission(
+                  Decision.REJECTED,
+                  0,
+                  String.format("%d bytes were not released within %s", bytes, maxWait));
+
+    } else {
+
+      admission =
+          new Admission(
+              Decision.REJECTED,
+              0,
+              String.format(
+                  "needs %d bytes of %d in memory, %s out of core",
+                  estimate.inMemoryBytes(),
+                  capacity,
+                  outOfCore ? estimate.outOfCoreBytes() + " bytes" : "not allowed"));
+    }
+
+    LOGGER.log(
+        Level.INFO,
+        String.format(
+            "admit[width == %d, height == %d, format == %s, decision == %s, reason == %s]",
+            header.width(),
+            header.height(),
+            header.format(),
+            admission.decision(),
+            admission.reason()));
+
+    return admission;
+  }
+
+  /**
+   * <p>How a job is to be run.</p>
+   */
+  public enum Decision {
+    IN_MEMORY,
+    OUT_OF_CORE,
+    REJECTED
+  }
+
+  /**
+   * <p>The decision for a job, and the bytes reserved for it; they are released when the job is
+   * done and this is closed.</p>
+   */
+  public final class Admission implements AutoCloseable {
+
+    private final Decision decision;
+    private final long bytes;
+    private final String reason;
+
+    private boolean closed;
+
+    private Admission(final Decision decision, final long bytes, final String reason) {
+      this.decision = decision;
+      this.bytes = bytes;
+      this.reason = reason;
+    }
+
+    public Decision decision() {
+      return decision;
+    }
+
+    /**
+     * @return the bytes reserved; the budget of an out of core job.
+     */
+    public long bytes() {
+      return bytes;
+    }
+
+    public String reason() {
+      return reason;
+    }
+
+    @Override
+    public synchronized void close() {
+      if (!closed) {
+        closed = true;
+        memoryBudget.release(bytes);
+      }
+    }
+  }
+
+}
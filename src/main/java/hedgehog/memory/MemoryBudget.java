@@ -0,0 +1,119 @@
+package hedgehog.memory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * <p>A number of bytes of heap shared between jobs, so that however many run at once, the gardens
+ * they hold stay within it rather than driving the garbage collector to exhaustion. A job
+ * reserves its estimate before it starts and releases it when it is done.</p>
+ *
+ * <p>Jobs waiting for their reservation are served in the order they arrived; a large job at the
+ * head of the queue holds back smaller ones behind it, so that it is not starved by them.</p>
+ *
+ * <p>{@link #global()} is shared by every job in the JVM that does not bring its own budget.</p>
+ */
+public final class MemoryBudget {
+
+  /**
+   * <p>The share of the maximum heap given to the global budget; the rest is left to the
+   * application and to the garbage collector's headroom.</p>
+   */
+  public static final double GLOBAL_HEAP_SHARE = 0.75;
+
+  private static final MemoryBudget GLOBAL =
+      new MemoryBudget((long) (Runtime.getRuntime().maxMemory() * GLOBAL_HEAP_SHARE));
+
+  private final long capacity;
+  private final Deque<Object> waiting;
+
+  private long available;
+
+  public MemoryBudget(final long capacity) {
+
+    super();
+
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'capacity' cannot be less than or equal to zero. "
+                  + "[capacity == %d]",
+              capacity));
+    }
+
+    this.capacity = capacity;
+    waiting = new ArrayDeque<>();
+    available = capacity;
+  }
+
+  public static MemoryBudget global() {
+    return GLOBAL;
+  }
+
+  public long capacity() {
+    return capacity;
+  }
+
+  public synchronized long available() {
+    return available;
+  }
+
+  /**
+   * <p>Reserves <code>bytes</code>, waiting up to <code>maxWait</code> for them to be
+   * released by other jobs.</p>
+   *
+   * @return <code>true</code> if the bytes were reserved, and must later be released.
+   *
+   * @throws IllegalArgumentException if <code>bytes</code> is more than the capacity, as they could
+   * never be reserved.
+   * @throws InterruptedException if interrupted while waiting; nothing is reserved.
+   */
+  public synchronized boolean reserve(final long bytes, final Duration maxWait)
+      throws InterruptedException {
+
+    if (bytes < 0 || bytes > capacity) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'bytes' must be between zero and the capacity. "
+                  + "[bytes == %d, capacity == %d]",
+              bytes,
+              capacity));
+    }
+
+    final Object ticket = new Object();
+    final long deadline = System.nanoTime() + maxWait.toNanos();
+    waiting.addLast(ticket);
+
+    try {
+      while (waiting.peekFirst() != ticket || available < bytes) {
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          return false;
+        }
+        wait(Math.max(1, remaining / 1_000_000));
+      }
+      available -= bytes;
+      return true;
+    } finally {
+      waiting.remove(ticket);
+      notifyAll();
+    }
+  }
+
+  public synchronized void release(final long bytes) {
+
+    if (bytes < 0 || available + bytes > capacity) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'bytes' cannot be more than have been reserved. "
+                  + "[bytes == %d, reserved == %d]",
+              bytes,
+              capacity - available));
+    }
+
+    available += bytes;
+    notifyAll();
+  }
+
+}
@@ -0,0 +1,229 @@
+package hedgehog.model;
+
+import java.util.Arrays;
+
+/**
+ * <p>{@link Cells} held in a single primitive array of the type given by their
+ * {@link Cells.Encoding}. Only {@link Garden} (and its builder) and {@link MutableGarden} write to
+ * them.</p>
+ */
+abstract class ArrayCells implements Cells {
+
+  static ArrayCells allocate(final Encoding encoding, final int length) {
+    switch (encoding) {
+      case BYTE:
+        return new ByteCells(new byte[length]);
+      case SHORT:
+        return new ShortCells(new short[length]);
+      default:
+        return new IntCells(new int[length]);
+    }
+  }
+
+  /**
+   * <p>Copies the first <code>length</code> elements of <code>source</code> into the cells
+   * starting at <code>index</code>. Every value must fit the encoding.</p>
+   */
+  abstract void put(int index, int[] source, int length);
+
+  /**
+   * <p>Sets the cell at <code>index</code>, which must fit the encoding.</p>
+   */
+  abstract void set(int index, int apples);
+
+  /**
+   * @return a copy of these cells in the wider <code>encoding</code>.
+   */
+  final ArrayCells widen(final Encoding encoding) {
+    return copyOf(this, encoding);
+  }
+
+  /**
+   * @return a copy of <code>cells</code> in <code>encoding</code>, which must fit every value.
+   */
+  static ArrayCells copyOf(final Cells cells, final Encoding encoding) {
+
+    final ArrayCells copy = allocate(encoding, cells.length());
+    final int[] buffer = new int[Math.min(cells.length(), 8192)];
+
+    for (int index = 0; index < cells.length(); index += buffer.length) {
+      final int count = Math.min(buffer.length, cells.length() - index);
+      cells.copy(index, buffer, 0, count);
+      copy.put(index, buffer, count);
+    }
+
+    return copy;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+
+    if (this == obj) {
+      return true;
+    }
+
+    if (!(obj instanceof Cells) || ((Cells) obj).length() != length()) {
+      return false;
+    }
+
+    final Cells other = (Cells) obj;
+
+    for (int index = 0; index < length(); index++) {
+      if (get(index) != other.get(index)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * <p>The same as {@link Arrays#hashCode(int[])} of the cells, whatever their encoding.</p>
+   */
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (int index = 0; index < length(); index++) {
+      hashCode = 31 * hashCode + get(index);
+    }
+    return hashCode;
+  }
+
+  static final class ByteCells extends ArrayCells {
+
+    private final byte[] apples;
+
+    private ByteCells(final byte[] apples) {
+      this.apples = apples;
+    }
+
+    @Override
+    public Encoding encoding() {
+      return Encoding.BYTE;
+    }
+
+    @Override
+    public int length() {
+      return apples.length;
+    }
+
+    @Override
+    public int get(final int index) {
+      return apples[index] & 0xFF;
+    }
+
+    @Override
+    public void copy(final int index, final int[] destination, final int offset, final int length) {
+      for (int i = 0; i < length; i++) {
+        destination[offset + i] = apples[index + i] & 0xFF;
+      }
+    }
+
+    @Override
+    void put(final int index, final int[] source, final int length) {
+      for (int i = 0; i < length; i++) {
+        apples[index + i] = (byte) source[i];
+      }
+    }
+
+    @Override
+    void set(final int index, final int apples) {
+      this.apples[index] = (byte) apples;
+    }
+  }
+
+  static final class ShortCells extends ArrayCells {
+
+    private final short[] apples;
+
+    private ShortCells(final short[] apples) {
+      this.apples = apples;
+    }
+
+    @Override
+    public Encoding encoding() {
+      return Encoding.SHORT;
+    }
+
+    @Override
+    public int length() {
+      return apples.length;
+    }
+
+    @Override
+    public int get(final int index) {
+      return apples[index] & 0xFFFF;
+    }
+
+    @Override
+    public void copy(final int index, final int[] destination, final int offset, final int length) {
+      for (int i = 0; i < length; i++) {
+        destination[offset + i] = apples[index + i] & 0xFFFF;
+      }
+    }
+
+    @Override
+    void put(final int index, final int[] source, final int length) {
+      for (int i = 0; i < length; i++) {
+        apples[index + i] = (short) source[i];
+      }
+    }
+
+    @Override
+    void set(final int index, final int apples) {
+      this.apples[index] = (short) apples;
+    }
+  }
+
+  static final class IntCells extends ArrayCells {
+
+    private final int[] apples;
+
+    private IntCells(final int[] apples) {
+      this.apples = apples;
+    }
+
+    @Override
+    public Encoding encoding() {
+      return Encoding.INT;
+    }
+
+    @Override
+    public int length() {
+      return apples.length;
+    }
+
+    @Override
+    public int get(final int index) {
+      return apples[index];
+    }
+
+    @Override
+    public void copy(final int index, final int[] destination, final int offset, final int length) {
+      System.arraycopy(apples, index, destination, offset, length);
+    }
+
+    @Override
+    void put(final int index, final int[] source, final int length) {
+      System.arraycopy(source, 0, apples, index, length);
+    }
+
+    @Override
+    void set(final int index, final int apples) {
+      this.apples[index] = apples;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return obj instanceof IntCells
+          ? Arrays.equals(apples, ((IntCells) obj).apples)
+          : super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(apples);
+    }
+  }
+
+}
@@ -0,0 +1,26 @@
+package hedgehog.model;
+
+/**
+ * <p>Receives a garden in bands of whole rows, from the top band to the bottom band, as it is
+ * read. Unlike a {@link RowConsumer}, the consumer chooses how many rows each band holds, so that
+ * it can bound the memory taken by the bands.</p>
+ */
+public interface BandConsumer {
+
+  /**
+   * <p>Called once, before any bands, with the dimensions of the garden and the encoding that its
+   * cells are stored in (<code>INT</code> when that is not known in advance, as for text).</p>
+   *
+   * @return the number of rows in each band, which must be greater than zero. Only the last band
+   * may hold fewer.
+   */
+  int dimensions(int width, int height, Cells.Encoding encoding);
+
+  /**
+   * <p>Called once per band. Row <code>r</code> of the band (from the top) is held in
+   * <code>cells</code> from <code>r * width</code>. The array is reused for the next band so it
+   * must not be retained after this method returns.</p>
+   */
+  void band(int[] cells, int rows);
+
+}
@@ -0,0 +1,128 @@
+package hedgehog.model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>The apples under every tree of a {@link Garden}, in row-major order (bottom row first), as
+ * read by the strategies. Implementations hold the apples in the narrowest primitive type that
+ * fits the largest of them (see {@link Encoding}) but always read them back as <code>int</code>.
+ * </p>
+ *
+ * <p>Indexes are not checked beyond the bounds checks made by the underlying arrays; callers are
+ * expected to have checked them already (as {@link Garden} does).</p>
+ */
+public interface Cells {
+
+  Encoding encoding();
+
+  /**
+   * @return the number of cells.
+   */
+  int length();
+
+  /**
+   * @return the apples in the cell at <code>index</code>.
+   */
+  int get(int index);
+
+  /**
+   * <p>Copies <code>length</code> cells, starting with the cell at <code>index</code>, into
+   * <code>destination</code> starting at <code>offset</code>, widening them to
+   * <code>int</code>.</p>
+   */
+  void copy(int index, int[] destination, int offset, int length);
+
+  /**
+   * <p>The primitive types that cells can be stored in. The values are unsigned, so a
+   * <code>byte</code> holds up to <code>255</code> apples and a <code>short</code> up to
+   * <code>65535</code>.</p>
+   */
+  enum Encoding {
+
+    BYTE(Byte.BYTES, 0xFF),
+    SHORT(Short.BYTES, 0xFFFF),
+    INT(Integer.BYTES, Integer.MAX_VALUE);
+
+    private final int bytes;
+    private final int maxApples;
+
+    Encoding(final int bytes, final int maxApples) {
+      this.bytes = bytes;
+      this.maxApples = maxApples;
+    }
+
+    public int bytes() {
+      return bytes;
+    }
+
+    public int maxApples() {
+      return maxApples;
+    }
+
+    /**
+     * @return the narrowest encoding that can hold <code>maxApples</code>.
+     */
+    public static Encoding narrowest(final int maxApples) {
+      if (maxApples <= BYTE.maxApples) {
+        return BYTE;
+      }
+      return maxApples <= SHORT.maxApples ? SHORT : INT;
+    }
+
+    /**
+     * <p>Puts <code>count</code> of <code>values</code>, from <code>offset</code>, into
+     * <code>buffer</code> in this encoding and the buffer's byte order. Every value must fit.</p>
+     */
+    public void encode(
+        final int[] values,
+        final int offset,
+        final int count,
+        final ByteBuffer buffer) {
+
+      switch (this) {
+        case BYTE:
+          for (int i = offset; i < offset + count; i++) {
+            buffer.put((byte) values[i]);
+          }
+          break;
+        case SHORT:
+          for (int i = offset; i < offset + count; i++) {
+            buffer.putShort((short) values[i]);
+          }
+          break;
+        default:
+          buffer.asIntBuffer().put(values, offset, count);
+          buffer.position(buffer.position() + count * Integer.BYTES);
+      }
+    }
+
+    /**
+     * <p>Reads <code>count</code> values in this encoding and the buffer's byte order from
+     * <code>buffer</code> into <code>values</code> from <code>offset</code>; the reverse of
+     * {@link #encode(int[], int, int, ByteBuffer)}.</p>
+     */
+    public void decode(
+        final ByteBuffer buffer,
+        final int[] values,
+        final int offset,
+        final int count) {
+
+      switch (this) {
+        case BYTE:
+          for (int i = offset; i < offset + count; i++) {
+            values[i] = buffer.get() & 0xFF;
+          }
+          break;
+        case SHORT:
+          for (int i = offset; i < offset + count; i++) {
+            values[i] = buffer.getShort() & 0xFFFF;
+          }
+          break;
+        default:
+          buffer.asIntBuffer().get(values, offset, count);
+          buffer.position(buffer.position() + count * Integer.BYTES);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,109 @@
+package hedgehog.model;
+
+import java.util.Objects;
+
+/**
+ * <p>A content address for a {@link Garden}; its dimensions together with a 128-bit hash
+ * (<code>high</code>, <code>low</code>) of its apples. Gardens that are equal have equal
+ * fingerprints whatever {@link Cells.Encoding} they are stored in, and gardens that differ are
+ * all but certain not to.</p>
+ *
+ * <p>The hash is MurmurHash3 (x64, 128-bit) over the apples in row-major order, bottom row first,
+ * taken four <code>int</code>s at a time. It is not cryptographic and must not be relied on where
+ * gardens may be crafted to collide.</p>
+ */
+public record Fingerprint(int width, int height, long high, long low) {
+
+  private static final long C1 = 0x87c37b91114253d5L;
+  private static final long C2 = 0x4cf5ad432745937fL;
+
+  /**
+   * <p>The number of cells hashed per copy out of {@link Cells}; a multiple of four.</p>
+   */
+  private static final int CHUNK = 4096;
+
+  /**
+   * @return the fingerprint of <code>garden</code>.
+   */
+  public static Fingerprint of(final Garden garden) {
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'.");
+    }
+
+    final Cells cells = garden.cells();
+    final int length = cells.length();
+    final int[] chunk = new int[Math.min(CHUNK, length)];
+
+    long h1 = ((long) garden.width() << 32) | garden.height();
+    long h2 = h1;
+
+    for (int index = 0; index < length; index += chunk.length) {
+
+      final int count = Math.min(chunk.length, length - index);
+      cells.copy(index, chunk, 0, count);
+      final int blocks = count & ~3;
+
+      for (int i = 0; i < blocks; i += 4) {
+
+        h1 ^= mixK1(pack(chunk[i], chunk[i + 1]));
+        h1 = Long.rotateLeft(h1, 27) + h2;
+        h1 = h1 * 5 + 0x52dce729;
+
+        h2 ^= mixK2(pack(chunk[i + 2], chunk[i + 3]));
+        h2 = Long.rotateLeft(h2, 31) + h1;
+        h2 = h2 * 5 + 0x38495ab5;
+      }
+
+      // Only the last chunk can have a tail, as every other chunk is a multiple of four long.
+      final int tail = count - blocks;
+
+      if (tail > 0) {
+        final int i = blocks;
+        h1 ^= mixK1(pack(chunk[i], tail > 1 ? chunk[i + 1] : 0));
+        h2 ^= tail > 2 ? mixK2(pack(chunk[i + 2], 0)) : 0;
+      }
+    }
+
+    h1 ^= (long) length * Integer.BYTES;
+    h2 ^= (long) length * Integer.BYTES;
+    h1 += h2;
+    h2 += h1;
+    h1 = fmix(h1);
+    h2 = fmix(h2);
+    h1 += h2;
+    h2 += h1;
+
+    return new Fingerprint(garden.width(), garden.height(), h1, h2);
+  }
+
+  /**
+   * @return the fingerprint as a string that is safe to use as a file name.
+   */
+  public String toHex() {
+    return String.format("%dx%d-%016x%016x", width, height, high, low);
+  }
+
+  private static long pack(final int first, final int second) {
+    return (first & 0xFFFFFFFFL) | ((long) second << 32);
+  }
+
+  private static long mixK1(final long k1) {
+    return Long.rotateLeft(k1 * C1, 31) * C2;
+  }
+
+  private static long mixK2(final long k2) {
+    return Long.rotateLeft(k2 * C2, 33) * C1;
+  }
+
+  private static long fmix(final long k) {
+    long mixed = k;
+    mixed ^= mixed >>> 33;
+    mixed *= 0xff51afd7ed558ccdL;
+    mixed ^= mixed >>> 33;
+    mixed *= 0xc4ceb9fe1a85ec53L;
+    mixed ^= mixed >>> 33;
+    return mixed;
+  }
+
+}
@@ -4,62 +4,199 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
-public record Garden(int width, int height, int[][] appleTable) {
+/**
+ * <p>The apples under every tree in the garden, held in a single row-major array of
+ * {@link Cells}. The rows are stored bottom first, so the apples at <code>(x, y)</code> are at
+ * index <code>y * width + x</code> and {@link #getApples(int, int)} needs no flip. The array is of
+ * the narrowest primitive type that fits the largest number of apples in the garden (see
+ * {@link Cells.Encoding}). Every value is validated once, as the garden is built; nothing is
+ * checked again when it is read.</p>
+ *
+ * <p>A garden in which most trees have no apples can instead be created with
+ * {@link #sparse(int, int, int[], int[], int[])}, which holds only the trees that have apples,
+ * and a garden too large for the heap can be read from a file with
+ * {@link #mapped(int, int, MappedCells)}.</p>
+ */
+public final class Garden {
 
-  public Garden {
+  /**
+   * <p>The most cells a garden can hold; its {@link Cells} are indexed by <code>int</code>, and
+   * some virtual machines reserve a few header words in an array.</p>
+   */
+  public static final int MAX_CELLS = Integer.MAX_VALUE - 8;
 
-    if (width <= 0) {
+  private final int width;
+  private final int height;
+  private final Cells cells;
+
+  public Garden(final int width, final int height, final int[][] appleTable) {
+    this(width, height, flatten(width, height, appleTable));
+  }
+
+  /**
+   * <p>Takes ownership of <code>cells</code>, which must already have been validated.</p>
+   */
+  static Garden ofCells(final int width, final int height, final ArrayCells cells) {
+    return new Garden(width, height, cells);
+  }
+
+  private Garden(final int width, final int height, final Cells cells) {
+    this.width = width;
+    this.height = height;
+    this.cells = cells;
+  }
+
+  /**
+   * <p>Creates a garden from only the trees that have apples, for gardens in which most trees
+   * have none. Tree <code>i</code> is at <code>(x[i], y[i])</code> (using the same axes as
+   * {@link #getApples(int, int)}) and has <code>apples[i]</code> apples; every other tree has none.
+   * The garden is held as {@link SparseCells}, so it takes memory in proportion to the number of
+   * trees given rather than to <code>width * height</code>.</p>
+   *
+   * @throws IllegalArgumentException if the arrays differ in length, a tree is outside the garden
+   * or is given more than once, or a tree has fewer than zero apples.
+   */
+  public static Garden sparse(
+      final int width,
+      final int height,
+      final int[] x,
+      final int[] y,
+      final int[] apples) {
+
+    validateDimensions(width, height);
+
+    if (Objects.isNull(x) || Objects.isNull(y) || Objects.isNull(apples)) {
       throw new IllegalArgumentException(
-          String.format(
-              "Illegal argument; 'width' cannot be less than or equal to zero. [width == %d]",
-              width));
+          "Illegal argument; 'x', 'y' and 'apples' cannot be 'null'.");
     }
 
-    if (height <= 0) {
+    if (x.length != y.length || x.length != apples.length) {
       throw new IllegalArgumentException(
           String.format(
-              "Illegal argument; 'height' cannot be less than or equal to zero. [height == %d]",
-              height));
+              "Illegal argument; 'x', 'y' and 'apples' must have the same length. "
+                  + "[x.length == %d, y.length == %d, apples.length == %d]",
+              x.length,
+              y.length,
+              apples.length));
     }
 
-    if (Objects.isNull(appleTable)) {
-      throw new IllegalArgumentException("Illegal argument; 'appleTable' cannot be 'null'.");
-    }
+    validateSize(width, height);
 
-    if (appleTable.length != height) {
-      throw new IllegalArgumentException(
-          String.format(
-              "Illegal argument; 'appleTable' must have a length equal to the specified 'height'. "
-                  + "[appleTable.length == %d, height == %d]",
-              appleTable.length,
-              height));
+    // Each tree given, as its index in the upper half and its position in the lower half,
+    // so that sorting orders the trees by index.
+    final long[] trees = new long[x.length];
+    int count = 0;
+
+    for (int i = 0; i < x.length; i++) {
+
+      if ((x[i] | y[i] | (width - 1 - x[i]) | (height - 1 - y[i])) < 0) {
+        throw outOfBounds(x[i], y[i], width, height);
+      }
+
+      if (apples[i] < 0) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; 'apples[%d]' cannot be less than zero. [apples[%d] == %d]",
+                i, i,
+                apples[i]));
+      }
+
+      trees[count++] = ((long) (y[i] * width + x[i]) << 32) | i;
     }
 
-    for (int rowIndex = 0; rowIndex < appleTable.length; rowIndex++) {
-      if (appleTable[rowIndex].length != width) {
+    Arrays.sort(trees);
+
+    final int[] indexes = new int[count];
+    final int[] values = new int[count];
+    int kept = 0;
+
+    for (int t = 0; t < count; t++) {
+
+      final int index = (int) (trees[t] >>> 32);
+
+      if (t > 0 && index == (int) (trees[t - 1] >>> 32)) {
         throw new IllegalArgumentException(
             String.format(
-                "Illegal argument; 'appleTable[%d]' must have a length equal to the specified "
-                    + "'width'. [appleTable[%d].length == %d, width == %d]",
-                rowIndex, rowIndex,
-                appleTable[rowIndex].length,
-                width));
+                "Illegal argument; a tree cannot be given more than once. [x == %d, y == %d]",
+                index % width,
+                index / width));
       }
 
-      for (int columnIndex = 0; columnIndex < appleTable[rowIndex].length; columnIndex++) {
-        if (appleTable[rowIndex][columnIndex] < 0) {
-          throw new IllegalArgumentException(
-              String.format(
-                  "Illegal argument; 'appleTable[%d][%d]' cannot be less than zero. "
-                      + "[appleTable[%d][%d] == %d]",
-                  rowIndex, columnIndex, rowIndex, columnIndex,
-                  appleTable[rowIndex][columnIndex],
-                  width));
-        }
+      final int value = apples[(int) trees[t]];
+
+      if (value > 0) {
+        indexes[kept] = index;
+        values[kept++] = value;
       }
     }
+
+    return new Garden(
+        width,
+        height,
+        new SparseCells(width * height, Arrays.copyOf(indexes, kept), Arrays.copyOf(values, kept)));
+  }
+
+  /**
+   * <p>Creates a garden over cells mapped from a file, which are neither copied nor validated;
+   * see {@link MappedCells}.</p>
+   *
+   * @throws IllegalArgumentException if <code>cells</code> does not hold exactly
+   * <code>width * height</code> cells.
+   */
+  public static Garden mapped(final int width, final int height, final MappedCells cells) {
+
+    validateDimensions(width, height);
+
+    if (Objects.isNull(cells)) {
+      throw new IllegalArgumentException("Illegal argument; 'cells' cannot be 'null'.");
+    }
+
+    validateSize(width, height);
+
+    if (cells.length() != width * height) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'cells' must hold 'width' multiplied by 'height' cells. "
+                  + "[cells.length() == %d, width == %d, height == %d]",
+              cells.length(),
+              width,
+              height));
+    }
+
+    return new Garden(width, height, cells);
+  }
+
+  public int width() {
+    return width;
+  }
+
+  public int height() {
+    return height;
+  }
+
+  /**
+   * <p>Returns a copy of the apples as a table of rows, with the top row of the garden (i.e. the
+   * first row of the input) first. This allocates a new table on every call; solvers should use
+   * {@link #copyRow(int, int[])}, {@link #getApples(int, int)} or {@link #cells()} instead.</p>
+   */
+  public int[][] appleTable() {
+    final int[][] appleTable = new int[height][width];
+    for (int rowIndex = 0; rowIndex < height; rowIndex++) {
+      copyRow(height - 1 - rowIndex, appleTable[rowIndex]);
+    }
+    return appleTable;
+  }
+
+  /**
+   * @return the storage behind the garden; the apples at <code>(x, y)</code> are at index
+   * <code>y * width + x</code>.
+   */
+  public Cells cells() {
+    return cells;
   }
 
   /**
@@ -97,13 +234,73 @@ public record Garden(int width, int height, int[][] appleTable) {
    */
   public int getApples(final int x, final int y) {
 
+    // A single check; the sign bit is set if any of the four bounds is broken.
+    if ((x | y | (width - 1 - x) | (height - 1 - y)) < 0) {
+      throw outOfBounds(x, y, width, height);
+    }
+
+    return cells.get(y * width + x);
+  }
+
+  /**
+   * <p>Copies row <code>y</code> (using the same axes as {@link #getApples(int, int)}) into the
+   * first <code>width</code> elements of <code>destination</code>. <code>y</code> is not checked
+   * beyond the bounds checks made by the underlying arrays.</p>
+   */
+  public void copyRow(final int y, final int[] destination) {
+    cells.copy(y * width, destination, 0, width);
+  }
+
+  /**
+   * <p>Copies the apples from <code>(fromX, y)</code> up to, but not including,
+   * <code>(toX, y)</code> into the start of <code>destination</code>. Nothing is checked beyond
+   * the bounds checks made by the underlying arrays.</p>
+   */
+  public void copyRow(final int y, final int fromX, final int toX, final int[] destination) {
+    cells.copy(y * width + fromX, destination, 0, toX - fromX);
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof Garden)) {
+      return false;
+    }
+    final Garden other = (Garden) obj;
+    return width == other.width && height == other.height && cells.equals(other.cells);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * width + height) + cells.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s[width=%d, height=%d, encoding=%s, appleTable=%s]",
+        Garden.class.getSimpleName(),
+        width,
+        height,
+        cells.encoding(),
+        "[...]");
+  }
+
+  static IllegalArgumentException outOfBounds(
+      final int x,
+      final int y,
+      final int width,
+      final int height) {
+
     if (x < 0) {
-      throw new IllegalArgumentException(
+      return new IllegalArgumentException(
           String.format("Illegal argument; 'x' cannot be less than zero. [x == %d]", x));
     }
 
     if (x >= width) {
-      throw new IllegalArgumentException(
+      return new IllegalArgumentException(
           String.format(
               "Illegal argument; 'x' cannot be greater than or equal to the specified 'width'. "
                   + "[x == %d, width == %d]",
@@ -112,61 +309,293 @@ public record Garden(int width, int height, int[][] appleTable) {
     }
 
     if (y < 0) {
-      throw new IllegalArgumentException(
+      return new IllegalArgumentException(
           String.format("Illegal argument; 'y' cannot be less than zero. [y == %d]", y));
     }
 
-    if (y >= height) {
+    return new IllegalArgumentException(
+        String.format(
+            "Illegal argument; 'y' cannot be greater than or equal to the specified 'height'. "
+                + "[y == %d, height == %d]",
+            y,
+            height));
+  }
+
+  private static ArrayCells flatten(
+      final int width,
+      final int height,
+      final int[][] appleTable) {
+
+    validateDimensions(width, height);
+
+    if (Objects.isNull(appleTable)) {
+      throw new IllegalArgumentException("Illegal argument; 'appleTable' cannot be 'null'.");
+    }
+
+    if (appleTable.length != height) {
       throw new IllegalArgumentException(
           String.format(
-              "Illegal argument; 'y' cannot be greater than or equal to the specified 'height'. "
-                  + "[y == %d, height == %d]",
-              y,
+              "Illegal argument; 'appleTable' must have a length equal to the specified 'height'. "
+                  + "[appleTable.length == %d, height == %d]",
+              appleTable.length,
               height));
     }
 
-    return appleTable[appleTable.length - 1 - y][x];
+    int maxApples = 0;
+    for (int rowIndex = 0; rowIndex < appleTable.length; rowIndex++) {
+      maxApples = Math.max(maxApples, validateRow(rowIndex, appleTable[rowIndex], width));
+    }
+
+    final ArrayCells cells = allocate(Cells.Encoding.narrowest(maxApples), width, height);
+
+    for (int rowIndex = 0; rowIndex < appleTable.length; rowIndex++) {
+      cells.put((height - 1 - rowIndex) * width, appleTable[rowIndex], width);
+    }
+
+    return cells;
   }
-  
-  @Override
-  public String toString() {
-    return String.format(
-        "%s[width=%d, height=%d, appleTable=%s]",
-        Garden.class.getSimpleName(),
-        width,
-        height,
-        "[...]");
+
+  private static void validateDimensions(final int width, final int height) {
+
+    if (width <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'width' cannot be less than or equal to zero. [width == %d]",
+              width));
+    }
+
+    if (height <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'height' cannot be less than or equal to zero. [height == %d]",
+              height));
+    }
   }
 
+  private static void validateSize(final int width, final int height) {
+    if ((long) width * height > MAX_CELLS) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'width' multiplied by 'height' is too large to be stored. "
+                  + "[width == %d, height == %d]",
+              width,
+              height));
+    }
+  }
+
+  private static ArrayCells allocate(
+      final Cells.Encoding encoding,
+      final int width,
+      final int height) {
+
+    validateSize(width, height);
+
+    return ArrayCells.allocate(encoding, width * height);
+  }
+
+  /**
+   * @return the largest number of apples in <code>appleRow</code>.
+   */
+  private static int validateRow(final int rowIndex, final int[] appleRow, final int width) {
+
+    if (Objects.isNull(appleRow)) {
+      throw new IllegalArgumentException(
+          String.format("Illegal argument; 'appleTable[%d]' cannot be 'null'.", rowIndex));
+    }
+
+    if (appleRow.length != width) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'appleTable[%d]' must have a length equal to the specified "
+                  + "'width'. [appleTable[%d].length == %d, width == %d]",
+              rowIndex, rowIndex,
+              appleRow.length,
+              width));
+    }
+
+    int maxApples = 0;
+
+    for (int columnIndex = 0; columnIndex < appleRow.length; columnIndex++) {
+      maxApples = Math.max(maxApples, appleRow[columnIndex]);
+      if (appleRow[columnIndex] < 0) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; 'appleTable[%d][%d]' cannot be less than zero. "
+                    + "[appleTable[%d][%d] == %d]",
+                rowIndex, columnIndex, rowIndex, columnIndex,
+                appleRow[columnIndex]));
+      }
+    }
+
+    return maxApples;
+  }
+
+  /**
+   * <p>Builds a {@link Garden} one row at a time, from the top row down (i.e. in the order of the
+   * input). Each row is validated and copied straight into the garden's storage as it is added;
+   * {@link #build()} hands that storage to the garden without copying it again, after which the
+   * builder cannot be used again.</p>
+   *
+   * <p>The storage starts out in the {@link #encoding(Cells.Encoding) starting encoding}
+   * (<code>byte</code> by default) and is widened whenever a row holds a value that does not fit;
+   * at most twice, from <code>byte</code> to <code>short</code> and from <code>short</code> to
+   * <code>int</code>. The garden therefore ends up in the narrowest encoding that fits its
+   * largest value.</p>
+   *
+   * <p>Rows set by index from several threads at once are validated and put into the storage
+   * without excluding each other, as they never share a cell; only a widening, which replaces the
+   * storage, waits for the rows being put to finish and holds the others back until it is
+   * done.</p>
+   *
+   * <p>Rows added before both the width and the height are known are held until they are (at the
+   * latest, by {@link #build()}).</p>
+   */
   public static class Builder {
 
     private Integer width;
     private Integer height;
-    private List<List<Integer>> appleTable;
+    private Cells.Encoding encoding = Cells.Encoding.BYTE;
+    private volatile ArrayCells cells;
+    private List<int[]> pendingRows;
+    private final AtomicInteger rowCount = new AtomicInteger();
+    private final ReadWriteLock storageLock = new ReentrantReadWriteLock();
+    private volatile boolean built;
 
     public Builder() {
       super();
     }
 
-    public Builder width(final Integer width) {
+    public synchronized Builder width(final Integer width) {
       this.width = width;
+      allocateIfReady();
       return this;
     }
 
-    public Builder height(final Integer height) {
+    public synchronized Builder height(final Integer height) {
       this.height = height;
+      allocateIfReady();
+      return this;
+    }
+
+    /**
+     * <p>Sets the encoding the storage starts out in, for when the range of the apples is known in
+     * advance; the storage is still widened if a value does not fit.</p>
+     */
+    public synchronized Builder encoding(final Cells.Encoding encoding) {
+
+      if (Objects.isNull(encoding)) {
+        throw new IllegalArgumentException("Illegal argument; 'encoding' cannot be 'null'.");
+      }
+
+      if (Objects.nonNull(cells)) {
+        throw new IllegalStateException(
+            "Illegal state; 'encoding' cannot be changed once rows can be added.");
+      }
+
+      this.encoding = encoding;
       return this;
     }
 
     public Builder appleRow(final List<Integer> appleRow) {
-      if (Objects.isNull(appleTable)) {
-        appleTable = new ArrayList<>();
+
+      if (Objects.isNull(appleRow)) {
+        throw new IllegalArgumentException("Illegal argument; 'appleRow' cannot be 'null'.");
+      }
+
+      final int[] primitiveRow = new int[appleRow.size()];
+      for (int columnIndex = 0; columnIndex < primitiveRow.length; columnIndex++) {
+        final Integer apples = appleRow.get(columnIndex);
+        if (Objects.isNull(apples)) {
+          throw new IllegalArgumentException(
+              String.format(
+                  "Illegal argument; 'appleRow[%d]' cannot be 'null'.",
+                  columnIndex));
+        }
+        primitiveRow[columnIndex] = apples;
+      }
+
+      return appleRow(primitiveRow);
+    }
+
+    /**
+     * <p>Adds the next row, copying <code>appleRow</code>; the caller may reuse it
+     * afterwards.</p>
+     */
+    public synchronized Builder appleRow(final int[] appleRow) {
+
+      checkNotBuilt();
+
+      if (Objects.isNull(cells)) {
+        if (Objects.isNull(appleRow)) {
+          throw new IllegalArgumentException("Illegal argument; 'appleRow' cannot be 'null'.");
+        }
+        if (Objects.isNull(pendingRows)) {
+          pendingRows = new ArrayList<>();
+        }
+        pendingRows.add(appleRow.clone());
+        rowCount.incrementAndGet();
+        return this;
+      }
+
+      return appleRow(rowCount.get(), appleRow);
+    }
+
+    /**
+     * <p>Sets the row at <code>rowIndex</code> (counted from the top row, i.e. in the order of the
+     * input), copying <code>appleRow</code>. Requires the width and the height to have been set.
+     * Each row must be set exactly once; rows may be set in any order and from any thread.</p>
+     */
+    public Builder appleRow(final int rowIndex, final int[] appleRow) {
+
+      checkNotBuilt();
+
+      // Read first; the width and the height are set before the storage is.
+      if (Objects.isNull(cells)) {
+        throw new IllegalStateException(
+            "Illegal state; cannot set 'appleRow' by index before 'width' and 'height'.");
       }
-      appleTable.add(appleRow);
+
+      if (rowIndex < 0 || rowIndex >= height) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; 'appleTable' must have a length equal to the specified "
+                    + "'height'. [appleTable.length > %d, height == %d]",
+                rowIndex,
+                height));
+      }
+
+      final int maxApples = validateRow(rowIndex, appleRow, width);
+      final int index = (height - 1 - rowIndex) * width;
+
+      storageLock.readLock().lock();
+      try {
+        if (maxApples <= cells.encoding().maxApples()) {
+          cells.put(index, appleRow, width);
+          rowCount.incrementAndGet();
+          return this;
+        }
+      } finally {
+        storageLock.readLock().unlock();
+      }
+
+      storageLock.writeLock().lock();
+      try {
+        // Another row may have widened the storage far enough while this one waited.
+        if (maxApples > cells.encoding().maxApples()) {
+          cells = cells.widen(Cells.Encoding.narrowest(maxApples));
+        }
+        cells.put(index, appleRow, width);
+        rowCount.incrementAndGet();
+      } finally {
+        storageLock.writeLock().unlock();
+      }
+
       return this;
     }
 
-    public Garden build() {
+    public synchronized Garden build() {
+
+      checkNotBuilt();
 
       if (Objects.isNull(width)) {
         throw new IllegalStateException(
@@ -178,32 +607,72 @@ public record Garden(int width, int height, int[][] appleTable) {
             "Illegal state; cannot build Garden, 'height' not specified.");
       }
 
-      if (Objects.isNull(this.appleTable)) {
+      // Waits for any row still being put, and sees every row that has been.
+      storageLock.writeLock().lock();
+      storageLock.writeLock().unlock();
+
+      if (rowCount.get() == 0) {
         throw new IllegalStateException(
             "Illegal state; cannot build Garden, 'appleTable' not specified.");
       }
 
-      final Object[] appleTableObj =
-          this.appleTable.stream()
-              .filter(Objects::nonNull)
-              .map(appleRow ->
-                  appleRow.stream()
-                      .filter(Objects::nonNull)
-                      .collect(Collectors.toList())
-                      .toArray())
-              .collect(Collectors.toList())
-              .toArray();
+      validateDimensions(width, height);
+
+      if (rowCount.get() != height) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; 'appleTable' must have a length equal to the specified "
+                    + "'height'. [appleTable.length == %d, height == %d]",
+                rowCount.get(),
+                height));
+      }
 
-      final int[][] appleTable =
-          new int[appleTableObj.length][((Object[]) appleTableObj[0]).length];
+      built = true;
 
-      for (int i = 0; i < appleTableObj.length; i++) {
-        for (int j = 0; j < ((Object[]) appleTableObj[i]).length; j++) {
-          appleTable[i][j] = (int) ((Object[]) appleTableObj[i])[j];
+      return new Garden(width, height, cells);
+    }
+
+    /**
+     * <p>Allocates the storage, and moves any rows added so far into it, once both the width and
+     * the height are known and valid.</p>
+     */
+    private void allocateIfReady() {
+
+      checkNotBuilt();
+
+      if (Objects.isNull(width) || Objects.isNull(height) || width <= 0 || height <= 0) {
+        return;
+      }
+
+      if (Objects.nonNull(cells)) {
+        throw new IllegalStateException(
+            "Illegal state; 'width' and 'height' cannot be changed once rows can be added.");
+      }
+
+      cells = allocate(encoding, width, height);
+
+      if (Objects.nonNull(pendingRows)) {
+        if (pendingRows.size() > height) {
+          throw new IllegalArgumentException(
+              String.format(
+                  "Illegal argument; 'appleTable' must have a length equal to the specified "
+                      + "'height'. [appleTable.length == %d, height == %d]",
+                  pendingRows.size(),
+                  height));
+        }
+        rowCount.set(0);
+        for (final int[] appleRow : pendingRows) {
+          appleRow(rowCount.get(), appleRow);
         }
+        pendingRows = null;
       }
+    }
 
-      return new Garden(width, height, appleTable);
+    private void checkNotBuilt() {
+      if (built) {
+        throw new IllegalStateException(
+            "Illegal state; the Garden has already been built by this builder.");
+      }
     }
 
   }
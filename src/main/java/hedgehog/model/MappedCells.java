@@ -0,0 +1,208 @@
+package hedgehog.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+import java.util.zip.Checksum;
+
+/**
+ * <p>{@link Cells} read straight from a memory mapped file, as little-endian values of their
+ * {@link Cells.Encoding} in row-major order. Nothing is copied onto the heap; pages of the file
+ * are read in by the operating system as the cells are first touched, and may be dropped again
+ * under memory pressure.</p>
+ *
+ * <p>A single mapping cannot exceed 2 GB, so the cells are mapped in segments of 1 GB; as that is
+ * a multiple of every encoding's size, no cell straddles two segments. The mappings stay valid
+ * after the channel they were made from is closed.</p>
+ *
+ * <p>The values are not validated as they are mapped, as that would read the whole file; a
+ * corrupt file of <code>INT</code> cells can read back fewer than zero apples. See
+ * {@link #update(Checksum)} for a way to check the file first.</p>
+ */
+public final class MappedCells implements Cells {
+
+  private static final int SEGMENT_SHIFT = 30;
+  private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+  private final Encoding encoding;
+  private final int length;
+  private final ByteBuffer[] segments;
+
+  private MappedCells(final Encoding encoding, final int length, final ByteBuffer[] segments) {
+    this.encoding = encoding;
+    this.length = length;
+    this.segments = segments;
+  }
+
+  /**
+   * <p>Maps <code>length</code> cells of <code>encoding</code> from <code>channel</code>, starting
+   * at <code>position</code>. The channel must be open for reading, and the file must hold every
+   * cell.</p>
+   */
+  public static MappedCells map(
+      final FileChannel channel,
+      final long position,
+      final Encoding encoding,
+      final int length) throws IOException {
+
+    if (Objects.isNull(channel)) {
+      throw new IllegalArgumentException("Illegal argument; 'channel' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(encoding)) {
+      throw new IllegalArgumentException("Illegal argument; 'encoding' cannot be 'null'.");
+    }
+
+    if (position < 0 || length < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'position' and 'length' cannot be less than zero. "
+                  + "[position == %d, length == %d]",
+              position,
+              length));
+    }
+
+    final long bytes = (long) length * encoding.bytes();
+
+    if (position + bytes > channel.size()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; the file is too short to hold the cells. "
+                  + "[position == %d, bytes == %d, size == %d]",
+              position,
+              bytes,
+              channel.size()));
+    }
+
+    final ByteBuffer[] segments = new ByteBuffer[(int) ((bytes + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+
+    for (int s = 0; s < segments.length; s++) {
+      final long offset = (long) s << SEGMENT_SHIFT;
+      segments[s] =
+          channel
+              .map(
+                  FileChannel.MapMode.READ_ONLY,
+                  position + offset,
+                  Math.min(1L << SEGMENT_SHIFT, bytes - offset))
+              .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    return new MappedCells(encoding, length, segments);
+  }
+
+  @Override
+  public Encoding encoding() {
+    return encoding;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public int get(final int index) {
+
+    final long position = (long) index * encoding.bytes();
+    final ByteBuffer segment = segments[(int) (position >>> SEGMENT_SHIFT)];
+    final int at = (int) (position & SEGMENT_MASK);
+
+    switch (encoding) {
+      case BYTE:
+        return segment.get(at) & 0xFF;
+      case SHORT:
+        return segment.getShort(at) & 0xFFFF;
+      default:
+        return segment.getInt(at);
+    }
+  }
+
+  @Override
+  public void copy(final int index, final int[] destination, final int offset, final int length) {
+
+    final int bytes = encoding.bytes();
+    long position = (long) index * bytes;
+    int copied = 0;
+
+    while (copied < length) {
+
+      final ByteBuffer segment = segments[(int) (position >>> SEGMENT_SHIFT)];
+      final int at = (int) (position & SEGMENT_MASK);
+      final int count = Math.min(length - copied, (segment.limit() - at) / bytes);
+      final int start = offset + copied;
+
+      switch (encoding) {
+        case BYTE:
+          for (int i = 0; i < count; i++) {
+            destination[start + i] = segment.get(at + i) & 0xFF;
+          }
+          break;
+        case SHORT:
+          for (int i = 0; i < count; i++) {
+            destination[start + i] = segment.getShort(at + 2 * i) & 0xFFFF;
+          }
+          break;
+        default:
+          for (int i = 0; i < count; i++) {
+            destination[start + i] = segment.getInt(at + 4 * i);
+          }
+      }
+
+      copied += count;
+      position += (long) count * bytes;
+    }
+  }
+
+  /**
+   * <p>Passes every byte of the cells, as held in the file, to <code>checksum</code>. This reads
+   * the whole mapping.</p>
+   */
+  public void update(final Checksum checksum) {
+
+    if (Objects.isNull(checksum)) {
+      throw new IllegalArgumentException("Illegal argument; 'checksum' cannot be 'null'.");
+    }
+
+    for (final ByteBuffer segment : segments) {
+      checksum.update(segment.duplicate());
+    }
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+
+    if (this == obj) {
+      return true;
+    }
+
+    if (!(obj instanceof Cells) || ((Cells) obj).length() != length) {
+      return false;
+    }
+
+    final Cells other = (Cells) obj;
+
+    for (int index = 0; index < length; index++) {
+      if (get(index) != other.get(index)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * <p>The same as {@link java.util.Arrays#hashCode(int[])} of the cells, as for the other
+   * cells.</p>
+   */
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (int index = 0; index < length; index++) {
+      hashCode = 31 * hashCode + get(index);
+    }
+    return hashCode;
+  }
+
+}
@@ -0,0 +1,130 @@
+package hedgehog.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>A garden whose apples can be changed one tree at a time, for gardens that change a little at
+ * a time (apples fall or are picked) and are solved again after every change. It uses the same
+ * axes and storage as {@link Garden}, widening the storage when a tree is given more apples than
+ * the current {@link Cells.Encoding} holds, and tells its {@link Listener}s about every change so
+ * that they can update whatever they have derived from it.</p>
+ *
+ * <p>Instances are not thread safe.</p>
+ */
+public final class MutableGarden {
+
+  private final int width;
+  private final int height;
+  private final List<Listener> listeners = new ArrayList<>();
+  private ArrayCells cells;
+
+  /**
+   * <p>Starts with a copy of the apples in <code>garden</code>.</p>
+   */
+  public MutableGarden(final Garden garden) {
+
+    super();
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'.");
+    }
+
+    this.width = garden.width();
+    this.height = garden.height();
+    this.cells = ArrayCells.copyOf(garden.cells(), garden.cells().encoding());
+  }
+
+  public int width() {
+    return width;
+  }
+
+  public int height() {
+    return height;
+  }
+
+  /**
+   * @see Garden#getApples(int, int)
+   */
+  public int getApples(final int x, final int y) {
+
+    if ((x | y | (width - 1 - x) | (height - 1 - y)) < 0) {
+      throw Garden.outOfBounds(x, y, width, height);
+    }
+
+    return cells.get(y * width + x);
+  }
+
+  /**
+   * <p>Sets the apples under the tree at <code>(x, y)</code> (using the same axes as
+   * {@link Garden#getApples(int, int)}) and then, if they have changed, tells every
+   * {@link Listener}.</p>
+   */
+  public void setApples(final int x, final int y, final int apples) {
+
+    final int previous = getApples(x, y);
+
+    if (apples < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'apples' cannot be less than zero. [apples == %d]", apples));
+    }
+
+    if (apples == previous) {
+      return;
+    }
+
+    if (apples > cells.encoding().maxApples()) {
+      cells = cells.widen(Cells.Encoding.narrowest(apples));
+    }
+
+    cells.set(y * width + x, apples);
+
+    for (final Listener listener : listeners) {
+      listener.applesChanged(x, y, previous, apples);
+    }
+  }
+
+  public void addListener(final Listener listener) {
+
+    if (Objects.isNull(listener)) {
+      throw new IllegalArgumentException("Illegal argument; 'listener' cannot be 'null'.");
+    }
+
+    listeners.add(listener);
+  }
+
+  public void removeListener(final Listener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * @return a copy of the garden as it is now.
+   */
+  public Garden toGarden() {
+    return Garden.ofCells(width, height, ArrayCells.copyOf(cells, cells.encoding()));
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s[width=%d, height=%d, encoding=%s, appleTable=%s]",
+        MutableGarden.class.getSimpleName(),
+        width,
+        height,
+        cells.encoding(),
+        "[...]");
+  }
+
+  /**
+   * <p>Told about every change to the apples of a {@link MutableGarden}, after it has been
+   * made.</p>
+   */
+  public interface Listener {
+
+    void applesChanged(int x, int y, int previous, int apples);
+
+  }
+
+}
@@ -0,0 +1,133 @@
+package hedgehog.model;
+
+import java.util.Objects;
+
+/**
+ * <p>A route taken by the hedgehog across a garden of <code>width</code> x <code>height</code>,
+ * together with the number of <code>apples</code> collected along it.</p>
+ *
+ * <p>Every route consists of <code>width + height - 2</code> moves. The moves are bit-packed into
+ * <code>moves</code>; move <code>i</code> is bit <code>i % 64</code> of
+ * <code>moves[i / 64]</code>, where zero means 'move right' and one means 'move down'.</p>
+ */
+public record Route(long apples, int width, int height, long[] moves) {
+
+  public Route {
+
+    if (apples < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'apples' cannot be less than zero. [apples == %d]", apples));
+    }
+
+    if (width <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'width' cannot be less than or equal to zero. [width == %d]",
+              width));
+    }
+
+    if (height <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'height' cannot be less than or equal to zero. [height == %d]",
+              height));
+    }
+
+    if (Objects.isNull(moves)) {
+      throw new IllegalArgumentException("Illegal argument; 'moves' cannot be 'null'.");
+    }
+
+    final int moveCount = width + height - 2;
+
+    if (moves.length != words(moveCount)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'moves' must have a length of one word per 64 moves. "
+                  + "[moves.length == %d, moveCount == %d]",
+              moves.length,
+              moveCount));
+    }
+
+    if (moveCount % Long.SIZE != 0 && moves[moves.length - 1] >>> (moveCount % Long.SIZE) != 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'moves' cannot contain more than 'moveCount' moves. "
+                  + "[moveCount == %d]",
+              moveCount));
+    }
+
+    int downMoves = 0;
+    for (final long word : moves) {
+      downMoves += Long.bitCount(word);
+    }
+
+    if (downMoves != height - 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'moves' must contain one less down move than the specified "
+                  + "'height'. [downMoves == %d, height == %d]",
+              downMoves,
+              height));
+    }
+  }
+
+  /**
+   * @param moveCount The number of moves.
+   *
+   * @return the number of <code>long</code> words needed to hold <code>moveCount</code> moves.
+   */
+  public static int words(final int moveCount) {
+    return (moveCount + Long.SIZE - 1) / Long.SIZE;
+  }
+
+  public int moveCount() {
+    return width + height - 2;
+  }
+
+  /**
+   * @param move The index of the move, from zero to <code>moveCount() - 1</code>.
+   *
+   * @return <code>true</code> if the move is down, <code>false</code> if it is right.
+   *
+   * @throws IllegalArgumentException if <code>move</code> is less than zero or greater than or
+   * equal to <code>moveCount()</code>.
+   */
+  public boolean isDown(final int move) {
+
+    if (move < 0 || move >= moveCount()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'move' must be between zero and 'moveCount' (exclusive). "
+                  + "[move == %d, moveCount == %d]",
+              move,
+              moveCount()));
+    }
+
+    return (moves[move >>> 6] & (1L << move)) != 0;
+  }
+
+  /**
+   * @return the moves as a binary string, first move first, where <code>0</code> means 'move
+   * right' and <code>1</code> means 'move down'.
+   */
+  public String toMoveString() {
+    final StringBuilder moveString = new StringBuilder(moveCount());
+    for (int move = 0; move < moveCount(); move++) {
+      moveString.append(isDown(move) ? '1' : '0');
+    }
+    return moveString.toString();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s[apples=%d, width=%d, height=%d, moves=%s]",
+        Route.class.getSimpleName(),
+        apples,
+        width,
+        height,
+        "[...]");
+  }
+
+}
@@ -0,0 +1,20 @@
+package hedgehog.model;
+
+/**
+ * <p>Receives a garden one row at a time, from the top (first) row to the bottom (last) row, as
+ * it is read.</p>
+ */
+public interface RowConsumer {
+
+  /**
+   * <p>Called once, before any rows, with the dimensions of the garden.</p>
+   */
+  void dimensions(int width, int height);
+
+  /**
+   * <p>Called once per row. The array may be reused by the caller for the next row so it must not
+   * be retained after this method returns.</p>
+   */
+  void row(int[] appleRow);
+
+}
@@ -0,0 +1,143 @@
+package hedgehog.model;
+
+import java.util.Arrays;
+
+/**
+ * <p>{@link Cells} for gardens in which most trees have no apples; only the trees that have apples
+ * are held, as their indexes in ascending order alongside their apples, so the memory taken grows
+ * with the number of such trees rather than with the size of the garden. Reading a single cell is
+ * a binary search over those indexes.</p>
+ *
+ * <p>The {@link #encoding()} is the narrowest that would hold every value, although the values are
+ * held as <code>int</code>s.</p>
+ */
+public final class SparseCells implements Cells {
+
+  private final int length;
+  private final int[] indexes;
+  private final int[] apples;
+  private final Encoding encoding;
+
+  /**
+   * <p>Takes ownership of <code>indexes</code>, which must be ascending and without duplicates,
+   * and <code>apples</code>, which must all be greater than zero.</p>
+   */
+  SparseCells(final int length, final int[] indexes, final int[] apples) {
+
+    int maxApples = 0;
+    for (final int value : apples) {
+      maxApples = Math.max(maxApples, value);
+    }
+
+    this.length = length;
+    this.indexes = indexes;
+    this.apples = apples;
+    this.encoding = Encoding.narrowest(maxApples);
+  }
+
+  @Override
+  public Encoding encoding() {
+    return encoding;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  /**
+   * @return the number of cells with apples.
+   */
+  public int count() {
+    return indexes.length;
+  }
+
+  /**
+   * @return the index of the <code>i</code>th cell with apples, in ascending order of index.
+   */
+  public int index(final int i) {
+    return indexes[i];
+  }
+
+  /**
+   * @return the apples in the <code>i</code>th cell with apples.
+   */
+  public int apples(final int i) {
+    return apples[i];
+  }
+
+  @Override
+  public int get(final int index) {
+    final int i = Arrays.binarySearch(indexes, index);
+    return i >= 0 ? apples[i] : 0;
+  }
+
+  @Override
+  public void copy(final int index, final int[] destination, final int offset, final int length) {
+
+    Arrays.fill(destination, offset, offset + length, 0);
+
+    final int end = index + length;
+    int i = Arrays.binarySearch(indexes, index);
+
+    for (i = i >= 0 ? i : -i - 1; i < indexes.length && indexes[i] < end; i++) {
+      destination[offset + indexes[i] - index] = apples[i];
+    }
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+
+    if (this == obj) {
+      return true;
+    }
+
+    if (obj instanceof SparseCells) {
+      final SparseCells other = (SparseCells) obj;
+      return length == other.length
+          && Arrays.equals(indexes, other.indexes)
+          && Arrays.equals(apples, other.apples);
+    }
+
+    if (!(obj instanceof Cells) || ((Cells) obj).length() != length) {
+      return false;
+    }
+
+    final Cells other = (Cells) obj;
+
+    for (int index = 0; index < length; index++) {
+      if (get(index) != other.get(index)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * <p>The same as {@link Arrays#hashCode(int[])} of every cell, as for the other cells, but
+   * computed from the cells with apples alone; that hash is <code>31^length</code> plus, for each
+   * cell, its apples times <code>31^(length - 1 - index)</code>.</p>
+   */
+  @Override
+  public int hashCode() {
+    int hashCode = power(length);
+    for (int i = 0; i < indexes.length; i++) {
+      hashCode += apples[i] * power(length - 1 - indexes[i]);
+    }
+    return hashCode;
+  }
+
+  private static int power(final int exponent) {
+    int result = 1;
+    int base = 31;
+    for (int e = exponent; e > 0; e >>>= 1) {
+      if ((e & 1) != 0) {
+        result *= base;
+      }
+      base *= base;
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,109 @@
+package hedgehog.server;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Direct buffers shared between connections, so that a connection neither allocates its
+ * buffers nor reads a socket through a temporary direct buffer of the JDK's; those are cached per
+ * thread, and a virtual thread per connection would allocate its own every time.</p>
+ *
+ * <p>Buffers come in sizes of a power of two, from <code>minSize</code> up; a request is given the
+ * smallest size that holds it. Released buffers are kept for reuse until they add up to
+ * <code>maxPooledBytes</code>, after which they are left to the garbage collector.</p>
+ */
+final class BufferPool {
+
+  private final int minShift;
+  private final long maxPooledBytes;
+  private final List<ConcurrentLinkedDeque<ByteBuffer>> pools;
+  private final AtomicLong pooledBytes;
+
+  BufferPool(final int minSize, final long maxPooledBytes) {
+
+    if (minSize <= 0 || Integer.bitCount(minSize) != 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'minSize' must be a power of two. [minSize == %d]", minSize));
+    }
+
+    if (maxPooledBytes < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'maxPooledBytes' cannot be negative. [maxPooledBytes == %d]",
+              maxPooledBytes));
+    }
+
+    minShift = Integer.numberOfTrailingZeros(minSize);
+    this.maxPooledBytes = maxPooledBytes;
+    pools = new ArrayList<>(Integer.SIZE - minShift);
+    for (int p = minShift; p < Integer.SIZE; p++) {
+      pools.add(new ConcurrentLinkedDeque<>());
+    }
+    pooledBytes = new AtomicLong();
+  }
+
+  /**
+   * @return a cleared buffer of at least <code>capacity</code> bytes, which should be released
+   * once it is no longer used.
+   */
+  ByteBuffer acquire(final int capacity) {
+
+    if (capacity < 0 || capacity > 1 << 30) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'capacity' must be between zero and 2^30. [capacity == %d]",
+              capacity));
+    }
+
+    final int pool = pool(capacity);
+    final ByteBuffer buffer = pools.get(pool).pollFirst();
+
+    if (Objects.isNull(buffer)) {
+      return ByteBuffer.allocateDirect(1 << (pool + minShift));
+    }
+
+    pooledBytes.addAndGet(-buffer.capacity());
+    return buffer.clear();
+  }
+
+  void release(final ByteBuffer buffer) {
+
+    if (Objects.isNull(buffer)) {
+      return;
+    }
+
+    final int capacity = buffer.capacity();
+
+    // Only buffers of one of the pool's sizes are kept; any other could be too small for its size.
+    if (!buffer.isDirect()
+        || Integer.bitCount(capacity) != 1
+        || Integer.numberOfTrailingZeros(capacity) < minShift) {
+      return;
+    }
+
+    if (pooledBytes.addAndGet(capacity) > maxPooledBytes) {
+      pooledBytes.addAndGet(-capacity);
+      return;
+    }
+
+    pools.get(pool(capacity)).offerFirst(buffer);
+  }
+
+  long pooledBytes() {
+    return pooledBytes.get();
+  }
+
+  /**
+   * @return the index of the smallest size that holds <code>capacity</code> bytes.
+   */
+  private int pool(final int capacity) {
+    final int shift = capacity <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1);
+    return Math.max(0, shift - minShift);
+  }
+
+}
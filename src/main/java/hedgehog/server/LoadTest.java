@@ -0,0 +1,281 @@
+package hedgehog.server;
+
+import hedgehog.io.GardenBytes;
+import hedgehog.model.Garden;
+import hedgehog.strategy.DynamicProgrammingSolutionStrategy;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Puts load on a {@link SolveServer} from a number of connections at once, each sending
+ * random gardens with a window of requests in flight, and checks every solution against
+ * {@link DynamicProgrammingSolutionStrategy}. The arguments are;</p>
+ *
+ * <ol>
+ *   <li>the server's address, or <code>local</code> to start a server in this JVM on a loopback
+ *   port, or <code>local-unix</code> on a Unix domain socket (default: <code>local</code>);</li>
+ *   <li>the number of connections (default: 8);</li>
+ *   <li>the number of requests per connection (default: 20,000);</li>
+ *   <li>the window of requests in flight per connection; 1 for no pipelining (default: 16);</li>
+ *   <li>the width and the height of the gardens (default: 10 and 10).</li>
+ * </ol>
+ *
+ * <p>The load is run twice and only the second run reported, so that the server and the client
+ * have both been compiled.</p>
+ */
+public class LoadTest {
+
+  private static final Logger LOGGER = Logger.getLogger(LoadTest.class.getSimpleName());
+
+  private static final String LOCAL = "local";
+  private static final String LOCAL_UNIX = "local-unix";
+
+  /**
+   * <p>The different gardens each connection sends, in turn.</p>
+   */
+  private static final int GARDENS_PER_CONNECTION = 16;
+
+  private static final int MAX_APPLES = 100;
+
+  private final int connections;
+  private final int requests;
+  private final int window;
+  private final int width;
+  private final int height;
+
+  public LoadTest(
+      final int connections,
+      final int requests,
+      final int window,
+      final int width,
+      final int height) {
+
+    super();
+
+    if (connections <= 0 || requests <= 0 || window <= 0 || width <= 0 || height <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; every argument must be greater than zero. "
+                  + "[connections == %d, requests == %d, window == %d, width == %d, "
+                  + "height == %d]",
+              connections,
+              requests,
+              window,
+              width,
+              height));
+    }
+
+    if ((long) connections * requests > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; too many requests for their latencies to be stored. "
+                  + "[connections == %d, requests == %d]",
+              connections,
+              requests));
+    }
+
+    this.connections = connections;
+    this.requests = requests;
+    this.window = window;
+    this.width = width;
+    this.height = height;
+  }
+
+  /**
+   * @throws IllegalStateException if a solution is wrong, or the server could not solve a garden.
+   * @throws IOException if a connection failed.
+   */
+  public Report run(final SocketAddress address) throws IOException, InterruptedException {
+
+    if (Objects.isNull(address)) {
+      throw new IllegalArgumentException("Illegal argument; 'address' cannot be 'null'.");
+    }
+
+    final ExecutorService executorService = Executors.newFixedThreadPool(connections);
+    final List<Future<long[]>> futures = new ArrayList<>(connections);
+    final long start = System.nanoTime();
+
+    try {
+
+      for (int c = 0; c < connections; c++) {
+        final int connection = c;
+        futures.add(executorService.submit(() -> connect(address, connection)));
+      }
+
+      final long[] latencies = new long[connections * requests];
+
+      for (int c = 0; c < connections; c++) {
+        System.arraycopy(futures.get(c).get(), 0, latencies, c * requests, requests);
+      }
+
+      final long nanos = System.nanoTime() - start;
+      Arrays.sort(latencies);
+
+      return new Report(
+          connections,
+          latencies.length,
+          window,
+          nanos,
+          percentile(latencies, 0.50),
+          percentile(latencies, 0.99),
+          latencies[latencies.length - 1]);
+
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IllegalStateException(
+          String.format("Illegal state; a connection failed. [cause == %s]", e.getCause()),
+          e.getCause());
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  /**
+   * @return the latency of each request on a connection, in nanoseconds; from when it was
+   * buffered to be sent until its response was read.
+   */
+  private long[] connect(final SocketAddress address, final int connection) throws Exception {
+
+    final Random random = new Random(connection);
+    final byte[][] gardens = new byte[GARDENS_PER_CONNECTION][];
+    final long[] expected = new long[GARDENS_PER_CONNECTION];
+
+    for (int g = 0; g < GARDENS_PER_CONNECTION; g++) {
+      final Garden garden = garden(random);
+      gardens[g] = GardenBytes.encodeText(garden);
+      expected[g] = new DynamicProgrammingSolutionStrategy().solve(garden);
+    }
+
+    final long[] sentAt = new long[requests];
+    final long[] latencies = new long[requests];
+
+    try (final SolveClient client = SolveClient.connect(address)) {
+
+      int sent = 0;
+
+      for (int received = 0; received < requests; received++) {
+
+        while (sent < requests && sent - received < window) {
+          sentAt[sent] = System.nanoTime();
+          client.send(gardens[sent % GARDENS_PER_CONNECTION]);
+          sent++;
+        }
+
+        final long solution = client.receive();
+        latencies[received] = System.nanoTime() - sentAt[received];
+
+        if (solution != expected[received % GARDENS_PER_CONNECTION]) {
+          throw new IllegalStateException(
+              String.format(
+                  "Illegal state; wrong solution. [connection == %d, request == %d, "
+                      + "solution == %d, expected == %d]",
+                  connection,
+                  received,
+                  solution,
+                  expected[received % GARDENS_PER_CONNECTION]));
+        }
+      }
+    }
+
+    return latencies;
+  }
+
+  private Garden garden(final Random random) {
+    final int[][] appleTable = new int[height][width];
+    for (final int[] appleRow : appleTable) {
+      for (int x = 0; x < width; x++) {
+        appleRow[x] = random.nextInt(MAX_APPLES);
+      }
+    }
+    return new Garden(width, height, appleTable);
+  }
+
+  private static long percentile(final long[] sorted, final double fraction) {
+    return sorted[(int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1)];
+  }
+
+  /**
+   * <p>The outcome of a run; latencies are in nanoseconds.</p>
+   */
+  public record Report(
+      int connections,
+      long requests,
+      int window,
+      long nanos,
+      long p50Nanos,
+      long p99Nanos,
+      long maxNanos) {
+
+    public double requestsPerSecond() {
+      return nanos == 0 ? 0 : requests * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "LoadTest[connections=%d, requests=%d, window=%d, elapsed=%dms, requests/s=%.1f, "
+              + "p50=%.1fus, p99=%.1fus, max=%.1fus]",
+          connections,
+          requests,
+          window,
+          nanos / 1_000_000,
+          requestsPerSecond(),
+          p50Nanos / 1e3,
+          p99Nanos / 1e3,
+          maxNanos / 1e3);
+    }
+  }
+
+  public static void main(final String... args) throws Exception {
+
+    LOGGER.log(Level.INFO, String.format("main [args == %s]", Arrays.toString(args)));
+
+    final String address = args.length > 0 ? args[0] : LOCAL;
+    final LoadTest loadTest =
+        new LoadTest(
+            args.length > 1 ? Integer.parseInt(args[1]) : 8,
+            args.length > 2 ? Integer.parseInt(args[2]) : 20_000,
+            args.length > 3 ? Integer.parseInt(args[3]) : 16,
+            args.length > 4 ? Integer.parseInt(args[4]) : 10,
+            args.length > 5 ? Integer.parseInt(args[5]) : 10);
+
+    if (!LOCAL.equals(address) && !LOCAL_UNIX.equals(address)) {
+      loadTest.run(SolveProtocol.address(address));
+      System.out.println(loadTest.run(SolveProtocol.address(address)));
+      return;
+    }
+
+    final Path directory = Files.createTempDirectory("hedgehog-load-");
+    final SocketAddress bindAddress =
+        LOCAL.equals(address)
+            ? new InetSocketAddress("127.0.0.1", 0)
+            : UnixDomainSocketAddress.of(directory.resolve("hedgehog.sock"));
+
+    try (final SolveServer server =
+        new SolveServer(bindAddress, new DynamicProgrammingSolutionStrategy())) {
+      final SocketAddress serverAddress = server.start();
+      loadTest.run(serverAddress);
+      System.out.println(loadTest.run(serverAddress));
+    } finally {
+      Files.deleteIfExists(directory);
+    }
+  }
+
+}
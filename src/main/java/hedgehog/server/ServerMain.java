@@ -0,0 +1,87 @@
+package hedgehog.server;
+
+import hedgehog.model.Garden;
+import hedgehog.strategy.SolutionStrategy;
+import hedgehog.strategy.SolutionStrategyProvider;
+import hedgehog.strategy.SolutionStrategyRegistry;
+import java.net.SocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Runs a {@link SolveServer} until the JVM is stopped. The arguments are;</p>
+ *
+ * <ol>
+ *   <li>the address to listen on; <code>unix:path</code>, <code>host:port</code> or a port on the
+ *   loopback address (default: {@value SolveProtocol#DEFAULT_PORT});</li>
+ *   <li>the name of a registered strategy (default: <code>dynamic-programming</code>);</li>
+ *   <li>the longest garden accepted, in bytes (default:
+ *   {@value SolveProtocol#DEFAULT_MAX_REQUEST_BYTES}).</li>
+ * </ol>
+ *
+ * <p>The strategy is warmed up on its provider's sample gardens for about a second before the
+ * address is bound, so that the first requests are not the ones to pay for compiling it.</p>
+ */
+public class ServerMain {
+
+  private static final Logger LOGGER = Logger.getLogger(ServerMain.class.getSimpleName());
+
+  private static final String DEFAULT_STRATEGY = "dynamic-programming";
+
+  private static final long WARM_UP_NANOS = 1_000_000_000L;
+
+  public static void main(final String... args) throws Exception {
+
+    LOGGER.log(Level.INFO, String.format("main [args == %s]", Arrays.toString(args)));
+
+    final SocketAddress address =
+        SolveProtocol.address(
+            args.length > 0 ? args[0] : Integer.toString(SolveProtocol.DEFAULT_PORT));
+    final String name = args.length > 1 ? args[1] : DEFAULT_STRATEGY;
+    final int maxRequestBytes =
+        args.length > 2 ? Integer.parseInt(args[2]) : SolveProtocol.DEFAULT_MAX_REQUEST_BYTES;
+
+    final SolutionStrategyProvider provider =
+        new SolutionStrategyRegistry()
+            .provider(name)
+            .orElseThrow(
+                () ->
+                    new IllegalArgumentException(
+                        String.format(
+                            "Illegal argument; no strategy is registered by that name. "
+                                + "[name == %s]",
+                            name)));
+
+    final SolutionStrategy solutionStrategy = provider.create();
+
+    // Each sample at least once, then the first over and over until the time is up.
+    final List<Garden> samples = provider.samples();
+    final long warmUpEnd = System.nanoTime() + WARM_UP_NANOS;
+
+    for (int s = 0; s < samples.size() || System.nanoTime() < warmUpEnd; s++) {
+      solutionStrategy.solve(samples.get(s < samples.size() ? s : 0));
+    }
+
+    final SolveServer server = new SolveServer(address, solutionStrategy, maxRequestBytes);
+    final CountDownLatch stopped = new CountDownLatch(1);
+
+    Runtime.getRuntime()
+        .addShutdownHook(
+            new Thread(() -> {
+              try {
+                server.close();
+              } catch (final Exception e) {
+                LOGGER.log(Level.WARNING, "Exception caught while closing the server.", e);
+              } finally {
+                stopped.countDown();
+              }
+            }));
+
+    System.out.println(server.start());
+    stopped.await();
+  }
+
+}
@@ -0,0 +1,265 @@
+package hedgehog.server;
+
+import hedgehog.exception.SolutionException;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>A connection to a {@link SolveServer}. Requests can be pipelined; {@link #send(byte[])}
+ * buffers a garden without waiting, and {@link #receive()} sends anything buffered and reads the
+ * response to the earliest request not yet answered. Not thread safe; a connection is used by one
+ * thread at a time.</p>
+ *
+ * <p>As a program, sends each garden file given after the address and prints the file and its
+ * solution, or the server's error, a line each;</p>
+ *
+ * <p><code>java -cp hedgehog-solution.jar hedgehog.server.SolveClient 7878 a.txt b.hdgh</code></p>
+ */
+public class SolveClient implements AutoCloseable {
+
+  private static final Logger LOGGER = Logger.getLogger(SolveClient.class.getSimpleName());
+
+  /**
+   * <p>The requests {@link #solveAll(List, int)} has in flight by default.</p>
+   */
+  public static final int DEFAULT_WINDOW = 64;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final SocketChannel channel;
+  private final ByteBuffer input;
+  private final ByteBuffer output;
+
+  private SolveClient(final SocketChannel channel) {
+    this.channel = channel;
+    input = ByteBuffer.allocateDirect(BUFFER_SIZE).flip();
+    output = ByteBuffer.allocateDirect(BUFFER_SIZE);
+  }
+
+  public static SolveClient connect(final SocketAddress address) throws IOException {
+
+    if (Objects.isNull(address)) {
+      throw new IllegalArgumentException("Illegal argument; 'address' cannot be 'null'.");
+    }
+
+    final SocketChannel channel = SocketChannel.open(address);
+
+    if (channel.supportedOptions().contains(StandardSocketOptions.TCP_NODELAY)) {
+      channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+    }
+
+    return new SolveClient(channel);
+  }
+
+  /**
+   * <p>Buffers a request for <code>garden</code>, in the text format or the binary format; it is
+   * sent when the buffer fills or a response is read.</p>
+   */
+  public void send(final byte[] garden) throws IOException {
+
+    if (Objects.isNull(garden) || garden.length == 0) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null' or empty.");
+    }
+
+    if (output.remaining() < Integer.BYTES + garden.length) {
+      flush();
+    }
+
+    if (output.remaining() < Integer.BYTES + garden.length) {
+      // Too long for the buffer; written straight from the array instead.
+      final ByteBuffer[] request = {
+          ByteBuffer.allocate(Integer.BYTES).putInt(0, garden.length), ByteBuffer.wrap(garden)};
+      while (request[1].hasRemaining()) {
+        channel.write(request);
+      }
+      return;
+    }
+
+    output.putInt(garden.length).put(garden);
+  }
+
+  /**
+   * <p>Sends any requests buffered, and reads the response to the earliest request not yet
+   * answered.</p>
+   *
+   * @return the solution.
+   *
+   * @throws SolutionException if the server could not read or solve the garden; the connection
+   * can still be used.
+   * @throws IOException if the connection failed, or the server closed it.
+   */
+  public long receive() throws IOException, SolutionException {
+
+    flush();
+    fill(Byte.BYTES);
+
+    final byte status = input.get();
+
+    if (status == SolveProtocol.OK) {
+      fill(Long.BYTES);
+      return input.getLong();
+    }
+
+    if (status != SolveProtocol.ERROR) {
+      throw new IOException(
+          String.format("Unexpected response from the server. [status == %d]", status));
+    }
+
+    fill(Integer.BYTES);
+    final int length = input.getInt();
+
+    if (length < 0 || length > SolveProtocol.MAX_MESSAGE_BYTES) {
+      throw new IOException(
+          String.format("Unexpected response from the server. [length == %d]", length));
+    }
+
+    fill(length);
+    final byte[] message = new byte[length];
+    input.get(message);
+
+    throw new SolutionException(
+        new IllegalStateException(
+            String.format(
+                "Illegal state; the server could not solve the garden. [message == %s]",
+                new String(message, StandardCharsets.UTF_8))));
+  }
+
+  public long solve(final byte[] garden) throws IOException, SolutionException {
+    send(garden);
+    return receive();
+  }
+
+  /**
+   * <p>Solves <code>gardens</code> with up to <code>window</code> requests in flight at once; a
+   * window keeps the responses waiting to be read, and so the server, from stalling on a full
+   * socket while the requests are still being sent.</p>
+   *
+   * @return the solutions, in the order of <code>gardens</code>.
+   *
+   * @throws SolutionException for the first garden the server could not read or solve, once
+   * every response has been read.
+   */
+  public long[] solveAll(final List<byte[]> gardens, final int window)
+      throws IOException, SolutionException {
+
+    if (Objects.isNull(gardens)) {
+      throw new IllegalArgumentException("Illegal argument; 'gardens' cannot be 'null'.");
+    }
+
+    if (window <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'window' cannot be less than or equal to zero. [window == %d]",
+              window));
+    }
+
+    final long[] solutions = new long[gardens.size()];
+    SolutionException failure = null;
+    int sent = 0;
+
+    for (int received = 0; received < solutions.length; received++) {
+
+      while (sent < solutions.length && sent - received < window) {
+        send(gardens.get(sent++));
+      }
+
+      try {
+        solutions[received] = receive();
+      } catch (final SolutionException e) {
+        failure = Objects.isNull(failure) ? e : failure;
+      }
+    }
+
+    if (Objects.nonNull(failure)) {
+      throw failure;
+    }
+
+    return solutions;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      channel.close();
+    }
+  }
+
+  private void flush() throws IOException {
+    output.flip();
+    while (output.hasRemaining()) {
+      channel.write(output);
+    }
+    output.clear();
+  }
+
+  private void fill(final int bytes) throws IOException {
+
+    if (input.remaining() >= bytes) {
+      return;
+    }
+
+    input.compact();
+
+    try {
+      while (input.position() < bytes) {
+        if (channel.read(input) < 0) {
+          throw new EOFException("The server closed the connection.");
+        }
+      }
+    } finally {
+      input.flip();
+    }
+  }
+
+  public static void main(final String... args) throws Exception {
+
+    LOGGER.log(Level.INFO, String.format("main [args == %s]", Arrays.toString(args)));
+
+    if (args.length < 2) {
+      throw new IllegalArgumentException(
+          "Illegal argument; usage: <unix:path | host:port | port> <garden>...");
+    }
+
+    final List<byte[]> gardens = new ArrayList<>();
+
+    for (int a = 1; a < args.length; a++) {
+      gardens.add(Files.readAllBytes(Path.of(args[a])));
+    }
+
+    try (final SolveClient client = connect(SolveProtocol.address(args[0]))) {
+
+      for (int g = 0; g < gardens.size(); g += DEFAULT_WINDOW) {
+
+        final int end = Math.min(gardens.size(), g + DEFAULT_WINDOW);
+
+        for (int s = g; s < end; s++) {
+          client.send(gardens.get(s));
+        }
+
+        for (int r = g; r < end; r++) {
+          try {
+            System.out.println(args[r + 1] + " " + client.receive());
+          } catch (final SolutionException e) {
+            System.out.println(args[r + 1] + " " + e.getCause().getMessage());
+          }
+        }
+      }
+    }
+  }
+
+}
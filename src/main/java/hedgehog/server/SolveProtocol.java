@@ -0,0 +1,131 @@
+package hedgehog.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * <p>The protocol spoken between {@link SolveServer} and {@link SolveClient}. Every number is
+ * big-endian. A request is;</p>
+ *
+ * <p><code>
+ * 0 &nbsp;the length of the garden in bytes, an <code>int</code><br>
+ * 4 &nbsp;the garden, in the text format or the binary format<br>
+ * </code></p>
+ *
+ * <p>and its response either;</p>
+ *
+ * <p><code>
+ * 0 &nbsp;{@value #OK}, a <code>byte</code><br>
+ * 1 &nbsp;the solution, a <code>long</code><br>
+ * </code></p>
+ *
+ * <p>or;</p>
+ *
+ * <p><code>
+ * 0 &nbsp;{@value #ERROR}, a <code>byte</code><br>
+ * 1 &nbsp;the length of the message in bytes, an <code>int</code><br>
+ * 5 &nbsp;why the garden could not be solved, in UTF-8<br>
+ * </code></p>
+ *
+ * <p>A client may send any number of requests before reading their responses, which come back
+ * in the same order. A garden that cannot be read or solved is answered with an error and the
+ * connection carries on; a length that is not positive or is more than the server accepts is
+ * answered with an error and the connection is closed, as the rest of the request cannot be told
+ * apart from the next.</p>
+ */
+public final class SolveProtocol {
+
+  public static final byte OK = 0;
+
+  public static final byte ERROR = 1;
+
+  public static final int DEFAULT_PORT = 7_878;
+
+  /**
+   * <p>The longest garden a server accepts by default; a dense text garden of a few million
+   * squares, or a binary garden of sixteen million single byte squares.</p>
+   */
+  public static final int DEFAULT_MAX_REQUEST_BYTES = 16 * 1024 * 1024;
+
+  /**
+   * <p>The longest error message sent; longer ones are cut short.</p>
+   */
+  static final int MAX_MESSAGE_BYTES = 1024;
+
+  private static final String UNIX_PREFIX = "unix:";
+
+  private SolveProtocol() {
+    super();
+  }
+
+  /**
+   * @return the address given by <code>address</code>; <code>unix:path</code> for a Unix domain
+   * socket, <code>host:port</code>, or a port alone on the loopback address.
+   */
+  public static SocketAddress address(final String address) {
+
+    if (Objects.isNull(address) || address.isBlank()) {
+      throw new IllegalArgumentException(
+          "Illegal argument; 'address' cannot be 'null' or empty.");
+    }
+
+    if (address.startsWith(UNIX_PREFIX)) {
+      return UnixDomainSocketAddress.of(address.substring(UNIX_PREFIX.length()));
+    }
+
+    final int colon = address.lastIndexOf(':');
+
+    try {
+      return colon < 0
+          ? new InetSocketAddress("127.0.0.1", Integer.parseInt(address))
+          : new InetSocketAddress(
+              address.substring(0, colon), Integer.parseInt(address.substring(colon + 1)));
+    } catch (final NumberFormatException e) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'address' must be unix:path, host:port or port. "
+                  + "[address == %s]",
+              address),
+          e);
+    }
+  }
+
+  /**
+   * @return an unbound server channel for <code>address</code>; a Unix domain one for a
+   * {@link UnixDomainSocketAddress}, otherwise one for either IPv4 or IPv6.
+   */
+  static ServerSocketChannel openServer(final SocketAddress address) throws IOException {
+    return address instanceof UnixDomainSocketAddress
+        ? ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+        : ServerSocketChannel.open();
+  }
+
+  /**
+   * @return <code>message</code> in UTF-8, cut short to {@value #MAX_MESSAGE_BYTES} bytes.
+   */
+  static byte[] message(final String message) {
+
+    final byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+
+    if (bytes.length <= MAX_MESSAGE_BYTES) {
+      return bytes;
+    }
+
+    // Back off to the start of a character, so that the message still decodes.
+    int length = MAX_MESSAGE_BYTES;
+    while ((bytes[length] & 0xC0) == 0x80) {
+      length--;
+    }
+
+    final byte[] shortened = new byte[length];
+    System.arraycopy(bytes, 0, shortened, 0, length);
+    return shortened;
+  }
+
+}
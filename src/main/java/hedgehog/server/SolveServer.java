@@ -0,0 +1,448 @@
+package hedgehog.server;
+
+import hedgehog.concurrent.VirtualThreads;
+import hedgehog.io.GardenBytes;
+import hedgehog.memory.AdmissionControl;
+import hedgehog.memory.MemoryBudget;
+import hedgehog.strategy.MemoryEstimator;
+import hedgehog.strategy.SolutionStrategy;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Solves gardens sent over TCP or a Unix domain socket (see {@link SolveProtocol}), so that a
+ * garden costs a round trip rather than starting a JVM and warming it up. One strategy instance
+ * solves every garden for the life of the server, so it stays compiled and keeps any cache it
+ * holds; it must be thread safe.</p>
+ *
+ * <p>Each connection is served on a thread of its own; a virtual thread where the Java version has
+ * them, otherwise a platform thread from a cached pool. A connection reads into and writes from
+ * buffers pooled across connections, and a garden that does not fit in its read buffer is
+ * gathered into a pooled buffer of its size. Requests on a connection are solved in order, and
+ * responses are only written out once every request already read has been answered, so that a
+ * client that pipelines its requests gets its responses in as few writes as it sent them.</p>
+ *
+ * <p>Each garden is admitted from its header before it is decoded, so that a short request whose
+ * header claims a large garden is answered with an error rather than allocating it.</p>
+ */
+public class SolveServer implements AutoCloseable {
+
+  private static final Logger LOGGER = Logger.getLogger(SolveServer.class.getSimpleName());
+
+  /**
+   * <p>The size of each connection's read and write buffers.</p>
+   */
+  public static final int IO_BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * <p>The most bytes of released buffers kept for reuse.</p>
+   */
+  public static final long MAX_POOLED_BYTES = 64L * 1024 * 1024;
+
+  private static final int CLOSE_TIMEOUT_SECONDS = 5;
+
+  private final SocketAddress address;
+  private final SolutionStrategy solutionStrategy;
+  private final int maxRequestBytes;
+  private final AdmissionControl admissionControl;
+  private final BufferPool bufferPool;
+  private final Set<SocketChannel> connections;
+  private final AtomicLong requests;
+
+  private ServerSocketChannel serverChannel;
+  private ExecutorService executorService;
+  private Thread acceptor;
+
+  public SolveServer(final SocketAddress address, final SolutionStrategy solutionStrategy) {
+    this(address, solutionStrategy, SolveProtocol.DEFAULT_MAX_REQUEST_BYTES);
+  }
+
+  /**
+   * <p>Admits gardens against {@link MemoryBudget#global()}, without waiting for it; a garden that
+   * does not fit what is left of it is answered with an error at once, rather than holding up its
+   * connection.</p>
+   */
+  public SolveServer(
+      final SocketAddress address,
+      final SolutionStrategy solutionStrategy,
+      final int maxRequestBytes) {
+
+    this(
+        address,
+        solutionStrategy,
+        maxRequestBytes,
+        new AdmissionControl(MemoryBudget.global(), new MemoryEstimator(), Duration.ZERO));
+  }
+
+  /**
+   * <p>Admits each garden with <code>admissionControl</code> before it is decoded; only in
+   * memory, as a garden sent over a connection has no file to be solved out of core from.</p>
+   */
+  public SolveServer(
+      final SocketAddress address,
+      final SolutionStrategy solutionStrategy,
+      final int maxRequestBytes,
+      final AdmissionControl admissionControl) {
+
+    super();
+
+    if (Objects.isNull(address)) {
+      throw new IllegalArgumentException("Illegal argument; 'address' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(solutionStrategy)) {
+      throw new IllegalArgumentException("Illegal argument; 'solutionStrategy' cannot be 'null'.");
+    }
+
+    if (maxRequestBytes <= 0 || maxRequestBytes > 1 << 30) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'maxRequestBytes' must be between one and 2^30. "
+                  + "[maxRequestBytes == %d]",
+              maxRequestBytes));
+    }
+
+    if (Objects.isNull(admissionControl)) {
+      throw new IllegalArgumentException("Illegal argument; 'admissionControl' cannot be 'null'.");
+    }
+
+    this.address = address;
+    this.solutionStrategy = solutionStrategy;
+    this.maxRequestBytes = maxRequestBytes;
+    this.admissionControl = admissionControl;
+    bufferPool = new BufferPool(IO_BUFFER_SIZE, MAX_POOLED_BYTES);
+    connections = ConcurrentHashMap.newKeySet();
+    requests = new AtomicLong();
+  }
+
+  /**
+   * <p>Binds the address and starts accepting connections.</p>
+   *
+   * @return the address bound; with the port chosen if the port given was zero.
+   *
+   * @throws IOException if the address cannot be bound, for example because it is in use.
+   */
+  public synchronized SocketAddress start() throws IOException {
+
+    if (Objects.nonNull(serverChannel)) {
+      throw new IllegalStateException("Illegal state; the server has already been started.");
+    }
+
+    serverChannel = SolveProtocol.openServer(address);
+
+    try {
+      serverChannel.bind(address);
+    } catch (final IOException e) {
+      serverChannel.close();
+      throw e;
+    }
+
+    executorService = connectionExecutor();
+    acceptor = new Thread(this::accept, "hedgehog-server-acceptor");
+    acceptor.setDaemon(true);
+    acceptor.start();
+
+    final SocketAddress localAddress = serverChannel.getLocalAddress();
+    LOGGER.log(
+        Level.INFO,
+        String.format(
+            "start[address == %s, maxRequestBytes == %d, virtualThreads == %b]",
+            localAddress,
+            maxRequestBytes,
+            VirtualThreads.isSupported()));
+
+    return localAddress;
+  }
+
+  /**
+   * @return the number of requests answered, with a solution or an error.
+   */
+  public long requests() {
+    return requests.get();
+  }
+
+  /**
+   * <p>Stops accepting connections, closes those open and waits briefly for their threads to
+   * finish. A Unix domain socket's file is deleted.</p>
+   */
+  @Override
+  public synchronized void close() throws IOException {
+
+    if (Objects.isNull(serverChannel)) {
+      return;
+    }
+
+    serverChannel.close();
+
+    for (final SocketChannel connection : connections) {
+      connection.close();
+    }
+
+    executorService.shutdownNow();
+
+    try {
+      acceptor.join(TimeUnit.SECONDS.toMillis(CLOSE_TIMEOUT_SECONDS));
+      executorService.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (address instanceof UnixDomainSocketAddress) {
+      Files.deleteIfExists(((UnixDomainSocketAddress) address).getPath());
+    }
+
+    LOGGER.log(Level.INFO, String.format("close[requests == %d]", requests.get()));
+  }
+
+  private static ExecutorService connectionExecutor() {
+
+    if (VirtualThreads.isSupported()) {
+      return VirtualThreads.executor();
+    }
+
+    LOGGER.log(
+        Level.WARNING,
+        "Virtual threads are not supported by this Java version; using platform threads.");
+
+    return Executors.newCachedThreadPool();
+  }
+
+  private void accept() {
+
+    while (serverChannel.isOpen()) {
+
+      final SocketChannel channel;
+
+      try {
+        channel = serverChannel.accept();
+      } catch (final ClosedChannelException e) {
+        break;
+      } catch (final IOException e) {
+        LOGGER.log(Level.WARNING, "IOException caught while accepting a connection.", e);
+        continue;
+      }
+
+      connections.add(channel);
+
+      try {
+        executorService.execute(new Connection(channel));
+      } catch (final RejectedExecutionException e) {
+        close(channel);
+      }
+    }
+  }
+
+  private void close(final SocketChannel channel) {
+    connections.remove(channel);
+    try {
+      channel.close();
+    } catch (final IOException e) {
+      // The connection is being dropped either way.
+    }
+  }
+
+  /**
+   * <p>Reads requests from a connection and writes their responses until the client closes it.</p>
+   */
+  private final class Connection implements Runnable {
+
+    private final SocketChannel channel;
+
+    private ByteBuffer input;
+    private ByteBuffer output;
+
+    Connection(final SocketChannel channel) {
+      this.channel = channel;
+    }
+
+    @Override
+    public void run() {
+
+      input = bufferPool.acquire(IO_BUFFER_SIZE).flip();
+      output = bufferPool.acquire(IO_BUFFER_SIZE);
+
+      try {
+
+        if (channel.supportedOptions().contains(StandardSocketOptions.TCP_NODELAY)) {
+          channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        }
+
+        while (fill(Integer.BYTES)) {
+
+          final int length = input.getInt();
+
+          if (length <= 0 || length > maxRequestBytes) {
+            error(
+                String.format(
+                    "Illegal argument; the length of a garden must be between one and %d. "
+                        + "[length == %d]",
+                    maxRequestBytes,
+                    length));
+            break;
+          }
+
+          if (length <= input.remaining()) {
+            final int end = input.position() + length;
+            solve(input.duplicate().limit(end));
+            input.position(end);
+          } else {
+            solveGathered(length);
+          }
+        }
+
+        flush();
+
+      } catch (final IOException e) {
+        if (channel.isOpen()) {
+          LOGGER.log(Level.FINE, "IOException caught while serving a connection.", e);
+        }
+      } finally {
+        close(channel);
+        bufferPool.release(input);
+        bufferPool.release(output);
+      }
+    }
+
+    /**
+     * <p>Gathers a garden longer than the bytes read so far into a buffer of its own.</p>
+     */
+    private void solveGathered(final int length) throws IOException {
+
+      final ByteBuffer request = bufferPool.acquire(length);
+
+      try {
+        request.limit(length).put(input);
+        flush();
+        while (request.hasRemaining()) {
+          if (channel.read(request) < 0) {
+            throw new ClosedChannelException();
+          }
+        }
+        solve(request.flip());
+      } finally {
+        bufferPool.release(request);
+      }
+    }
+
+    private void solve(final ByteBuffer request) throws IOException {
+
+      final long solution;
+
+      try {
+        solution = admitAndSolve(request);
+      } catch (final Exception e) {
+        if (e instanceof InterruptedException) {
+          Thread.currentThread().interrupt();
+        }
+        error(describe(e));
+        return;
+      }
+
+      reserve(Byte.BYTES + Long.BYTES);
+      output.put(SolveProtocol.OK).putLong(solution);
+      requests.incrementAndGet();
+    }
+
+    /**
+     * <p>Reserves the memory to decode and solve the garden in <code>request</code>, from its
+     * header alone, and holds it while the garden is decoded and solved.</p>
+     */
+    private long admitAndSolve(final ByteBuffer request) throws Exception {
+
+      try (final AdmissionControl.Admission admission =
+          admissionControl.admit(GardenBytes.peek(request), false)) {
+
+        if (admission.decision() != AdmissionControl.Decision.IN_MEMORY) {
+          throw new IllegalStateException(
+              String.format(
+                  "Illegal state; the garden was rejected; not enough memory. [reason == %s]",
+                  admission.reason()));
+        }
+
+        return solutionStrategy.solve(GardenBytes.decode(request));
+      }
+    }
+
+    private void error(final String message) throws IOException {
+      final byte[] bytes = SolveProtocol.message(message);
+      reserve(Byte.BYTES + Integer.BYTES + bytes.length);
+      output.put(SolveProtocol.ERROR).putInt(bytes.length).put(bytes);
+      requests.incrementAndGet();
+    }
+
+    /**
+     * <p>Makes room for <code>bytes</code> in the output, writing out what it holds if need
+     * be.</p>
+     */
+    private void reserve(final int bytes) throws IOException {
+      if (output.remaining() < bytes) {
+        flush();
+      }
+    }
+
+    /**
+     * <p>Reads until at least <code>bytes</code> are held, writing out the responses held first,
+     * as the client may be waiting for them before it sends more.</p>
+     *
+     * @return <code>false</code> if the client closed the connection first.
+     */
+    private boolean fill(final int bytes) throws IOException {
+
+      if (input.remaining() >= bytes) {
+        return true;
+      }
+
+      flush();
+      input.compact();
+
+      try {
+        while (input.position() < bytes) {
+          if (channel.read(input) < 0) {
+            return false;
+          }
+        }
+        return true;
+      } finally {
+        input.flip();
+      }
+    }
+
+    private void flush() throws IOException {
+      output.flip();
+      while (output.hasRemaining()) {
+        channel.write(output);
+      }
+      output.clear();
+    }
+  }
+
+  /**
+   * @return the exception and each of its causes.
+   */
+  private static String describe(final Exception e) {
+    final StringBuilder description = new StringBuilder(e.toString());
+    for (Throwable cause = e.getCause(); Objects.nonNull(cause); cause = cause.getCause()) {
+      description.append("; caused by ").append(cause);
+    }
+    return description.toString();
+  }
+
+}
@@ -0,0 +1,85 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import hedgehog.model.SparseCells;
+import java.util.Objects;
+
+/**
+ * <p>Solves each garden with whichever of two strategies suits its density; a sparse strategy for
+ * a garden held as {@link SparseCells} in which at most <code>maxDensity</code> of the trees have
+ * apples, and a dense strategy for every other garden. A garden held densely always goes to the
+ * dense strategy, as finding its trees with apples would take as long as solving it.</p>
+ *
+ * <p>By default these are {@link SparseSolutionStrategy} and
+ * {@link DynamicProgrammingSolutionStrategy}, switching at a density of
+ * {@value #DEFAULT_MAX_DENSITY}.</p>
+ */
+public class AdaptiveSolutionStrategy implements SolutionStrategy {
+
+  /**
+   * <p>Below this density the sparse strategy, at up to a few hundred nanoseconds per tree with
+   * apples, is faster than the dense one at a few nanoseconds per square; on a 3000 x 3000 garden
+   * they were level at a density of about 1%.</p>
+   */
+  public static final double DEFAULT_MAX_DENSITY = 0.01;
+
+  private final SolutionStrategy sparseStrategy;
+  private final SolutionStrategy denseStrategy;
+  private final double maxDensity;
+
+  public AdaptiveSolutionStrategy() {
+    this(
+        new SparseSolutionStrategy(),
+        new DynamicProgrammingSolutionStrategy(),
+        DEFAULT_MAX_DENSITY);
+  }
+
+  public AdaptiveSolutionStrategy(
+      final SolutionStrategy sparseStrategy,
+      final SolutionStrategy denseStrategy,
+      final double maxDensity) {
+
+    super();
+
+    if (Objects.isNull(sparseStrategy)) {
+      throw new IllegalArgumentException("Illegal argument; 'sparseStrategy' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(denseStrategy)) {
+      throw new IllegalArgumentException("Illegal argument; 'denseStrategy' cannot be 'null'.");
+    }
+
+    if (!(maxDensity >= 0 && maxDensity <= 1)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'maxDensity' must be between zero and one. [maxDensity == %s]",
+              maxDensity));
+    }
+
+    this.sparseStrategy = sparseStrategy;
+    this.denseStrategy = denseStrategy;
+    this.maxDensity = maxDensity;
+  }
+
+  @Override
+  public long solve(final Garden garden) throws SolutionException {
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'");
+    }
+
+    return select(garden).solve(garden);
+  }
+
+  /**
+   * @return the strategy that will solve <code>garden</code>.
+   */
+  SolutionStrategy select(final Garden garden) {
+    return garden.cells() instanceof SparseCells
+        && ((SparseCells) garden.cells()).count() <= maxDensity * garden.cells().length()
+        ? sparseStrategy
+        : denseStrategy;
+  }
+
+}
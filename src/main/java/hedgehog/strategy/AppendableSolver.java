@@ -0,0 +1,268 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.exception.OutputWriteException;
+import hedgehog.io.AtomicFiles;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * <p>Solves a garden of a fixed width whose rows keep arriving, such as a sensor feed, keeping the
+ * solution up to date after every row. Each row is added to the bottom of the garden and advances
+ * a single row of maxima, as in {@link StreamingSolver}, so every row costs
+ * <code>O(width)</code> time and the solver holds <code>O(width)</code> memory however many rows
+ * have arrived. The rows themselves are not kept.</p>
+ *
+ * <p>That single row of maxima is all the state there is, so a {@link Checkpoint} of it lets a
+ * long-running feed restart where it left off without replaying its history.</p>
+ *
+ * <p>Instances are not thread safe.</p>
+ */
+public class AppendableSolver {
+
+  private final long[] best;
+  private long rowCount;
+
+  public AppendableSolver(final int width) {
+
+    super();
+
+    if (width <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'width' cannot be less than or equal to zero. [width == %d]",
+              width));
+    }
+
+    this.best = new long[width];
+  }
+
+  /**
+   * <p>Carries on from <code>checkpoint</code>.</p>
+   */
+  public AppendableSolver(final Checkpoint checkpoint) {
+
+    super();
+
+    if (Objects.isNull(checkpoint)) {
+      throw new IllegalArgumentException("Illegal argument; 'checkpoint' cannot be 'null'.");
+    }
+
+    this.best = checkpoint.best();
+    this.rowCount = checkpoint.rowCount();
+  }
+
+  public int width() {
+    return best.length;
+  }
+
+  public long rowCount() {
+    return rowCount;
+  }
+
+  /**
+   * <p>Adds <code>appleRow</code> to the bottom of the garden.</p>
+   *
+   * @return the solution for the garden including the new row.
+   */
+  public long appendRow(final int[] appleRow) {
+
+    if (Objects.isNull(appleRow) || appleRow.length != best.length) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'appleRow' cannot be 'null' and must have a length equal to the "
+                  + "specified 'width'. [width == %d]",
+              best.length));
+    }
+
+    for (int x = 0; x < appleRow.length; x++) {
+      if (appleRow[x] < 0) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; 'appleRow[%d]' cannot be less than zero. [appleRow[%d] == %d]",
+                x, x,
+                appleRow[x]));
+      }
+    }
+
+    DynamicProgrammingSolutionStrategy.accumulateRow(best, appleRow);
+    rowCount++;
+
+    return best[best.length - 1];
+  }
+
+  /**
+   * @return the maximum number of apples the hedgehog can collect in the rows so far.
+   *
+   * @throws IllegalStateException if no rows have arrived yet.
+   */
+  public long solution() {
+
+    if (rowCount == 0) {
+      throw new IllegalStateException("Illegal state; cannot solve until a row has arrived.");
+    }
+
+    return best[best.length - 1];
+  }
+
+  public Checkpoint checkpoint() {
+    return new Checkpoint(rowCount, best);
+  }
+
+  /**
+   * <p>The state of an {@link AppendableSolver}; the number of rows that had arrived and the
+   * maxima for the last of them. The maxima are copied in and out, so a checkpoint does not change
+   * once taken.</p>
+   *
+   * <p>Checkpoints are written as a magic number, the width, the row count and the maxima, followed
+   * by a CRC-32 of all of those so that a torn or damaged file is refused rather than restored.
+   * </p>
+   */
+  public record Checkpoint(long rowCount, long[] best) {
+
+    private static final int MAGIC = 0x48444743;
+    private static final int HEADER_BYTES = 16;
+
+    public Checkpoint {
+
+      if (rowCount < 0) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; 'rowCount' cannot be less than zero. [rowCount == %d]",
+                rowCount));
+      }
+
+      if (Objects.isNull(best) || best.length == 0) {
+        throw new IllegalArgumentException(
+            "Illegal argument; 'best' cannot be 'null' or empty.");
+      }
+
+      best = best.clone();
+    }
+
+    @Override
+    public long[] best() {
+      return best.clone();
+    }
+
+    /**
+     * <p>Writes the checkpoint to a temporary file that is then moved over <code>path</code>, so
+     * that a crash part way through leaves the previous checkpoint in place.</p>
+     */
+    public void write(final Path path) throws OutputWriteException {
+
+      if (Objects.isNull(path)) {
+        throw new IllegalArgumentException("Illegal argument; 'path' cannot be 'null'.");
+      }
+
+      try {
+        final Path temporary = AtomicFiles.createTemporary(path);
+        try {
+          final CRC32 crc = new CRC32();
+          try (final DataOutputStream output =
+              new DataOutputStream(
+                  new CheckedOutputStream(
+                      new BufferedOutputStream(Files.newOutputStream(temporary)), crc))) {
+            output.writeInt(MAGIC);
+            output.writeInt(best.length);
+            output.writeLong(rowCount);
+            for (final long maximum : best) {
+              output.writeLong(maximum);
+            }
+            output.writeInt((int) crc.getValue());
+          }
+          AtomicFiles.replace(temporary, path);
+        } finally {
+          Files.deleteIfExists(temporary);
+        }
+      } catch (final IOException e) {
+        throw new OutputWriteException(e);
+      }
+    }
+
+    public static Checkpoint read(final Path path) throws InputReadException {
+
+      if (Objects.isNull(path)) {
+        throw new IllegalArgumentException("Illegal argument; 'path' cannot be 'null'.");
+      }
+
+      final CRC32 crc = new CRC32();
+
+      try (final DataInputStream input =
+          new DataInputStream(
+              new CheckedInputStream(
+                  new BufferedInputStream(Files.newInputStream(path)), crc))) {
+
+        final int magic = input.readInt();
+
+        if (magic != MAGIC) {
+          throw new IOException(
+              String.format("Not a checkpoint; unexpected magic number. [magic == %08x]", magic));
+        }
+
+        final int width = input.readInt();
+
+        final long expectedSize = HEADER_BYTES + (long) width * Long.BYTES + Integer.BYTES;
+
+        if (width <= 0 || Files.size(path) != expectedSize) {
+          throw new IOException(
+              String.format(
+                  "Damaged checkpoint; the width does not match the size. [width == %d]",
+                  width));
+        }
+
+        final long rowCount = input.readLong();
+        final long[] best = new long[width];
+
+        for (int x = 0; x < width; x++) {
+          best[x] = input.readLong();
+        }
+
+        final int expected = (int) crc.getValue();
+        final int actual = input.readInt();
+
+        if (actual != expected) {
+          throw new IOException("Damaged checkpoint; the checksum does not match.");
+        }
+
+        return new Checkpoint(rowCount, best);
+
+      } catch (final IOException | IllegalArgumentException e) {
+        throw new InputReadException(e);
+      }
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return obj instanceof Checkpoint
+          && rowCount == ((Checkpoint) obj).rowCount
+          && Arrays.equals(best, ((Checkpoint) obj).best);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Long.hashCode(rowCount) + Arrays.hashCode(best);
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%s[rowCount=%d, width=%d, best=%s]",
+          Checkpoint.class.getSimpleName(),
+          rowCount,
+          best.length,
+          "[...]");
+    }
+  }
+
+}
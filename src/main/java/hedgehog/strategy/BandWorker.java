@@ -0,0 +1,36 @@
+package hedgehog.strategy;
+
+import hedgehog.io.BinaryInputReader;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>The worker process of {@link MultiProcessSolutionStrategy}. The arguments are;</p>
+ *
+ * <ol>
+ *   <li>the location of a band of a garden, in the binary garden format;</li>
+ *   <li>the path to write the band's {@link MaxPlusTransfer} to.</li>
+ * </ol>
+ *
+ * <p>The process exits with a non-zero status if the band cannot be read or the transfer cannot
+ * be written.</p>
+ */
+public class BandWorker {
+
+  private static final Logger LOGGER = Logger.getLogger(BandWorker.class.getSimpleName());
+
+  public static void main(final String... args) throws Exception {
+
+    LOGGER.log(Level.INFO, String.format("main [args == %s]", Arrays.toString(args)));
+
+    if (args.length != 2) {
+      throw new IllegalArgumentException(
+          "Illegal argument; usage: <bandLocation> <transferPath>");
+    }
+
+    MaxPlusTransfer.of(new BinaryInputReader().read(args[0])).write(Path.of(args[1]));
+  }
+
+}
@@ -2,18 +2,37 @@ package hedgehog.strategy;
 
 import hedgehog.exception.SolutionException;
 import hedgehog.model.Garden;
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.LongStream;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.StreamSupport;
 
+/**
+ * <p>Examines every route through the garden; far slower than
+ * {@link DynamicProgrammingSolutionStrategy}, but independent of it, so kept to verify other
+ * strategies against.</p>
+ */
 public class BinarySolutionStrategy implements SolutionStrategy {
 
+  /**
+   * <p>The most moves a route can take; a route is held in the bits of a <code>long</code>.</p>
+   */
+  public static final int MAX_MOVES = 62;
+
+  /**
+   * <p>Routes below this number are not split between threads any further.</p>
+   */
+  private static final long SPLIT_THRESHOLD = 1 << 12;
+
+  private final boolean parallel;
+
   public BinarySolutionStrategy() {
+    this(true);
+  }
+
+  public BinarySolutionStrategy(final boolean parallel) {
     super();
+    this.parallel = parallel;
   }
 
   /**
@@ -24,72 +43,54 @@ public class BinarySolutionStrategy implements SolutionStrategy {
    * means 'move down'.</p>
    *
    * <p>Any binary number is a valid path so long as it has the correct number of digits (i.e. the
-   * number of moves, <code>width - height - 2</code>), the number of right moves is one less than
-   * the width of the garden (<code>width - 1</code>), and the number of down moves is one less than
-   * the height of the garden (<code>height - 1</code>).</p>
+   * number of moves, <code>width + height - 2</code>) and the number of down moves, its ones, is
+   * one less than the height of the garden (<code>height - 1</code>).</p>
    *
-   * <p>All possible paths are then found by iterating through all numbers less than or equal to the
-   * maximum number that can be defined using <code>width - height - 2</code> binary digits (e.g.
-   * <code>4</code> digits > <code>1111</code> = <code>15</code>) and by filtering out any invalid
-   * paths using the conditions above.</p>
+   * <p>Rather than filtering every number with that many digits, only the valid paths are
+   * generated, in increasing order, by Gosper's hack; the next number with the same number of ones.
+   * The first move is the highest digit, so consecutive paths mostly differ in their last few
+   * moves, and the apples collected up to each move are kept and recalculated only from the first
+   * move that differs. The paths are numbered in that order and split into ranges of numbers, each
+   * started from the path with the first number of its range, between the threads of a parallel
+   * stream.</p>
    *
-   * <p>Once all possible paths have been determined, the maximum number of apples the hedgehog can
-   * collect is calculated by finding the sum of apples on each path and then by selecting the
-   * highest value.</p>
+   * <p>Once all possible paths have been examined, the highest sum of apples is the solution.</p>
    *
    * @param garden An instance of {@link Garden}.
    *
    * @return The maximum number of apples the hedgehog can collect while moving across the garden.
    *
-   * @throws SolutionException If there was a problem while calculating the solution.
+   * @throws SolutionException If there was a problem while calculating the solution, including
+   * if a path takes more than {@link #MAX_MOVES} moves.
    * @throws IllegalArgumentException If <b>garden</b> is <code>null</code>.
    *
    * @see Garden
    */
   @Override
-  public int solve(final Garden garden) throws SolutionException {
+  public long solve(final Garden garden) throws SolutionException {
 
     if (Objects.isNull(garden)) {
       throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'");
     }
 
-    final int numMoves = garden.width() + garden.height() - 2;
-    final int binaryMax = IntStream.range(0, numMoves).map(i -> (int) Math.pow(2, i)).sum();
-
     try {
 
-      return LongStream.rangeClosed(0, binaryMax)
-          .mapToObj(Long::toBinaryString)
-          .filter(binary -> binary.replaceAll("0", "").length() == garden.height() - 1)
-          .map(binary ->
-              String.format(
-                  "%s%s",
-                  IntStream.range(0, numMoves - binary.length())
-                      .mapToObj(__ -> "0")
-                      .collect(Collectors.joining()),
-                  binary))
-          .map(binary -> binary.split(""))
-          .map(moves -> {
-
-            final AtomicInteger x = new AtomicInteger();
-            final AtomicInteger y = new AtomicInteger(garden.height() - 1);
-            final AtomicInteger apples = new AtomicInteger(garden.getApples(x.get(), y.get()));
-
-            Arrays.stream(moves)
-                .forEach(move -> {
-
-                  if (move.equals("0")) {
-                    x.getAndIncrement();
-                  } else {
-                    y.getAndDecrement();
-                  }
-
-                  apples.addAndGet(garden.getApples(x.get(), y.get()));
-                });
-
-            return apples.get();
-          })
-          .max(Comparator.naturalOrder())
+      final int numMoves = garden.width() + garden.height() - 2;
+
+      if (numMoves > MAX_MOVES) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; a path cannot take more than %d moves. "
+                    + "[width == %d, height == %d]",
+                MAX_MOVES,
+                garden.width(),
+                garden.height()));
+      }
+
+      final Paths paths = new Paths(garden);
+
+      return StreamSupport.longStream(new PathSpliterator(paths, 0, paths.count()), parallel)
+          .max()
           .orElseThrow(() -> new IllegalStateException("Illegal state; unable to find solution."));
 
     } catch (final Exception e) {
@@ -97,4 +98,179 @@ public class BinarySolutionStrategy implements SolutionStrategy {
     }
   }
 
+  /**
+   * <p>The garden's cells, from the top row down, and the numbering of its paths.</p>
+   */
+  private static final class Paths {
+
+    private final int width;
+    private final int numMoves;
+    private final int downMoves;
+    private final int[] cells;
+    private final long[][] binomials;
+
+    Paths(final Garden garden) {
+
+      width = garden.width();
+      numMoves = garden.width() + garden.height() - 2;
+      downMoves = garden.height() - 1;
+      cells = new int[garden.width() * garden.height()];
+
+      final int[] appleRow = new int[width];
+      for (int row = 0; row < garden.height(); row++) {
+        garden.copyRow(garden.height() - 1 - row, appleRow);
+        System.arraycopy(appleRow, 0, cells, row * width, width);
+      }
+
+      binomials = new long[numMoves + 1][];
+      for (int n = 0; n <= numMoves; n++) {
+        binomials[n] = new long[n + 1];
+        binomials[n][0] = 1;
+        binomials[n][n] = 1;
+        for (int k = 1; k < n; k++) {
+          binomials[n][k] = binomials[n - 1][k - 1] + binomials[n - 1][k];
+        }
+      }
+    }
+
+    long count() {
+      return binomials[numMoves][downMoves];
+    }
+
+    /**
+     * @return the path numbered <code>rank</code>, counting from zero in increasing order; the
+     * combinatorial number system, from the highest one down.
+     */
+    long path(final long rank) {
+      long remaining = rank;
+      long path = 0;
+      for (int ones = downMoves, bit = numMoves - 1; ones > 0; ones--, bit--) {
+        while (binomial(bit, ones) > remaining) {
+          bit--;
+        }
+        path |= 1L << bit;
+        remaining -= binomial(bit, ones);
+      }
+      return path;
+    }
+
+    private long binomial(final int n, final int k) {
+      return k > n ? 0 : binomials[n][k];
+    }
+  }
+
+  /**
+   * <p>The sums of apples on the paths numbered <code>from</code> (inclusive) to <code>to</code>
+   * (exclusive). The first path is found when the first sum is taken, so a split costs nothing
+   * until its range is walked.</p>
+   */
+  private static final class PathSpliterator implements Spliterator.OfLong {
+
+    private final Paths paths;
+    private final long from;
+
+    private long to;
+    private long next;
+    private long path;
+
+    /**
+     * <p>The index of the cell reached and the apples collected after each move; entry zero is
+     * the top left corner.</p>
+     */
+    private int[] indices;
+    private long[] sums;
+
+    PathSpliterator(final Paths paths, final long from, final long to) {
+      this.paths = paths;
+      this.from = from;
+      this.to = to;
+      this.next = from;
+    }
+
+    @Override
+    public boolean tryAdvance(final LongConsumer action) {
+
+      if (next >= to) {
+        return false;
+      }
+
+      action.accept(advance());
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(final LongConsumer action) {
+      while (next < to) {
+        action.accept(advance());
+      }
+    }
+
+    /**
+     * @return the sum of apples on path <code>next</code>, which is then moved on.
+     */
+    private long advance() {
+
+      final int numMoves = paths.numMoves;
+
+      if (next == from) {
+        indices = new int[numMoves + 1];
+        sums = new long[numMoves + 1];
+        sums[0] = paths.cells[0];
+        path = paths.path(from);
+        walk(0);
+      } else {
+        // Gosper's hack; the lowest run of ones moves up a place, and the rest of it to the bottom.
+        final long lowest = path & -path;
+        final long carried = path + lowest;
+        final long following =
+            carried | ((carried ^ path) >>> (2 + Long.numberOfTrailingZeros(lowest)));
+        final long changed = 63 - Long.numberOfLeadingZeros(following ^ path);
+        path = following;
+        walk(numMoves - 1 - (int) changed);
+      }
+
+      next++;
+      return sums[numMoves];
+    }
+
+    /**
+     * <p>Takes the moves of <code>path</code> from move <code>first</code> on.</p>
+     */
+    private void walk(final int first) {
+      final int numMoves = paths.numMoves;
+      final int width = paths.width;
+      final int[] cells = paths.cells;
+      for (int move = first; move < numMoves; move++) {
+        final int index =
+            indices[move] + (((path >>> (numMoves - 1 - move)) & 1) == 0 ? 1 : width);
+        indices[move + 1] = index;
+        sums[move + 1] = sums[move] + cells[index];
+      }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+
+      // Only a range that has not been started is split, so that each is walked from its start.
+      if (next != from || to - from < 2 * SPLIT_THRESHOLD) {
+        return null;
+      }
+
+      final long middle = from + (to - from) / 2;
+      final PathSpliterator suffix = new PathSpliterator(paths, middle, to);
+      to = middle;
+      return suffix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return to - next;
+    }
+
+    @Override
+    public int characteristics() {
+      return SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+  }
+
 }
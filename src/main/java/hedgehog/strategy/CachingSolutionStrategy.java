@@ -0,0 +1,219 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.io.AtomicFiles;
+import hedgehog.model.Fingerprint;
+import hedgehog.model.Garden;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Caches the solutions of another {@link SolutionStrategy} by the {@link Fingerprint} of the
+ * garden, so that a garden that has been solved before is not solved again.</p>
+ *
+ * <p>Solutions are held in memory for up to <code>maxEntries</code> gardens, the least recently
+ * used being evicted first. A directory may also be given, in which case every solution is also
+ * written to a file named after the fingerprint and looked up there on a miss in memory, so that
+ * solutions survive restarts. The directory is not bounded. Failing to read or write it is logged
+ * and treated as a miss; it never fails a solve.</p>
+ *
+ * <p>Instances are thread safe if the delegate is. Two threads that miss on the same garden at the
+ * same time will both solve it.</p>
+ */
+public class CachingSolutionStrategy implements SolutionStrategy {
+
+  private static final Logger LOGGER =
+      Logger.getLogger(CachingSolutionStrategy.class.getSimpleName());
+
+  private static final String SUFFIX = ".solution";
+
+  private final SolutionStrategy delegate;
+  private final Map<Fingerprint, Long> entries;
+  private final Path directory;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder diskHits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  public CachingSolutionStrategy(final SolutionStrategy delegate, final int maxEntries) {
+    this(delegate, maxEntries, null);
+  }
+
+  /**
+   * @param directory the directory to keep solutions in across restarts, created if it does not
+   * exist, or <code>null</code> to keep them in memory only.
+   */
+  public CachingSolutionStrategy(
+      final SolutionStrategy delegate,
+      final int maxEntries,
+      final Path directory) {
+
+    super();
+
+    if (Objects.isNull(delegate)) {
+      throw new IllegalArgumentException("Illegal argument; 'delegate' cannot be 'null'.");
+    }
+
+    if (maxEntries <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'maxEntries' cannot be less than or equal to zero. "
+                  + "[maxEntries == %d]",
+              maxEntries));
+    }
+
+    if (Objects.nonNull(directory)) {
+      try {
+        Files.createDirectories(directory);
+      } catch (final IOException e) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; 'directory' could not be created. [directory == %s]",
+                directory),
+            e);
+      }
+    }
+
+    this.delegate = delegate;
+    this.directory = directory;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<Fingerprint, Long> eldest) {
+            if (size() > maxEntries) {
+              evictions.increment();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  @Override
+  public long solve(final Garden garden) throws SolutionException {
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'.");
+    }
+
+    final Fingerprint fingerprint = Fingerprint.of(garden);
+
+    Long solution;
+
+    synchronized (entries) {
+      solution = entries.get(fingerprint);
+    }
+
+    if (Objects.nonNull(solution)) {
+      hits.increment();
+      return solution;
+    }
+
+    solution = readSolution(fingerprint);
+
+    if (Objects.nonNull(solution)) {
+      diskHits.increment();
+    } else {
+      misses.increment();
+      solution = delegate.solve(garden);
+      writeSolution(fingerprint, solution);
+    }
+
+    synchronized (entries) {
+      entries.put(fingerprint, solution);
+    }
+
+    return solution;
+  }
+
+  public Statistics statistics() {
+    final int size;
+    synchronized (entries) {
+      size = entries.size();
+    }
+    return new Statistics(hits.sum(), diskHits.sum(), misses.sum(), evictions.sum(), size);
+  }
+
+  private Long readSolution(final Fingerprint fingerprint) {
+
+    if (Objects.isNull(directory)) {
+      return null;
+    }
+
+    final Path file = directory.resolve(fingerprint.toHex() + SUFFIX);
+
+    try {
+      return Long.parseLong(Files.readString(file, StandardCharsets.US_ASCII).trim());
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException | NumberFormatException e) {
+      LOGGER.log(
+          Level.WARNING,
+          String.format(
+              "%s caught while attempting to read cached solution. [file == %s]",
+              e.getClass().getSimpleName(),
+              file),
+          e);
+      return null;
+    }
+  }
+
+  /**
+   * <p>Writes to a temporary file that is then moved into place, so that a reader never sees a
+   * partly written solution.</p>
+   */
+  private void writeSolution(final Fingerprint fingerprint, final long solution) {
+
+    if (Objects.isNull(directory)) {
+      return;
+    }
+
+    final Path file = directory.resolve(fingerprint.toHex() + SUFFIX);
+
+    try {
+      final Path temporary = Files.createTempFile(directory, fingerprint.toHex(), ".tmp");
+      try {
+        Files.writeString(temporary, Long.toString(solution), StandardCharsets.US_ASCII);
+        AtomicFiles.replace(temporary, file);
+      } finally {
+        Files.deleteIfExists(temporary);
+      }
+    } catch (final IOException e) {
+      LOGGER.log(
+          Level.WARNING,
+          String.format(
+              "IOException caught while attempting to write cached solution. [file == %s]",
+              file),
+          e);
+    }
+  }
+
+  /**
+   * <p>The counters of a {@link CachingSolutionStrategy} since it was created; solutions found in
+   * memory (<code>hits</code>), found on disk (<code>diskHits</code>) and solved
+   * (<code>misses</code>), entries evicted from memory (<code>evictions</code>) and entries now
+   * held in memory (<code>size</code>).</p>
+   */
+  public record Statistics(long hits, long diskHits, long misses, long evictions, int size) {
+
+    /**
+     * @return the fraction of solves that were not passed on to the delegate, or zero if there
+     * have been none.
+     */
+    public double hitRatio() {
+      final long total = hits + diskHits + misses;
+      return total == 0 ? 0 : (double) (hits + diskHits) / total;
+    }
+  }
+
+}
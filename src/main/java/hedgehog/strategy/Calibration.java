@@ -0,0 +1,190 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>The costs of the strategies of {@link SolutionStrategyProvider}s on this machine, by name;
+ * a provider without one falls back to its {@link SolutionStrategyProvider#defaultCost()}.</p>
+ *
+ * <p>{@link #measure(List)} solves each provider's samples, several times over to warm up and
+ * then taking the quickest of a few more, and fits a fixed cost and a cost per unit of work to the
+ * times by least squares.</p>
+ */
+public final class Calibration {
+
+  private static final Logger LOGGER = Logger.getLogger(Calibration.class.getSimpleName());
+
+  private static final int WARM_UP_RUNS = 10;
+  private static final int MEASURED_RUNS = 5;
+
+  private final Map<String, Cost> costs;
+
+  private Calibration(final Map<String, Cost> costs) {
+    this.costs = Map.copyOf(costs);
+  }
+
+  /**
+   * @return a calibration in which every provider has its default cost.
+   */
+  public static Calibration defaults() {
+    return new Calibration(Map.of());
+  }
+
+  /**
+   * @return a calibration with <code>costs</code>, by provider name, for example as measured
+   * before.
+   */
+  public static Calibration of(final Map<String, Cost> costs) {
+
+    if (Objects.isNull(costs)) {
+      throw new IllegalArgumentException("Illegal argument; 'costs' cannot be 'null'.");
+    }
+
+    return new Calibration(costs);
+  }
+
+  /**
+   * @throws SolutionException if a strategy fails to solve one of its samples.
+   */
+  public static Calibration measure(final List<SolutionStrategyProvider> providers)
+      throws SolutionException {
+
+    if (Objects.isNull(providers)) {
+      throw new IllegalArgumentException("Illegal argument; 'providers' cannot be 'null'.");
+    }
+
+    final Map<String, Cost> costs = new HashMap<>();
+
+    for (final SolutionStrategyProvider provider : providers) {
+
+      final SolutionStrategy strategy = provider.create();
+      final List<Garden> samples = provider.samples();
+      final double[] work = new double[samples.size()];
+      final double[] nanos = new double[samples.size()];
+
+      for (int s = 0; s < samples.size(); s++) {
+        work[s] = provider.work(GardenProfile.of(samples.get(s)));
+        nanos[s] = Double.POSITIVE_INFINITY;
+      }
+
+      // Every sample is solved in turn, so that the first is not measured before the compiler
+      // has seen the others.
+      for (int run = 0; run < WARM_UP_RUNS + MEASURED_RUNS; run++) {
+        for (int s = 0; s < samples.size(); s++) {
+          final long start = System.nanoTime();
+          strategy.solve(samples.get(s));
+          if (run >= WARM_UP_RUNS) {
+            nanos[s] = Math.min(nanos[s], System.nanoTime() - start);
+          }
+        }
+      }
+
+      final Cost cost = fit(work, nanos);
+      costs.put(provider.name(), cost);
+
+      LOGGER.log(
+          Level.INFO,
+          String.format("measure[provider == %s, cost == %s]", provider.name(), cost));
+    }
+
+    return new Calibration(costs);
+  }
+
+  public Cost cost(final SolutionStrategyProvider provider) {
+
+    if (Objects.isNull(provider)) {
+      throw new IllegalArgumentException("Illegal argument; 'provider' cannot be 'null'.");
+    }
+
+    return costs.getOrDefault(provider.name(), provider.defaultCost());
+  }
+
+  /**
+   * @return the measured costs, by provider name.
+   */
+  public Map<String, Cost> costs() {
+    return costs;
+  }
+
+  /**
+   * @return the line through the points <code>(work[i], nanos[i])</code> closest to them by least
+   * squares, relative to <code>nanos[i]</code> so that the smallest samples, which show the fixed
+   * cost, count as much as the largest; through the origin instead if that line would have a
+   * negative fixed cost or slope, or if every point has the same work.
+   */
+  static Cost fit(final double[] work, final double[] nanos) {
+
+    final int n = work.length;
+    final double[] weights = new double[n];
+    double sumWeights = 0;
+    double sumWork = 0;
+    double sumNanos = 0;
+
+    for (int i = 0; i < n; i++) {
+      weights[i] = 1 / Math.max(1, nanos[i] * nanos[i]);
+      sumWeights += weights[i];
+      sumWork += weights[i] * work[i];
+      sumNanos += weights[i] * nanos[i];
+    }
+
+    final double meanWork = sumWork / sumWeights;
+    final double meanNanos = sumNanos / sumWeights;
+    double covariance = 0;
+    double variance = 0;
+
+    for (int i = 0; i < n; i++) {
+      covariance += weights[i] * (work[i] - meanWork) * (nanos[i] - meanNanos);
+      variance += weights[i] * (work[i] - meanWork) * (work[i] - meanWork);
+    }
+
+    if (variance > 0) {
+      final double slope = covariance / variance;
+      final double intercept = meanNanos - slope * meanWork;
+      if (slope > 0 && intercept >= 0) {
+        return new Cost(intercept, slope);
+      }
+    }
+
+    double workNanos = 0;
+    double workWork = 0;
+
+    for (int i = 0; i < n; i++) {
+      workNanos += weights[i] * work[i] * nanos[i];
+      workWork += weights[i] * work[i] * work[i];
+    }
+
+    return new Cost(0, workWork > 0 ? workNanos / workWork : 0);
+  }
+
+  /**
+   * <p>A fixed cost, and a cost per unit of work, in nanoseconds.</p>
+   */
+  public record Cost(double fixedNanos, double nanosPerUnit) {
+
+    public Cost {
+      if (!(fixedNanos >= 0 && nanosPerUnit >= 0)) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; 'fixedNanos' and 'nanosPerUnit' cannot be less than zero. "
+                    + "[fixedNanos == %s, nanosPerUnit == %s]",
+                fixedNanos,
+                nanosPerUnit));
+      }
+    }
+
+    /**
+     * @return the nanoseconds to do <code>work</code> units of work.
+     */
+    public double nanos(final double work) {
+      return fixedNanos + nanosPerUnit * work;
+    }
+  }
+
+}
@@ -0,0 +1,122 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import java.util.Arrays;
+import java.util.Objects;
+
+public class DynamicProgrammingSolutionStrategy implements SolutionStrategy {
+
+  private static final int STRIP_WIDTH = 64;
+
+  public DynamicProgrammingSolutionStrategy() {
+    super();
+  }
+
+  /**
+   * <p>The solution works by virtue of the fact that the hedgehog can only arrive at any given
+   * square from the square to its left or from the square above it. Therefore, the maximum number
+   * of apples that can be collected on the way to a square is the number of apples under its tree
+   * plus the greater of the maxima for those two neighbouring squares.</p>
+   *
+   * <p>Sweeping the garden one row at a time from top to bottom (and each row from left to right)
+   * means that, at any point, only the maxima for the previous row and the squares to the left on
+   * the current row are needed. These are held in a single rolling buffer; <code>best[x]</code>
+   * holds the maximum for the previous row until it is overwritten with the maximum for the current
+   * row.</p>
+   *
+   * <p>When the garden is wider than it is tall the sweep is performed one column at a time instead
+   * so that the buffer is always sized to the smaller dimension. Either way the solution takes
+   * <code>O(width * height)</code> time and <code>O(min(width, height))</code> memory.</p>
+   *
+   * @param garden An instance of {@link Garden}.
+   *
+   * @return The maximum number of apples the hedgehog can collect while moving across the garden.
+   *
+   * @throws SolutionException If there was a problem while calculating the solution.
+   * @throws IllegalArgumentException If <b>garden</b> is <code>null</code>.
+   *
+   * @see Garden
+   */
+  @Override
+  public long solve(final Garden garden) throws SolutionException {
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'");
+    }
+
+    try {
+
+      return garden.width() <= garden.height() ? solveByRows(garden) : solveByColumns(garden);
+
+    } catch (final Exception e) {
+      throw new SolutionException(e);
+    }
+  }
+
+  private static long solveByRows(final Garden garden) {
+
+    final int[] appleRow = new int[garden.width()];
+    final long[] best = new long[garden.width()];
+
+    for (int y = garden.height() - 1; y >= 0; y--) {
+      garden.copyRow(y, appleRow);
+      accumulateRow(best, appleRow);
+    }
+
+    return best[best.length - 1];
+  }
+
+  /**
+   * <p>Sweeps the garden in vertical strips of up to <code>STRIP_WIDTH</code> columns, each from
+   * top to bottom. <code>left[row]</code> holds the maximum for the last column of the previous
+   * strip and <code>above[column]</code> the maxima for the previous row of the current strip, so
+   * the rows can still be copied out of the garden a strip at a time.</p>
+   */
+  private static long solveByColumns(final Garden garden) {
+
+    final int height = garden.height();
+    final int[] appleRow = new int[STRIP_WIDTH];
+    final long[] above = new long[STRIP_WIDTH];
+    final long[] left = new long[height];
+
+    for (int firstColumn = 0; firstColumn < garden.width(); firstColumn += STRIP_WIDTH) {
+
+      final int stripWidth = Math.min(STRIP_WIDTH, garden.width() - firstColumn);
+      Arrays.fill(above, 0);
+
+      for (int row = 0; row < height; row++) {
+        garden.copyRow(height - 1 - row, firstColumn, firstColumn + stripWidth, appleRow);
+        long best = left[row];
+        for (int column = 0; column < stripWidth; column++) {
+          best = Math.max(best, above[column]) + appleRow[column];
+          above[column] = best;
+        }
+        left[row] = best;
+      }
+    }
+
+    return left[height - 1];
+  }
+
+  /**
+   * <p>Advances the rolling buffer <code>best</code> by one row; on entry it holds the maxima for
+   * the previous row (or zeros before the first row) and on exit the maxima for
+   * <code>appleRow</code>.</p>
+   */
+  static void accumulateRow(final long[] best, final int[] appleRow) {
+    accumulateRow(best, appleRow, 0);
+  }
+
+  /**
+   * <p>As {@link #accumulateRow(long[], int[])}, for the row held in <code>cells</code> from
+   * <code>offset</code>.</p>
+   */
+  static void accumulateRow(final long[] best, final int[] cells, final int offset) {
+    best[0] += cells[offset];
+    for (int x = 1; x < best.length; x++) {
+      best[x] = Math.max(best[x - 1], best[x]) + cells[offset + x];
+    }
+  }
+
+}
@@ -0,0 +1,57 @@
+package hedgehog.strategy;
+
+import hedgehog.model.Garden;
+import hedgehog.model.SparseCells;
+import java.util.Objects;
+
+/**
+ * <p>What a {@link PlanningSolutionStrategy} knows of a garden, and of the JVM that is to solve it,
+ * when choosing a strategy.</p>
+ *
+ * @param trees the number of trees with apples for a garden held as {@link SparseCells}; for any
+ * other garden, the number of squares, as counting them would take as long as solving it.
+ * @param availableMemory the bytes of heap that can still be allocated.
+ * @param cores the number of processors available to the JVM.
+ */
+public record GardenProfile(
+    int width,
+    int height,
+    long trees,
+    boolean sparse,
+    long availableMemory,
+    int cores) {
+
+  public static GardenProfile of(final Garden garden) {
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'.");
+    }
+
+    final Runtime runtime = Runtime.getRuntime();
+    final boolean sparse = garden.cells() instanceof SparseCells;
+
+    return new GardenProfile(
+        garden.width(),
+        garden.height(),
+        sparse ? ((SparseCells) garden.cells()).count() : (long) garden.width() * garden.height(),
+        sparse,
+        runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory()),
+        runtime.availableProcessors());
+  }
+
+  public long squares() {
+    return (long) width * height;
+  }
+
+  public double density() {
+    return (double) trees / squares();
+  }
+
+  /**
+   * @return the number of moves on every route, <code>width + height - 2</code>.
+   */
+  public int moves() {
+    return width + height - 2;
+  }
+
+}
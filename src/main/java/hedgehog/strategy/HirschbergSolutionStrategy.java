@@ -0,0 +1,225 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import hedgehog.model.Route;
+import java.util.Objects;
+
+public class HirschbergSolutionStrategy implements RouteSolutionStrategy {
+
+  private final SolutionStrategy solutionStrategy;
+
+  public HirschbergSolutionStrategy() {
+    super();
+    solutionStrategy = new DynamicProgrammingSolutionStrategy();
+  }
+
+  /**
+   * <p>Only the maximum number of apples is needed, so the solution is delegated to
+   * {@link DynamicProgrammingSolutionStrategy}.</p>
+   *
+   * @param garden An instance of {@link Garden}.
+   *
+   * @return The maximum number of apples the hedgehog can collect while moving across the garden.
+   *
+   * @throws SolutionException If there was a problem while calculating the solution.
+   * @throws IllegalArgumentException If <b>garden</b> is <code>null</code>.
+   *
+   * @see Garden
+   */
+  @Override
+  public long solve(final Garden garden) throws SolutionException {
+    return solutionStrategy.solve(garden);
+  }
+
+  /**
+   * <p>The route is recovered using divide and conquer, in the same way as Hirschberg's algorithm,
+   * rather than by keeping a <code>width * height</code> table of which neighbour each maximum
+   * came from.</p>
+   *
+   * <p>For a rectangle of the garden, the maxima from its top left square to every square on its
+   * middle row are computed with a forward sweep, and the maxima from every square on the row
+   * below to its bottom right square with a backward sweep. The best route must move down from the
+   * middle row to the row below at the column where the sum of the two is greatest. That fixes one
+   * move and splits the rectangle into two smaller rectangles, above-left and below-right, which
+   * are solved in the same way until they are a single row or column.</p>
+   *
+   * <p>The sweeps only ever need one row each so, working along the longer dimension, the route is
+   * recovered in <code>O(width * height)</code> time and <code>O(min(width, height))</code>
+   * memory, plus the bit-packed moves themselves.</p>
+   *
+   * @param garden An instance of {@link Garden}.
+   *
+   * @return A {@link Route} along which the hedgehog collects the maximum number of apples.
+   *
+   * @throws SolutionException If there was a problem while calculating the solution.
+   * @throws IllegalArgumentException If <b>garden</b> is <code>null</code>.
+   *
+   * @see Garden
+   * @see Route
+   */
+  @Override
+  public Route solveRoute(final Garden garden) throws SolutionException {
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'");
+    }
+
+    try {
+
+      final Grid grid = new Grid(garden, garden.width() > garden.height());
+      final int moveCount = garden.width() + garden.height() - 2;
+      final long[] moves = new long[Route.words(moveCount)];
+
+      new Recovery(grid, moves).recover(0, 0, grid.rows() - 1, grid.columns() - 1);
+
+      // A down move on a transposed grid is a right move on the garden, and vice versa.
+      if (grid.transposed) {
+        for (int word = 0; word < moves.length; word++) {
+          moves[word] = ~moves[word];
+        }
+        if (moveCount % Long.SIZE != 0) {
+          moves[moves.length - 1] &= (1L << moveCount) - 1;
+        }
+      }
+
+      return new Route(
+          collect(garden, moves),
+          garden.width(),
+          garden.height(),
+          moves);
+
+    } catch (final Exception e) {
+      throw new SolutionException(e);
+    }
+  }
+
+  private static long collect(final Garden garden, final long[] moves) {
+
+    final int top = garden.height() - 1;
+    final int moveCount = garden.width() + garden.height() - 2;
+
+    int row = 0;
+    int column = 0;
+    long apples = garden.getApples(column, top - row);
+
+    for (int move = 0; move < moveCount; move++) {
+      if ((moves[move >>> 6] & (1L << move)) != 0) {
+        row++;
+      } else {
+        column++;
+      }
+      apples += garden.getApples(column, top - row);
+    }
+
+    return apples;
+  }
+
+  /**
+   * <p>A view of the {@link Garden} with the rows running from top to bottom, optionally
+   * transposed so that the rows are along the shorter dimension of the garden.</p>
+   */
+  private static final class Grid {
+
+    private final Garden garden;
+    private final boolean transposed;
+    private final int top;
+
+    private Grid(final Garden garden, final boolean transposed) {
+      this.garden = garden;
+      this.transposed = transposed;
+      this.top = garden.height() - 1;
+    }
+
+    private int rows() {
+      return transposed ? garden.width() : garden.height();
+    }
+
+    private int columns() {
+      return transposed ? garden.height() : garden.width();
+    }
+
+    private int apples(final int row, final int column) {
+      return transposed ? garden.getApples(row, top - column) : garden.getApples(column, top - row);
+    }
+  }
+
+  private static final class Recovery {
+
+    private final Grid grid;
+    private final long[] moves;
+    private final long[] forward;
+    private final long[] backward;
+
+    private Recovery(final Grid grid, final long[] moves) {
+      this.grid = grid;
+      this.moves = moves;
+      this.forward = new long[grid.columns()];
+      this.backward = new long[grid.columns()];
+    }
+
+    /**
+     * <p>Records the moves of the best route from <code>(firstRow, firstColumn)</code> to
+     * <code>(lastRow, lastColumn)</code>. The move made from the square at <code>(row,
+     * column)</code> is move number <code>row + column</code>.</p>
+     */
+    private void recover(
+        final int firstRow,
+        final int firstColumn,
+        final int lastRow,
+        final int lastColumn) {
+
+      if (firstRow == lastRow) {
+        return;
+      }
+
+      if (firstColumn == lastColumn) {
+        for (int row = firstRow; row < lastRow; row++) {
+          down(row, firstColumn);
+        }
+        return;
+      }
+
+      final int middleRow = (firstRow + lastRow) >>> 1;
+
+      for (int column = firstColumn; column <= lastColumn; column++) {
+        forward[column] = 0;
+        backward[column] = 0;
+      }
+
+      for (int row = firstRow; row <= middleRow; row++) {
+        forward[firstColumn] += grid.apples(row, firstColumn);
+        for (int column = firstColumn + 1; column <= lastColumn; column++) {
+          forward[column] =
+              Math.max(forward[column - 1], forward[column]) + grid.apples(row, column);
+        }
+      }
+
+      for (int row = lastRow; row > middleRow; row--) {
+        backward[lastColumn] += grid.apples(row, lastColumn);
+        for (int column = lastColumn - 1; column >= firstColumn; column--) {
+          backward[column] =
+              Math.max(backward[column + 1], backward[column]) + grid.apples(row, column);
+        }
+      }
+
+      int bestColumn = firstColumn;
+      for (int column = firstColumn + 1; column <= lastColumn; column++) {
+        if (forward[column] + backward[column] > forward[bestColumn] + backward[bestColumn]) {
+          bestColumn = column;
+        }
+      }
+
+      down(middleRow, bestColumn);
+
+      recover(firstRow, firstColumn, middleRow, bestColumn);
+      recover(middleRow + 1, bestColumn, lastRow, lastColumn);
+    }
+
+    private void down(final int row, final int column) {
+      final int move = row + column;
+      moves[move >>> 6] |= 1L << move;
+    }
+  }
+
+}
@@ -0,0 +1,128 @@
+package hedgehog.strategy;
+
+import hedgehog.model.MutableGarden;
+import java.util.Objects;
+
+/**
+ * <p>Keeps the solution to a {@link MutableGarden} up to date as its apples change, without
+ * solving the whole garden again.</p>
+ *
+ * <p>The solver keeps the maximum for every square, as computed by
+ * {@link DynamicProgrammingSolutionStrategy}; <code>best[row * width + column]</code>, with rows
+ * counted from the top of the garden. The maximum for a square depends only on the squares above
+ * it and to its left, so a change to one tree can only affect the maxima of the squares at or
+ * below and to the right of it. These are recomputed a row at a time, each row only across the
+ * columns whose maxima changed in the row above (and then for as long as the maxima keep changing
+ * to the right); as soon as a whole row is left unchanged the rest cannot change either and the
+ * update stops. A change off the best routes therefore usually costs a handful of squares rather
+ * than the whole garden.</p>
+ *
+ * <p>The maxima take <code>8 * width * height</code> bytes. Like the garden, instances are not
+ * thread safe.</p>
+ */
+public class IncrementalSolver implements MutableGarden.Listener, AutoCloseable {
+
+  private final MutableGarden garden;
+  private final int width;
+  private final int height;
+  private final long[] best;
+  private long squaresRecomputed;
+
+  /**
+   * <p>Solves <code>garden</code> in full and then follows its changes until
+   * {@link #close() closed}.</p>
+   */
+  public IncrementalSolver(final MutableGarden garden) {
+
+    super();
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'.");
+    }
+
+    this.garden = garden;
+    this.width = garden.width();
+    this.height = garden.height();
+    this.best = new long[width * height];
+
+    for (int row = 0; row < height; row++) {
+      recompute(row, 0, width - 1);
+    }
+
+    garden.addListener(this);
+  }
+
+  /**
+   * @return the maximum number of apples the hedgehog can collect in the garden as it is now.
+   */
+  public long solution() {
+    return best[best.length - 1];
+  }
+
+  /**
+   * @return the number of squares whose maxima have been computed, including the initial solve.
+   */
+  public long squaresRecomputed() {
+    return squaresRecomputed;
+  }
+
+  /**
+   * <p>Stops following the garden's changes.</p>
+   */
+  @Override
+  public void close() {
+    garden.removeListener(this);
+  }
+
+  @Override
+  public void applesChanged(final int x, final int y, final int previous, final int apples) {
+
+    int from = x;
+    int to = x;
+
+    for (int row = height - 1 - y; row < height && from >= 0; row++) {
+      final long changed = recompute(row, from, to);
+      from = (int) (changed >> 32);
+      to = (int) changed;
+    }
+  }
+
+  /**
+   * <p>Recomputes the maxima for <code>row</code> from column <code>from</code> up to column
+   * <code>to</code>, whose inputs may have changed, and then on to the right for as long as the
+   * maxima change.</p>
+   *
+   * @return the first column whose maximum changed in the upper half and the last in the lower
+   * half, or <code>-1</code> in both if none changed.
+   */
+  private long recompute(final int row, final int from, final int to) {
+
+    final int y = height - 1 - row;
+    final int rowStart = row * width;
+    int firstChanged = -1;
+    int lastChanged = -1;
+    boolean leftChanged = false;
+    int column = from;
+
+    for (; column < width && (column <= to || leftChanged); column++) {
+
+      final int index = rowStart + column;
+      final long left = column > 0 ? best[index - 1] : 0;
+      final long above = row > 0 ? best[index - width] : 0;
+      final long maximum = Math.max(left, above) + garden.getApples(column, y);
+
+      leftChanged = maximum != best[index];
+
+      if (leftChanged) {
+        best[index] = maximum;
+        firstChanged = firstChanged < 0 ? column : firstChanged;
+        lastChanged = column;
+      }
+    }
+
+    squaresRecomputed += column - from;
+
+    return ((long) firstChanged << 32) | (lastChanged & 0xFFFFFFFFL);
+  }
+
+}
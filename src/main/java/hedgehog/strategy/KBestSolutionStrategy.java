@@ -0,0 +1,238 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import hedgehog.model.Route;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Finds the <code>k</code> routes with the most apples by keeping, for each square, a list of
+ * the <code>k</code> best routes to it in place of the single maximum of the dynamic programming
+ * solution. A square's list is a merge of the lists of the square to its left and the square above
+ * it; two routes that reach a square through different neighbours differ in their last move, and
+ * two from the same neighbour already differed, so every list holds distinct routes without any
+ * check. Routes are held as chains of shared steps, so a route costs one step per square it is
+ * carried into rather than a copy of its moves.</p>
+ */
+public class KBestSolutionStrategy implements TopRoutesSolutionStrategy {
+
+  private final SolutionStrategy solutionStrategy;
+
+  public KBestSolutionStrategy() {
+    super();
+    solutionStrategy = new DynamicProgrammingSolutionStrategy();
+  }
+
+  /**
+   * <p>Only the maximum number of apples is needed, so the solution is delegated to
+   * {@link DynamicProgrammingSolutionStrategy}.</p>
+   *
+   * @param garden An instance of {@link Garden}.
+   *
+   * @return The maximum number of apples the hedgehog can collect while moving across the garden.
+   *
+   * @throws SolutionException If there was a problem while calculating the solution.
+   * @throws IllegalArgumentException If <b>garden</b> is <code>null</code>.
+   *
+   * @see Garden
+   */
+  @Override
+  public long solve(final Garden garden) throws SolutionException {
+    return solutionStrategy.solve(garden);
+  }
+
+  /**
+   * @return the first of {@link #solveTopK(Garden, int)} with <code>k</code> of one.
+   */
+  @Override
+  public Route solveRoute(final Garden garden) throws SolutionException {
+    return solveTopK(garden, 1).get(0);
+  }
+
+  /**
+   * <p>The dynamic programming solution, with a list of the <code>k</code> best routes to each
+   * square in place of the single maximum. The hedgehog can only arrive at a square from the
+   * square to its left or from the square above it, so the <code>k</code> best routes to a square
+   * are among the <code>k</code> best to each of those two, followed by one more move. Both lists
+   * are kept with the most apples first, so the best <code>k</code> of the two are taken by a
+   * single merge, in <code>O(k)</code> time; routes to the same square through different
+   * neighbours, or different routes to the same neighbour, are always distinct.</p>
+   *
+   * <p>Each route in a list ends with a step that holds its last move and the step before it, so
+   * routes that share their start share its steps and adding a move takes constant time. Only the
+   * lists of the previous row and the current row are held, and the steps that no list reaches any
+   * longer are collected as garbage. The solution takes <code>O(width * height * k)</code> time
+   * and <code>O(width * k)</code> memory, plus the steps of the routes still in the lists.</p>
+   *
+   * @param garden An instance of {@link Garden}.
+   * @param k The number of routes.
+   *
+   * @return The <code>k</code> distinct routes along which the hedgehog collects the most apples,
+   * most apples first, or every route if there are fewer than <code>k</code>.
+   *
+   * @throws SolutionException If there was a problem while calculating the solution.
+   * @throws IllegalArgumentException If <b>garden</b> is <code>null</code> or <b>k</b> is less than
+   * or equal to zero.
+   *
+   * @see Garden
+   * @see Route
+   */
+  @Override
+  public List<Route> solveTopK(final Garden garden, final int k) throws SolutionException {
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'");
+    }
+
+    if (k <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'k' cannot be less than or equal to zero. [k == %d]", k));
+    }
+
+    try {
+
+      final int width = garden.width();
+      final int height = garden.height();
+
+      if ((long) width * k > Integer.MAX_VALUE - 8) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; 'width' multiplied by 'k' is too large to be stored. "
+                    + "[width == %d, k == %d]",
+                width,
+                k));
+      }
+
+      final int[] appleRow = new int[width];
+      Lists above = new Lists(width, k);
+      Lists current = new Lists(width, k);
+
+      for (int row = 0; row < height; row++) {
+
+        garden.copyRow(height - 1 - row, appleRow);
+
+        for (int x = 0; x < width; x++) {
+          if (row == 0 && x == 0) {
+            current.start(appleRow[0]);
+          } else {
+            current.merge(
+                x,
+                row == 0 ? null : above,
+                x == 0 ? null : current,
+                appleRow[x]);
+          }
+        }
+
+        final Lists lists = above;
+        above = current;
+        current = lists;
+      }
+
+      final int last = (width - 1) * k;
+      final List<Route> routes = new ArrayList<>(above.counts[width - 1]);
+
+      for (int i = 0; i < above.counts[width - 1]; i++) {
+        routes.add(route(above.sums[last + i], above.steps[last + i], width, height));
+      }
+
+      return routes;
+
+    } catch (final Exception e) {
+      throw new SolutionException(e);
+    }
+  }
+
+  private static Route route(
+      final long apples,
+      final Step last,
+      final int width,
+      final int height) {
+
+    final int moveCount = width + height - 2;
+    final long[] moves = new long[Route.words(moveCount)];
+
+    int move = moveCount;
+    for (Step step = last; Objects.nonNull(step); step = step.previous()) {
+      move--;
+      if (step.down()) {
+        moves[move >>> 6] |= 1L << move;
+      }
+    }
+
+    return new Route(apples, width, height, moves);
+  }
+
+  /**
+   * <p>The last move of a route, and the step before it; <code>null</code> before the first
+   * move.</p>
+   */
+  private record Step(Step previous, boolean down) {
+  }
+
+  /**
+   * <p>A row of lists of up to <code>k</code> routes, most apples first; the list for column
+   * <code>x</code> starts at <code>x * k</code>.</p>
+   */
+  private static final class Lists {
+
+    private final int k;
+    private final long[] sums;
+    private final Step[] steps;
+    private final int[] counts;
+
+    Lists(final int width, final int k) {
+      this.k = k;
+      sums = new long[width * k];
+      steps = new Step[width * k];
+      counts = new int[width];
+    }
+
+    void start(final int apples) {
+      sums[0] = apples;
+      steps[0] = null;
+      counts[0] = 1;
+    }
+
+    /**
+     * <p>Sets the list for column <code>x</code> to the best routes of column <code>x</code> of
+     * <code>above</code>, followed by a move down, and of column <code>x - 1</code> of
+     * <code>left</code>, followed by a move right; either may be <code>null</code>.</p>
+     */
+    void merge(final int x, final Lists above, final Lists left, final int apples) {
+
+      final int aboveCount = Objects.isNull(above) ? 0 : above.counts[x];
+      final int leftCount = Objects.isNull(left) ? 0 : left.counts[x - 1];
+      final int aboveStart = x * k;
+      final int leftStart = (x - 1) * k;
+      final int start = x * k;
+
+      int a = 0;
+      int l = 0;
+      int count = 0;
+
+      for (; count < k && (a < aboveCount || l < leftCount); count++) {
+        if (l == leftCount
+            || a < aboveCount && above.sums[aboveStart + a] >= left.sums[leftStart + l]) {
+          sums[start + count] = above.sums[aboveStart + a] + apples;
+          steps[start + count] = new Step(above.steps[aboveStart + a], true);
+          a++;
+        } else {
+          sums[start + count] = left.sums[leftStart + l] + apples;
+          steps[start + count] = new Step(left.steps[leftStart + l], false);
+          l++;
+        }
+      }
+
+      // Drops the steps of routes from two rows up, so that they can be collected.
+      for (int i = count; i < counts[x]; i++) {
+        steps[start + i] = null;
+      }
+
+      counts[x] = count;
+    }
+  }
+
+}
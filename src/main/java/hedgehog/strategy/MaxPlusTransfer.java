@@ -0,0 +1,250 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.exception.OutputWriteException;
+import hedgehog.model.Garden;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * <p>The transfer of a band of whole rows of a garden, in the max-plus semiring; entry
+ * <code>(i, j)</code> is the most apples that a route can collect within the band, entering it at
+ * column <code>i</code> of its top row and leaving it at column <code>j</code> of its bottom row.
+ * A route can only move right, so entries with <code>j &lt; i</code> are minus infinity and are not
+ * held; the rest take <code>width * (width + 1) / 2</code> longs.</p>
+ *
+ * <p>A route leaves one band and enters the next in the same column, so the most apples that can
+ * have been collected at each column of the bottom row of a band follow from those of the band
+ * above by {@link #apply(long[])}; a max-plus product of a vector and the transfer. Starting from
+ * the top left corner and applying the transfers of the bands in order gives the solution in the
+ * last column, so bands can be transferred independently (see
+ * {@link MultiProcessSolutionStrategy}) and combined at the end.</p>
+ *
+ * <p>Computing a transfer takes <code>O(width^2 * rows)</code> time, <code>width</code> times the
+ * work of solving the band; splitting a garden this way pays off only for gardens far taller than
+ * they are wide.</p>
+ */
+public final class MaxPlusTransfer {
+
+  /**
+   * <p>Minus infinity; a column that no route can reach.</p>
+   */
+  public static final long UNREACHABLE = Long.MIN_VALUE;
+
+  private static final int MAGIC = 0x4844544D;
+
+  private final int width;
+  private final long[] entries;
+
+  private MaxPlusTransfer(final int width, final long[] entries) {
+    this.width = width;
+    this.entries = entries;
+  }
+
+  /**
+   * @return the transfer of every row of <code>band</code>.
+   */
+  public static MaxPlusTransfer of(final Garden band) {
+
+    if (Objects.isNull(band)) {
+      throw new IllegalArgumentException("Illegal argument; 'band' cannot be 'null'.");
+    }
+
+    final int width = band.width();
+    final int height = band.height();
+    final long[] entries = new long[entryCount(width)];
+    final int[][] appleRows = new int[height][width];
+
+    for (int row = 0; row < height; row++) {
+      band.copyRow(height - 1 - row, appleRows[row]);
+    }
+
+    // A dynamic programming pass over the band for each entry column, over only the columns at
+    // or to its right.
+    final long[] best = new long[width];
+
+    for (int i = 0; i < width; i++) {
+
+      Arrays.fill(best, i, width, 0);
+
+      for (final int[] appleRow : appleRows) {
+        best[i] += appleRow[i];
+        for (int x = i + 1; x < width; x++) {
+          best[x] = Math.max(best[x - 1], best[x]) + appleRow[x];
+        }
+      }
+
+      System.arraycopy(best, i, entries, offset(i, width), width - i);
+    }
+
+    return new MaxPlusTransfer(width, entries);
+  }
+
+  public int width() {
+    return width;
+  }
+
+  /**
+   * @return the entry for entering at column <code>i</code> and leaving at column <code>j</code>;
+   * {@link #UNREACHABLE} if <code>j &lt; i</code>.
+   */
+  public long get(final int i, final int j) {
+
+    if ((i | j | (width - 1 - i) | (width - 1 - j)) < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'i' and 'j' must be columns of the band. "
+                  + "[i == %d, j == %d, width == %d]",
+              i,
+              j,
+              width));
+    }
+
+    return j < i ? UNREACHABLE : entries[offset(i, width) + j - i];
+  }
+
+  /**
+   * @return the max-plus product of <code>vector</code>, the most apples collected on reaching
+   * each column of the row above the band (or {@link #UNREACHABLE}), and this transfer; the most
+   * apples collected on reaching each column of the bottom row of the band.
+   */
+  public long[] apply(final long[] vector) {
+
+    if (Objects.isNull(vector) || vector.length != width) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'vector' cannot be 'null' and must have a length equal to the "
+                  + "width. [width == %d]",
+              width));
+    }
+
+    final long[] result = new long[width];
+    Arrays.fill(result, UNREACHABLE);
+
+    for (int i = 0; i < width; i++) {
+      if (vector[i] == UNREACHABLE) {
+        continue;
+      }
+      final int offset = offset(i, width) - i;
+      for (int j = i; j < width; j++) {
+        result[j] = Math.max(result[j], vector[i] + entries[offset + j]);
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * @return the vector for the top left corner, before any band; the start of every route.
+   */
+  public static long[] start(final int width) {
+    final long[] vector = new long[width];
+    Arrays.fill(vector, 1, width, UNREACHABLE);
+    return vector;
+  }
+
+  public void write(final Path path) throws OutputWriteException {
+
+    if (Objects.isNull(path)) {
+      throw new IllegalArgumentException("Illegal argument; 'path' cannot be 'null'.");
+    }
+
+    final CRC32 crc = new CRC32();
+
+    try (final DataOutputStream output =
+        new DataOutputStream(
+            new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path)), crc))) {
+      output.writeInt(MAGIC);
+      output.writeInt(width);
+      for (final long entry : entries) {
+        output.writeLong(entry);
+      }
+      output.writeInt((int) crc.getValue());
+    } catch (final IOException e) {
+      throw new OutputWriteException(e);
+    }
+  }
+
+  public static MaxPlusTransfer read(final Path path) throws InputReadException {
+
+    if (Objects.isNull(path)) {
+      throw new IllegalArgumentException("Illegal argument; 'path' cannot be 'null'.");
+    }
+
+    final CRC32 crc = new CRC32();
+
+    try (final DataInputStream input =
+        new DataInputStream(
+            new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(path)), crc))) {
+
+      final int magic = input.readInt();
+
+      if (magic != MAGIC) {
+        throw new IOException(
+            String.format("Not a transfer; unexpected magic number. [magic == %08x]", magic));
+      }
+
+      final int width = input.readInt();
+
+      if (width <= 0
+          || Files.size(path) != 3L * Integer.BYTES + (long) entryCount(width) * Long.BYTES) {
+        throw new IOException(
+            String.format(
+                "Damaged transfer; the width does not match the size. [width == %d]", width));
+      }
+
+      final long[] entries = new long[entryCount(width)];
+
+      for (int e = 0; e < entries.length; e++) {
+        entries[e] = input.readLong();
+      }
+
+      final int expected = (int) crc.getValue();
+
+      if (input.readInt() != expected) {
+        throw new IOException("Damaged transfer; the checksum does not match.");
+      }
+
+      return new MaxPlusTransfer(width, entries);
+
+    } catch (final IOException | IllegalArgumentException e) {
+      throw new InputReadException(e);
+    }
+  }
+
+  private static int entryCount(final int width) {
+
+    final long count = (long) width * (width + 1) / 2;
+
+    if (count > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; the band is too wide for its transfer to be stored. "
+                  + "[width == %d]",
+              width));
+    }
+
+    return (int) count;
+  }
+
+  /**
+   * @return the index of entry <code>(i, i)</code>; row <code>i</code> follows the
+   * <code>width - k</code> entries of each row <code>k &lt; i</code>.
+   */
+  private static int offset(final int i, final int width) {
+    return (int) ((long) i * width - (long) i * (i - 1) / 2);
+  }
+
+}
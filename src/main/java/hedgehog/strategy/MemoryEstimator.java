@@ -0,0 +1,140 @@
+package hedgehog.strategy;
+
+import hedgehog.io.GardenHeader;
+import hedgehog.model.Cells;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Estimates, from a {@link GardenHeader}, the heap that reading a garden and solving it will
+ * take, and the least that {@link OutOfCoreSolver} needs to solve it from its file instead. The
+ * estimates are upper bounds where the header leaves something unknown.</p>
+ *
+ * <ul>
+ *   <li>A text garden is read into cells that start as <code>byte</code>s and are widened as
+ *   larger numbers of apples are read, so at worst <code>short</code> and <code>int</code> cells
+ *   are held at once while the last widening copies them; a line of text is also split into a
+ *   string per number.</li>
+ *   <li>A binary garden is memory mapped, off the heap; only a row is copied at a time.</li>
+ *   <li>A sparse garden holds each tree with apples, and needs a little more while sorting them;
+ *   there can be no more trees than lines of at least six bytes in the file.</li>
+ * </ul>
+ *
+ * <p>Solving takes the most that any of the strategies of <code>providers</code> that can solve
+ * the garden allocates (see {@link SolutionStrategyProvider#memory(GardenProfile)}), as which of
+ * them will be chosen depends on the machine.</p>
+ */
+public class MemoryEstimator {
+
+  /**
+   * <p>The heap taken by a number while its line is split; its string and the reference to
+   * it.</p>
+   */
+  private static final long TEXT_BYTES_PER_NUMBER = 64;
+
+  private static final long MIN_SPARSE_LINE_BYTES = 6;
+
+  /**
+   * <p>The heap taken by a tree while a sparse garden is read; its column, row and apples, its
+   * index and position while sorting, and its index and apples once held.</p>
+   */
+  private static final long SPARSE_BYTES_PER_TREE =
+      3 * Integer.BYTES + Long.BYTES + 2 * Integer.BYTES;
+
+  private final List<SolutionStrategyProvider> providers;
+
+  public MemoryEstimator() {
+    this(new SolutionStrategyRegistry().providers());
+  }
+
+  public MemoryEstimator(final List<SolutionStrategyProvider> providers) {
+
+    super();
+
+    if (Objects.isNull(providers)) {
+      throw new IllegalArgumentException("Illegal argument; 'providers' cannot be 'null'.");
+    }
+
+    this.providers = List.copyOf(providers);
+  }
+
+  public Estimate estimate(final GardenHeader header) {
+
+    if (Objects.isNull(header)) {
+      throw new IllegalArgumentException("Illegal argument; 'header' cannot be 'null'.");
+    }
+
+    final long trees =
+        header.format() == GardenHeader.Format.SPARSE
+            ? Math.min(header.squares(), header.fileSize() / MIN_SPARSE_LINE_BYTES)
+            : header.squares();
+
+    final long gardenBytes;
+
+    switch (header.format()) {
+      case TEXT:
+        gardenBytes =
+            header.squares() * (Cells.Encoding.SHORT.bytes() + Cells.Encoding.INT.bytes())
+                + header.width() * TEXT_BYTES_PER_NUMBER;
+        break;
+      case SPARSE:
+        gardenBytes = trees * SPARSE_BYTES_PER_TREE;
+        break;
+      default:
+        gardenBytes = (long) header.width() * Integer.BYTES;
+    }
+
+    final GardenProfile profile =
+        new GardenProfile(
+            header.width(),
+            header.height(),
+            trees,
+            header.format() == GardenHeader.Format.SPARSE,
+            Long.MAX_VALUE,
+            Runtime.getRuntime().availableProcessors());
+
+    long solveBytes = 0;
+
+    for (final SolutionStrategyProvider provider : providers) {
+      if (Double.isFinite(provider.work(profile))) {
+        solveBytes = Math.max(solveBytes, provider.memory(profile));
+      }
+    }
+
+    return new Estimate(gardenBytes, solveBytes, outOfCoreBytes(header));
+  }
+
+  /**
+   * @return the budget with which {@link OutOfCoreSolver}, transposing gardens wider than they are
+   * tall, can hold a band of a single row; {@link Long#MAX_VALUE} for a sparse garden, which it
+   * does not read.
+   */
+  private static long outOfCoreBytes(final GardenHeader header) {
+
+    if (header.format() == GardenHeader.Format.SPARSE) {
+      return Long.MAX_VALUE;
+    }
+
+    final long bytes = header.encoding().bytes();
+    final long width = header.width();
+    final long height = header.height();
+
+    // A row of a band, as read and as ints, and a long per column for the row of maxima; only
+    // the first pass over a transposed garden holds rows as wide as the garden.
+    return width > height
+        ? Math.max(width * (Integer.BYTES + bytes), height * (Integer.BYTES + bytes + Long.BYTES))
+        : width * (Integer.BYTES + bytes + Long.BYTES);
+  }
+
+  /**
+   * <p>Estimates, in bytes, of the heap taken to read the garden and to solve it, and of the least
+   * budget for {@link OutOfCoreSolver}.</p>
+   */
+  public record Estimate(long gardenBytes, long solveBytes, long outOfCoreBytes) {
+
+    public long inMemoryBytes() {
+      return gardenBytes + solveBytes;
+    }
+  }
+
+}
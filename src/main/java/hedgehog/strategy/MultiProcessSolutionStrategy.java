@@ -0,0 +1,196 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.io.BinaryGardenFormat;
+import hedgehog.model.Garden;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * <p>Solves a garden across several worker processes. The garden is split into horizontal bands
+ * of whole rows, one per worker; each band is written to a file in the binary garden format and
+ * a {@link BandWorker} process is started for it, which writes the band's
+ * {@link MaxPlusTransfer} to another file. Once every worker has finished, the transfers are
+ * applied in order, from the top left corner down, to give the solution.</p>
+ *
+ * <p>The files are exchanged through a fresh directory under <code>temporaryDirectory</code>,
+ * which is deleted afterwards. Workers are started with <code>command</code> followed by the
+ * worker's class name and its arguments; by default the running JVM's <code>java</code> with its
+ * class path, so that they run on the same machine. Any prefix that starts a JVM with these
+ * classes and can see the files, for example through a shared file system, can be given
+ * instead.</p>
+ *
+ * <p>A transfer takes <code>O(width^2)</code> memory and <code>width</code> times the work of
+ * solving its band (see {@link MaxPlusTransfer}); this strategy is for gardens far taller than
+ * they are wide, which it spreads over more memory and processors than a single JVM has.</p>
+ */
+public class MultiProcessSolutionStrategy implements SolutionStrategy {
+
+  private static final int LOG_TAIL_LENGTH = 2000;
+
+  private final int workers;
+  private final Path temporaryDirectory;
+  private final List<String> command;
+
+  public MultiProcessSolutionStrategy(final int workers) {
+    this(workers, Path.of(System.getProperty("java.io.tmpdir")), defaultCommand());
+  }
+
+  public MultiProcessSolutionStrategy(
+      final int workers,
+      final Path temporaryDirectory,
+      final List<String> command) {
+
+    super();
+
+    if (workers <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'workers' cannot be less than or equal to zero. "
+                  + "[workers == %d]",
+              workers));
+    }
+
+    if (Objects.isNull(temporaryDirectory)) {
+      throw new IllegalArgumentException(
+          "Illegal argument; 'temporaryDirectory' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(command) || command.isEmpty()) {
+      throw new IllegalArgumentException(
+          "Illegal argument; 'command' cannot be 'null' or empty.");
+    }
+
+    this.workers = workers;
+    this.temporaryDirectory = temporaryDirectory;
+    this.command = List.copyOf(command);
+  }
+
+  /**
+   * @return the command that starts a JVM like the running one, with the same class path.
+   */
+  public static List<String> defaultCommand() {
+    return List.of(
+        Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+        "-cp",
+        System.getProperty("java.class.path"));
+  }
+
+  @Override
+  public long solve(final Garden garden) throws SolutionException {
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'");
+    }
+
+    final int bands = Math.min(workers, garden.height());
+    final List<Process> processes = new ArrayList<>(bands);
+    Path directory = null;
+
+    try {
+
+      directory = Files.createTempDirectory(temporaryDirectory, "hedgehog-bands-");
+
+      // Bands from the top; the first height % bands of them take a row more than the rest.
+      int top = 0;
+
+      for (int band = 0; band < bands; band++) {
+
+        final int rows = garden.height() / bands + (band < garden.height() % bands ? 1 : 0);
+        final Path bandPath = directory.resolve(band + ".hdgh");
+
+        BinaryGardenFormat.write(band(garden, top, rows), bandPath);
+        processes.add(start(bandPath, directory.resolve(band + ".transfer"), directory, band));
+        top += rows;
+      }
+
+      long[] vector = MaxPlusTransfer.start(garden.width());
+
+      for (int band = 0; band < bands; band++) {
+
+        final int exitValue = processes.get(band).waitFor();
+
+        if (exitValue != 0) {
+          throw new IllegalStateException(
+              String.format(
+                  "Illegal state; a worker failed. [band == %d, exitValue == %d, log == %s]",
+                  band,
+                  exitValue,
+                  tail(directory.resolve(band + ".log"))));
+        }
+
+        vector = MaxPlusTransfer.read(directory.resolve(band + ".transfer")).apply(vector);
+      }
+
+      return vector[garden.width() - 1];
+
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SolutionException(e);
+    } catch (final Exception e) {
+      throw new SolutionException(e);
+    } finally {
+      processes.forEach(Process::destroy);
+      delete(directory);
+    }
+  }
+
+  /**
+   * @return the <code>rows</code> rows of <code>garden</code> from row <code>top</code> (counted
+   * from the top) as a garden of their own.
+   */
+  private static Garden band(final Garden garden, final int top, final int rows) {
+    final Garden.Builder builder = new Garden.Builder().width(garden.width()).height(rows);
+    final int[] appleRow = new int[garden.width()];
+    for (int row = top; row < top + rows; row++) {
+      garden.copyRow(garden.height() - 1 - row, appleRow);
+      builder.appleRow(appleRow);
+    }
+    return builder.build();
+  }
+
+  private Process start(
+      final Path bandPath,
+      final Path transferPath,
+      final Path directory,
+      final int band) throws IOException {
+
+    final List<String> arguments = new ArrayList<>(command);
+    arguments.add(BandWorker.class.getName());
+    arguments.add(bandPath.toString());
+    arguments.add(transferPath.toString());
+
+    return new ProcessBuilder(arguments)
+        .redirectErrorStream(true)
+        .redirectOutput(directory.resolve(band + ".log").toFile())
+        .start();
+  }
+
+  /**
+   * @return the end of a worker's log, which is deleted with the directory.
+   */
+  private static String tail(final Path log) throws IOException {
+    final String text = Files.readString(log).strip();
+    return text.substring(Math.max(0, text.length() - LOG_TAIL_LENGTH));
+  }
+
+  private static void delete(final Path directory) {
+
+    if (Objects.isNull(directory)) {
+      return;
+    }
+
+    try (final Stream<Path> paths = Files.walk(directory)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    } catch (final IOException e) {
+      // Best effort; the directory is under the temporary directory.
+    }
+  }
+
+}
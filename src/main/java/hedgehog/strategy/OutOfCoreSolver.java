@@ -0,0 +1,423 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.exception.SolutionException;
+import hedgehog.io.BandedInputReader;
+import hedgehog.model.BandConsumer;
+import hedgehog.model.Cells;
+import hedgehog.model.Garden;
+import hedgehog.model.MappedCells;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * <p>Solves gardens too large for memory straight from their files, in the text format or the
+ * binary format, reading each file once in bands of rows (see {@link BandedInputReader}). Only
+ * one band and the row of maxima at the boundary between bands are held, and the bands are made
+ * as tall as <code>maxBandHeight</code> allows while keeping the two within
+ * <code>memoryBudget</code> bytes.</p>
+ *
+ * <p>The row of maxima is as long as the garden is wide. With <code>transpose</code> set, a garden
+ * that is wider than it is tall is first written, a band at a time, to a temporary file as its
+ * columns, and solved from there with a row of maxima as long as the garden is tall; its routes
+ * are those of the garden turned on its side, so the solution is the same. That costs a second
+ * pass over the garden and scattered writes, so it pays off only when the row of maxima would
+ * not otherwise fit.</p>
+ *
+ * <p>Instances hold no state between gardens and may be shared between threads.</p>
+ */
+public class OutOfCoreSolver {
+
+  private final long memoryBudget;
+  private final int maxBandHeight;
+  private final boolean transpose;
+  private final Path temporaryDirectory;
+
+  public OutOfCoreSolver(
+      final long memoryBudget,
+      final int maxBandHeight,
+      final boolean transpose) {
+
+    this(
+        memoryBudget,
+        maxBandHeight,
+        transpose,
+        Path.of(System.getProperty("java.io.tmpdir")));
+  }
+
+  public OutOfCoreSolver(
+      final long memoryBudget,
+      final int maxBandHeight,
+      final boolean transpose,
+      final Path temporaryDirectory) {
+
+    super();
+
+    if (memoryBudget <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'memoryBudget' cannot be less than or equal to zero. "
+                  + "[memoryBudget == %d]",
+              memoryBudget));
+    }
+
+    if (maxBandHeight <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'maxBandHeight' cannot be less than or equal to zero. "
+                  + "[maxBandHeight == %d]",
+              maxBandHeight));
+    }
+
+    if (Objects.isNull(temporaryDirectory)) {
+      throw new IllegalArgumentException(
+          "Illegal argument; 'temporaryDirectory' cannot be 'null'.");
+    }
+
+    this.memoryBudget = memoryBudget;
+    this.maxBandHeight = maxBandHeight;
+    this.transpose = transpose;
+    this.temporaryDirectory = temporaryDirectory;
+  }
+
+  /**
+   * @throws InputReadException if the garden cannot be read or is not valid.
+   * @throws SolutionException if the budget cannot hold a band of a single row and the row of
+   * maxima, or the temporary file cannot be written.
+   */
+  public Report solve(final String inputFileLocation)
+      throws InputReadException, SolutionException {
+
+    final long start = System.nanoTime();
+    final FirstPass firstPass = new FirstPass();
+
+    try {
+
+      final long bytesRead = new BandedInputReader().read(inputFileLocation, firstPass);
+
+      if (Objects.isNull(firstPass.transposer)) {
+        return new Report(
+            firstPass.solver.solution(),
+            bytesRead,
+            0,
+            System.nanoTime() - start,
+            firstPass.bandHeight,
+            false);
+      }
+
+      final BandSolver solver = firstPass.transposer.solve();
+      return new Report(
+          solver.solution(),
+          bytesRead + firstPass.transposer.bytes(),
+          firstPass.transposer.bytes(),
+          System.nanoTime() - start,
+          solver.bandHeight,
+          true);
+
+    } catch (final InputReadException e) {
+      if (firstPass.failed) {
+        throw new SolutionException(e.getCause());
+      }
+      throw e;
+    } catch (final IOException | IllegalArgumentException e) {
+      throw new SolutionException(e);
+    } finally {
+      if (Objects.nonNull(firstPass.transposer)) {
+        firstPass.transposer.close();
+      }
+    }
+  }
+
+  /**
+   * @return the number of rows of <code>width</code> cells, stored in <code>bytes</code> each,
+   * that fit in the budget once <code>reserved</code> bytes are set aside; each row takes its
+   * cells as <code>int</code>s, its cells as read and <code>perRow</code> bytes more.
+   */
+  private int bandHeight(
+      final int width,
+      final int bytes,
+      final long reserved,
+      final long perRow) {
+
+    final long rowBytes = (long) width * (Integer.BYTES + bytes) + perRow;
+    final long rows = Math.min(maxBandHeight, (memoryBudget - reserved) / rowBytes);
+
+    if (rows <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'memoryBudget' cannot hold a band of a single row. "
+                  + "[memoryBudget == %d, width == %d, reserved == %d, rowBytes == %d]",
+              memoryBudget,
+              width,
+              reserved,
+              rowBytes));
+    }
+
+    return (int) rows;
+  }
+
+  /**
+   * @return the rows, of <code>rowCells</code> cells stored in <code>bytes</code> each, to read
+   * at a time out of <code>rows</code>; no more than <code>bandHeight</code>, and few enough
+   * that a band's cells, and its bytes, can be indexed by an <code>int</code>.
+   *
+   * @throws IllegalArgumentException if not even a single row can be.
+   */
+  static int bandRows(
+      final int bandHeight,
+      final int rows,
+      final int rowCells,
+      final int bytes) {
+
+    final long maxRows =
+        Math.min(Math.min(bandHeight, rows), Garden.MAX_CELLS / ((long) rowCells * bytes));
+
+    if (maxRows <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; a single row is too long to be read. "
+                  + "[rowCells == %d, bytes == %d]",
+              rowCells,
+              bytes));
+    }
+
+    return (int) maxRows;
+  }
+
+  /**
+   * <p>Solves the garden band by band, or hands the bands to a {@link Transposer}.</p>
+   */
+  private final class FirstPass implements BandConsumer {
+
+    private BandSolver solver;
+    private Transposer transposer;
+    private int bandHeight;
+    private boolean failed;
+
+    @Override
+    public int dimensions(final int width, final int height, final Cells.Encoding encoding) {
+      try {
+        if (transpose && width > height) {
+          transposer = new Transposer(width, height, encoding);
+          bandHeight = transposer.bandHeight;
+        } else {
+          solver = new BandSolver(width, encoding);
+          bandHeight = solver.bandHeight;
+        }
+        return bandHeight;
+      } catch (final IllegalArgumentException | UncheckedIOException e) {
+        failed = true;
+        throw e;
+      }
+    }
+
+    @Override
+    public void band(final int[] cells, final int rows) {
+      try {
+        if (Objects.isNull(transposer)) {
+          solver.band(cells, rows);
+        } else {
+          transposer.band(cells, rows);
+        }
+      } catch (final UncheckedIOException e) {
+        failed = true;
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * <p>Advances the row of maxima by a band at a time.</p>
+   */
+  private final class BandSolver {
+
+    private final long[] best;
+    private final int bandHeight;
+
+    BandSolver(final int width, final Cells.Encoding encoding) {
+      bandHeight = bandHeight(width, encoding.bytes(), (long) width * Long.BYTES, 0);
+      best = new long[width];
+    }
+
+    void band(final int[] cells, final int rows) {
+      for (int r = 0; r < rows; r++) {
+        DynamicProgrammingSolutionStrategy.accumulateRow(best, cells, r * best.length);
+      }
+    }
+
+    long solution() {
+      return best[best.length - 1];
+    }
+  }
+
+  /**
+   * <p>Writes the garden's columns, left to right and each from the top down, as the rows of a
+   * temporary file, then solves those rows. Taking the columns as rows swaps moves to the right
+   * for moves down, and moves down for moves to the right, so every route through the garden is a
+   * route through the temporary file and the other way around.</p>
+   *
+   * <p>The cells of a band land a column apart in the file, so they are written through memory
+   * mappings of it, in segments of 1 GB, rather than a write per column; the operating system
+   * writes those pages back, and drops them, outside of the budget.</p>
+   */
+  private final class Transposer {
+
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final int width;
+    private final int height;
+    private final Cells.Encoding encoding;
+    private final int bandHeight;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+
+    private int top;
+
+    Transposer(final int width, final int height, final Cells.Encoding encoding) {
+
+      this.width = width;
+      this.height = height;
+      this.encoding = encoding;
+      bandHeight = bandHeight(width, encoding.bytes(), 0, 0);
+
+      try {
+        path = Files.createTempFile(temporaryDirectory, "hedgehog-", ".transposed");
+        channel =
+            FileChannel.open(
+                path,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+
+        segments = new MappedByteBuffer[(int) ((bytes() + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+        for (int s = 0; s < segments.length; s++) {
+          final long offset = (long) s << SEGMENT_SHIFT;
+          segments[s] =
+              channel.map(
+                  FileChannel.MapMode.READ_WRITE,
+                  offset,
+                  Math.min(1L << SEGMENT_SHIFT, bytes() - offset));
+          segments[s].order(ByteOrder.LITTLE_ENDIAN);
+        }
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    void band(final int[] cells, final int rows) {
+
+      final int bytes = encoding.bytes();
+
+      for (int x = 0; x < width; x++) {
+
+        long position = ((long) x * height + top) * bytes;
+
+        for (int r = 0; r < rows; r++, position += bytes) {
+          final MappedByteBuffer segment = segments[(int) (position >>> SEGMENT_SHIFT)];
+          final int at = (int) (position & SEGMENT_MASK);
+          final int apples = cells[r * width + x];
+          switch (encoding) {
+            case BYTE:
+              segment.put(at, (byte) apples);
+              break;
+            case SHORT:
+              segment.putShort(at, (short) apples);
+              break;
+            default:
+              segment.putInt(at, apples);
+          }
+        }
+      }
+
+      top += rows;
+    }
+
+    long bytes() {
+      return (long) width * height * encoding.bytes();
+    }
+
+    /**
+     * <p>Reads the temporary file, from the start, in bands of its rows. The file can hold more
+     * cells than an <code>int</code> can index, so each band is read from its <code>long</code>
+     * offset rather than through {@link MappedCells}.</p>
+     */
+    BandSolver solve() throws IOException {
+
+      final BandSolver solver = new BandSolver(height, encoding);
+      final int maxRows = bandRows(solver.bandHeight, width, height, encoding.bytes());
+      final int rowBytes = height * encoding.bytes();
+      final int[] cells = new int[maxRows * height];
+      final ByteBuffer buffer =
+          ByteBuffer.allocateDirect(maxRows * rowBytes).order(ByteOrder.LITTLE_ENDIAN);
+
+      for (int first = 0; first < width; first += maxRows) {
+
+        final int rows = Math.min(maxRows, width - first);
+
+        buffer.clear().limit(rows * rowBytes);
+        long position = (long) first * rowBytes;
+        while (buffer.hasRemaining()) {
+          final int read = channel.read(buffer, position);
+          if (read < 0) {
+            throw new EOFException(
+                String.format(
+                    "The temporary file ended before its rows. [position == %d]", position));
+          }
+          position += read;
+        }
+
+        buffer.flip();
+        encoding.decode(buffer, cells, 0, rows * height);
+        solver.band(cells, rows);
+      }
+
+      return solver;
+    }
+
+    void close() {
+      try {
+        channel.close();
+        Files.deleteIfExists(path);
+      } catch (final IOException e) {
+        // The file is deleted on close; failing to delete it again is not an error.
+      }
+    }
+  }
+
+  /**
+   * <p>The solution, and how it was reached.</p>
+   *
+   * @param bytesRead the bytes read from the garden's file and, when transposed, from the
+   * temporary file.
+   * @param bytesWritten the bytes written to the temporary file.
+   * @param nanos the time taken, in nanoseconds.
+   * @param bandHeight the number of rows in each band, of the temporary file when transposed.
+   */
+  public record Report(
+      long solution,
+      long bytesRead,
+      long bytesWritten,
+      long nanos,
+      int bandHeight,
+      boolean transposed) {
+
+    /**
+     * @return the bytes read per second, in megabytes (10^6 bytes).
+     */
+    public double megabytesPerSecond() {
+      return nanos == 0 ? 0 : bytesRead * 1e3 / nanos;
+    }
+  }
+
+}
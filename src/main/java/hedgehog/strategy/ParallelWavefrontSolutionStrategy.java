@@ -0,0 +1,163 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelWavefrontSolutionStrategy implements SolutionStrategy {
+
+  private static final int DEFAULT_TILE_SIZE = 256;
+
+  private final ForkJoinPool forkJoinPool;
+  private final int tileSize;
+
+  public ParallelWavefrontSolutionStrategy() {
+    this(ForkJoinPool.commonPool(), DEFAULT_TILE_SIZE);
+  }
+
+  public ParallelWavefrontSolutionStrategy(final ForkJoinPool forkJoinPool, final int tileSize) {
+
+    super();
+
+    if (Objects.isNull(forkJoinPool)) {
+      throw new IllegalArgumentException("Illegal argument; 'forkJoinPool' cannot be 'null'.");
+    }
+
+    if (tileSize <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'tileSize' cannot be less than or equal to zero. "
+                  + "[tileSize == %d]",
+              tileSize));
+    }
+
+    this.forkJoinPool = forkJoinPool;
+    this.tileSize = tileSize;
+  }
+
+  /**
+   * <p>The solution uses the same recurrence as {@link DynamicProgrammingSolutionStrategy} but
+   * splits the garden into square tiles of <code>tileSize</code> x <code>tileSize</code>. A tile
+   * only depends on the tile above it and the tile to its left, so all the tiles on the same
+   * anti-diagonal of tiles are independent of one another and are computed concurrently on the
+   * configured {@link ForkJoinPool}. The anti-diagonals are swept in order from the top left of
+   * the garden to the bottom right.</p>
+   *
+   * <p>Two buffers carry the maxima between tiles; <code>bottom</code> (sized to the width) holds
+   * the maxima for the last row computed in each column and <code>right</code> (sized to the
+   * height) holds the maxima for the last column computed in each row. Tiles on the same
+   * anti-diagonal never share a row or a column and so never write to the same element.</p>
+   *
+   * @param garden An instance of {@link Garden}.
+   *
+   * @return The maximum number of apples the hedgehog can collect while moving across the garden.
+   *
+   * @throws SolutionException If there was a problem while calculating the solution.
+   * @throws IllegalArgumentException If <b>garden</b> is <code>null</code>.
+   *
+   * @see Garden
+   */
+  @Override
+  public long solve(final Garden garden) throws SolutionException {
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'");
+    }
+
+    try {
+
+      final Wavefront wavefront = new Wavefront(garden, tileSize);
+
+      final int tileRows = ceilDiv(garden.height(), tileSize);
+      final int tileColumns = ceilDiv(garden.width(), tileSize);
+
+      for (int diagonal = 0; diagonal < tileRows + tileColumns - 1; diagonal++) {
+        final int firstTileRow = Math.max(0, diagonal - tileColumns + 1);
+        final int lastTileRow = Math.min(diagonal, tileRows - 1);
+        if (firstTileRow == lastTileRow) {
+          wavefront.computeTile(firstTileRow, diagonal - firstTileRow);
+        } else {
+          forkJoinPool.invoke(new DiagonalAction(wavefront, diagonal, firstTileRow, lastTileRow));
+        }
+      }
+
+      return wavefront.bottom[garden.width() - 1];
+
+    } catch (final Exception e) {
+      throw new SolutionException(e);
+    }
+  }
+
+  private static int ceilDiv(final int dividend, final int divisor) {
+    return (dividend + divisor - 1) / divisor;
+  }
+
+  private static final class Wavefront {
+
+    private final Garden garden;
+    private final int tileSize;
+    private final long[] bottom;
+    private final long[] right;
+
+    private Wavefront(final Garden garden, final int tileSize) {
+      this.garden = garden;
+      this.tileSize = tileSize;
+      this.bottom = new long[garden.width()];
+      this.right = new long[garden.height()];
+    }
+
+    private void computeTile(final int tileRow, final int tileColumn) {
+
+      final int firstRow = tileRow * tileSize;
+      final int lastRow = Math.min(firstRow + tileSize, right.length);
+      final int firstColumn = tileColumn * tileSize;
+      final int lastColumn = Math.min(firstColumn + tileSize, bottom.length);
+
+      final int[] appleRow = new int[lastColumn - firstColumn];
+
+      for (int row = firstRow; row < lastRow; row++) {
+        garden.copyRow(right.length - 1 - row, firstColumn, lastColumn, appleRow);
+        long left = right[row];
+        for (int column = firstColumn; column < lastColumn; column++) {
+          left = Math.max(left, bottom[column]) + appleRow[column - firstColumn];
+          bottom[column] = left;
+        }
+        right[row] = left;
+      }
+    }
+  }
+
+  private static final class DiagonalAction extends RecursiveAction {
+
+    private final Wavefront wavefront;
+    private final int diagonal;
+    private final int firstTileRow;
+    private final int lastTileRow;
+
+    private DiagonalAction(
+        final Wavefront wavefront,
+        final int diagonal,
+        final int firstTileRow,
+        final int lastTileRow) {
+      this.wavefront = wavefront;
+      this.diagonal = diagonal;
+      this.firstTileRow = firstTileRow;
+      this.lastTileRow = lastTileRow;
+    }
+
+    @Override
+    protected void compute() {
+      if (firstTileRow == lastTileRow) {
+        wavefront.computeTile(firstTileRow, diagonal - firstTileRow);
+      } else {
+        final int middleTileRow = (firstTileRow + lastTileRow) >>> 1;
+        invokeAll(
+            new DiagonalAction(wavefront, diagonal, firstTileRow, middleTileRow),
+            new DiagonalAction(wavefront, diagonal, middleTileRow + 1, lastTileRow));
+      }
+    }
+  }
+
+}
@@ -0,0 +1,460 @@
+package hedgehog.strategy;
+
+import hedgehog.model.Garden;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Answers any number of "most apples from one square to another" questions about a single
+ * garden; the hedgehog starting under the tree at <code>(fromX, fromY)</code> and, moving only
+ * right or down, stopping under the tree at <code>(toX, toY)</code> (using the axes of
+ * {@link Garden#getApples(int, int)}, so "down" means towards <code>y = 0</code>).
+ * {@link SolutionStrategy#solve(Garden)} answers the one question from the top left corner to the
+ * bottom right corner.</p>
+ *
+ * <p>A single {@link #query(Query)} runs the dynamic programming solution over just the rectangle
+ * between the two squares. A batch of queries, {@link #query(List)}, is answered offline by divide
+ * and conquer over the rows. Every route for a query that spans the middle row of the rows being
+ * considered passes through at least one square of that row; it may run along the row for several.
+ * For each square of the row the maxima from every square above it (to the left) and to every
+ * square below it (to the right) are computed once and shared by every query spanning it. The
+ * answer is the largest sum over the squares of the row, and it is still exact: joining the two
+ * maxima at any square is a route, and the best route, split at the first square it reaches in
+ * the row, is one of those joined. Queries entirely above or below the middle row are passed on to
+ * the two halves. Each group is instead answered one query at a time when
+ * the queries in it cover less of the garden than the shared tables would, sorted so that
+ * neighbouring queries read neighbouring rows.</p>
+ *
+ * <p>The index keeps a copy of the apples (4 bytes per square), turned on its side when the garden
+ * is wider than it is tall so that the shared tables are always across the narrower side, and
+ * needs up to 16 bytes per square more while answering a batch. Instances are thread safe.</p>
+ */
+public class PathQueryIndex {
+
+  /**
+   * <p>How a batch of queries is answered; chosen by cost unless a test asks otherwise.</p>
+   */
+  enum Mode {
+    AUTOMATIC,
+    DIRECT,
+    DIVIDE_AND_CONQUER
+  }
+
+  private final int width;
+  private final int height;
+  private final boolean transposed;
+  private final int rows;
+  private final int columns;
+
+  /**
+   * <p>The apples, top row first; <code>apples[row * columns + column]</code>. When
+   * <code>transposed</code> the rows are the columns of the garden, from the left.</p>
+   */
+  private final int[] apples;
+
+  public PathQueryIndex(final Garden garden) {
+
+    super();
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'.");
+    }
+
+    this.width = garden.width();
+    this.height = garden.height();
+    this.transposed = width > height;
+    this.rows = transposed ? width : height;
+    this.columns = transposed ? height : width;
+    this.apples = new int[width * height];
+
+    final int[] appleRow = new int[width];
+
+    for (int row = 0; row < height; row++) {
+      garden.copyRow(height - 1 - row, appleRow);
+      if (transposed) {
+        for (int x = 0; x < width; x++) {
+          apples[x * columns + row] = appleRow[x];
+        }
+      } else {
+        System.arraycopy(appleRow, 0, apples, row * columns, width);
+      }
+    }
+  }
+
+  /**
+   * @return the most apples the hedgehog can collect from the square at the start of
+   * <code>query</code> to the square at its end, both included.
+   *
+   * @throws IllegalArgumentException if either square is outside the garden.
+   */
+  public long query(final Query query) {
+    final int[] square = toSquares(query);
+    return direct(square[0], square[1], square[2], square[3]);
+  }
+
+  /**
+   * @return the answer to each of <code>queries</code>, in the same order.
+   *
+   * @throws IllegalArgumentException if any square is outside the garden.
+   */
+  public long[] query(final List<Query> queries) {
+    return query(queries, Mode.AUTOMATIC);
+  }
+
+  long[] query(final List<Query> queries, final Mode mode) {
+
+    if (Objects.isNull(queries)) {
+      throw new IllegalArgumentException("Illegal argument; 'queries' cannot be 'null'.");
+    }
+
+    final Squares squares = new Squares(queries.size());
+    final int[] ids = new int[queries.size()];
+
+    for (int id = 0; id < ids.length; id++) {
+      final int[] square = toSquares(queries.get(id));
+      squares.fromRow[id] = square[0];
+      squares.fromColumn[id] = square[1];
+      squares.toRow[id] = square[2];
+      squares.toColumn[id] = square[3];
+      ids[id] = id;
+    }
+
+    final long[] answers = new long[ids.length];
+    answer(0, rows - 1, ids, squares, answers, mode);
+    return answers;
+  }
+
+  /**
+   * <p>Answers the queries <code>ids</code>, every one of which lies within the rows from
+   * <code>top</code> to <code>bottom</code>.</p>
+   */
+  private void answer(
+      final int top,
+      final int bottom,
+      final int[] ids,
+      final Squares squares,
+      final long[] answers,
+      final Mode mode) {
+
+    if (ids.length == 0) {
+      return;
+    }
+
+    final int middle = (top + bottom) >>> 1;
+    final int[] above = new int[ids.length];
+    final int[] below = new int[ids.length];
+    final int[] spanning = new int[ids.length];
+    int aboveCount = 0;
+    int belowCount = 0;
+    int spanningCount = 0;
+
+    for (final int id : ids) {
+      if (squares.toRow[id] < middle) {
+        above[aboveCount++] = id;
+      } else if (squares.fromRow[id] > middle) {
+        below[belowCount++] = id;
+      } else {
+        spanning[spanningCount++] = id;
+      }
+    }
+
+    answerSpanning(middle, Arrays.copyOf(spanning, spanningCount), squares, answers, mode);
+    answer(top, middle - 1, Arrays.copyOf(above, aboveCount), squares, answers, mode);
+    answer(middle + 1, bottom, Arrays.copyOf(below, belowCount), squares, answers, mode);
+  }
+
+  /**
+   * <p>Answers the queries <code>ids</code>, every one of which starts at or above, and ends at or
+   * below, row <code>middle</code>.</p>
+   */
+  private void answerSpanning(
+      final int middle,
+      final int[] ids,
+      final Squares squares,
+      final long[] answers,
+      final Mode mode) {
+
+    if (ids.length == 0) {
+      return;
+    }
+
+    int top = Integer.MAX_VALUE;
+    int bottom = Integer.MIN_VALUE;
+    int left = Integer.MAX_VALUE;
+    int right = Integer.MIN_VALUE;
+    long directCost = 0;
+
+    for (final int id : ids) {
+      top = Math.min(top, squares.fromRow[id]);
+      bottom = Math.max(bottom, squares.toRow[id]);
+      left = Math.min(left, squares.fromColumn[id]);
+      right = Math.max(right, squares.toColumn[id]);
+      directCost +=
+          (long) (squares.toRow[id] - squares.fromRow[id] + 1)
+              * (squares.toColumn[id] - squares.fromColumn[id] + 1);
+    }
+
+    // The number of queries spanning each column of the middle row, as a difference array.
+    final int[] spans = new int[right - left + 2];
+
+    for (final int id : ids) {
+      spans[squares.fromColumn[id] - left]++;
+      spans[squares.toColumn[id] - left + 1]--;
+    }
+
+    long sharedCost = 0;
+
+    for (int column = left, spanCount = 0; column <= right; column++) {
+      spanCount += spans[column - left];
+      if (spanCount > 0) {
+        sharedCost +=
+            (long) (middle - top + 1) * (column - left + 1)
+                + (long) (bottom - middle + 1) * (right - column + 1)
+                + ids.length;
+      }
+    }
+
+    if (mode == Mode.DIRECT || (mode == Mode.AUTOMATIC && directCost <= sharedCost)) {
+      answerDirectly(ids, squares, answers);
+      return;
+    }
+
+    final int stride = right - left + 1;
+    final long[] up = new long[(middle - top + 1) * stride];
+    final long[] down = new long[(bottom - middle + 1) * stride];
+
+    for (final int id : ids) {
+      answers[id] = Long.MIN_VALUE;
+    }
+
+    for (int column = left, spanCount = 0; column <= right; column++) {
+
+      spanCount += spans[column - left];
+
+      if (spanCount == 0) {
+        continue;
+      }
+
+      fillUp(up, stride, top, left, middle, column);
+      fillDown(down, stride, left, right, middle, bottom, column);
+
+      final int through = apples[middle * columns + column];
+
+      for (final int id : ids) {
+        if (squares.fromColumn[id] <= column && column <= squares.toColumn[id]) {
+          final long candidate =
+              up[(squares.fromRow[id] - top) * stride + squares.fromColumn[id] - left]
+                  + down[(squares.toRow[id] - middle) * stride + squares.toColumn[id] - left]
+                  - through;
+          answers[id] = Math.max(answers[id], candidate);
+        }
+      }
+    }
+  }
+
+  /**
+   * <p>Fills <code>up</code> with the most apples on the way from every square from
+   * <code>(top, left)</code> to <code>(middle, column)</code> to the square at
+   * <code>(middle, column)</code>; <code>up[(row - top) * stride + c - left]</code>.</p>
+   */
+  private void fillUp(
+      final long[] up,
+      final int stride,
+      final int top,
+      final int left,
+      final int middle,
+      final int column) {
+
+    int index = (middle - top) * stride + column - left;
+    int square = middle * columns + column;
+    up[index] = apples[square];
+
+    for (int c = column - 1; c >= left; c--) {
+      up[index - 1] = apples[square - 1] + up[index];
+      index--;
+      square--;
+    }
+
+    for (int row = middle - 1; row >= top; row--) {
+      index = (row - top) * stride + column - left;
+      square = row * columns + column;
+      up[index] = apples[square] + up[index + stride];
+      for (int c = column - 1; c >= left; c--) {
+        index--;
+        square--;
+        up[index] = apples[square] + Math.max(up[index + stride], up[index + 1]);
+      }
+    }
+  }
+
+  /**
+   * <p>Fills <code>down</code> with the most apples on the way from the square at
+   * <code>(middle, column)</code> to every square up to <code>(bottom, right)</code>;
+   * <code>down[(row - middle) * stride + c - left]</code>.</p>
+   */
+  private void fillDown(
+      final long[] down,
+      final int stride,
+      final int left,
+      final int right,
+      final int middle,
+      final int bottom,
+      final int column) {
+
+    int index = column - left;
+    int square = middle * columns + column;
+    down[index] = apples[square];
+
+    for (int c = column + 1; c <= right; c++) {
+      down[index + 1] = apples[square + 1] + down[index];
+      index++;
+      square++;
+    }
+
+    for (int row = middle + 1; row <= bottom; row++) {
+      index = (row - middle) * stride + column - left;
+      square = row * columns + column;
+      down[index] = apples[square] + down[index - stride];
+      for (int c = column + 1; c <= right; c++) {
+        index++;
+        square++;
+        down[index] = apples[square] + Math.max(down[index - stride], down[index - 1]);
+      }
+    }
+  }
+
+  /**
+   * <p>Answers each query on its own, in order of its first square so that queries that share
+   * rows are answered together, and only once for queries that are the same.</p>
+   */
+  private void answerDirectly(final int[] ids, final Squares squares, final long[] answers) {
+
+    final Integer[] order = Arrays.stream(ids).boxed().toArray(Integer[]::new);
+    Arrays.sort(
+        order,
+        Comparator.<Integer>comparingInt(id -> squares.fromRow[id])
+            .thenComparingInt(id -> squares.fromColumn[id])
+            .thenComparingInt(id -> squares.toRow[id])
+            .thenComparingInt(id -> squares.toColumn[id]));
+
+    int previous = -1;
+
+    for (final int id : order) {
+      answers[id] =
+          previous >= 0 && squares.same(previous, id)
+              ? answers[previous]
+              : direct(
+                  squares.fromRow[id],
+                  squares.fromColumn[id],
+                  squares.toRow[id],
+                  squares.toColumn[id]);
+      previous = id;
+    }
+  }
+
+  /**
+   * <p>The dynamic programming solution over the rectangle between the two squares, one row at a
+   * time.</p>
+   */
+  private long direct(
+      final int fromRow,
+      final int fromColumn,
+      final int toRow,
+      final int toColumn) {
+
+    final long[] best = new long[toColumn - fromColumn + 1];
+
+    for (int row = fromRow; row <= toRow; row++) {
+      final int rowStart = row * columns + fromColumn;
+      best[0] += apples[rowStart];
+      for (int c = 1; c < best.length; c++) {
+        best[c] = Math.max(best[c - 1], best[c]) + apples[rowStart + c];
+      }
+    }
+
+    return best[best.length - 1];
+  }
+
+  /**
+   * @return the start and end of <code>query</code> as <code>{fromRow, fromColumn, toRow,
+   * toColumn}</code> in the (possibly transposed) rows and columns of the index.
+   */
+  private int[] toSquares(final Query query) {
+
+    if (Objects.isNull(query)) {
+      throw new IllegalArgumentException("Illegal argument; 'query' cannot be 'null'.");
+    }
+
+    if (query.toX() >= width || query.fromY() >= height) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'query' cannot be outside the garden. [query == %s, width == %d, "
+                  + "height == %d]",
+              query,
+              width,
+              height));
+    }
+
+    final int fromRow = height - 1 - query.fromY();
+    final int toRow = height - 1 - query.toY();
+
+    return transposed
+        ? new int[] {query.fromX(), fromRow, query.toX(), toRow}
+        : new int[] {fromRow, query.fromX(), toRow, query.toX()};
+  }
+
+  /**
+   * <p>A route from the square at <code>(fromX, fromY)</code> to the square at
+   * <code>(toX, toY)</code>, which must be reachable by moving only right (increasing
+   * <code>x</code>) and down (decreasing <code>y</code>).</p>
+   */
+  public record Query(int fromX, int fromY, int toX, int toY) {
+
+    public Query {
+
+      if ((fromX | fromY | toX | toY) < 0) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; coordinates cannot be less than zero. "
+                    + "[fromX == %d, fromY == %d, toX == %d, toY == %d]",
+                fromX, fromY, toX, toY));
+      }
+
+      if (toX < fromX || toY > fromY) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; '(toX, toY)' must be reachable from '(fromX, fromY)' by moving "
+                    + "right and down. [fromX == %d, fromY == %d, toX == %d, toY == %d]",
+                fromX, fromY, toX, toY));
+      }
+    }
+  }
+
+  /**
+   * <p>The queries of a batch in the rows and columns of the index, by id.</p>
+   */
+  private static final class Squares {
+
+    private final int[] fromRow;
+    private final int[] fromColumn;
+    private final int[] toRow;
+    private final int[] toColumn;
+
+    private Squares(final int count) {
+      this.fromRow = new int[count];
+      this.fromColumn = new int[count];
+      this.toRow = new int[count];
+      this.toColumn = new int[count];
+    }
+
+    private boolean same(final int first, final int second) {
+      return fromRow[first] == fromRow[second]
+          && fromColumn[first] == fromColumn[second]
+          && toRow[first] == toRow[second]
+          && toColumn[first] == toColumn[second];
+    }
+  }
+
+}
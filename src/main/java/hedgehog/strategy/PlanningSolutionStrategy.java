@@ -0,0 +1,170 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Solves each garden with whichever strategy of a {@link SolutionStrategyRegistry} is expected
+ * to be quickest for it. The time each would take is estimated from the garden's
+ * {@link GardenProfile} by the provider's model and the {@link Calibration}; a strategy that
+ * cannot solve the garden, or that needs more memory than the heap has left, is passed over. The
+ * choice, with the estimates it was made from, is logged.</p>
+ *
+ * <p>By default the providers are those found on the class path with their default costs;
+ * {@link #calibrated()} measures the costs on this machine first, which takes about a second.</p>
+ *
+ * <p>Instances are thread safe if the strategies are; each strategy is created once, the first
+ * time it is chosen.</p>
+ */
+public class PlanningSolutionStrategy implements SolutionStrategy {
+
+  private static final Logger LOGGER =
+      Logger.getLogger(PlanningSolutionStrategy.class.getSimpleName());
+
+  private final List<SolutionStrategyProvider> providers;
+  private final Calibration calibration;
+  private final Map<String, SolutionStrategy> strategies;
+
+  public PlanningSolutionStrategy() {
+    this(new SolutionStrategyRegistry(), Calibration.defaults());
+  }
+
+  public PlanningSolutionStrategy(
+      final SolutionStrategyRegistry registry,
+      final Calibration calibration) {
+
+    super();
+
+    if (Objects.isNull(registry)) {
+      throw new IllegalArgumentException("Illegal argument; 'registry' cannot be 'null'.");
+    }
+
+    if (Objects.isNull(calibration)) {
+      throw new IllegalArgumentException("Illegal argument; 'calibration' cannot be 'null'.");
+    }
+
+    if (registry.providers().isEmpty()) {
+      throw new IllegalArgumentException("Illegal argument; 'registry' has no providers.");
+    }
+
+    providers = registry.providers();
+    this.calibration = calibration;
+    strategies = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * @return a planner over the providers found on the class path, with their costs measured on
+   * this machine.
+   *
+   * @throws SolutionException if a strategy fails to solve one of its samples.
+   */
+  public static PlanningSolutionStrategy calibrated() throws SolutionException {
+    final SolutionStrategyRegistry registry = new SolutionStrategyRegistry();
+    return new PlanningSolutionStrategy(registry, Calibration.measure(registry.providers()));
+  }
+
+  @Override
+  public long solve(final Garden garden) throws SolutionException {
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'");
+    }
+
+    final Plan plan;
+
+    try {
+      plan = plan(GardenProfile.of(garden));
+    } catch (final IllegalStateException e) {
+      throw new SolutionException(e);
+    }
+
+    LOGGER.log(
+        Level.FINE,
+        String.format(
+            "solve[width == %d, height == %d, strategy == %s, reason == %s]",
+            garden.width(),
+            garden.height(),
+            plan.provider().name(),
+            plan.reason()));
+
+    return strategies
+        .computeIfAbsent(plan.provider().name(), name -> plan.provider().create())
+        .solve(garden);
+  }
+
+  /**
+   * @return the strategy expected to be quickest for a garden with <code>profile</code>.
+   *
+   * @throws IllegalStateException if no strategy can solve the garden within the memory left.
+   */
+  public Plan plan(final GardenProfile profile) {
+
+    if (Objects.isNull(profile)) {
+      throw new IllegalArgumentException("Illegal argument; 'profile' cannot be 'null'.");
+    }
+
+    SolutionStrategyProvider best = null;
+    double bestNanos = Double.POSITIVE_INFINITY;
+    final List<String> estimates = new ArrayList<>(providers.size());
+
+    for (final SolutionStrategyProvider provider : providers) {
+
+      final double work = provider.work(profile);
+      final long memory = provider.memory(profile);
+
+      if (Double.isInfinite(work)) {
+        estimates.add(String.format("%s cannot solve it", provider.name()));
+      } else if (memory > profile.availableMemory()) {
+        estimates.add(
+            String.format(
+                "%s needs %d bytes, %d available",
+                provider.name(),
+                memory,
+                profile.availableMemory()));
+      } else {
+        final double nanos = calibration.cost(provider).nanos(work);
+        estimates.add(String.format("%s %.3f ms", provider.name(), nanos / 1e6));
+        if (nanos < bestNanos) {
+          best = provider;
+          bestNanos = nanos;
+        }
+      }
+    }
+
+    // A dense garden has a tree in every square, so its density says nothing.
+    final String reason =
+        profile.sparse()
+            ? String.format(
+                "quickest estimate for density %.4f on %d cores; %s",
+                profile.density(),
+                profile.cores(),
+                String.join(", ", estimates))
+            : String.format(
+                "quickest estimate on %d cores; %s",
+                profile.cores(),
+                String.join(", ", estimates));
+
+    if (Objects.isNull(best)) {
+      throw new IllegalStateException(
+          String.format(
+              "Illegal state; no strategy can solve the garden. [reason == %s]", reason));
+    }
+
+    return new Plan(best, bestNanos, reason);
+  }
+
+  /**
+   * <p>The strategy chosen for a garden, its estimated time in nanoseconds, and why it was
+   * chosen.</p>
+   */
+  public record Plan(SolutionStrategyProvider provider, double estimatedNanos, String reason) {
+  }
+
+}
@@ -0,0 +1,11 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import hedgehog.model.Route;
+
+public interface RouteSolutionStrategy extends SolutionStrategy {
+
+  Route solveRoute(Garden garden) throws SolutionException;
+
+}
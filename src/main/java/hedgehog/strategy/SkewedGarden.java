@@ -0,0 +1,120 @@
+package hedgehog.strategy;
+
+import hedgehog.model.Garden;
+
+/**
+ * <p>A copy of a {@link Garden} stored one anti-diagonal (<code>row + column == d</code>) at a
+ * time, as used by {@link VectorSolutionStrategy}. The squares of each anti-diagonal are held
+ * contiguously, ordered from the top row down, so that they can be loaded straight into SIMD
+ * lanes.</p>
+ *
+ * <p>Instances are created by {@link VectorSolutionStrategy#skew(Garden)}; callers that solve the
+ * same garden more than once can keep the skewed copy and avoid paying for the skew again.</p>
+ */
+public final class SkewedGarden {
+
+  private final int width;
+  private final int height;
+  private final int[] diagonalBase;
+  private final int[] apples;
+  private final int maxApples;
+
+  private SkewedGarden(
+      final int width,
+      final int height,
+      final int[] diagonalBase,
+      final int[] apples,
+      final int maxApples) {
+    this.width = width;
+    this.height = height;
+    this.diagonalBase = diagonalBase;
+    this.apples = apples;
+    this.maxApples = maxApples;
+  }
+
+  static SkewedGarden of(final Garden garden) {
+
+    final int width = garden.width();
+    final int height = garden.height();
+    final int diagonals = width + height - 1;
+
+    // diagonalBase[d] + row is the index of the square at (row, d - row) in 'apples'.
+    final int[] diagonalBase = new int[diagonals];
+    for (int diagonal = 1, offset = 0; diagonal < diagonals; diagonal++) {
+      offset += diagonalLength(diagonal - 1, width, height);
+      diagonalBase[diagonal] = offset - firstRow(diagonal, width);
+    }
+
+    final int[] apples = new int[width * height];
+    final int[] appleRow = new int[width];
+    int maxApples = 0;
+
+    for (int row = 0; row < height; row++) {
+      garden.copyRow(height - 1 - row, appleRow);
+      for (int column = 0; column < width; column++) {
+        apples[diagonalBase[row + column] + row] = appleRow[column];
+        maxApples = Math.max(maxApples, appleRow[column]);
+      }
+    }
+
+    return new SkewedGarden(width, height, diagonalBase, apples, maxApples);
+  }
+
+  public int width() {
+    return width;
+  }
+
+  public int height() {
+    return height;
+  }
+
+  int diagonals() {
+    return width + height - 1;
+  }
+
+  int firstRow(final int diagonal) {
+    return firstRow(diagonal, width);
+  }
+
+  int diagonalLength(final int diagonal) {
+    return diagonalLength(diagonal, width, height);
+  }
+
+  /**
+   * @return the index in {@link #apples()} of the first (top) square on <code>diagonal</code>.
+   */
+  int diagonalStart(final int diagonal) {
+    return diagonalBase[diagonal] + firstRow(diagonal);
+  }
+
+  int[] apples() {
+    return apples;
+  }
+
+  /**
+   * @return <code>true</code> if the maximum number of apples on any path is guaranteed to fit in
+   * an <code>int</code>.
+   */
+  boolean fitsInt() {
+    return (long) maxApples * diagonals() <= Integer.MAX_VALUE;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s[width=%d, height=%d, apples=%s]",
+        SkewedGarden.class.getSimpleName(),
+        width,
+        height,
+        "[...]");
+  }
+
+  private static int firstRow(final int diagonal, final int width) {
+    return Math.max(0, diagonal - width + 1);
+  }
+
+  private static int diagonalLength(final int diagonal, final int width, final int height) {
+    return Math.min(diagonal, height - 1) - firstRow(diagonal, width) + 1;
+  }
+
+}
@@ -5,6 +5,6 @@ import hedgehog.model.Garden;
 
 public interface SolutionStrategy {
 
-  int solve(Garden garden) throws SolutionException;
+  long solve(Garden garden) throws SolutionException;
 
 }
@@ -0,0 +1,49 @@
+package hedgehog.strategy;
+
+import hedgehog.model.Garden;
+import java.util.List;
+
+/**
+ * <p>Makes a {@link SolutionStrategy} known to {@link SolutionStrategyRegistry}, together with a
+ * model of its cost that {@link PlanningSolutionStrategy} compares with those of the others.
+ * Providers are found with {@link java.util.ServiceLoader}, so each is listed in
+ * <code>META-INF/services/hedgehog.strategy.SolutionStrategyProvider</code> and has a public
+ * constructor without arguments.</p>
+ *
+ * <p>The time to solve a garden is modelled as a fixed cost plus a cost per unit of
+ * {@link #work(GardenProfile)}; the two are taken from {@link #defaultCost()} or fitted by
+ * {@link Calibration#measure(List)} from the times taken to solve {@link #samples()}.</p>
+ */
+public interface SolutionStrategyProvider {
+
+  /**
+   * @return a short name for the strategy, unique among providers.
+   */
+  String name();
+
+  SolutionStrategy create();
+
+  /**
+   * @return the work to solve a garden with <code>profile</code>, in units of this provider's
+   * choosing, or {@link Double#POSITIVE_INFINITY} if the strategy cannot solve it.
+   */
+  double work(GardenProfile profile);
+
+  /**
+   * @return the bytes the strategy allocates, beyond the garden, to solve a garden with
+   * <code>profile</code>.
+   */
+  long memory(GardenProfile profile);
+
+  /**
+   * @return the cost before calibration.
+   */
+  Calibration.Cost defaultCost();
+
+  /**
+   * @return gardens to calibrate on, of at least two sizes, that solve in no more than a few tens
+   * of milliseconds each.
+   */
+  List<Garden> samples();
+
+}
@@ -0,0 +1,225 @@
+package hedgehog.strategy;
+
+import hedgehog.model.Garden;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * <p>The {@link SolutionStrategyProvider}s of the strategies in this package. Their default costs
+ * were measured on a single processor; {@link Calibration#measure(List)} replaces them with those
+ * of the machine.</p>
+ */
+public final class SolutionStrategyProviders {
+
+  private static final long SAMPLE_SEED = 23;
+
+  private SolutionStrategyProviders() {
+    super();
+  }
+
+  /**
+   * <p>{@link BinarySolutionStrategy}; its work is the number of routes, spread over the
+   * cores.</p>
+   */
+  public static final class Exhaustive implements SolutionStrategyProvider {
+
+    public Exhaustive() {
+      super();
+    }
+
+    @Override
+    public String name() {
+      return "exhaustive";
+    }
+
+    @Override
+    public SolutionStrategy create() {
+      return new BinarySolutionStrategy();
+    }
+
+    @Override
+    public double work(final GardenProfile profile) {
+
+      if (profile.moves() > BinarySolutionStrategy.MAX_MOVES) {
+        return Double.POSITIVE_INFINITY;
+      }
+
+      // The number of routes, C(moves, height - 1), built up so as not to overflow.
+      double routes = 1;
+      for (int i = 1; i < profile.height(); i++) {
+        routes = routes * (profile.width() - 1 + i) / i;
+      }
+
+      return routes / profile.cores();
+    }
+
+    @Override
+    public long memory(final GardenProfile profile) {
+      return profile.squares() * Integer.BYTES;
+    }
+
+    @Override
+    public Calibration.Cost defaultCost() {
+      return new Calibration.Cost(50_000, 20);
+    }
+
+    @Override
+    public List<Garden> samples() {
+      return List.of(dense(8, 8), dense(11, 11));
+    }
+  }
+
+  /**
+   * <p>{@link DynamicProgrammingSolutionStrategy}; its work is the number of squares.</p>
+   */
+  public static final class DynamicProgramming implements SolutionStrategyProvider {
+
+    public DynamicProgramming() {
+      super();
+    }
+
+    @Override
+    public String name() {
+      return "dynamic-programming";
+    }
+
+    @Override
+    public SolutionStrategy create() {
+      return new DynamicProgrammingSolutionStrategy();
+    }
+
+    @Override
+    public double work(final GardenProfile profile) {
+      return profile.squares();
+    }
+
+    @Override
+    public long memory(final GardenProfile profile) {
+      return (long) Math.min(profile.width(), profile.height()) * Long.BYTES;
+    }
+
+    @Override
+    public Calibration.Cost defaultCost() {
+      return new Calibration.Cost(5_000, 2);
+    }
+
+    @Override
+    public List<Garden> samples() {
+      return List.of(dense(16, 16), dense(200, 200), dense(1000, 1000));
+    }
+  }
+
+  /**
+   * <p>{@link ParallelWavefrontSolutionStrategy}; its work is the number of squares spread over
+   * the cores.</p>
+   */
+  public static final class ParallelWavefront implements SolutionStrategyProvider {
+
+    public ParallelWavefront() {
+      super();
+    }
+
+    @Override
+    public String name() {
+      return "parallel-wavefront";
+    }
+
+    @Override
+    public SolutionStrategy create() {
+      return new ParallelWavefrontSolutionStrategy();
+    }
+
+    @Override
+    public double work(final GardenProfile profile) {
+      return (double) profile.squares() / profile.cores();
+    }
+
+    @Override
+    public long memory(final GardenProfile profile) {
+      return ((long) profile.width() + profile.height()) * Long.BYTES;
+    }
+
+    @Override
+    public Calibration.Cost defaultCost() {
+      return new Calibration.Cost(50_000, 2.5);
+    }
+
+    @Override
+    public List<Garden> samples() {
+      return List.of(dense(16, 16), dense(200, 200), dense(1000, 1000));
+    }
+  }
+
+  /**
+   * <p>{@link SparseSolutionStrategy}; its work is <code>K log K</code> for <code>K</code> trees
+   * with apples. A garden held densely is not given to it, as it would first be scanned for its
+   * trees.</p>
+   */
+  public static final class Sparse implements SolutionStrategyProvider {
+
+    public Sparse() {
+      super();
+    }
+
+    @Override
+    public String name() {
+      return "sparse";
+    }
+
+    @Override
+    public SolutionStrategy create() {
+      return new SparseSolutionStrategy();
+    }
+
+    @Override
+    public double work(final GardenProfile profile) {
+      return profile.sparse()
+          ? profile.trees() * (1 + Math.log(profile.trees() + 1) / Math.log(2))
+          : Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public long memory(final GardenProfile profile) {
+      return profile.trees() * 3 * Long.BYTES;
+    }
+
+    @Override
+    public Calibration.Cost defaultCost() {
+      return new Calibration.Cost(1_000, 25);
+    }
+
+    @Override
+    public List<Garden> samples() {
+      return List.of(sparse(10_000, 2_000), sparse(10_000, 40_000));
+    }
+  }
+
+  private static Garden dense(final int width, final int height) {
+    final Random random = new Random(SAMPLE_SEED);
+    final int[][] appleTable = new int[height][width];
+    for (final int[] appleRow : appleTable) {
+      for (int x = 0; x < width; x++) {
+        appleRow[x] = random.nextInt(100);
+      }
+    }
+    return new Garden(width, height, appleTable);
+  }
+
+  /**
+   * @return a <code>size</code> x <code>size</code> garden with <code>count</code> trees with
+   * apples, spread over the rows and the columns so that no two share a square.
+   */
+  private static Garden sparse(final int size, final int count) {
+    final Random random = new Random(SAMPLE_SEED);
+    final int[] x = new int[count];
+    final int[] y = new int[count];
+    final int[] apples = new int[count];
+    for (int i = 0; i < count; i++) {
+      x[i] = (int) ((long) i * size / count);
+      y[i] = i % size;
+      apples[i] = 1 + random.nextInt(100);
+    }
+    return Garden.sparse(size, size, x, y, apples);
+  }
+
+}
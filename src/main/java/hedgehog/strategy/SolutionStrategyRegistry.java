@@ -0,0 +1,61 @@
+package hedgehog.strategy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * <p>The {@link SolutionStrategyProvider}s found by {@link ServiceLoader}, in the order they are
+ * found. Strategies from other libraries are added by listing their providers in
+ * <code>META-INF/services/hedgehog.strategy.SolutionStrategyProvider</code> on the class
+ * path.</p>
+ */
+public final class SolutionStrategyRegistry {
+
+  private final List<SolutionStrategyProvider> providers;
+
+  public SolutionStrategyRegistry() {
+    this(SolutionStrategyRegistry.class.getClassLoader());
+  }
+
+  public SolutionStrategyRegistry(final ClassLoader classLoader) {
+    this(ServiceLoader.load(SolutionStrategyProvider.class, classLoader));
+  }
+
+  public SolutionStrategyRegistry(final Iterable<SolutionStrategyProvider> providers) {
+
+    super();
+
+    if (Objects.isNull(providers)) {
+      throw new IllegalArgumentException("Illegal argument; 'providers' cannot be 'null'.");
+    }
+
+    final List<SolutionStrategyProvider> list = new ArrayList<>();
+    final Set<String> names = new HashSet<>();
+
+    for (final SolutionStrategyProvider provider : providers) {
+      if (!names.add(provider.name())) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Illegal argument; provider names must be unique. [name == %s]",
+                provider.name()));
+      }
+      list.add(provider);
+    }
+
+    this.providers = List.copyOf(list);
+  }
+
+  public List<SolutionStrategyProvider> providers() {
+    return providers;
+  }
+
+  public Optional<SolutionStrategyProvider> provider(final String name) {
+    return providers.stream().filter(provider -> provider.name().equals(name)).findFirst();
+  }
+
+}
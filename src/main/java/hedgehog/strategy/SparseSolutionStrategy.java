@@ -0,0 +1,157 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Cells;
+import hedgehog.model.Garden;
+import hedgehog.model.SparseCells;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>Solves a garden in time that depends on the number of trees with apples, <code>K</code>,
+ * rather than on the number of squares; <code>O(K log K)</code> for a garden held as
+ * {@link SparseCells} (see {@link Garden#sparse(int, int, int[], int[], int[])}).</p>
+ *
+ * <p>Trees without apples add nothing to a route, so the problem is that of the heaviest chain of
+ * trees with apples in which each tree is at or below, and at or to the right of, the one before;
+ * any such chain can be walked from the top left corner to the bottom right corner. Taking the
+ * trees from the top row down, and each row from left to right, the heaviest chain ending at a
+ * tree is its apples plus the heaviest chain ending at any tree already taken in the same column
+ * or to its left. Those are kept as prefix maxima over the columns in a Fenwick tree, over only
+ * the columns that have trees.</p>
+ *
+ * <p>A garden held in dense cells is scanned for its trees with apples first, which takes time in
+ * proportion to its size; {@link AdaptiveSolutionStrategy} uses this strategy only for sparse
+ * gardens.</p>
+ */
+public class SparseSolutionStrategy implements SolutionStrategy {
+
+  public SparseSolutionStrategy() {
+    super();
+  }
+
+  @Override
+  public long solve(final Garden garden) throws SolutionException {
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'");
+    }
+
+    try {
+
+      return solve(trees(garden));
+
+    } catch (final Exception e) {
+      throw new SolutionException(e);
+    }
+  }
+
+  /**
+   * @return the trees with apples; each as its row (from the top) in the upper 32 bits and its
+   * column in the lower 32 bits, in ascending order, together with their apples.
+   */
+  private static Trees trees(final Garden garden) {
+
+    final int width = garden.width();
+    final int height = garden.height();
+    final Cells cells = garden.cells();
+
+    if (cells instanceof SparseCells) {
+
+      final SparseCells sparseCells = (SparseCells) cells;
+      final int count = sparseCells.count();
+      final long[] squares = new long[count];
+      final int[] apples = new int[count];
+
+      // The cells are held bottom row first, so the rows are walked backwards to go top first.
+      int t = 0;
+      int end = count;
+
+      while (end > 0) {
+        final int y = sparseCells.index(end - 1) / width;
+        int start = end - 1;
+        while (start > 0 && sparseCells.index(start - 1) / width == y) {
+          start--;
+        }
+        for (int i = start; i < end; i++) {
+          squares[t] = ((long) (height - 1 - y) << 32) | (sparseCells.index(i) - y * width);
+          apples[t++] = sparseCells.apples(i);
+        }
+        end = start;
+      }
+
+      return new Trees(squares, apples);
+    }
+
+    long[] squares = new long[16];
+    int[] apples = new int[16];
+    int count = 0;
+    final int[] appleRow = new int[width];
+
+    for (int row = 0; row < height; row++) {
+      garden.copyRow(height - 1 - row, appleRow);
+      for (int x = 0; x < width; x++) {
+        if (appleRow[x] != 0) {
+          if (count == squares.length) {
+            squares = Arrays.copyOf(squares, count * 2);
+            apples = Arrays.copyOf(apples, count * 2);
+          }
+          squares[count] = ((long) row << 32) | x;
+          apples[count++] = appleRow[x];
+        }
+      }
+    }
+
+    return new Trees(Arrays.copyOf(squares, count), Arrays.copyOf(apples, count));
+  }
+
+  private static long solve(final Trees trees) {
+
+    final long[] squares = trees.squares();
+    final int[] apples = trees.apples();
+
+    if (squares.length == 0) {
+      return 0;
+    }
+
+    // The distinct columns with trees, in ascending order; a tree's position among them is its
+    // (one based) slot in the Fenwick tree.
+    final int[] columns = new int[squares.length];
+    for (int t = 0; t < squares.length; t++) {
+      columns[t] = (int) squares[t];
+    }
+    Arrays.sort(columns);
+    int distinct = 0;
+    for (int t = 0; t < columns.length; t++) {
+      if (t == 0 || columns[t] != columns[t - 1]) {
+        columns[distinct++] = columns[t];
+      }
+    }
+
+    final long[] fenwick = new long[distinct + 1];
+    long best = 0;
+
+    for (int t = 0; t < squares.length; t++) {
+
+      final int slot = Arrays.binarySearch(columns, 0, distinct, (int) squares[t]) + 1;
+
+      long chain = 0;
+      for (int i = slot; i > 0; i -= i & -i) {
+        chain = Math.max(chain, fenwick[i]);
+      }
+
+      chain += apples[t];
+      best = Math.max(best, chain);
+
+      for (int i = slot; i <= distinct; i += i & -i) {
+        fenwick[i] = Math.max(fenwick[i], chain);
+      }
+    }
+
+    return best;
+  }
+
+  private record Trees(long[] squares, int[] apples) {
+  }
+
+}
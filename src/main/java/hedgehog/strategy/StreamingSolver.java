@@ -0,0 +1,96 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.RowConsumer;
+import java.util.Objects;
+
+/**
+ * <p>Solves a garden as its rows are read, without ever holding more than a single row of maxima
+ * in memory. It uses the same recurrence as {@link DynamicProgrammingSolutionStrategy}; each row
+ * passed to {@link #row(int[])} advances the rolling buffer by one row, and once every row has
+ * been received {@link #solution()} returns the same answer as solving the whole garden.</p>
+ *
+ * <p>Instances hold the state of a single garden and are not thread safe.</p>
+ */
+public class StreamingSolver implements RowConsumer {
+
+  private long[] best;
+  private int height;
+  private int rowCount;
+
+  public StreamingSolver() {
+    super();
+  }
+
+  @Override
+  public void dimensions(final int width, final int height) {
+
+    if (Objects.nonNull(best)) {
+      throw new IllegalStateException(
+          "Illegal state; 'dimensions' have already been specified.");
+    }
+
+    if (width <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'width' cannot be less than or equal to zero. [width == %d]",
+              width));
+    }
+
+    if (height <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'height' cannot be less than or equal to zero. [height == %d]",
+              height));
+    }
+
+    this.best = new long[width];
+    this.height = height;
+  }
+
+  @Override
+  public void row(final int[] appleRow) {
+
+    if (Objects.isNull(best)) {
+      throw new IllegalStateException("Illegal state; 'dimensions' not specified.");
+    }
+
+    if (rowCount == height) {
+      throw new IllegalStateException(
+          String.format(
+              "Illegal state; all rows have already been received. [height == %d]", height));
+    }
+
+    if (Objects.isNull(appleRow) || appleRow.length < best.length) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Illegal argument; 'appleRow' cannot be 'null' or shorter than the specified "
+                  + "'width'. [width == %d]",
+              best.length));
+    }
+
+    DynamicProgrammingSolutionStrategy.accumulateRow(best, appleRow);
+    rowCount++;
+  }
+
+  /**
+   * @return The maximum number of apples the hedgehog can collect while moving across the garden.
+   *
+   * @throws SolutionException If there was a problem while calculating the solution.
+   * @throws IllegalStateException If not every row of the garden has been received.
+   */
+  public long solution() throws SolutionException {
+
+    if (Objects.isNull(best) || rowCount != height) {
+      throw new IllegalStateException(
+          String.format(
+              "Illegal state; cannot solve until all rows have been received. "
+                  + "[rowCount == %d, height == %d]",
+              rowCount,
+              height));
+    }
+
+    return best[best.length - 1];
+  }
+
+}
@@ -0,0 +1,22 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import hedgehog.model.Route;
+import java.util.List;
+
+/**
+ * <p>A {@link RouteSolutionStrategy} that can also give the runners-up; the <code>k</code>
+ * distinct routes with the most apples, for example to offer a choice between routes that collect
+ * nearly as many. Routes are distinct when their moves differ, even if they collect the same
+ * number of apples. See {@link KBestSolutionStrategy}.</p>
+ */
+public interface TopRoutesSolutionStrategy extends RouteSolutionStrategy {
+
+  /**
+   * @return the <code>k</code> distinct routes along which the hedgehog collects the most apples,
+   * most apples first; every route if there are fewer than <code>k</code>.
+   */
+  List<Route> solveTopK(Garden garden, int k) throws SolutionException;
+
+}
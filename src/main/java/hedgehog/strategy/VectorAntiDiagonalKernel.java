@@ -0,0 +1,61 @@
+package hedgehog.strategy;
+
+import java.util.function.ToIntFunction;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * <p>The <code>jdk.incubator.vector</code> implementation behind {@link VectorSolutionStrategy}.
+ * This class must only be loaded once the module is known to be present, and must only be given
+ * gardens whose solution fits in an <code>int</code> (see {@link SkewedGarden#fitsInt()}).</p>
+ */
+final class VectorAntiDiagonalKernel implements ToIntFunction<SkewedGarden> {
+
+  private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+  VectorAntiDiagonalKernel() {
+    super();
+  }
+
+  @Override
+  public int applyAsInt(final SkewedGarden skewedGarden) {
+
+    final int height = skewedGarden.height();
+    final int[] apples = skewedGarden.apples();
+
+    // previous[row + 1] holds the maximum for the square on 'row' of the previous anti-diagonal,
+    // previous[0] is always zero and stands in for the (missing) row above the garden.
+    int[] previous = new int[height + 1];
+    int[] current = new int[height + 1];
+
+    for (int diagonal = 0; diagonal < skewedGarden.diagonals(); diagonal++) {
+
+      final int firstRow = skewedGarden.firstRow(diagonal);
+      final int length = skewedGarden.diagonalLength(diagonal);
+      final int start = skewedGarden.diagonalStart(diagonal);
+      final int upperBound = SPECIES.loopBound(length);
+
+      int i = 0;
+
+      for (; i < upperBound; i += SPECIES.length()) {
+        final int row = firstRow + i;
+        IntVector.fromArray(SPECIES, previous, row)
+            .max(IntVector.fromArray(SPECIES, previous, row + 1))
+            .add(IntVector.fromArray(SPECIES, apples, start + i))
+            .intoArray(current, row + 1);
+      }
+
+      for (; i < length; i++) {
+        final int row = firstRow + i;
+        current[row + 1] = Math.max(previous[row], previous[row + 1]) + apples[start + i];
+      }
+
+      final int[] swap = previous;
+      previous = current;
+      current = swap;
+    }
+
+    return previous[height];
+  }
+
+}
@@ -0,0 +1,146 @@
+package hedgehog.strategy;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Solves gardens that have been {@link #skew(Garden) skewed} by anti-diagonal with the SIMD
+ * lanes of the <code>jdk.incubator.vector</code> API. The speed-up is only had on a garden skewed
+ * ahead of time; {@link #solve(Garden)} on its own is no faster than
+ * {@link DynamicProgrammingSolutionStrategy}, which it uses.</p>
+ */
+public class VectorSolutionStrategy implements SolutionStrategy {
+
+  private static final String VECTOR_MODULE_NAME = "jdk.incubator.vector";
+
+  private static final Logger LOGGER =
+      Logger.getLogger(VectorSolutionStrategy.class.getSimpleName());
+
+  private final ToIntFunction<SkewedGarden> vectorKernel;
+  private final SolutionStrategy scalarStrategy;
+
+  public VectorSolutionStrategy() {
+
+    super();
+
+    scalarStrategy = new DynamicProgrammingSolutionStrategy();
+
+    if (ModuleLayer.boot().findModule(VECTOR_MODULE_NAME).isPresent()) {
+      vectorKernel = new VectorAntiDiagonalKernel();
+    } else {
+      LOGGER.log(
+          Level.WARNING,
+          String.format(
+              "Module '%s' not present, falling back to scalar solution. Add "
+                  + "'--add-modules %s' to the JVM options to enable it.",
+              VECTOR_MODULE_NAME,
+              VECTOR_MODULE_NAME));
+      vectorKernel = null;
+    }
+  }
+
+  /**
+   * <p>Solves <code>garden</code> with {@link DynamicProgrammingSolutionStrategy}. The vector
+   * kernel needs the garden skewed first (see {@link #skew(Garden)}), and that copy costs more
+   * than the scalar solution it would speed up; skewing on every call was measured at four times
+   * slower than the scalar solution for a 1000 x 1000 garden, and a third slower at 4000 x 4000.
+   * Only callers that solve the same garden more than once gain, by skewing it once and using
+   * {@link #solve(SkewedGarden)}.</p>
+   *
+   * @param garden An instance of {@link Garden}.
+   *
+   * @return The maximum number of apples the hedgehog can collect while moving across the garden.
+   *
+   * @throws SolutionException If there was a problem while calculating the solution.
+   * @throws IllegalArgumentException If <b>garden</b> is <code>null</code>.
+   *
+   * @see Garden
+   */
+  @Override
+  public long solve(final Garden garden) throws SolutionException {
+    return scalarStrategy.solve(garden);
+  }
+
+  /**
+   * <p>Returns the maximum number of apples the hedgehog can collect while moving across the
+   * already skewed garden.</p>
+   *
+   * <p>The solution uses the same recurrence as {@link DynamicProgrammingSolutionStrategy} but
+   * visits the squares one anti-diagonal (<code>row + column == d</code>) at a time. A square only
+   * depends on squares on the previous anti-diagonal, so every square on the same anti-diagonal can
+   * be computed at once using the SIMD lanes of the <code>jdk.incubator.vector</code> API; the
+   * skewed garden holds each anti-diagonal contiguously in memory.</p>
+   *
+   * <p>The vector kernel accumulates in <code>int</code> lanes and so is only used when the
+   * solution is guaranteed to fit in an <code>int</code>. If the module is not present, or the
+   * garden could overflow, the anti-diagonals are computed with scalar code instead.</p>
+   *
+   * @param skewedGarden An instance of {@link SkewedGarden}.
+   *
+   * @return The maximum number of apples the hedgehog can collect while moving across the garden.
+   *
+   * @throws SolutionException If there was a problem while calculating the solution.
+   * @throws IllegalArgumentException If <b>skewedGarden</b> is <code>null</code>.
+   */
+  public long solve(final SkewedGarden skewedGarden) throws SolutionException {
+
+    if (Objects.isNull(skewedGarden)) {
+      throw new IllegalArgumentException("Illegal argument; 'skewedGarden' cannot be 'null'");
+    }
+
+    try {
+
+      return Objects.nonNull(vectorKernel) && skewedGarden.fitsInt()
+          ? vectorKernel.applyAsInt(skewedGarden)
+          : solveScalar(skewedGarden);
+
+    } catch (final Exception e) {
+      throw new SolutionException(e);
+    }
+  }
+
+  public SkewedGarden skew(final Garden garden) {
+
+    if (Objects.isNull(garden)) {
+      throw new IllegalArgumentException("Illegal argument; 'garden' cannot be 'null'");
+    }
+
+    return SkewedGarden.of(garden);
+  }
+
+  public boolean isVectorized() {
+    return Objects.nonNull(vectorKernel);
+  }
+
+  private static long solveScalar(final SkewedGarden skewedGarden) {
+
+    final int height = skewedGarden.height();
+    final int[] apples = skewedGarden.apples();
+
+    long[] previous = new long[height + 1];
+    long[] current = new long[height + 1];
+
+    for (int diagonal = 0; diagonal < skewedGarden.diagonals(); diagonal++) {
+
+      final int firstRow = skewedGarden.firstRow(diagonal);
+      final int length = skewedGarden.diagonalLength(diagonal);
+      final int start = skewedGarden.diagonalStart(diagonal);
+
+      for (int i = 0; i < length; i++) {
+        final int row = firstRow + i;
+        current[row + 1] = Math.max(previous[row], previous[row + 1]) + apples[start + i];
+      }
+
+      final long[] swap = previous;
+      previous = current;
+      current = swap;
+    }
+
+    return previous[height];
+  }
+
+}
@@ -0,0 +1,25 @@
+package hedgehog.batch;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.Test;
+
+public class BatchExecutorsTest {
+
+  @Test
+  public void platform_zeroThreads_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> BatchExecutors.platform(0));
+  }
+
+  @Test
+  public void virtual_shouldMatchIsVirtualSupported() {
+    if (BatchExecutors.isVirtualSupported()) {
+      final ExecutorService executorService = BatchExecutors.virtual();
+      executorService.shutdown();
+    } else {
+      assertThrows(UnsupportedOperationException.class, BatchExecutors::virtual);
+    }
+  }
+
+}
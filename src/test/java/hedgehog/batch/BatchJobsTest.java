@@ -0,0 +1,85 @@
+package hedgehog.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BatchJobsTest {
+
+  @TempDir
+  Path temporaryDirectory;
+
+  @Test
+  public void fromDirectory_nullInputDirectory_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> BatchJobs.fromDirectory(null, temporaryDirectory));
+  }
+
+  @Test
+  public void fromDirectory_notADirectory_shouldThrowIllegalArgument() throws IOException {
+    final Path file = Files.writeString(temporaryDirectory.resolve("file.txt"), "");
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> BatchJobs.fromDirectory(file, temporaryDirectory.resolve("out")));
+  }
+
+  @Test
+  public void fromDirectory_sameDirectory_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> BatchJobs.fromDirectory(temporaryDirectory, temporaryDirectory));
+  }
+
+  @Test
+  public void fromDirectory_happyPathTests() throws IOException {
+
+    final Path input = Files.createDirectories(temporaryDirectory.resolve("in"));
+    final Path output = temporaryDirectory.resolve("out");
+    Files.writeString(input.resolve("b.txt"), "");
+    Files.writeString(input.resolve("a.txt"), "");
+    Files.createDirectories(input.resolve("subdirectory"));
+
+    final List<BatchJob> jobs = BatchJobs.fromDirectory(input, output);
+
+    assertEquals(
+        List.of(
+            new BatchJob(input.resolve("a.txt").toString(), output.resolve("a.txt").toString()),
+            new BatchJob(input.resolve("b.txt").toString(), output.resolve("b.txt").toString())),
+        jobs);
+    assertEquals(true, Files.isDirectory(output));
+  }
+
+  @Test
+  public void fromManifest_happyPathTests() throws IOException {
+
+    final Path manifest =
+        Files.writeString(
+            temporaryDirectory.resolve("manifest.txt"),
+            "# comment\n\na.txt   a.out\n/absolute/b.txt\tb.out\n");
+
+    final List<BatchJob> jobs = BatchJobs.fromManifest(manifest);
+
+    assertEquals(
+        List.of(
+            new BatchJob(
+                temporaryDirectory.resolve("a.txt").toString(),
+                temporaryDirectory.resolve("a.out").toString()),
+            new BatchJob("/absolute/b.txt", temporaryDirectory.resolve("b.out").toString())),
+        jobs);
+  }
+
+  @Test
+  public void fromManifest_missingOutput_shouldThrowIllegalArgument() throws IOException {
+    final Path manifest =
+        Files.writeString(temporaryDirectory.resolve("manifest.txt"), "a.txt a.out\nb.txt\n");
+    assertThrows(IllegalArgumentException.class, () -> BatchJobs.fromManifest(manifest));
+  }
+
+}
@@ -0,0 +1,235 @@
+package hedgehog.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.io.ChannelInputReader;
+import hedgehog.io.FileOutputWriter;
+import hedgehog.memory.AdmissionControl;
+import hedgehog.memory.MemoryBudget;
+import hedgehog.strategy.DynamicProgrammingSolutionStrategy;
+import hedgehog.strategy.MemoryEstimator;
+import hedgehog.strategy.SolutionStrategy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BatchSolutionTest {
+
+  @TempDir
+  Path temporaryDirectory;
+
+  private ExecutorService executorService;
+
+  @BeforeEach
+  public void setUp() {
+    executorService = BatchExecutors.platform(4);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void batchSolution_nullInputReader_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new BatchSolution(
+                null,
+                new DynamicProgrammingSolutionStrategy(),
+                new FileOutputWriter(),
+                executorService,
+                1));
+  }
+
+  @Test
+  public void batchSolution_nullExecutorService_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new BatchSolution(
+                new ChannelInputReader(),
+                new DynamicProgrammingSolutionStrategy(),
+                new FileOutputWriter(),
+                null,
+                1));
+  }
+
+  @Test
+  public void batchSolution_zeroMaxInFlight_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> batchSolution(new DynamicProgrammingSolutionStrategy(), 0));
+  }
+
+  @Test
+  public void execute_nullJobs_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> batchSolution(new DynamicProgrammingSolutionStrategy(), 1).execute(null));
+  }
+
+  @Test
+  public void execute_happyPathTests() throws IOException, InterruptedException {
+
+    final List<BatchJob> jobs = jobs(50);
+    final BatchSummary summary =
+        batchSolution(new DynamicProgrammingSolutionStrategy(), 8).execute(jobs);
+
+    assertEquals(50, summary.jobs());
+    assertEquals(50, summary.succeeded());
+    assertTrue(summary.failures().isEmpty());
+    assertEquals(50 * 6, summary.cells());
+
+    for (int i = 0; i < jobs.size(); i++) {
+      assertEquals(
+          Long.toString(solution(i)),
+          Files.readString(Path.of(jobs.get(i).outputFileLocation())));
+    }
+  }
+
+  @Test
+  public void execute_failingJobs_shouldReportFailuresAndCarryOn()
+      throws IOException, InterruptedException {
+
+    final List<BatchJob> jobs = new ArrayList<>(jobs(10));
+    final Path invalid = Files.writeString(temporaryDirectory.resolve("invalid.txt"), "2 2\n1 a");
+    jobs.add(3, new BatchJob(invalid.toString(), temporaryDirectory.resolve("a.out").toString()));
+    jobs.add(7, new BatchJob("/missing.txt", temporaryDirectory.resolve("b.out").toString()));
+
+    final BatchSummary summary =
+        batchSolution(new DynamicProgrammingSolutionStrategy(), 2).execute(jobs);
+
+    assertEquals(12, summary.jobs());
+    assertEquals(10, summary.succeeded());
+    assertEquals(2, summary.failures().size());
+    assertTrue(
+        summary.failures().stream()
+            .anyMatch(failure -> failure.exception() instanceof InputReadException));
+    assertTrue(
+        summary.failures().stream()
+            .anyMatch(failure -> failure.exception() instanceof IllegalArgumentException));
+    assertFalse(Files.exists(temporaryDirectory.resolve("a.out")));
+  }
+
+  @Test
+  public void execute_strategyThrowingError_shouldReportFailure()
+      throws IOException, InterruptedException {
+
+    final AtomicInteger calls = new AtomicInteger();
+    final SolutionStrategy failingStrategy = garden -> {
+      if (calls.incrementAndGet() == 3) {
+        throw new StackOverflowError();
+      }
+      return new DynamicProgrammingSolutionStrategy().solve(garden);
+    };
+
+    final BatchSummary summary = batchSolution(failingStrategy, 2).execute(jobs(10));
+
+    assertEquals(10, summary.jobs());
+    assertEquals(9, summary.succeeded());
+    assertEquals(1, summary.failures().size());
+    assertEquals(RuntimeException.class, summary.failures().get(0).exception().getClass());
+    assertEquals(
+        StackOverflowError.class, summary.failures().get(0).exception().getCause().getClass());
+  }
+
+  @Test
+  public void execute_shouldNotExceedMaxInFlight() throws IOException, InterruptedException {
+
+    final AtomicInteger current = new AtomicInteger();
+    final AtomicInteger peak = new AtomicInteger();
+    final SolutionStrategy slowStrategy = garden -> {
+      peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(5);
+        return new DynamicProgrammingSolutionStrategy().solve(garden);
+      } catch (final InterruptedException e) {
+        throw new IllegalStateException(e);
+      } finally {
+        current.decrementAndGet();
+      }
+    };
+
+    final BatchSummary summary = batchSolution(slowStrategy, 2).execute(jobs(20));
+
+    assertEquals(20, summary.succeeded());
+    assertTrue(peak.get() <= 2, Integer.toString(peak.get()));
+  }
+
+  @Test
+  public void execute_admissionControl_shouldFailJobsOverBudget()
+      throws IOException, InterruptedException {
+
+    final List<BatchJob> jobs = new ArrayList<>(jobs(4));
+    final Path large =
+        Files.writeString(temporaryDirectory.resolve("large.txt"), "1000 1000\n1 2");
+    jobs.add(2, new BatchJob(large.toString(), temporaryDirectory.resolve("large.out").toString()));
+
+    final MemoryBudget memoryBudget = new MemoryBudget(1_000_000);
+    final BatchSummary summary =
+        new BatchSolution(
+            new ChannelInputReader(),
+            new DynamicProgrammingSolutionStrategy(),
+            new FileOutputWriter(),
+            executorService,
+            2,
+            new AdmissionControl(memoryBudget, new MemoryEstimator(), Duration.ofSeconds(10)))
+            .execute(jobs);
+
+    assertEquals(4, summary.succeeded());
+    assertEquals(1, summary.failures().size());
+    assertEquals(IllegalStateException.class, summary.failures().get(0).exception().getClass());
+    assertFalse(Files.exists(temporaryDirectory.resolve("large.out")));
+    assertEquals(1_000_000, memoryBudget.available());
+  }
+
+  private BatchSolution batchSolution(
+      final SolutionStrategy solutionStrategy,
+      final int maxInFlight) {
+    return new BatchSolution(
+        new ChannelInputReader(),
+        solutionStrategy,
+        new FileOutputWriter(),
+        executorService,
+        maxInFlight);
+  }
+
+  /**
+   * <p>Writes <code>count</code> 2x3 gardens; garden <code>i</code> has <code>i</code> apples
+   * under every tree, so its solution is <code>4 * i</code>.</p>
+   */
+  private List<BatchJob> jobs(final int count) throws IOException {
+    final List<BatchJob> jobs = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      final Path input =
+          Files.writeString(
+              temporaryDirectory.resolve("garden" + i + ".txt"),
+              String.format("2 3%n%d %d%n%d %d%n%d %d", i, i, i, i, i, i));
+      jobs.add(
+          new BatchJob(
+              input.toString(),
+              temporaryDirectory.resolve("garden" + i + ".out").toString()));
+    }
+    return jobs;
+  }
+
+  private static long solution(final int i) {
+    return 4L * i;
+  }
+
+}
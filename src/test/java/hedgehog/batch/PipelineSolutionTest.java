@@ -0,0 +1,249 @@
+package hedgehog.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.exception.OutputWriteException;
+import hedgehog.io.ChannelInputReader;
+import hedgehog.io.FileOutputWriter;
+import hedgehog.io.InputReader;
+import hedgehog.io.OutputWriter;
+import hedgehog.strategy.DynamicProgrammingSolutionStrategy;
+import hedgehog.strategy.SolutionStrategy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PipelineSolutionTest {
+
+  private static final PipelineSolution.Stage SINGLE = new PipelineSolution.Stage(1, 1);
+
+  @TempDir
+  Path temporaryDirectory;
+
+  @Test
+  public void pipelineSolution_nullInputReader_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new PipelineSolution(
+                null,
+                new DynamicProgrammingSolutionStrategy(),
+                new FileOutputWriter(),
+                SINGLE,
+                SINGLE,
+                SINGLE));
+  }
+
+  @Test
+  public void pipelineSolution_nullStage_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new PipelineSolution(
+                new ChannelInputReader(),
+                new DynamicProgrammingSolutionStrategy(),
+                new FileOutputWriter(),
+                SINGLE,
+                null,
+                SINGLE));
+  }
+
+  @Test
+  public void stage_zeroThreads_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new PipelineSolution.Stage(0, 1));
+  }
+
+  @Test
+  public void stage_queueDepthBelowThreads_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new PipelineSolution.Stage(2, 1));
+  }
+
+  @Test
+  public void execute_nullJobs_shouldThrowIllegalArgument() {
+    try (final PipelineSolution pipelineSolution = pipelineSolution(SINGLE, SINGLE, SINGLE)) {
+      assertThrows(IllegalArgumentException.class, () -> pipelineSolution.execute(null));
+    }
+  }
+
+  @Test
+  public void execute_happyPathTests() throws IOException, InterruptedException {
+
+    final List<BatchJob> jobs = jobs(50);
+    final BatchSummary summary;
+
+    try (final PipelineSolution pipelineSolution =
+        pipelineSolution(
+            new PipelineSolution.Stage(2, 4),
+            new PipelineSolution.Stage(2, 2),
+            new PipelineSolution.Stage(1, 4))) {
+      summary = pipelineSolution.execute(jobs);
+    }
+
+    assertEquals(50, summary.jobs());
+    assertEquals(50, summary.succeeded());
+    assertTrue(summary.failures().isEmpty());
+    assertEquals(50 * 6, summary.cells());
+
+    for (int i = 0; i < jobs.size(); i++) {
+      assertEquals(
+          Long.toString(4L * i),
+          Files.readString(Path.of(jobs.get(i).outputFileLocation())));
+    }
+  }
+
+  @Test
+  public void execute_failingJobs_shouldReportFailuresAndCarryOn()
+      throws IOException, InterruptedException {
+
+    final List<BatchJob> jobs = new ArrayList<>(jobs(10));
+    final Path invalid = Files.writeString(temporaryDirectory.resolve("invalid.txt"), "2 2\n1 a");
+    jobs.add(3, new BatchJob(invalid.toString(), temporaryDirectory.resolve("a.out").toString()));
+    jobs.add(7, new BatchJob("/missing.txt", temporaryDirectory.resolve("b.out").toString()));
+
+    final BatchSummary summary;
+
+    try (final PipelineSolution pipelineSolution = pipelineSolution(SINGLE, SINGLE, SINGLE)) {
+      summary = pipelineSolution.execute(jobs);
+    }
+
+    assertEquals(12, summary.jobs());
+    assertEquals(10, summary.succeeded());
+    assertEquals(2, summary.failures().size());
+    assertTrue(
+        summary.failures().stream()
+            .anyMatch(failure -> failure.exception() instanceof InputReadException));
+    assertTrue(
+        summary.failures().stream()
+            .anyMatch(failure -> failure.exception() instanceof IllegalArgumentException));
+    assertFalse(Files.exists(temporaryDirectory.resolve("a.out")));
+  }
+
+  @Test
+  public void execute_slowSolve_shouldNotHoldMoreGardensThanTheQueueDepths()
+      throws IOException, InterruptedException {
+
+    final AtomicInteger held = new AtomicInteger();
+    final AtomicInteger peak = new AtomicInteger();
+    final InputReader countingReader = inputFileLocation -> {
+      peak.accumulateAndGet(held.incrementAndGet(), Math::max);
+      return new ChannelInputReader().read(inputFileLocation);
+    };
+    final OutputWriter countingWriter = new FileOutputWriter() {
+      @Override
+      public void write(final long solution, final String outputFileLocation)
+          throws OutputWriteException {
+        super.write(solution, outputFileLocation);
+        held.decrementAndGet();
+      }
+    };
+
+    final BatchSummary summary;
+
+    try (final PipelineSolution pipelineSolution =
+        new PipelineSolution(
+            countingReader,
+            sleeping(5),
+            countingWriter,
+            new PipelineSolution.Stage(2, 3),
+            new PipelineSolution.Stage(1, 2),
+            new PipelineSolution.Stage(1, 1))) {
+      summary = pipelineSolution.execute(jobs(30));
+    }
+
+    assertEquals(30, summary.succeeded());
+    assertTrue(peak.get() <= 3 + 2 + 1, Integer.toString(peak.get()));
+  }
+
+  @Test
+  public void execute_slowStages_shouldOverlapReadSolveAndWrite()
+      throws IOException, InterruptedException {
+
+    final int jobCount = 20;
+    final long stageMillis = 20;
+    final InputReader slowReader = inputFileLocation -> {
+      sleep(stageMillis);
+      return new ChannelInputReader().read(inputFileLocation);
+    };
+    final OutputWriter slowWriter = new FileOutputWriter() {
+      @Override
+      public void write(final long solution, final String outputFileLocation)
+          throws OutputWriteException {
+        sleep(stageMillis);
+        super.write(solution, outputFileLocation);
+      }
+    };
+
+    final BatchSummary summary;
+
+    try (final PipelineSolution pipelineSolution =
+        new PipelineSolution(
+            slowReader, sleeping(stageMillis), slowWriter, SINGLE, SINGLE, SINGLE)) {
+      summary = pipelineSolution.execute(jobs(jobCount));
+    }
+
+    // Run one after another, the stages would take 3 * 20 * 20ms = 1200ms; overlapped they take
+    // a little over 20 * 20ms.
+    assertEquals(jobCount, summary.succeeded());
+    assertTrue(
+        summary.elapsedNanos() < TimeUnit.MILLISECONDS.toNanos(2 * jobCount * stageMillis),
+        Long.toString(summary.elapsedNanos()));
+  }
+
+  private PipelineSolution pipelineSolution(
+      final PipelineSolution.Stage readStage,
+      final PipelineSolution.Stage solveStage,
+      final PipelineSolution.Stage writeStage) {
+    return new PipelineSolution(
+        new ChannelInputReader(),
+        new DynamicProgrammingSolutionStrategy(),
+        new FileOutputWriter(),
+        readStage,
+        solveStage,
+        writeStage);
+  }
+
+  private static SolutionStrategy sleeping(final long millis) {
+    return garden -> {
+      sleep(millis);
+      return new DynamicProgrammingSolutionStrategy().solve(garden);
+    };
+  }
+
+  private static void sleep(final long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * <p>Writes <code>count</code> 2x3 gardens; garden <code>i</code> has <code>i</code> apples
+   * under every tree, so its solution is <code>4 * i</code>.</p>
+   */
+  private List<BatchJob> jobs(final int count) throws IOException {
+    final List<BatchJob> jobs = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      final Path input =
+          Files.writeString(
+              temporaryDirectory.resolve("garden" + i + ".txt"),
+              String.format("2 3%n%d %d%n%d %d%n%d %d", i, i, i, i, i, i));
+      jobs.add(
+          new BatchJob(
+              input.toString(),
+              temporaryDirectory.resolve("garden" + i + ".out").toString()));
+    }
+    return jobs;
+  }
+
+}
@@ -0,0 +1,20 @@
+package hedgehog.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadsTest {
+
+  @Test
+  public void executor_shouldMatchIsSupported() {
+    if (VirtualThreads.isSupported()) {
+      final ExecutorService executorService = VirtualThreads.executor();
+      executorService.shutdown();
+    } else {
+      assertThrows(UnsupportedOperationException.class, VirtualThreads::executor);
+    }
+  }
+
+}
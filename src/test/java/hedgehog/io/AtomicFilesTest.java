@@ -0,0 +1,65 @@
+package hedgehog.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AtomicFilesTest {
+
+  @TempDir
+  Path temporaryDirectory;
+
+  @Test
+  public void createTemporary_nullTarget_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> AtomicFiles.createTemporary(null));
+  }
+
+  @Test
+  public void createTemporary_shouldCreateEmptyFileAlongsideTarget() throws IOException {
+    final Path target = temporaryDirectory.resolve("garden.hdgh");
+    final Path temporary = AtomicFiles.createTemporary(target);
+    assertEquals(temporaryDirectory, temporary.getParent());
+    assertEquals(0, Files.size(temporary));
+    assertFalse(Files.exists(target));
+  }
+
+  @Test
+  public void replace_nullArguments_shouldThrowIllegalArgument() {
+    final Path path = temporaryDirectory.resolve("a");
+    assertThrows(IllegalArgumentException.class, () -> AtomicFiles.replace(null, path));
+    assertThrows(IllegalArgumentException.class, () -> AtomicFiles.replace(path, null));
+  }
+
+  @Test
+  public void replace_existingTarget_shouldReplaceIt() throws IOException {
+    final Path target = temporaryDirectory.resolve("checkpoint");
+    Files.writeString(target, "old");
+    final Path temporary = AtomicFiles.createTemporary(target);
+    Files.writeString(temporary, "new");
+
+    AtomicFiles.replace(temporary, target);
+
+    assertEquals("new", Files.readString(target));
+    assertFalse(Files.exists(temporary));
+  }
+
+  @Test
+  public void replace_missingTemporary_shouldLeaveTarget() throws IOException {
+    final Path target = temporaryDirectory.resolve("checkpoint");
+    Files.writeString(target, "old");
+    assertThrows(
+        NoSuchFileException.class,
+        () -> AtomicFiles.replace(temporaryDirectory.resolve("missing"), target));
+    assertTrue(Files.exists(target));
+    assertEquals("old", Files.readString(target));
+  }
+
+}
@@ -0,0 +1,147 @@
+package hedgehog.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.model.BandConsumer;
+import hedgehog.model.Cells;
+import hedgehog.model.Garden;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BandedInputReaderTest {
+
+  @TempDir
+  Path temporaryDirectory;
+
+  @Test
+  public void read_nullBandConsumer_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new BandedInputReader().read("/happyPath.txt", null));
+  }
+
+  @Test
+  public void read_zeroBandHeight_shouldThrowIllegalArgument() {
+    final InputReadException e =
+        assertThrows(
+            InputReadException.class,
+            () -> new BandedInputReader().read("/happyPath.txt", new Bands(0)));
+    assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+  }
+
+  @Test
+  public void read_invalidText_shouldThrowInputRead() {
+    final InputReadException e =
+        assertThrows(
+            InputReadException.class,
+            () -> new BandedInputReader().read("/tooManyRows.txt", new Bands(2)));
+    assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+  }
+
+  @Test
+  public void read_text_shouldPassRowsTopFirstInBands() throws InputReadException {
+    final Bands bands = new Bands(3);
+    final long bytesRead = new BandedInputReader().read("/happyPath.txt", bands);
+    assertEquals(Cells.Encoding.INT, bands.encoding);
+    assertEquals(List.of(3, 1), bands.sizes);
+    assertArrayEquals(
+        new FileInputReader().read("/happyPath.txt").appleTable(), bands.appleTable());
+    assertEquals(37, bytesRead);
+  }
+
+  @Test
+  public void read_binary_shouldPassRowsTopFirstInBands() throws Exception {
+    final Garden garden = new FileInputReader().read("/happyPath.txt");
+    final Path path = temporaryDirectory.resolve("happyPath.hdgh");
+    BinaryGardenFormat.write(garden, path);
+
+    for (final int bandHeight : new int[] {1, 2, 3, 4, 100}) {
+      final Bands bands = new Bands(bandHeight);
+      final long bytesRead = new BandedInputReader().read(path.toString(), bands);
+      assertEquals(Cells.Encoding.BYTE, bands.encoding);
+      assertEquals(4, bands.sizes.stream().mapToInt(Integer::intValue).sum());
+      assertEquals(Math.min(bandHeight, 4), bands.sizes.get(0));
+      assertArrayEquals(garden.appleTable(), bands.appleTable());
+      assertEquals(Files.size(path), bytesRead);
+    }
+  }
+
+  @Test
+  public void read_binaryShrunkAfterHeader_shouldThrowEOF() throws Exception {
+    final Path path = temporaryDirectory.resolve("happyPath.hdgh");
+    BinaryGardenFormat.write(new FileInputReader().read("/happyPath.txt"), path);
+
+    final BandConsumer shrinking =
+        new BandConsumer() {
+
+          @Override
+          public int dimensions(final int width, final int height, final Cells.Encoding encoding) {
+            try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+              channel.truncate(BinaryGardenFormat.HEADER_BYTES + 1);
+            } catch (final IOException e) {
+              throw new UncheckedIOException(e);
+            }
+            return height;
+          }
+
+          @Override
+          public void band(final int[] cells, final int rows) {
+          }
+        };
+
+    final InputReadException e =
+        assertThrows(
+            InputReadException.class,
+            () -> new BandedInputReader().read(path.toString(), shrinking));
+    assertEquals(EOFException.class, e.getCause().getClass());
+  }
+
+  /**
+   * <p>Gathers the bands back into a table of rows.</p>
+   */
+  private static final class Bands implements BandConsumer {
+
+    private final int bandHeight;
+    private final List<Integer> sizes = new ArrayList<>();
+    private final List<int[]> rows = new ArrayList<>();
+    private Cells.Encoding encoding;
+    private int width;
+
+    Bands(final int bandHeight) {
+      this.bandHeight = bandHeight;
+    }
+
+    @Override
+    public int dimensions(final int width, final int height, final Cells.Encoding encoding) {
+      this.width = width;
+      this.encoding = encoding;
+      return bandHeight;
+    }
+
+    @Override
+    public void band(final int[] cells, final int rows) {
+      sizes.add(rows);
+      for (int r = 0; r < rows; r++) {
+        this.rows.add(Arrays.copyOfRange(cells, r * width, (r + 1) * width));
+      }
+    }
+
+    int[][] appleTable() {
+      return rows.toArray(new int[0][]);
+    }
+  }
+
+}
@@ -0,0 +1,65 @@
+package hedgehog.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.model.Cells;
+import hedgehog.model.Garden;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BinaryGardenConverterTest {
+
+  @TempDir
+  Path temporaryDirectory;
+
+  @Test
+  public void convert_nullPath_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> BinaryGardenConverter.convert("/happyPath.txt", null));
+  }
+
+  @Test
+  public void convert_invalidText_shouldThrowInputReadAndWriteNothing() {
+    final Path path = temporaryDirectory.resolve("garden.hdgh");
+    final InputReadException e =
+        assertThrows(
+            InputReadException.class,
+            () -> BinaryGardenConverter.convert("/tooFewRows.txt", path));
+    assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+    assertFalse(Files.exists(path));
+  }
+
+  @Test
+  public void convert_allEncodings_shouldEqualTextGarden() throws Exception {
+    for (final int maxApples : new int[] {255, 65535, 70000}) {
+      final Path text = temporaryDirectory.resolve("garden-" + maxApples + ".txt");
+      Files.writeString(text, "3 2\n1 2 " + maxApples + "\n4 5 6\n");
+      final Path path = temporaryDirectory.resolve("garden-" + maxApples + ".hdgh");
+
+      BinaryGardenConverter.convert(text.toString(), path);
+
+      final Garden garden = new BinaryInputReader(true).read(path.toString());
+      assertEquals(Cells.Encoding.narrowest(maxApples), garden.cells().encoding());
+      assertEquals(new FileInputReader().read(text.toString()), garden);
+      assertEquals(
+          BinaryGardenFormat.HEADER_BYTES + 6L * garden.cells().encoding().bytes(),
+          Files.size(path));
+    }
+  }
+
+  @Test
+  public void convert_happyPathTests() throws Exception {
+    final Path path = temporaryDirectory.resolve("happyPath.hdgh");
+    BinaryGardenConverter.convert("/happyPath.txt", path);
+    assertEquals(
+        new FileInputReader().read("/happyPath.txt"),
+        new BinaryInputReader(true).read(path.toString()));
+  }
+
+}
@@ -0,0 +1,167 @@
+package hedgehog.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.exception.OutputWriteException;
+import hedgehog.model.Cells;
+import hedgehog.model.Garden;
+import hedgehog.model.Gardens;
+import hedgehog.model.MappedCells;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BinaryInputReaderTest {
+
+  @TempDir
+  Path temporaryDirectory;
+
+  @Test
+  public void read_nullLocation_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new BinaryInputReader().read(null));
+  }
+
+  @Test
+  public void read_fileNotFound_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new BinaryInputReader().read("/fileNotFound.hdgh"));
+  }
+
+  @Test
+  public void write_nullGarden_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> BinaryGardenFormat.write(null, temporaryDirectory.resolve("garden.hdgh")));
+  }
+
+  @Test
+  public void read_writtenGarden_shouldEqualGarden() throws Exception {
+    for (final int maxApples : new int[] {255, 65535, Integer.MAX_VALUE}) {
+      final Garden garden = Gardens.random(37, 23, maxApples);
+      final Path path = temporaryDirectory.resolve("garden-" + maxApples + ".hdgh");
+      BinaryGardenFormat.write(garden, path);
+      assertEquals(
+          BinaryGardenFormat.HEADER_BYTES + 37L * 23 * garden.cells().encoding().bytes(),
+          Files.size(path));
+
+      final Garden read = new BinaryInputReader(true).read(path.toString());
+      assertEquals(MappedCells.class, read.cells().getClass());
+      assertEquals(garden.cells().encoding(), read.cells().encoding());
+      assertEquals(garden, read);
+      assertEquals(garden.hashCode(), read.hashCode());
+      assertEquals(garden.getApples(36, 22), read.getApples(36, 22));
+    }
+  }
+
+  @Test
+  public void read_corruptCells_shouldOnlyFailWhenVerifying() throws Exception {
+    final Path path = write(Gardens.random(10, 10, 255));
+    try (final RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      file.seek(BinaryGardenFormat.HEADER_BYTES + 5);
+      file.write(file.read() ^ 1);
+    }
+    new BinaryInputReader().read(path.toString());
+    assertCause(new BinaryInputReader(true), path, IllegalArgumentException.class);
+  }
+
+  @Test
+  public void read_corruptHeader_shouldThrowIllegalArgument() throws Exception {
+    final Path path = write(Gardens.random(10, 10, 255));
+    try (final RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      file.seek(8);
+      file.write(11);
+    }
+    assertCause(new BinaryInputReader(), path, IllegalArgumentException.class);
+  }
+
+  @Test
+  public void read_notBinaryGarden_shouldThrowIllegalArgument() {
+    assertCause(
+        new BinaryInputReader(),
+        Path.of("src/test/resources/happyPath.txt"),
+        IllegalArgumentException.class);
+  }
+
+  @Test
+  public void read_truncatedFile_shouldThrowIllegalArgument() throws Exception {
+    final Path path = write(Gardens.random(10, 10, 255));
+    try (final RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      file.setLength(file.length() - 1);
+    }
+    assertCause(new BinaryInputReader(), path, IllegalArgumentException.class);
+  }
+
+  @Test
+  public void read_moreCellsThanCanBeMapped_shouldThrowIllegalArgument() throws Exception {
+
+    // 65536 * 32768 == 2^31 cells, which would overflow an int; the file is sparse.
+    final BinaryGardenFormat.Header header =
+        new BinaryGardenFormat.Header(65_536, 32_768, Cells.Encoding.BYTE, 0);
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(BinaryGardenFormat.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    BinaryGardenFormat.putHeader(buffer, header);
+
+    final Path path = temporaryDirectory.resolve("large.hdgh");
+    try (final RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      file.write(buffer.array());
+      file.setLength(header.fileSize());
+    }
+
+    final InputReadException e =
+        assertThrows(
+            InputReadException.class, () -> new BinaryInputReader().read(path.toString()));
+    assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+    assertTrue(e.getCause().getMessage().contains("[width == 65536, height == 32768, cells =="));
+  }
+
+  @Test
+  public void read_happyPathTests() throws Exception {
+    final Path path = temporaryDirectory.resolve("happyPath.hdgh");
+    BinaryGardenFormat.write(new FileInputReader().read("/happyPath.txt"), path);
+    final Garden garden = new BinaryInputReader().read(path.toString());
+    assertEquals(3, garden.width());
+    assertEquals(4, garden.height());
+    assertEquals(Cells.Encoding.BYTE, garden.cells().encoding());
+    assertEquals(0, garden.getApples(0, 0));
+    assertEquals(11, garden.getApples(1, 1));
+    assertEquals(22, garden.getApples(2, 2));
+    assertEquals(32, garden.getApples(2, 3));
+  }
+
+  @Test
+  public void peek_writtenGarden_shouldReadHeaderOnly() throws Exception {
+    final Path path = write(Gardens.random(37, 23, 65535));
+    try (final RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      file.seek(BinaryGardenFormat.HEADER_BYTES);
+      file.write(new byte[] {1, 2, 3, 4});
+    }
+    assertEquals(
+        new GardenHeader(
+            37, 23, GardenHeader.Format.BINARY, Cells.Encoding.SHORT, Files.size(path)),
+        new BinaryInputReader().peek(path.toString()));
+  }
+
+  private Path write(final Garden garden) throws OutputWriteException {
+    final Path path = temporaryDirectory.resolve("garden.hdgh");
+    BinaryGardenFormat.write(garden, path);
+    return path;
+  }
+
+  private static void assertCause(
+      final BinaryInputReader reader,
+      final Path path,
+      final Class<? extends Exception> causeClass) {
+    final InputReadException e =
+        assertThrows(InputReadException.class, () -> reader.read(path.toString()));
+    assertEquals(causeClass, e.getCause().getClass(), e.getCause().getMessage());
+  }
+
+}
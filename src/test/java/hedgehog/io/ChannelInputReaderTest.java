@@ -0,0 +1,142 @@
+package hedgehog.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.model.Garden;
+import org.junit.jupiter.api.Test;
+
+public class ChannelInputReaderTest {
+
+  @Test
+  public void channelInputReader_zeroBufferSize_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new ChannelInputReader(0));
+  }
+
+  @Test
+  public void read_nullLocation_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new ChannelInputReader().read(null));
+  }
+
+  @Test
+  public void read_whitespaceLocation_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new ChannelInputReader().read(" "));
+  }
+
+  @Test
+  public void read_fileNotFound_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ChannelInputReader().read("/fileNotFound.txt"));
+  }
+
+  @Test
+  public void read_nullRowConsumer_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ChannelInputReader().read("/happyPath.txt", null));
+  }
+
+  @Test
+  public void read_noWidth_shouldThrowNumberFormat() {
+    assertCause("/noWidth.txt", NumberFormatException.class, 2, 1);
+  }
+
+  @Test
+  public void read_zeroWidth_shouldThrowIllegalArgument() {
+    assertCause("/zeroWidth.txt", IllegalArgumentException.class, 1, 3);
+  }
+
+  @Test
+  public void read_negativeHeight_shouldThrowIllegalArgument() {
+    assertCause("/negativeHeight.txt", IllegalArgumentException.class, 1, 3);
+  }
+
+  @Test
+  public void read_characterWidth_shouldThrowNumberFormat() {
+    assertCause("/characterWidth.txt", NumberFormatException.class, 1, 1);
+  }
+
+  @Test
+  public void read_characterHeight_shouldThrowNumberFormat() {
+    assertCause("/characterHeight.txt", NumberFormatException.class, 1, 3);
+  }
+
+  @Test
+  public void read_noRows_shouldThrowIllegalState() {
+    assertCause("/noRows.txt", IllegalStateException.class, 2, 1);
+  }
+
+  @Test
+  public void read_tooFewRows_shouldThrowIllegalArgument() {
+    assertCause("/tooFewRows.txt", IllegalArgumentException.class, 2, 7);
+  }
+
+  @Test
+  public void read_tooManyRows_shouldThrowIllegalArgument() {
+    assertCause("/tooManyRows.txt", IllegalArgumentException.class, 2, 7);
+  }
+
+  @Test
+  public void read_tooFewColumns_shouldThrowIllegalArgument() {
+    assertCause("/tooFewColumns.txt", IllegalArgumentException.class, 2, 4);
+  }
+
+  @Test
+  public void read_tooManyColumns_shouldThrowIllegalArgument() {
+    assertCause("/tooManyColumns.txt", IllegalArgumentException.class, 2, 10);
+  }
+
+  @Test
+  public void read_negativeApples_shouldThrowIllegalArgument() {
+    assertCause("/negativeApples.txt", IllegalArgumentException.class, 2, 7);
+  }
+
+  @Test
+  public void read_characterApples_shouldThrowNumberFormat() {
+    assertCause("/characterApplesValidDimensions.txt", NumberFormatException.class, 4, 4);
+  }
+
+  @Test
+  public void read_happyPathTests() throws InputReadException {
+    final Garden garden = new ChannelInputReader().read("/happyPath.txt");
+    assertEquals(3, garden.width());
+    assertEquals(4, garden.height());
+    assertEquals(0, garden.getApples(0, 0));
+    assertEquals(11, garden.getApples(1, 1));
+    assertEquals(22, garden.getApples(2, 2));
+    assertEquals(32, garden.getApples(2, 3));
+  }
+
+  @Test
+  public void read_repeatedWhitespaceTests() throws InputReadException {
+    final Garden garden = new ChannelInputReader(5).read("/repeatedWhitespace.txt");
+    assertEquals(3, garden.width());
+    assertEquals(4, garden.height());
+    assertEquals(0, garden.getApples(0, 0));
+    assertEquals(11, garden.getApples(1, 1));
+    assertEquals(22, garden.getApples(2, 2));
+    assertEquals(32, garden.getApples(2, 3));
+  }
+
+  private static void assertCause(
+      final String inputFileLocation,
+      final Class<? extends Exception> causeClass,
+      final int line,
+      final int column) {
+    try {
+      new ChannelInputReader().read(inputFileLocation);
+      fail(
+          String.format(
+              "'read(\"%s\")' should throw an InputReadException.",
+              inputFileLocation));
+    } catch (final InputReadException e) {
+      assertEquals(causeClass, e.getCause().getClass(), e.getCause().getMessage());
+      assertEquals(line, e.getLine(), e.getMessage());
+      assertEquals(column, e.getColumn(), e.getMessage());
+    }
+  }
+
+}
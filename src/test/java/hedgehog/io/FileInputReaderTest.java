@@ -5,8 +5,16 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import hedgehog.exception.InputReadException;
+import hedgehog.model.Cells;
 import hedgehog.model.Garden;
+import hedgehog.model.RowConsumer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileInputReaderTest {
 
@@ -32,6 +40,37 @@ public class FileInputReaderTest {
         () -> new FileInputReader().read("/fileNotFound.txt"));
   }
 
+  @Test
+  public void peek_classpathLocation_shouldReadHeaderWithoutSize() throws InputReadException {
+    assertEquals(
+        new GardenHeader(3, 4, GardenHeader.Format.TEXT, Cells.Encoding.INT, -1),
+        new FileInputReader().peek("/happyPath.txt"));
+  }
+
+  @Test
+  public void peek_fileSystemLocation_shouldReadHeaderAndSize(
+      @TempDir final Path temporaryDirectory) throws InputReadException, IOException {
+    final Path input = Files.writeString(temporaryDirectory.resolve("input.txt"), "2 2\n1 2\n3 a");
+    assertEquals(
+        new GardenHeader(2, 2, GardenHeader.Format.TEXT, Cells.Encoding.INT, 11),
+        new FileInputReader().peek(input.toString()));
+  }
+
+  @Test
+  public void peek_invalidHeader_shouldThrowInputRead() {
+    final InputReadException e =
+        assertThrows(InputReadException.class, () -> new FileInputReader().peek("/zeroWidth.txt"));
+    assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+  }
+
+  @Test
+  public void read_fileSystemLocation_shouldReadGarden(@TempDir final Path temporaryDirectory)
+      throws InputReadException, IOException {
+    final Path input = Files.writeString(temporaryDirectory.resolve("input.txt"), "2 2\n1 2\n3 4");
+    final Garden garden = new FileInputReader().read(input.toString());
+    assertEquals(new Garden(2, 2, new int[][] {{1, 2}, {3, 4}}), garden);
+  }
+
   @Test
   public void read_noWidth_shouldThrowNumberFormat() {
     try {
@@ -195,6 +234,26 @@ public class FileInputReaderTest {
     }
   }
 
+  @Test
+  public void read_wrongRowBeforeCharacterApples_shouldThrowNumberFormat(
+      @TempDir final Path temporaryDirectory) throws IOException {
+    final Path input =
+        Files.writeString(temporaryDirectory.resolve("input.txt"), "2 3\n1 2 3\n4 5\n6 a");
+    final InputReadException e =
+        assertThrows(InputReadException.class, () -> new FileInputReader().read(input.toString()));
+    assertEquals(NumberFormatException.class, e.getCause().getClass());
+  }
+
+  @Test
+  public void read_wrongRowOnly_shouldThrowIllegalArgument(
+      @TempDir final Path temporaryDirectory) throws IOException {
+    final Path input =
+        Files.writeString(temporaryDirectory.resolve("input.txt"), "2 3\n1 2 3\n4 5\n6 7");
+    final InputReadException e =
+        assertThrows(InputReadException.class, () -> new FileInputReader().read(input.toString()));
+    assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+  }
+
   @Test
   public void read_characterApples_shouldThrowNumberFormat() {
     try {
@@ -217,4 +276,102 @@ public class FileInputReaderTest {
     assertEquals(32, garden.getApples(2, 3));
   }
 
+  @Test
+  public void readStreaming_nullRowConsumer_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new FileInputReader().read("/happyPath.txt", null));
+  }
+
+  @Test
+  public void readStreaming_nullLocation_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new FileInputReader().read(null, new CollectingRowConsumer()));
+  }
+
+  @Test
+  public void readStreaming_noRows_shouldThrowIllegalState() {
+    assertStreamingCause("/noRows.txt", IllegalStateException.class);
+  }
+
+  @Test
+  public void readStreaming_zeroWidth_shouldThrowIllegalArgument() {
+    assertStreamingCause("/zeroWidth.txt", IllegalArgumentException.class);
+  }
+
+  @Test
+  public void readStreaming_characterHeight_shouldThrowNumberFormat() {
+    assertStreamingCause("/characterHeight.txt", NumberFormatException.class);
+  }
+
+  @Test
+  public void readStreaming_tooFewRows_shouldThrowIllegalArgument() {
+    assertStreamingCause("/tooFewRows.txt", IllegalArgumentException.class);
+  }
+
+  @Test
+  public void readStreaming_tooManyRows_shouldThrowIllegalArgument() {
+    assertStreamingCause("/tooManyRows.txt", IllegalArgumentException.class);
+  }
+
+  @Test
+  public void readStreaming_tooFewColumns_shouldThrowIllegalArgument() {
+    assertStreamingCause("/tooFewColumns.txt", IllegalArgumentException.class);
+  }
+
+  @Test
+  public void readStreaming_negativeApples_shouldThrowIllegalArgument() {
+    assertStreamingCause("/negativeApples.txt", IllegalArgumentException.class);
+  }
+
+  @Test
+  public void readStreaming_characterApples_shouldThrowNumberFormat() {
+    assertStreamingCause("/characterApplesValidDimensions.txt", NumberFormatException.class);
+  }
+
+  @Test
+  public void readStreaming_happyPathTests() throws InputReadException {
+    final CollectingRowConsumer rowConsumer = new CollectingRowConsumer();
+    new FileInputReader().read("/happyPath.txt", rowConsumer);
+    assertEquals(3, rowConsumer.width);
+    assertEquals(4, rowConsumer.height);
+    assertEquals(4, rowConsumer.appleRows.size());
+    assertEquals(30, rowConsumer.appleRows.get(0)[0]);
+    assertEquals(11, rowConsumer.appleRows.get(2)[1]);
+    assertEquals(2, rowConsumer.appleRows.get(3)[2]);
+  }
+
+  private static void assertStreamingCause(
+      final String inputFileLocation,
+      final Class<? extends Exception> causeClass) {
+    try {
+      new FileInputReader().read(inputFileLocation, new CollectingRowConsumer());
+      fail(
+          String.format(
+              "'read(\"%s\", rowConsumer)' should throw an InputReadException.",
+              inputFileLocation));
+    } catch (final InputReadException e) {
+      assertEquals(causeClass, e.getCause().getClass(), e.getCause().getMessage());
+    }
+  }
+
+  private static final class CollectingRowConsumer implements RowConsumer {
+
+    private final List<int[]> appleRows = new ArrayList<>();
+    private int width;
+    private int height;
+
+    @Override
+    public void dimensions(final int width, final int height) {
+      this.width = width;
+      this.height = height;
+    }
+
+    @Override
+    public void row(final int[] appleRow) {
+      appleRows.add(appleRow.clone());
+    }
+  }
+
 }
@@ -3,6 +3,7 @@ package hedgehog.io;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import hedgehog.exception.OutputWriteException;
+import hedgehog.model.Route;
 import org.junit.jupiter.api.Test;
 
 public class FileOutputWriterTest {
@@ -32,4 +33,23 @@ public class FileOutputWriterTest {
     new FileOutputWriter().write(1, "./test-output.txt");
   }
 
+  @Test
+  public void writeRoute_nullRoute_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new FileOutputWriter().write((Route) null, "./test-output.txt"));
+  }
+
+  @Test
+  public void writeRoute_nullLocation_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new FileOutputWriter().write(new Route(1, 2, 2, new long[] {0b01L}), null));
+  }
+
+  @Test
+  public void writeRoute_happyPathTest() throws OutputWriteException {
+    new FileOutputWriter().write(new Route(1, 2, 2, new long[] {0b01L}), "./test-output.txt");
+  }
+
 }
@@ -0,0 +1,144 @@
+package hedgehog.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.model.Cells;
+import hedgehog.model.Garden;
+import hedgehog.model.Gardens;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GardenBytesTest {
+
+  @Test
+  public void decode_nullBytes_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> GardenBytes.decode(null));
+  }
+
+  @Test
+  public void decode_text_shouldReadGarden() throws InputReadException {
+    final ByteBuffer bytes =
+        ByteBuffer.wrap("2 2\n1 2\r\n\n3  4\n".getBytes(StandardCharsets.US_ASCII));
+    assertEquals(new Garden(2, 2, new int[][] {{1, 2}, {3, 4}}), GardenBytes.decode(bytes));
+    assertEquals(0, bytes.position());
+  }
+
+  @Test
+  public void decode_invalidText_shouldThrowInputRead() {
+    final InputReadException e =
+        assertThrows(
+            InputReadException.class,
+            () -> GardenBytes.decode(ByteBuffer.wrap("2 2\n1 2\n3 a".getBytes())));
+    assertEquals(NumberFormatException.class, e.getCause().getClass());
+    assertEquals(3, e.getLine());
+  }
+
+  @Test
+  public void decode_tooFewRows_shouldThrowInputRead() {
+    final InputReadException e =
+        assertThrows(
+            InputReadException.class,
+            () -> GardenBytes.decode(ByteBuffer.wrap("2 2\n1 2".getBytes())));
+    assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+  }
+
+  @Test
+  public void decode_headerOfMoreTreesThanBytes_shouldThrowInputRead() {
+    final InputReadException e =
+        assertThrows(
+            InputReadException.class,
+            () -> GardenBytes.decode(ByteBuffer.wrap("46000 46000\n1".getBytes())));
+    assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+    assertEquals(1, e.getLine());
+  }
+
+  @Test
+  public void peek_text_shouldReadHeaderAlone() throws InputReadException {
+    final ByteBuffer bytes = ByteBuffer.wrap("3 2\n1 2 3\n4 5 x".getBytes());
+    assertEquals(
+        new GardenHeader(3, 2, GardenHeader.Format.TEXT, Cells.Encoding.INT, 15),
+        GardenBytes.peek(bytes));
+    assertEquals(0, bytes.position());
+  }
+
+  @Test
+  public void peek_binary_shouldReadHeader() throws InputReadException {
+    final byte[] binary = GardenBytes.encodeBinary(Gardens.random(5, 9, 255));
+    assertEquals(
+        new GardenHeader(5, 9, GardenHeader.Format.BINARY, Cells.Encoding.BYTE, binary.length),
+        GardenBytes.peek(ByteBuffer.wrap(binary)));
+  }
+
+  @Test
+  public void peek_headerOfMoreTreesThanBytes_shouldThrowInputRead() {
+    final InputReadException e =
+        assertThrows(
+            InputReadException.class,
+            () -> GardenBytes.peek(ByteBuffer.wrap("46000 46000".getBytes())));
+    assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+  }
+
+  @Test
+  public void encodeText_shouldDecodeToGarden() throws InputReadException {
+    for (final int maxApples : new int[] {255, 65535, Integer.MAX_VALUE}) {
+      final Garden garden = Gardens.random(13, 7, maxApples);
+      assertEquals(garden, GardenBytes.decode(ByteBuffer.wrap(GardenBytes.encodeText(garden))));
+    }
+  }
+
+  @Test
+  public void encodeBinary_shouldDecodeToGarden() throws InputReadException {
+    for (final int maxApples : new int[] {255, 65535, Integer.MAX_VALUE}) {
+      final Garden garden = Gardens.random(13, 7, maxApples);
+      final Garden decoded = GardenBytes.decode(ByteBuffer.wrap(GardenBytes.encodeBinary(garden)));
+      assertEquals(garden, decoded);
+      assertEquals(garden.cells().encoding(), decoded.cells().encoding());
+    }
+  }
+
+  @Test
+  public void encodeBinary_shouldMatchBinaryFile(@TempDir final Path temporaryDirectory)
+      throws Exception {
+    final Garden garden = Gardens.random(13, 7, 65535);
+    final Path path = temporaryDirectory.resolve("garden.hdgh");
+    BinaryGardenFormat.write(garden, path);
+    assertArrayEquals(Files.readAllBytes(path), GardenBytes.encodeBinary(garden));
+  }
+
+  @Test
+  public void decode_binaryFromOffset_shouldReadGarden() throws InputReadException {
+    final Garden garden = Gardens.random(5, 9, 255);
+    final byte[] binary = GardenBytes.encodeBinary(garden);
+    final ByteBuffer bytes = ByteBuffer.allocate(binary.length + 10);
+    bytes.position(7).put(binary).flip().position(7);
+    assertEquals(garden, GardenBytes.decode(bytes));
+    assertEquals(7, bytes.position());
+  }
+
+  @Test
+  public void decode_corruptBinary_shouldThrowInputRead() {
+    final byte[] binary = GardenBytes.encodeBinary(Gardens.random(5, 9, 255));
+    binary[BinaryGardenFormat.HEADER_BYTES + 3]++;
+    final InputReadException e =
+        assertThrows(InputReadException.class, () -> GardenBytes.decode(ByteBuffer.wrap(binary)));
+    assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+  }
+
+  @Test
+  public void decode_truncatedBinary_shouldThrowInputRead() {
+    final byte[] binary = GardenBytes.encodeBinary(Gardens.random(5, 9, 255));
+    final InputReadException e =
+        assertThrows(
+            InputReadException.class,
+            () -> GardenBytes.decode(ByteBuffer.wrap(binary, 0, binary.length - 1)));
+    assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+  }
+
+}
@@ -0,0 +1,159 @@
+package hedgehog.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.model.Garden;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedInputReaderTest {
+
+  @TempDir
+  Path temporaryDirectory;
+
+  @Test
+  public void mappedInputReader_nullForkJoinPool_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new MappedInputReader(null, 16));
+  }
+
+  @Test
+  public void mappedInputReader_zeroChunkSize_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new MappedInputReader(ForkJoinPool.commonPool(), 0));
+  }
+
+  @Test
+  public void read_nullLocation_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new MappedInputReader().read(null));
+  }
+
+  @Test
+  public void read_fileNotFound_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new MappedInputReader().read("/fileNotFound.txt"));
+  }
+
+  @Test
+  public void read_noWidth_shouldThrowNumberFormat() {
+    assertCause("/noWidth.txt", NumberFormatException.class);
+  }
+
+  @Test
+  public void read_zeroHeight_shouldThrowIllegalArgument() {
+    assertCause("/zeroHeight.txt", IllegalArgumentException.class);
+  }
+
+  @Test
+  public void read_noRows_shouldThrowIllegalState() {
+    assertCause("/noRows.txt", IllegalStateException.class);
+  }
+
+  @Test
+  public void read_tooFewRows_shouldThrowIllegalArgument() {
+    assertCause("/tooFewRows.txt", IllegalArgumentException.class);
+  }
+
+  @Test
+  public void read_tooManyRows_shouldThrowIllegalArgument() {
+    assertCause("/tooManyRows.txt", IllegalArgumentException.class);
+  }
+
+  @Test
+  public void read_tooFewColumns_shouldThrowIllegalArgument() {
+    assertCause("/tooFewColumns.txt", IllegalArgumentException.class);
+  }
+
+  @Test
+  public void read_tooManyColumns_shouldThrowIllegalArgument() {
+    assertCause("/tooManyColumns.txt", IllegalArgumentException.class);
+  }
+
+  @Test
+  public void read_characterApples_shouldThrowNumberFormat() {
+    assertCause("/characterApplesValidDimensions.txt", NumberFormatException.class);
+  }
+
+  @Test
+  public void read_happyPathTests() throws InputReadException {
+    final Garden garden =
+        new MappedInputReader(ForkJoinPool.commonPool(), 4).read("/happyPath.txt");
+    assertEquals(3, garden.width());
+    assertEquals(4, garden.height());
+    assertArrayEquals(
+        new FileInputReader().read("/happyPath.txt").appleTable(),
+        garden.appleTable());
+  }
+
+  @Test
+  public void read_repeatedWhitespaceTests() throws InputReadException {
+    assertArrayEquals(
+        new FileInputReader().read("/happyPath.txt").appleTable(),
+        new MappedInputReader(ForkJoinPool.commonPool(), 7)
+            .read("/repeatedWhitespace.txt")
+            .appleTable());
+  }
+
+  @Test
+  public void read_shouldMatchChannelInputReader() throws InputReadException, IOException {
+
+    final Random random = new Random(42);
+    final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+
+    try {
+      for (int i = 0; i < 10; i++) {
+
+        final int width = 1 + random.nextInt(300);
+        final int height = 1 + random.nextInt(300);
+        final StringBuilder text =
+            new StringBuilder().append(width).append(' ').append(height);
+        for (int y = 0; y < height; y++) {
+          text.append('\n');
+          for (int x = 0; x < width; x++) {
+            text.append(x == 0 ? "" : " ").append(random.nextInt(1000));
+          }
+        }
+
+        final Path path =
+            Files.writeString(temporaryDirectory.resolve("garden" + i + ".txt"), text);
+        final int chunkSize = 1 + random.nextInt(4096);
+
+        assertArrayEquals(
+            new ChannelInputReader().read(path.toString()).appleTable(),
+            new MappedInputReader(forkJoinPool, chunkSize).read(path.toString()).appleTable(),
+            String.format(
+                "[width == %d, height == %d, chunkSize == %d]",
+                width,
+                height,
+                chunkSize));
+      }
+    } finally {
+      forkJoinPool.shutdown();
+    }
+  }
+
+  private static void assertCause(
+      final String inputFileLocation,
+      final Class<? extends Exception> causeClass) {
+    try {
+      new MappedInputReader(ForkJoinPool.commonPool(), 8).read(inputFileLocation);
+      fail(
+          String.format(
+              "'read(\"%s\")' should throw an InputReadException.",
+              inputFileLocation));
+    } catch (final InputReadException e) {
+      assertEquals(causeClass, e.getCause().getClass(), e.getCause().getMessage());
+    }
+  }
+
+}
@@ -0,0 +1,118 @@
+package hedgehog.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.model.Garden;
+import hedgehog.model.SparseCells;
+import org.junit.jupiter.api.Test;
+
+public class SparseInputReaderTest {
+
+  @Test
+  public void read_nullLocation_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new SparseInputReader().read(null));
+  }
+
+  @Test
+  public void read_fileNotFound_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new SparseInputReader().read("/fileNotFound.txt"));
+  }
+
+  @Test
+  public void read_zeroWidth_shouldThrowIllegalArgument() {
+    assertCause("/zeroWidth.txt", IllegalArgumentException.class, 1, 3);
+  }
+
+  @Test
+  public void read_valueAfterHeight_shouldThrowIllegalArgument() {
+    assertCause("/sparseHeaderValue.txt", IllegalArgumentException.class, 1, 5);
+  }
+
+  @Test
+  public void read_tooFewValues_shouldThrowIllegalArgument() {
+    assertCause("/sparseTooFewValues.txt", IllegalArgumentException.class, 2, 3);
+  }
+
+  @Test
+  public void read_tooManyValues_shouldThrowIllegalArgument() {
+    assertCause("/sparseTooManyValues.txt", IllegalArgumentException.class, 2, 8);
+  }
+
+  @Test
+  public void read_outOfBounds_shouldThrowIllegalArgument() {
+    assertCause("/sparseOutOfBounds.txt", IllegalArgumentException.class, 2, 1);
+  }
+
+  @Test
+  public void read_negativeApples_shouldThrowIllegalArgument() {
+    assertCause("/sparseNegativeApples.txt", IllegalArgumentException.class, 2, 1);
+  }
+
+  @Test
+  public void read_characterApples_shouldThrowNumberFormat() {
+    assertCause("/sparseCharacterApples.txt", NumberFormatException.class, 2, 5);
+  }
+
+  @Test
+  public void read_duplicateTree_shouldThrowIllegalArgument() {
+    final InputReadException e =
+        assertThrows(
+            InputReadException.class,
+            () -> new SparseInputReader().read("/sparseDuplicateTree.txt"));
+    assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+  }
+
+  @Test
+  public void read_happyPathTests() throws InputReadException {
+    final Garden garden = new SparseInputReader().read("/sparseHappyPath.txt");
+    assertEquals(3, garden.width());
+    assertEquals(4, garden.height());
+    assertEquals(SparseCells.class, garden.cells().getClass());
+    assertEquals(3, ((SparseCells) garden.cells()).count());
+    assertEquals(0, garden.getApples(0, 0));
+    assertEquals(11, garden.getApples(1, 1));
+    assertEquals(22, garden.getApples(2, 2));
+    assertEquals(32, garden.getApples(2, 3));
+    assertEquals(0, garden.getApples(1, 3));
+  }
+
+  @Test
+  public void peek_happyPath_shouldReadSparseHeader() throws InputReadException {
+    final GardenHeader header = new SparseInputReader().peek("/sparseHappyPath.txt");
+    assertEquals(3, header.width());
+    assertEquals(4, header.height());
+    assertEquals(GardenHeader.Format.SPARSE, header.format());
+  }
+
+  @Test
+  public void peek_invalidHeader_shouldThrowInputRead() {
+    final InputReadException e =
+        assertThrows(
+            InputReadException.class, () -> new SparseInputReader().peek("/zeroWidth.txt"));
+    assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+  }
+
+  private static void assertCause(
+      final String inputFileLocation,
+      final Class<? extends Exception> causeClass,
+      final int line,
+      final int column) {
+    try {
+      new SparseInputReader().read(inputFileLocation);
+      fail(
+          String.format(
+              "'read(\"%s\")' should throw an InputReadException.",
+              inputFileLocation));
+    } catch (final InputReadException e) {
+      assertEquals(causeClass, e.getCause().getClass(), e.getCause().getMessage());
+      assertEquals(line, e.getLine(), e.getMessage());
+      assertEquals(column, e.getColumn(), e.getMessage());
+    }
+  }
+
+}
@@ -0,0 +1,128 @@
+package hedgehog.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.io.GardenHeader;
+import hedgehog.model.Cells;
+import hedgehog.strategy.MemoryEstimator;
+import hedgehog.strategy.SolutionStrategyProviders;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class AdmissionControlTest {
+
+  private static final MemoryEstimator ESTIMATOR =
+      new MemoryEstimator(List.of(new SolutionStrategyProviders.DynamicProgramming()));
+
+  /**
+   * <p>Needs <code>100 * 100 * 6 + 100 * 64</code> bytes to read and <code>100 * 8</code> to
+   * solve in memory, and <code>100 * 16</code> out of core.</p>
+   */
+  private static final GardenHeader HEADER =
+      new GardenHeader(100, 100, GardenHeader.Format.TEXT, Cells.Encoding.INT, -1);
+
+  private static final long IN_MEMORY_BYTES = 67_200;
+
+  @Test
+  public void admissionControl_nullMemoryBudget_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new AdmissionControl(null, ESTIMATOR, Duration.ZERO));
+  }
+
+  @Test
+  public void admissionControl_negativeMaxWait_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new AdmissionControl(new MemoryBudget(1), ESTIMATOR, Duration.ofMillis(-1)));
+  }
+
+  @Test
+  public void admit_nullHeader_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new AdmissionControl(new MemoryBudget(1), ESTIMATOR, Duration.ZERO).admit(null, true));
+  }
+
+  @Test
+  public void admit_withinBudget_shouldReserveUntilClosed() throws InterruptedException {
+
+    final MemoryBudget memoryBudget = new MemoryBudget(100_000);
+    final AdmissionControl.Admission admission =
+        new AdmissionControl(memoryBudget, ESTIMATOR, Duration.ZERO).admit(HEADER, false);
+
+    assertEquals(AdmissionControl.Decision.IN_MEMORY, admission.decision());
+    assertEquals(IN_MEMORY_BYTES, admission.bytes());
+    assertEquals(100_000 - IN_MEMORY_BYTES, memoryBudget.available());
+
+    admission.close();
+    admission.close();
+    assertEquals(100_000, memoryBudget.available());
+  }
+
+  @Test
+  public void admit_overBudgetWithOutOfCore_shouldReserveForBands() throws InterruptedException {
+
+    final MemoryBudget memoryBudget = new MemoryBudget(10_000);
+
+    try (final AdmissionControl.Admission admission =
+        new AdmissionControl(memoryBudget, ESTIMATOR, Duration.ZERO).admit(HEADER, true)) {
+      assertEquals(AdmissionControl.Decision.OUT_OF_CORE, admission.decision());
+      assertEquals(10_000 / 4, admission.bytes());
+      assertEquals(10_000 - 10_000 / 4, memoryBudget.available());
+    }
+
+    assertEquals(10_000, memoryBudget.available());
+  }
+
+  @Test
+  public void admit_overBudgetWithoutOutOfCore_shouldReject() throws InterruptedException {
+    assertRejected(new MemoryBudget(10_000), false);
+  }
+
+  @Test
+  public void admit_rowOverBudget_shouldReject() throws InterruptedException {
+    assertRejected(new MemoryBudget(1_000), true);
+  }
+
+  @Test
+  public void admit_notReleasedInTime_shouldReject() throws InterruptedException {
+
+    final MemoryBudget memoryBudget = new MemoryBudget(100_000);
+    final AdmissionControl admissionControl =
+        new AdmissionControl(memoryBudget, ESTIMATOR, Duration.ofMillis(20));
+
+    try (final AdmissionControl.Admission first = admissionControl.admit(HEADER, true)) {
+      assertEquals(AdmissionControl.Decision.IN_MEMORY, first.decision());
+      assertRejected(memoryBudget, admissionControl, true);
+    }
+
+    assertEquals(100_000, memoryBudget.available());
+  }
+
+  private static void assertRejected(final MemoryBudget memoryBudget, final boolean outOfCore)
+      throws InterruptedException {
+    assertRejected(
+        memoryBudget, new AdmissionControl(memoryBudget, ESTIMATOR, Duration.ZERO), outOfCore);
+  }
+
+  private static void assertRejected(
+      final MemoryBudget memoryBudget,
+      final AdmissionControl admissionControl,
+      final boolean outOfCore) throws InterruptedException {
+
+    final long available = memoryBudget.available();
+
+    try (final AdmissionControl.Admission admission = admissionControl.admit(HEADER, outOfCore)) {
+      assertEquals(AdmissionControl.Decision.REJECTED, admission.decision(), admission.reason());
+      assertEquals(0, admission.bytes());
+      assertEquals(available, memoryBudget.available());
+    }
+
+    assertEquals(available, memoryBudget.available());
+  }
+
+}
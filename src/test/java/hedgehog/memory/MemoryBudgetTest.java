@@ -0,0 +1,129 @@
+package hedgehog.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class MemoryBudgetTest {
+
+  @Test
+  public void memoryBudget_zeroCapacity_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new MemoryBudget(0));
+  }
+
+  @Test
+  public void global_shouldBeShareOfMaxHeap() {
+    assertEquals(
+        (long) (Runtime.getRuntime().maxMemory() * MemoryBudget.GLOBAL_HEAP_SHARE),
+        MemoryBudget.global().capacity());
+  }
+
+  @Test
+  public void reserve_moreThanCapacity_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new MemoryBudget(100).reserve(101, Duration.ZERO));
+  }
+
+  @Test
+  public void release_moreThanReserved_shouldThrowIllegalArgument() throws InterruptedException {
+    final MemoryBudget memoryBudget = new MemoryBudget(100);
+    assertTrue(memoryBudget.reserve(40, Duration.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> memoryBudget.release(41));
+  }
+
+  @Test
+  public void reserve_withinAvailable_shouldReserveUntilReleased() throws InterruptedException {
+    final MemoryBudget memoryBudget = new MemoryBudget(100);
+    assertTrue(memoryBudget.reserve(60, Duration.ZERO));
+    assertTrue(memoryBudget.reserve(40, Duration.ZERO));
+    assertEquals(0, memoryBudget.available());
+    memoryBudget.release(60);
+    memoryBudget.release(40);
+    assertEquals(100, memoryBudget.available());
+  }
+
+  @Test
+  public void reserve_notReleasedInTime_shouldReturnFalse() throws InterruptedException {
+    final MemoryBudget memoryBudget = new MemoryBudget(100);
+    assertTrue(memoryBudget.reserve(60, Duration.ZERO));
+    assertFalse(memoryBudget.reserve(50, Duration.ofMillis(20)));
+    assertEquals(40, memoryBudget.available());
+  }
+
+  @Test
+  public void reserve_releasedWhileWaiting_shouldReserve() throws InterruptedException {
+    final MemoryBudget memoryBudget = new MemoryBudget(100);
+    assertTrue(memoryBudget.reserve(60, Duration.ZERO));
+    final Thread releaser = new Thread(() -> {
+      sleep(50);
+      memoryBudget.release(60);
+    });
+    releaser.start();
+    assertTrue(memoryBudget.reserve(100, Duration.ofSeconds(10)));
+    releaser.join();
+    assertEquals(0, memoryBudget.available());
+  }
+
+  @Test
+  public void reserve_waitingJobs_shouldBeServedInOrder() throws InterruptedException {
+
+    final MemoryBudget memoryBudget = new MemoryBudget(100);
+    final AtomicInteger reserved = new AtomicInteger();
+    assertTrue(memoryBudget.reserve(100, Duration.ZERO));
+
+    // The large job arrives first, so the small one waits behind it although it would fit sooner.
+    final Thread large = reserver(memoryBudget, 80, reserved);
+    large.start();
+    awaitWaiting(large);
+    final Thread small = reserver(memoryBudget, 20, reserved);
+    small.start();
+    awaitWaiting(small);
+
+    memoryBudget.release(30);
+    sleep(50);
+    assertEquals(0, reserved.get());
+    assertEquals(30, memoryBudget.available());
+
+    memoryBudget.release(70);
+    large.join();
+    small.join();
+    assertEquals(100, reserved.get());
+    assertEquals(0, memoryBudget.available());
+  }
+
+  private static Thread reserver(
+      final MemoryBudget memoryBudget,
+      final int bytes,
+      final AtomicInteger reserved) {
+    return new Thread(() -> {
+      try {
+        if (memoryBudget.reserve(bytes, Duration.ofSeconds(10))) {
+          reserved.addAndGet(bytes);
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+  }
+
+  private static void awaitWaiting(final Thread thread) {
+    while (thread.getState() != Thread.State.TIMED_WAITING) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private static void sleep(final long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
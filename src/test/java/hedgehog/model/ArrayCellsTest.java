@@ -0,0 +1,71 @@
+package hedgehog.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class ArrayCellsTest {
+
+  private static final int[] APPLES = {0, 1, 127, 128, 255};
+
+  @Test
+  public void put_allEncodings_shouldReadBackUnsigned() {
+    for (final Cells.Encoding encoding : Cells.Encoding.values()) {
+      final ArrayCells cells = cells(encoding, APPLES);
+      assertEquals(encoding, cells.encoding());
+      assertEquals(APPLES.length, cells.length());
+      for (int index = 0; index < APPLES.length; index++) {
+        assertEquals(APPLES[index], cells.get(index), encoding.toString());
+      }
+    }
+  }
+
+  @Test
+  public void put_maxApples_shouldReadBackUnsigned() {
+    for (final Cells.Encoding encoding : Cells.Encoding.values()) {
+      final ArrayCells cells = cells(encoding, new int[] {encoding.maxApples()});
+      assertEquals(encoding.maxApples(), cells.get(0), encoding.toString());
+    }
+  }
+
+  @Test
+  public void copy_shouldCopyRangeToOffset() {
+    for (final Cells.Encoding encoding : Cells.Encoding.values()) {
+      final int[] destination = {-1, -1, -1, -1};
+      cells(encoding, APPLES).copy(2, destination, 1, 3);
+      assertArrayEquals(new int[] {-1, 127, 128, 255}, destination, encoding.toString());
+    }
+  }
+
+  @Test
+  public void widen_shouldKeepApples() {
+    final int[] apples = new int[20000];
+    for (int index = 0; index < apples.length; index++) {
+      apples[index] = index % 256;
+    }
+    final ArrayCells cells = cells(Cells.Encoding.BYTE, apples);
+    final ArrayCells widened = cells.widen(Cells.Encoding.INT);
+    assertEquals(Cells.Encoding.INT, widened.encoding());
+    assertEquals(cells, widened);
+  }
+
+  @Test
+  public void equals_allEncodings_shouldCompareApples() {
+    for (final Cells.Encoding first : Cells.Encoding.values()) {
+      for (final Cells.Encoding second : Cells.Encoding.values()) {
+        assertEquals(cells(first, APPLES), cells(second, APPLES));
+        assertEquals(cells(first, APPLES).hashCode(), cells(second, APPLES).hashCode());
+        assertNotEquals(cells(first, APPLES), cells(second, new int[] {0, 1, 127, 128, 254}));
+      }
+    }
+  }
+
+  private static ArrayCells cells(final Cells.Encoding encoding, final int[] apples) {
+    final ArrayCells cells = ArrayCells.allocate(encoding, apples.length);
+    cells.put(0, apples, apples.length);
+    return cells;
+  }
+
+}
@@ -0,0 +1,77 @@
+package hedgehog.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class FingerprintTest {
+
+  @Test
+  public void of_nullGarden_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> Fingerprint.of(null));
+  }
+
+  @Test
+  public void of_equalGardens_shouldBeEqual() {
+    final int[][] appleTable = Gardens.appleTable(new Random(1), 70, 90, 1000);
+    assertEquals(
+        Fingerprint.of(new Garden(70, 90, appleTable)),
+        Fingerprint.of(new Garden(70, 90, Gardens.appleTable(new Random(1), 70, 90, 1000))));
+  }
+
+  @Test
+  public void of_allEncodings_shouldBeEqual() {
+    final int[][] appleTable = Gardens.appleTable(new Random(2), 5, 3, 1000);
+    final Fingerprint expected = Fingerprint.of(new Garden(5, 3, appleTable));
+    for (final Cells.Encoding encoding : Cells.Encoding.values()) {
+      final Garden.Builder builder = new Garden.Builder().encoding(encoding).width(5).height(3);
+      for (final int[] appleRow : appleTable) {
+        builder.appleRow(appleRow);
+      }
+      assertEquals(expected, Fingerprint.of(builder.build()), encoding.toString());
+    }
+  }
+
+  @Test
+  public void of_singleCellChanged_shouldDiffer() {
+
+    // 101 x 83 cells spans several chunks and leaves a tail, so every path through the hash is
+    // covered.
+    final int[][] appleTable = Gardens.appleTable(new Random(3), 101, 83, 1000);
+    final Fingerprint original = Fingerprint.of(new Garden(101, 83, appleTable));
+    final Set<Fingerprint> fingerprints = new HashSet<>();
+
+    for (int y = 0; y < 83; y += 41) {
+      for (int x = 0; x < 101; x += 50) {
+        appleTable[y][x]++;
+        fingerprints.add(Fingerprint.of(new Garden(101, 83, appleTable)));
+        appleTable[y][x]--;
+      }
+    }
+
+    assertEquals(9, fingerprints.size());
+    assertTrue(fingerprints.stream().noneMatch(original::equals));
+    assertEquals(original, Fingerprint.of(new Garden(101, 83, appleTable)));
+  }
+
+  @Test
+  public void of_sameApplesDifferentDimensions_shouldDiffer() {
+    final Fingerprint wide = Fingerprint.of(new Garden(4, 1, new int[][] {{1, 2, 3, 4}}));
+    final Fingerprint square = Fingerprint.of(new Garden(2, 2, new int[][] {{1, 2}, {3, 4}}));
+    assertNotEquals(wide, square);
+    assertNotEquals(wide.high(), square.high());
+  }
+
+  @Test
+  public void toHex_shouldIncludeDimensionsAndHash() {
+    final Fingerprint fingerprint = new Fingerprint(3, 2, 0xABL, -1L);
+    assertEquals("3x2-00000000000000abffffffffffffffff", fingerprint.toHex());
+  }
+
+}
@@ -1,6 +1,8 @@
 package hedgehog.model;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Arrays;
@@ -150,6 +152,259 @@ public class GardenTest {
         () -> new Garden.Builder().width(WIDTH).height(HEIGHT).build());
   }
 
+  @Test
+  public void appleTable_shouldReturnCopy() {
+    final Garden garden = new Garden(WIDTH, HEIGHT, appleTable());
+    garden.appleTable()[0][0] = -1;
+    assertArrayEquals(appleTable(), garden.appleTable());
+  }
+
+  @Test
+  public void garden_appleTableModified_shouldNotChangeGarden() {
+    final int[][] appleTable = appleTable();
+    final Garden garden = new Garden(WIDTH, HEIGHT, appleTable);
+    appleTable[0][0] = 99;
+    assertEquals(30, garden.getApples(0, HEIGHT - 1));
+  }
+
+  @Test
+  public void copyRow_range_shouldCopyOnlyRange() {
+    final Garden garden = new Garden(WIDTH, HEIGHT, appleTable());
+    final int[] appleRow = {-1, -1, -1};
+    garden.copyRow(1, 1, 3, appleRow);
+    assertArrayEquals(new int[] {11, 12, -1}, appleRow);
+  }
+
+  @Test
+  public void copyRow_happyPathTests() {
+    final Garden garden = new Garden(WIDTH, HEIGHT, appleTable());
+    final int[] appleRow = new int[WIDTH];
+    garden.copyRow(2, appleRow);
+    assertArrayEquals(new int[] {20, 21, 22}, appleRow);
+  }
+
+  @Test
+  public void equals_sameApples_shouldBeEqual() {
+    final Garden garden = new Garden(WIDTH, HEIGHT, appleTable());
+    final Garden other = new Garden(WIDTH, HEIGHT, appleTable());
+    assertEquals(garden, other);
+    assertEquals(garden.hashCode(), other.hashCode());
+  }
+
+  @Test
+  public void equals_differentApples_shouldNotBeEqual() {
+    final int[][] appleTable = appleTable();
+    appleTable[1][1]++;
+    assertNotEquals(
+        new Garden(WIDTH, HEIGHT, appleTable()),
+        new Garden(WIDTH, HEIGHT, appleTable));
+  }
+
+  @Test
+  public void garden_shouldUseNarrowestEncoding() {
+    assertEquals(Cells.Encoding.BYTE, garden(255).cells().encoding());
+    assertEquals(Cells.Encoding.SHORT, garden(256).cells().encoding());
+    assertEquals(Cells.Encoding.SHORT, garden(65535).cells().encoding());
+    assertEquals(Cells.Encoding.INT, garden(65536).cells().encoding());
+    assertEquals(Cells.Encoding.INT, garden(Integer.MAX_VALUE).cells().encoding());
+  }
+
+  @Test
+  public void getApples_allEncodings_shouldReturnApples() {
+    for (final int maxApples : new int[] {255, 65535, Integer.MAX_VALUE}) {
+      final Garden garden = garden(maxApples);
+      assertEquals(maxApples, garden.getApples(1, 1));
+      assertEquals(0, garden.getApples(0, 0));
+      assertEquals(32, garden.getApples(2, 3));
+    }
+  }
+
+  @Test
+  public void builder_valueBeyondEncoding_shouldWiden() {
+    final int[][] appleTable = appleTable();
+    appleTable[HEIGHT - 1][WIDTH - 1] = 70000;
+    final Garden.Builder builder = new Garden.Builder().width(WIDTH).height(HEIGHT);
+    Arrays.stream(appleTable).forEach(builder::appleRow);
+    final Garden garden = builder.build();
+    assertEquals(Cells.Encoding.INT, garden.cells().encoding());
+    assertArrayEquals(appleTable, garden.appleTable());
+  }
+
+  @Test
+  public void builder_startingEncodings_shouldEqualGarden() {
+    for (final Cells.Encoding encoding : Cells.Encoding.values()) {
+      final Garden.Builder builder =
+          new Garden.Builder().encoding(encoding).width(WIDTH).height(HEIGHT);
+      Arrays.stream(appleTable()).forEach(builder::appleRow);
+      final Garden garden = builder.build();
+      assertEquals(encoding, garden.cells().encoding());
+      assertEquals(new Garden(WIDTH, HEIGHT, appleTable()), garden);
+      assertEquals(new Garden(WIDTH, HEIGHT, appleTable()).hashCode(), garden.hashCode());
+    }
+  }
+
+  @Test
+  public void builder_nullEncoding_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new Garden.Builder().encoding(null));
+  }
+
+  @Test
+  public void builder_primitiveRows_shouldEqualGarden() {
+    final Garden.Builder builder = new Garden.Builder().width(WIDTH).height(HEIGHT);
+    Arrays.stream(appleTable()).forEach(builder::appleRow);
+    assertEquals(new Garden(WIDTH, HEIGHT, appleTable()), builder.build());
+  }
+
+  @Test
+  public void builder_rowsBeforeDimensions_shouldEqualGarden() {
+    final Garden.Builder builder = new Garden.Builder();
+    Arrays.stream(appleTable())
+        .map(appleRow -> Arrays.stream(appleRow).boxed().collect(Collectors.toList()))
+        .forEach(builder::appleRow);
+    assertEquals(
+        new Garden(WIDTH, HEIGHT, appleTable()),
+        builder.width(WIDTH).height(HEIGHT).build());
+  }
+
+  @Test
+  public void builder_indexedRowsOutOfOrder_shouldEqualGarden() {
+    final Garden.Builder builder = new Garden.Builder().width(WIDTH).height(HEIGHT);
+    final int[][] appleTable = appleTable();
+    for (int rowIndex = HEIGHT - 1; rowIndex >= 0; rowIndex--) {
+      builder.appleRow(rowIndex, appleTable[rowIndex]);
+    }
+    assertEquals(new Garden(WIDTH, HEIGHT, appleTable()), builder.build());
+  }
+
+  @Test
+  public void builder_indexedRowsFromManyThreads_shouldWidenAndEqualGarden() throws Exception {
+
+    final int width = 50;
+    final int height = 4000;
+    final int[][] appleTable = new int[height][width];
+    for (int rowIndex = 0; rowIndex < height; rowIndex++) {
+      Arrays.fill(appleTable[rowIndex], rowIndex % 200);
+    }
+    // Widened from bytes to shorts, and then to ints, by rows put from different threads.
+    appleTable[1234][7] = 300;
+    appleTable[2345][8] = 70_000;
+
+    final Garden.Builder builder = new Garden.Builder().width(width).height(height);
+    final Thread[] threads = new Thread[4];
+
+    for (int t = 0; t < threads.length; t++) {
+      final int first = t;
+      threads[t] = new Thread(() -> {
+        for (int rowIndex = first; rowIndex < height; rowIndex += threads.length) {
+          builder.appleRow(rowIndex, appleTable[rowIndex]);
+        }
+      });
+      threads[t].start();
+    }
+
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+
+    final Garden garden = builder.build();
+    assertEquals(Cells.Encoding.INT, garden.cells().encoding());
+    assertEquals(new Garden(width, height, appleTable), garden);
+  }
+
+  @Test
+  public void builder_indexedRowBeforeDimensions_shouldThrowIllegalState() {
+    assertThrows(
+        IllegalStateException.class,
+        () -> new Garden.Builder().width(WIDTH).appleRow(0, new int[WIDTH]));
+  }
+
+  @Test
+  public void builder_rowTooShort_shouldThrowIllegalArgument() {
+    final Garden.Builder builder = new Garden.Builder().width(WIDTH).height(HEIGHT);
+    assertThrows(IllegalArgumentException.class, () -> builder.appleRow(new int[WIDTH - 1]));
+  }
+
+  @Test
+  public void builder_negativeApples_shouldThrowIllegalArgument() {
+    final Garden.Builder builder = new Garden.Builder().width(WIDTH).height(HEIGHT);
+    assertThrows(IllegalArgumentException.class, () -> builder.appleRow(new int[] {0, -1, 0}));
+  }
+
+  @Test
+  public void builder_tooManyRows_shouldThrowIllegalArgument() {
+    final Garden.Builder builder = new Garden.Builder().width(WIDTH).height(1);
+    builder.appleRow(new int[WIDTH]);
+    assertThrows(IllegalArgumentException.class, () -> builder.appleRow(new int[WIDTH]));
+  }
+
+  @Test
+  public void builder_tooFewRows_shouldThrowIllegalArgument() {
+    final Garden.Builder builder = new Garden.Builder().width(WIDTH).height(HEIGHT);
+    builder.appleRow(new int[WIDTH]);
+    assertThrows(IllegalArgumentException.class, () -> builder.build());
+  }
+
+  @Test
+  public void builder_buildTwice_shouldThrowIllegalState() {
+    final Garden.Builder builder = new Garden.Builder().width(WIDTH).height(1);
+    builder.appleRow(new int[WIDTH]).build();
+    assertThrows(IllegalStateException.class, () -> builder.build());
+  }
+
+  @Test
+  public void sparse_shouldEqualDenseGarden() {
+    final Garden garden =
+        Garden.sparse(
+            WIDTH,
+            HEIGHT,
+            new int[] {2, 0, 1, 2, 1, 0, 2, 1, 0, 2, 1},
+            new int[] {3, 3, 2, 2, 3, 2, 1, 1, 1, 0, 0},
+            new int[] {32, 30, 21, 22, 31, 20, 12, 11, 10, 2, 1});
+    assertEquals(new Garden(WIDTH, HEIGHT, appleTable()), garden);
+    assertEquals(new Garden(WIDTH, HEIGHT, appleTable()).hashCode(), garden.hashCode());
+    assertArrayEquals(appleTable(), garden.appleTable());
+  }
+
+  @Test
+  public void sparse_zeroApples_shouldNotHoldTree() {
+    final Garden garden =
+        Garden.sparse(WIDTH, HEIGHT, new int[] {0, 1}, new int[] {0, 1}, new int[] {0, 5});
+    assertEquals(1, ((SparseCells) garden.cells()).count());
+    assertEquals(5, garden.getApples(1, 1));
+    assertEquals(0, garden.getApples(0, 0));
+  }
+
+  @Test
+  public void sparse_differentLengths_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Garden.sparse(WIDTH, HEIGHT, new int[] {0}, new int[] {0, 1}, new int[] {1}));
+  }
+
+  @Test
+  public void sparse_treeOutsideGarden_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Garden.sparse(WIDTH, HEIGHT, new int[] {WIDTH}, new int[] {0}, new int[] {1}));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Garden.sparse(WIDTH, HEIGHT, new int[] {0}, new int[] {-1}, new int[] {1}));
+  }
+
+  @Test
+  public void sparse_repeatedTree_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Garden.sparse(WIDTH, HEIGHT, new int[] {1, 1}, new int[] {2, 2}, new int[] {1, 0}));
+  }
+
+  @Test
+  public void sparse_negativeApples_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Garden.sparse(WIDTH, HEIGHT, new int[] {0}, new int[] {0}, new int[] {-1}));
+  }
+
   /**
    * <p>Returns an example <code>appleTable</code> (<code>int[][]<code>).</p>
    *
@@ -197,4 +452,14 @@ public class GardenTest {
     return appleTable(WIDTH, HEIGHT);
   }
 
+  /**
+   * @return the example garden with the apples at <code>(1, 1)</code> replaced by
+   * <code>maxApples</code>.
+   */
+  private Garden garden(final int maxApples) {
+    final int[][] appleTable = appleTable();
+    appleTable[HEIGHT - 2][1] = maxApples;
+    return new Garden(WIDTH, HEIGHT, appleTable);
+  }
+
 }
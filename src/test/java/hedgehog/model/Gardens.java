@@ -0,0 +1,70 @@
+package hedgehog.model;
+
+import java.util.Random;
+
+/**
+ * <p>Gardens for tests.</p>
+ */
+public final class Gardens {
+
+  /**
+   * <p>The apples under a tree of {@link #random(Random, int, int)} are below this.</p>
+   */
+  public static final int DEFAULT_BOUND = 100;
+
+  private Gardens() {
+    super();
+  }
+
+  /**
+   * @return a garden with between zero and {@value #DEFAULT_BOUND} (exclusive) apples under each
+   * tree, drawn from <code>random</code>.
+   */
+  public static Garden random(final Random random, final int width, final int height) {
+    return random(random, width, height, DEFAULT_BOUND);
+  }
+
+  /**
+   * @return a garden with between zero and <code>bound</code> (exclusive) apples under each tree,
+   * drawn from <code>random</code> row by row from the top.
+   */
+  public static Garden random(
+      final Random random,
+      final int width,
+      final int height,
+      final int bound) {
+
+    return new Garden(width, height, appleTable(random, width, height, bound));
+  }
+
+  /**
+   * @return a garden with <code>maxApples</code> under the tree at the top left and fewer under
+   * every other, drawn from a generator seeded with <code>maxApples</code>; its cells are held in
+   * the narrowest encoding that holds <code>maxApples</code>.
+   */
+  public static Garden random(final int width, final int height, final int maxApples) {
+    final int[][] appleTable = appleTable(new Random(maxApples), width, height, maxApples);
+    appleTable[0][0] = maxApples;
+    return new Garden(width, height, appleTable);
+  }
+
+  /**
+   * @return the rows, from the top, of {@link #random(Random, int, int, int)}; for tests that feed
+   * rows to a solver rather than a garden.
+   */
+  public static int[][] appleTable(
+      final Random random,
+      final int width,
+      final int height,
+      final int bound) {
+
+    final int[][] appleTable = new int[height][width];
+    for (final int[] appleRow : appleTable) {
+      for (int x = 0; x < width; x++) {
+        appleRow[x] = random.nextInt(bound);
+      }
+    }
+    return appleTable;
+  }
+
+}
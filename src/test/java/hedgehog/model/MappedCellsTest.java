@@ -0,0 +1,116 @@
+package hedgehog.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedCellsTest {
+
+  private static final int[] APPLES = {0, 1, 127, 128, 255};
+  private static final int OFFSET = 3;
+
+  @TempDir
+  Path temporaryDirectory;
+
+  @Test
+  public void map_fileTooShort_shouldThrowIllegalArgument() throws IOException {
+    final Path path = write(Cells.Encoding.INT, APPLES);
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> MappedCells.map(channel, OFFSET, Cells.Encoding.INT, APPLES.length + 1));
+    }
+  }
+
+  @Test
+  public void get_allEncodings_shouldReadBackUnsigned() throws IOException {
+    for (final Cells.Encoding encoding : Cells.Encoding.values()) {
+      final MappedCells cells = map(encoding, APPLES);
+      assertEquals(encoding, cells.encoding());
+      assertEquals(APPLES.length, cells.length());
+      for (int index = 0; index < APPLES.length; index++) {
+        assertEquals(APPLES[index], cells.get(index), encoding.toString());
+      }
+    }
+  }
+
+  @Test
+  public void copy_allEncodings_shouldCopyRangeToOffset() throws IOException {
+    for (final Cells.Encoding encoding : Cells.Encoding.values()) {
+      final int[] destination = {-1, -1, -1, -1};
+      map(encoding, APPLES).copy(2, destination, 1, 3);
+      assertArrayEquals(new int[] {-1, 127, 128, 255}, destination, encoding.toString());
+    }
+  }
+
+  @Test
+  public void equals_arrayCells_shouldCompareApples() throws IOException {
+    final ArrayCells arrayCells = ArrayCells.allocate(Cells.Encoding.BYTE, APPLES.length);
+    arrayCells.put(0, APPLES, APPLES.length);
+    for (final Cells.Encoding encoding : Cells.Encoding.values()) {
+      assertEquals(arrayCells, map(encoding, APPLES));
+      assertEquals(map(encoding, APPLES), arrayCells);
+      assertEquals(arrayCells.hashCode(), map(encoding, APPLES).hashCode());
+    }
+  }
+
+  @Test
+  public void update_shouldPassStoredBytes() throws IOException {
+    final ByteBuffer bytes = encode(Cells.Encoding.SHORT, APPLES);
+    final CRC32C expected = new CRC32C();
+    expected.update(bytes.position(OFFSET));
+    final CRC32C actual = new CRC32C();
+    map(Cells.Encoding.SHORT, APPLES).update(actual);
+    assertEquals(expected.getValue(), actual.getValue());
+  }
+
+  private MappedCells map(final Cells.Encoding encoding, final int[] apples) throws IOException {
+    try (final FileChannel channel =
+        FileChannel.open(write(encoding, apples), StandardOpenOption.READ)) {
+      return MappedCells.map(channel, OFFSET, encoding, apples.length);
+    }
+  }
+
+  /**
+   * @return a file of <code>apples</code> in <code>encoding</code>, after {@value #OFFSET} bytes
+   * that are not cells.
+   */
+  private Path write(final Cells.Encoding encoding, final int[] apples) throws IOException {
+    final Path path = Files.createTempFile(temporaryDirectory, encoding.toString(), ".cells");
+    final ByteBuffer bytes = encode(encoding, apples);
+    Files.write(path, bytes.array());
+    return path;
+  }
+
+  private static ByteBuffer encode(final Cells.Encoding encoding, final int[] apples) {
+    final ByteBuffer bytes =
+        ByteBuffer.allocate(OFFSET + apples.length * encoding.bytes())
+            .order(ByteOrder.LITTLE_ENDIAN);
+    bytes.position(OFFSET);
+    for (final int value : apples) {
+      switch (encoding) {
+        case BYTE:
+          bytes.put((byte) value);
+          break;
+        case SHORT:
+          bytes.putShort((short) value);
+          break;
+        default:
+          bytes.putInt(value);
+      }
+    }
+    return bytes.flip();
+  }
+
+}
@@ -0,0 +1,93 @@
+package hedgehog.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class MutableGardenTest {
+
+  private static final int[][] APPLE_TABLE = {{1, 2, 3}, {4, 5, 6}};
+
+  @Test
+  public void mutableGarden_nullGarden_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new MutableGarden(null));
+  }
+
+  @Test
+  public void getApples_shouldMatchGarden() {
+    final Garden garden = new Garden(3, 2, APPLE_TABLE);
+    final MutableGarden mutableGarden = new MutableGarden(garden);
+    assertEquals(3, mutableGarden.width());
+    assertEquals(2, mutableGarden.height());
+    for (int y = 0; y < 2; y++) {
+      for (int x = 0; x < 3; x++) {
+        assertEquals(garden.getApples(x, y), mutableGarden.getApples(x, y));
+      }
+    }
+  }
+
+  @Test
+  public void getApples_outOfBounds_shouldThrowIllegalArgument() {
+    final MutableGarden mutableGarden = new MutableGarden(new Garden(3, 2, APPLE_TABLE));
+    assertThrows(IllegalArgumentException.class, () -> mutableGarden.getApples(3, 0));
+    assertThrows(IllegalArgumentException.class, () -> mutableGarden.getApples(0, -1));
+  }
+
+  @Test
+  public void setApples_shouldChangeOnlyTheCopy() {
+    final Garden garden = new Garden(3, 2, APPLE_TABLE);
+    final MutableGarden mutableGarden = new MutableGarden(garden);
+    mutableGarden.setApples(0, 1, 9);
+    assertEquals(9, mutableGarden.getApples(0, 1));
+    assertEquals(1, garden.getApples(0, 1));
+    assertArrayEquals(new int[][] {{9, 2, 3}, {4, 5, 6}}, mutableGarden.toGarden().appleTable());
+  }
+
+  @Test
+  public void setApples_beyondEncoding_shouldWiden() {
+    final MutableGarden mutableGarden = new MutableGarden(new Garden(3, 2, APPLE_TABLE));
+    mutableGarden.setApples(2, 0, 70000);
+    final Garden garden = mutableGarden.toGarden();
+    assertEquals(Cells.Encoding.INT, garden.cells().encoding());
+    assertArrayEquals(new int[][] {{1, 2, 3}, {4, 5, 70000}}, garden.appleTable());
+  }
+
+  @Test
+  public void setApples_negativeApples_shouldThrowIllegalArgument() {
+    final MutableGarden mutableGarden = new MutableGarden(new Garden(3, 2, APPLE_TABLE));
+    assertThrows(IllegalArgumentException.class, () -> mutableGarden.setApples(0, 0, -1));
+    assertEquals(4, mutableGarden.getApples(0, 0));
+  }
+
+  @Test
+  public void setApples_shouldTellListenersOfChangesOnly() {
+
+    final MutableGarden mutableGarden = new MutableGarden(new Garden(3, 2, APPLE_TABLE));
+    final List<String> changes = new ArrayList<>();
+    final MutableGarden.Listener listener =
+        (x, y, previous, apples) -> changes.add(x + "," + y + ":" + previous + "->" + apples);
+
+    mutableGarden.addListener(listener);
+    mutableGarden.setApples(1, 0, 7);
+    mutableGarden.setApples(1, 0, 7);
+    mutableGarden.removeListener(listener);
+    mutableGarden.setApples(1, 0, 8);
+
+    assertEquals(List.of("1,0:5->7"), changes);
+  }
+
+  @Test
+  public void toGarden_shouldBeIndependentCopy() {
+    final MutableGarden mutableGarden = new MutableGarden(new Garden(3, 2, APPLE_TABLE));
+    final Garden garden = mutableGarden.toGarden();
+    mutableGarden.setApples(0, 0, 0);
+    assertEquals(new Garden(3, 2, APPLE_TABLE), garden);
+    assertTrue(mutableGarden.toString().startsWith("MutableGarden[width=3, height=2"));
+  }
+
+}
@@ -0,0 +1,95 @@
+package hedgehog.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class RouteTest {
+
+  private static final int WIDTH = 3;
+  private static final int HEIGHT = 4;
+
+  @Test
+  public void route_negativeApples_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new Route(-1, WIDTH, HEIGHT, new long[] {0b10101L}));
+  }
+
+  @Test
+  public void route_zeroWidth_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new Route(0, 0, HEIGHT, new long[] {0b10101L}));
+  }
+
+  @Test
+  public void route_zeroHeight_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new Route(0, WIDTH, 0, new long[] {0b10101L}));
+  }
+
+  @Test
+  public void route_nullMoves_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new Route(0, WIDTH, HEIGHT, null));
+  }
+
+  @Test
+  public void route_tooManyWords_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new Route(0, WIDTH, HEIGHT, new long[] {0b10101L, 0L}));
+  }
+
+  @Test
+  public void route_movesBeyondMoveCount_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new Route(0, WIDTH, HEIGHT, new long[] {0b1000011L}));
+  }
+
+  @Test
+  public void route_wrongNumberOfDownMoves_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new Route(0, WIDTH, HEIGHT, new long[] {0b00011L}));
+  }
+
+  @Test
+  public void isDown_negativeMove_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new Route(0, WIDTH, HEIGHT, new long[] {0b10101L}).isDown(-1));
+  }
+
+  @Test
+  public void isDown_moveEqualToMoveCount_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new Route(0, WIDTH, HEIGHT, new long[] {0b10101L}).isDown(WIDTH + HEIGHT - 2));
+  }
+
+  @Test
+  public void isDown_happyPathTests() {
+    final Route route = new Route(0, WIDTH, HEIGHT, new long[] {0b10101L});
+    assertTrue(route.isDown(0));
+    assertFalse(route.isDown(1));
+    assertTrue(route.isDown(4));
+    assertEquals("10101", route.toMoveString());
+  }
+
+  @Test
+  public void toMoveString_multipleWordsTest() {
+    final long[] moves = new long[Route.words(100)];
+    moves[1] = 1L << 35;
+    final Route route = new Route(0, 100, 2, moves);
+    assertEquals(100, route.moveCount());
+    assertTrue(route.isDown(99));
+    assertEquals(99, route.toMoveString().indexOf('1'));
+  }
+
+}
@@ -0,0 +1,64 @@
+package hedgehog.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class SparseCellsTest {
+
+  private static final int[] APPLES = {0, 1, 0, 0, 255, 0, 70000, 0};
+
+  @Test
+  public void get_shouldReturnApplesOrZero() {
+    final SparseCells cells = cells(APPLES);
+    assertEquals(APPLES.length, cells.length());
+    assertEquals(3, cells.count());
+    for (int index = 0; index < APPLES.length; index++) {
+      assertEquals(APPLES[index], cells.get(index));
+    }
+  }
+
+  @Test
+  public void sparseCells_shouldUseNarrowestEncoding() {
+    assertEquals(Cells.Encoding.BYTE, cells(new int[] {0, 255}).encoding());
+    assertEquals(Cells.Encoding.SHORT, cells(new int[] {256, 0}).encoding());
+    assertEquals(Cells.Encoding.INT, cells(APPLES).encoding());
+  }
+
+  @Test
+  public void copy_shouldCopyRangeToOffset() {
+    final int[] destination = {-1, -1, -1, -1, -1};
+    cells(APPLES).copy(3, destination, 1, 4);
+    assertArrayEquals(new int[] {-1, 0, 255, 0, 70000}, destination);
+  }
+
+  @Test
+  public void equals_arrayCells_shouldCompareApples() {
+    final ArrayCells arrayCells = ArrayCells.allocate(Cells.Encoding.INT, APPLES.length);
+    arrayCells.put(0, APPLES, APPLES.length);
+    assertEquals(cells(APPLES), arrayCells);
+    assertEquals(arrayCells, cells(APPLES));
+    assertEquals(arrayCells.hashCode(), cells(APPLES).hashCode());
+    assertNotEquals(cells(APPLES), cells(new int[] {0, 1, 0, 0, 255, 0, 70000, 1}));
+  }
+
+  private static SparseCells cells(final int[] values) {
+    int count = 0;
+    for (final int value : values) {
+      count += value > 0 ? 1 : 0;
+    }
+    final int[] indexes = new int[count];
+    final int[] apples = new int[count];
+    int i = 0;
+    for (int index = 0; index < values.length; index++) {
+      if (values[index] > 0) {
+        indexes[i] = index;
+        apples[i++] = values[index];
+      }
+    }
+    return new SparseCells(values.length, indexes, apples);
+  }
+
+}
@@ -0,0 +1,63 @@
+package hedgehog.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+public class BufferPoolTest {
+
+  @Test
+  public void bufferPool_minSizeNotPowerOfTwo_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new BufferPool(1000, 0));
+  }
+
+  @Test
+  public void acquire_shouldRoundUpToSize() {
+    final BufferPool bufferPool = new BufferPool(1024, 1 << 20);
+    assertEquals(1024, bufferPool.acquire(0).capacity());
+    assertEquals(1024, bufferPool.acquire(1024).capacity());
+    assertEquals(2048, bufferPool.acquire(1025).capacity());
+    assertEquals(1 << 16, bufferPool.acquire(40_000).capacity());
+    assertTrue(bufferPool.acquire(1).isDirect());
+  }
+
+  @Test
+  public void acquire_released_shouldReuseClearedBuffer() {
+    final BufferPool bufferPool = new BufferPool(1024, 1 << 20);
+    final ByteBuffer buffer = bufferPool.acquire(3000).put((byte) 1).flip();
+    bufferPool.release(buffer);
+    assertEquals(4096, bufferPool.pooledBytes());
+
+    final ByteBuffer reused = bufferPool.acquire(2049);
+    assertSame(buffer, reused);
+    assertEquals(0, reused.position());
+    assertEquals(4096, reused.limit());
+    assertEquals(0, bufferPool.pooledBytes());
+  }
+
+  @Test
+  public void release_overMaxPooledBytes_shouldDropBuffer() {
+    final BufferPool bufferPool = new BufferPool(1024, 1024);
+    final ByteBuffer first = bufferPool.acquire(1024);
+    final ByteBuffer second = bufferPool.acquire(1024);
+    bufferPool.release(first);
+    bufferPool.release(second);
+    assertEquals(1024, bufferPool.pooledBytes());
+    assertSame(first, bufferPool.acquire(1024));
+    assertNotSame(second, bufferPool.acquire(1024));
+  }
+
+  @Test
+  public void release_foreignBuffer_shouldDropBuffer() {
+    final BufferPool bufferPool = new BufferPool(1024, 1 << 20);
+    bufferPool.release(ByteBuffer.allocate(1024));
+    bufferPool.release(ByteBuffer.allocateDirect(1500));
+    assertEquals(0, bufferPool.pooledBytes());
+  }
+
+}
@@ -0,0 +1,53 @@
+package hedgehog.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.InetSocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class SolveProtocolTest {
+
+  @Test
+  public void address_blank_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> SolveProtocol.address(" "));
+  }
+
+  @Test
+  public void address_badPort_shouldThrowIllegalArgument() {
+    final IllegalArgumentException e =
+        assertThrows(IllegalArgumentException.class, () -> SolveProtocol.address("host:port"));
+    assertEquals(NumberFormatException.class, e.getCause().getClass());
+  }
+
+  @Test
+  public void address_port_shouldBeLoopback() {
+    assertEquals(new InetSocketAddress("127.0.0.1", 7878), SolveProtocol.address("7878"));
+  }
+
+  @Test
+  public void address_hostAndPort_shouldBeInet() {
+    assertEquals(new InetSocketAddress("localhost", 80), SolveProtocol.address("localhost:80"));
+  }
+
+  @Test
+  public void address_unix_shouldBeUnixDomain() {
+    assertEquals(
+        UnixDomainSocketAddress.of("/tmp/hedgehog.sock"),
+        SolveProtocol.address("unix:/tmp/hedgehog.sock"));
+  }
+
+  @Test
+  public void message_long_shouldBeCutAtCharacter() {
+    // Each 'é' is two bytes, so the limit falls in the middle of one.
+    final String message = "x" + "é".repeat(SolveProtocol.MAX_MESSAGE_BYTES);
+    final byte[] bytes = SolveProtocol.message(message);
+    assertEquals(SolveProtocol.MAX_MESSAGE_BYTES - 1, bytes.length);
+    assertEquals(
+        message.substring(0, SolveProtocol.MAX_MESSAGE_BYTES / 2),
+        new String(bytes, StandardCharsets.UTF_8));
+  }
+
+}
@@ -0,0 +1,274 @@
+package hedgehog.server;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.io.GardenBytes;
+import hedgehog.memory.AdmissionControl;
+import hedgehog.memory.MemoryBudget;
+import hedgehog.model.Garden;
+import hedgehog.model.Gardens;
+import hedgehog.strategy.DynamicProgrammingSolutionStrategy;
+import hedgehog.strategy.MemoryEstimator;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SolveServerTest {
+
+  private static final SocketAddress LOOPBACK = new InetSocketAddress("127.0.0.1", 0);
+
+  private static final byte[] HAPPY_PATH =
+      "3 4\n30 31 32\n20 21 22\n10 11 12\n0 1 2".getBytes(StandardCharsets.US_ASCII);
+
+  private static final long HAPPY_PATH_SOLUTION = 30 + 31 + 32 + 22 + 12 + 2;
+
+  @TempDir
+  Path temporaryDirectory;
+
+  private SolveServer server;
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    if (Objects.nonNull(server)) {
+      server.close();
+    }
+  }
+
+  @Test
+  public void solveServer_nullAddress_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new SolveServer(null, new DynamicProgrammingSolutionStrategy()));
+  }
+
+  @Test
+  public void solveServer_nullSolutionStrategy_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new SolveServer(LOOPBACK, null));
+  }
+
+  @Test
+  public void solveServer_zeroMaxRequestBytes_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new SolveServer(LOOPBACK, new DynamicProgrammingSolutionStrategy(), 0));
+  }
+
+  @Test
+  public void solveServer_nullAdmissionControl_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new SolveServer(
+                LOOPBACK,
+                new DynamicProgrammingSolutionStrategy(),
+                SolveProtocol.DEFAULT_MAX_REQUEST_BYTES,
+                null));
+  }
+
+  @Test
+  public void start_twice_shouldThrowIllegalState() throws IOException {
+    server = new SolveServer(LOOPBACK, new DynamicProgrammingSolutionStrategy());
+    server.start();
+    assertThrows(IllegalStateException.class, () -> server.start());
+  }
+
+  @Test
+  public void solve_textAndBinary_shouldAnswer() throws Exception {
+    try (final SolveClient client = SolveClient.connect(start(LOOPBACK))) {
+      assertEquals(HAPPY_PATH_SOLUTION, client.solve(HAPPY_PATH));
+      assertEquals(
+          HAPPY_PATH_SOLUTION,
+          client.solve(GardenBytes.encodeBinary(GardenBytes.decode(ByteBuffer.wrap(HAPPY_PATH)))));
+    }
+    assertEquals(2, server.requests());
+  }
+
+  @Test
+  public void solveAll_pipelined_shouldAnswerInOrder() throws Exception {
+
+    final Random random = new Random(23);
+    final List<byte[]> gardens = new ArrayList<>();
+    final long[] expected = new long[1000];
+
+    for (int g = 0; g < expected.length; g++) {
+      final Garden garden =
+          Gardens.random(random, 1 + random.nextInt(20), 1 + random.nextInt(20), 1000);
+      gardens.add(g % 2 == 0 ? GardenBytes.encodeText(garden) : GardenBytes.encodeBinary(garden));
+      expected[g] = new DynamicProgrammingSolutionStrategy().solve(garden);
+    }
+
+    try (final SolveClient client = SolveClient.connect(start(LOOPBACK))) {
+      assertArrayEquals(expected, client.solveAll(gardens, 64));
+      assertArrayEquals(expected, client.solveAll(gardens, 1));
+    }
+  }
+
+  @Test
+  public void solve_gardensLongerThanBuffers_shouldAnswer() throws Exception {
+
+    final Garden garden = Gardens.random(new Random(7), 400, 300, 1000);
+    final long expected = new DynamicProgrammingSolutionStrategy().solve(garden);
+    final byte[] text = GardenBytes.encodeText(garden);
+    assertTrue(text.length > 2 * SolveServer.IO_BUFFER_SIZE);
+
+    try (final SolveClient client = SolveClient.connect(start(LOOPBACK))) {
+      client.send(HAPPY_PATH);
+      client.send(text);
+      client.send(GardenBytes.encodeBinary(garden));
+      client.send(HAPPY_PATH);
+      assertEquals(HAPPY_PATH_SOLUTION, client.receive());
+      assertEquals(expected, client.receive());
+      assertEquals(expected, client.receive());
+      assertEquals(HAPPY_PATH_SOLUTION, client.receive());
+    }
+  }
+
+  @Test
+  public void solve_invalidGarden_shouldAnswerErrorAndCarryOn() throws Exception {
+
+    try (final SolveClient client = SolveClient.connect(start(LOOPBACK))) {
+
+      client.send("2 2\n1 2\n3 a".getBytes(StandardCharsets.US_ASCII));
+      client.send(HAPPY_PATH);
+
+      final SolutionException e = assertThrows(SolutionException.class, client::receive);
+      assertEquals(IllegalStateException.class, e.getCause().getClass());
+      assertTrue(e.getCause().getMessage().contains("InputReadException"));
+      assertTrue(e.getCause().getMessage().contains("NumberFormatException"));
+
+      assertEquals(HAPPY_PATH_SOLUTION, client.receive());
+    }
+  }
+
+  @Test
+  public void solve_headerOnlyOfLargeGarden_shouldAnswerErrorAndCarryOn() throws Exception {
+
+    try (final SolveClient client = SolveClient.connect(start(LOOPBACK))) {
+
+      client.send("46000 46000".getBytes(StandardCharsets.US_ASCII));
+      client.send(HAPPY_PATH);
+
+      final SolutionException e = assertThrows(SolutionException.class, client::receive);
+      assertTrue(e.getCause().getMessage().contains("InputReadException"));
+      assertTrue(e.getCause().getMessage().contains("more trees than its bytes can hold"));
+
+      assertEquals(HAPPY_PATH_SOLUTION, client.receive());
+    }
+  }
+
+  @Test
+  public void solve_gardenOverMemoryBudget_shouldAnswerErrorAndCarryOn() throws Exception {
+
+    final byte[] large = GardenBytes.encodeBinary(Gardens.random(new Random(11), 200, 200));
+    final AdmissionControl admissionControl =
+        new AdmissionControl(
+            new MemoryBudget(
+                new MemoryEstimator()
+                    .estimate(GardenBytes.peek(ByteBuffer.wrap(HAPPY_PATH)))
+                    .inMemoryBytes()),
+            new MemoryEstimator(),
+            Duration.ZERO);
+    server =
+        new SolveServer(
+            LOOPBACK,
+            new DynamicProgrammingSolutionStrategy(),
+            SolveProtocol.DEFAULT_MAX_REQUEST_BYTES,
+            admissionControl);
+
+    try (final SolveClient client = SolveClient.connect(server.start())) {
+
+      client.send(large);
+      client.send(HAPPY_PATH);
+
+      final SolutionException e = assertThrows(SolutionException.class, client::receive);
+      assertTrue(e.getCause().getMessage().contains("not enough memory"));
+
+      assertEquals(HAPPY_PATH_SOLUTION, client.receive());
+    }
+  }
+
+  @Test
+  public void solveAll_invalidGarden_shouldThrowOnceAllAnswered() throws Exception {
+
+    final List<byte[]> gardens = List.of(HAPPY_PATH, "0 0".getBytes(), HAPPY_PATH);
+
+    try (final SolveClient client = SolveClient.connect(start(LOOPBACK))) {
+      assertThrows(SolutionException.class, () -> client.solveAll(gardens, 2));
+      assertEquals(HAPPY_PATH_SOLUTION, client.solve(HAPPY_PATH));
+    }
+  }
+
+  @Test
+  public void solve_gardenOverMaxRequestBytes_shouldAnswerErrorAndClose() throws Exception {
+
+    server = new SolveServer(LOOPBACK, new DynamicProgrammingSolutionStrategy(), 16);
+
+    try (final SolveClient client = SolveClient.connect(server.start())) {
+      client.send(HAPPY_PATH);
+      client.send(HAPPY_PATH);
+      final SolutionException e = assertThrows(SolutionException.class, client::receive);
+      assertTrue(
+          e.getCause().getMessage().contains("[length == " + HAPPY_PATH.length + "]"),
+          e.getCause().getMessage());
+      assertThrows(IOException.class, client::receive);
+    }
+  }
+
+  @Test
+  public void solve_unixDomainSocket_shouldAnswerAndDeleteSocketOnClose() throws Exception {
+
+    final Path socket = temporaryDirectory.resolve("hedgehog.sock");
+
+    final SocketAddress address = start(UnixDomainSocketAddress.of(socket));
+
+    try (final SolveClient client = SolveClient.connect(address)) {
+      assertEquals(HAPPY_PATH_SOLUTION, client.solve(HAPPY_PATH));
+    }
+
+    assertTrue(Files.exists(socket));
+    server.close();
+    assertFalse(Files.exists(socket));
+  }
+
+  @Test
+  public void close_shouldCloseOpenConnections() throws Exception {
+    try (final SolveClient client = SolveClient.connect(start(LOOPBACK))) {
+      assertEquals(HAPPY_PATH_SOLUTION, client.solve(HAPPY_PATH));
+      server.close();
+      assertThrows(IOException.class, () -> client.solve(HAPPY_PATH));
+    }
+  }
+
+  @Test
+  public void loadTest_shouldAnswerEveryRequest() throws Exception {
+    final LoadTest.Report report = new LoadTest(3, 200, 8, 6, 5).run(start(LOOPBACK));
+    assertEquals(600, report.requests());
+    assertEquals(600, server.requests());
+    assertTrue(report.p50Nanos() <= report.p99Nanos());
+    assertTrue(report.p99Nanos() <= report.maxNanos());
+  }
+
+  private SocketAddress start(final SocketAddress address) throws IOException {
+    server = new SolveServer(address, new DynamicProgrammingSolutionStrategy());
+    return server.start();
+  }
+
+}
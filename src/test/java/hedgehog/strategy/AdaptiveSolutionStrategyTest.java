@@ -0,0 +1,86 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveSolutionStrategyTest {
+
+  private final SolutionStrategy sparse = new SparseSolutionStrategy();
+  private final SolutionStrategy dense = new DynamicProgrammingSolutionStrategy();
+
+  @Test
+  public void adaptiveSolutionStrategy_nullSparseStrategy_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new AdaptiveSolutionStrategy(null, dense, 0.5));
+  }
+
+  @Test
+  public void adaptiveSolutionStrategy_nullDenseStrategy_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new AdaptiveSolutionStrategy(sparse, null, 0.5));
+  }
+
+  @Test
+  public void adaptiveSolutionStrategy_densityOutOfRange_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new AdaptiveSolutionStrategy(sparse, dense, -0.1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new AdaptiveSolutionStrategy(sparse, dense, 1.1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new AdaptiveSolutionStrategy(sparse, dense, Double.NaN));
+  }
+
+  @Test
+  public void solve_nullGarden_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new AdaptiveSolutionStrategy().solve(null));
+  }
+
+  @Test
+  public void select_sparseGardenBelowDensity_shouldSelectSparse() {
+    final AdaptiveSolutionStrategy strategy = new AdaptiveSolutionStrategy(sparse, dense, 0.1);
+    assertSame(sparse, strategy.select(sparseGarden(10)));
+    assertSame(dense, strategy.select(sparseGarden(11)));
+  }
+
+  @Test
+  public void select_denseGarden_shouldSelectDense() {
+    final AdaptiveSolutionStrategy strategy = new AdaptiveSolutionStrategy(sparse, dense, 1);
+    assertSame(dense, strategy.select(new Garden(1, 1, new int[][] {{1}})));
+  }
+
+  @Test
+  public void solve_happyPathTests() throws SolutionException {
+    final AdaptiveSolutionStrategy strategy = new AdaptiveSolutionStrategy();
+    assertEquals(55, strategy.solve(sparseGarden(10)));
+    assertEquals(
+        12,
+        strategy.solve(new Garden(3, 3, new int[][] {{1, 2, 3}, {1, 2, 3}, {1, 2, 3}})));
+  }
+
+  /**
+   * @return a 10 x 10 garden with <code>count</code> trees with apples down the left column and
+   * along the bottom row, the <code>i</code>th having <code>i + 1</code> apples.
+   */
+  private static Garden sparseGarden(final int count) {
+    final int[] x = new int[count];
+    final int[] y = new int[count];
+    final int[] apples = new int[count];
+    for (int i = 0; i < count; i++) {
+      x[i] = Math.max(0, i - 9);
+      y[i] = Math.max(0, 9 - i);
+      apples[i] = i + 1;
+    }
+    return Garden.sparse(10, 10, x, y, apples);
+  }
+
+}
@@ -0,0 +1,136 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.exception.OutputWriteException;
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AppendableSolverTest {
+
+  @TempDir
+  Path temporaryDirectory;
+
+  @Test
+  public void appendableSolver_zeroWidth_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new AppendableSolver(0));
+  }
+
+  @Test
+  public void appendableSolver_nullCheckpoint_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new AppendableSolver((AppendableSolver.Checkpoint) null));
+  }
+
+  @Test
+  public void appendRow_wrongLength_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new AppendableSolver(2).appendRow(new int[] {1}));
+  }
+
+  @Test
+  public void appendRow_negativeApples_shouldThrowIllegalArgument() {
+    final AppendableSolver solver = new AppendableSolver(2);
+    assertThrows(IllegalArgumentException.class, () -> solver.appendRow(new int[] {1, -1}));
+    assertEquals(0, solver.rowCount());
+  }
+
+  @Test
+  public void solution_noRows_shouldThrowIllegalState() {
+    assertThrows(IllegalStateException.class, () -> new AppendableSolver(2).solution());
+  }
+
+  @Test
+  public void appendRow_everyRow_shouldMatchFullSolve() throws SolutionException {
+
+    final Random random = new Random(11);
+    final int width = 17;
+    final int[][] appleTable = new int[60][];
+    final AppendableSolver solver = new AppendableSolver(width);
+
+    for (int row = 0; row < appleTable.length; row++) {
+      appleTable[row] = random.ints(width, 0, 1000).toArray();
+      final long solution = solver.appendRow(appleTable[row]);
+      assertEquals(
+          new DynamicProgrammingSolutionStrategy()
+              .solve(new Garden(width, row + 1, Arrays.copyOf(appleTable, row + 1))),
+          solution);
+      assertEquals(solution, solver.solution());
+      assertEquals(row + 1, solver.rowCount());
+    }
+  }
+
+  @Test
+  public void checkpoint_restored_shouldCarryOn() throws InputReadException, OutputWriteException {
+
+    final Random random = new Random(12);
+    final AppendableSolver uninterrupted = new AppendableSolver(5);
+    final AppendableSolver interrupted = new AppendableSolver(5);
+    final Path path = temporaryDirectory.resolve("feed.checkpoint");
+
+    for (int row = 0; row < 10; row++) {
+      final int[] appleRow = random.ints(5, 0, 100).toArray();
+      uninterrupted.appendRow(appleRow);
+      interrupted.appendRow(appleRow);
+    }
+
+    interrupted.checkpoint().write(path);
+    final AppendableSolver restarted = new AppendableSolver(AppendableSolver.Checkpoint.read(path));
+
+    assertEquals(uninterrupted.checkpoint(), restarted.checkpoint());
+
+    for (int row = 0; row < 10; row++) {
+      final int[] appleRow = random.ints(5, 0, 100).toArray();
+      assertEquals(uninterrupted.appendRow(appleRow), restarted.appendRow(appleRow));
+    }
+
+    assertEquals(20, restarted.rowCount());
+  }
+
+  @Test
+  public void checkpoint_shouldNotChangeOnceTaken() {
+    final AppendableSolver solver = new AppendableSolver(2);
+    solver.appendRow(new int[] {1, 2});
+    final AppendableSolver.Checkpoint checkpoint = solver.checkpoint();
+    solver.appendRow(new int[] {3, 4});
+    checkpoint.best()[1] = 99;
+    assertEquals(new AppendableSolver.Checkpoint(1, new long[] {1, 3}), checkpoint);
+  }
+
+  @Test
+  public void read_damagedCheckpoint_shouldThrowInputRead()
+      throws IOException, OutputWriteException {
+
+    final Path path = temporaryDirectory.resolve("feed.checkpoint");
+    new AppendableSolver.Checkpoint(3, new long[] {1, 2, 3}).write(path);
+
+    final byte[] bytes = Files.readAllBytes(path);
+    bytes[20] ^= 1;
+    Files.write(path, bytes);
+    assertThrows(InputReadException.class, () -> AppendableSolver.Checkpoint.read(path));
+
+    Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+    assertThrows(InputReadException.class, () -> AppendableSolver.Checkpoint.read(path));
+
+    Files.writeString(path, "not a checkpoint");
+    assertThrows(InputReadException.class, () -> AppendableSolver.Checkpoint.read(path));
+  }
+
+  @Test
+  public void read_missingFile_shouldThrowInputRead() {
+    assertThrows(
+        InputReadException.class,
+        () -> AppendableSolver.Checkpoint.read(temporaryDirectory.resolve("missing")));
+  }
+
+}
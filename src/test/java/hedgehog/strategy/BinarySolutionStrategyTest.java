@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import hedgehog.exception.SolutionException;
 import hedgehog.model.Garden;
 import java.util.Arrays;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 public class BinarySolutionStrategyTest {
@@ -55,4 +56,48 @@ public class BinarySolutionStrategyTest {
                     .build()));
   }
 
+  @Test
+  public void solve_singleRowAndSingleColumnTests() throws SolutionException {
+    assertEquals(
+        6,
+        new BinarySolutionStrategy().solve(new Garden(3, 1, new int[][] {{1, 2, 3}})));
+    assertEquals(
+        6,
+        new BinarySolutionStrategy().solve(new Garden(1, 3, new int[][] {{1}, {2}, {3}})));
+    assertEquals(7, new BinarySolutionStrategy().solve(new Garden(1, 1, new int[][] {{7}})));
+  }
+
+  @Test
+  public void solve_tooManyMoves_shouldThrowSolution() {
+    final SolutionException e =
+        assertThrows(
+            SolutionException.class,
+            () -> new BinarySolutionStrategy().solve(new Garden(33, 32, new int[32][33])));
+    assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+  }
+
+  @Test
+  public void solve_sequentialAndParallel_shouldMatchDynamicProgramming()
+      throws SolutionException {
+
+    final Random random = new Random(21);
+
+    for (int i = 0; i < 40; i++) {
+
+      final int width = 1 + random.nextInt(13);
+      final int height = 1 + random.nextInt(13);
+      final int[][] appleTable = new int[height][width];
+      for (final int[] appleRow : appleTable) {
+        for (int x = 0; x < width; x++) {
+          appleRow[x] = random.nextInt(1000);
+        }
+      }
+      final Garden garden = new Garden(width, height, appleTable);
+      final long expected = new DynamicProgrammingSolutionStrategy().solve(garden);
+
+      assertEquals(expected, new BinarySolutionStrategy(false).solve(garden), garden.toString());
+      assertEquals(expected, new BinarySolutionStrategy(true).solve(garden), garden.toString());
+    }
+  }
+
 }
@@ -0,0 +1,146 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Fingerprint;
+import hedgehog.model.Garden;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CachingSolutionStrategyTest {
+
+  @TempDir
+  Path temporaryDirectory;
+
+  private final AtomicInteger solves = new AtomicInteger();
+  private SolutionStrategy countingStrategy;
+
+  @BeforeEach
+  public void setUp() {
+    solves.set(0);
+    countingStrategy = garden -> {
+      solves.incrementAndGet();
+      return new DynamicProgrammingSolutionStrategy().solve(garden);
+    };
+  }
+
+  @Test
+  public void cachingSolutionStrategy_nullDelegate_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new CachingSolutionStrategy(null, 1));
+  }
+
+  @Test
+  public void cachingSolutionStrategy_zeroMaxEntries_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new CachingSolutionStrategy(countingStrategy, 0));
+  }
+
+  @Test
+  public void solve_nullGarden_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new CachingSolutionStrategy(countingStrategy, 1).solve(null));
+  }
+
+  @Test
+  public void solve_repeatedGarden_shouldSolveOnce() throws SolutionException {
+
+    final CachingSolutionStrategy cachingStrategy =
+        new CachingSolutionStrategy(countingStrategy, 4);
+
+    assertEquals(4, cachingStrategy.solve(garden(1)));
+    assertEquals(4, cachingStrategy.solve(garden(1)));
+    assertEquals(8, cachingStrategy.solve(garden(2)));
+    assertEquals(4, cachingStrategy.solve(garden(1)));
+
+    assertEquals(2, solves.get());
+    assertEquals(
+        new CachingSolutionStrategy.Statistics(2, 0, 2, 0, 2), cachingStrategy.statistics());
+    assertEquals(0.5, cachingStrategy.statistics().hitRatio());
+  }
+
+  @Test
+  public void solve_fullCache_shouldEvictLeastRecentlyUsed() throws SolutionException {
+
+    final CachingSolutionStrategy cachingStrategy =
+        new CachingSolutionStrategy(countingStrategy, 2);
+
+    cachingStrategy.solve(garden(1));
+    cachingStrategy.solve(garden(2));
+    cachingStrategy.solve(garden(1));
+    cachingStrategy.solve(garden(3));
+    cachingStrategy.solve(garden(1));
+    cachingStrategy.solve(garden(2));
+
+    assertEquals(4, solves.get());
+    assertEquals(
+        new CachingSolutionStrategy.Statistics(2, 0, 4, 2, 2), cachingStrategy.statistics());
+  }
+
+  @Test
+  public void solve_directory_shouldSurviveRestart() throws SolutionException {
+
+    assertEquals(
+        12,
+        new CachingSolutionStrategy(countingStrategy, 2, temporaryDirectory).solve(garden(3)));
+
+    final CachingSolutionStrategy restarted =
+        new CachingSolutionStrategy(countingStrategy, 2, temporaryDirectory);
+
+    assertEquals(12, restarted.solve(garden(3)));
+    assertEquals(12, restarted.solve(garden(3)));
+    assertEquals(1, solves.get());
+    assertEquals(new CachingSolutionStrategy.Statistics(1, 1, 0, 0, 1), restarted.statistics());
+  }
+
+  @Test
+  public void solve_corruptFile_shouldSolveAgain() throws IOException, SolutionException {
+
+    Files.writeString(
+        temporaryDirectory.resolve(Fingerprint.of(garden(3)).toHex() + ".solution"), "twelve");
+
+    final CachingSolutionStrategy cachingStrategy =
+        new CachingSolutionStrategy(countingStrategy, 2, temporaryDirectory);
+
+    assertEquals(12, cachingStrategy.solve(garden(3)));
+    assertEquals(1, solves.get());
+    assertEquals(
+        "12",
+        Files.readString(
+            temporaryDirectory.resolve(Fingerprint.of(garden(3)).toHex() + ".solution")));
+  }
+
+  @Test
+  public void solve_delegateThrows_shouldNotCache() {
+
+    final CachingSolutionStrategy cachingStrategy =
+        new CachingSolutionStrategy(
+            garden -> {
+              throw new SolutionException(new ArithmeticException());
+            },
+            2);
+
+    assertThrows(SolutionException.class, () -> cachingStrategy.solve(garden(1)));
+    assertThrows(SolutionException.class, () -> cachingStrategy.solve(garden(1)));
+    assertEquals(
+        new CachingSolutionStrategy.Statistics(0, 0, 2, 0, 0), cachingStrategy.statistics());
+  }
+
+  /**
+   * @return a 2x3 garden with <code>apples</code> under every tree, whose solution is
+   * <code>4 * apples</code>.
+   */
+  private static Garden garden(final int apples) {
+    return new Garden(
+        2, 3, new int[][] {{apples, apples}, {apples, apples}, {apples, apples}});
+  }
+
+}
@@ -0,0 +1,63 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import hedgehog.exception.SolutionException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class CalibrationTest {
+
+  @Test
+  public void cost_negativeNanos_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new Calibration.Cost(-1, 1));
+    assertThrows(IllegalArgumentException.class, () -> new Calibration.Cost(1, Double.NaN));
+  }
+
+  @Test
+  public void cost_uncalibratedProvider_shouldReturnDefaultCost() {
+    final SolutionStrategyProvider provider = new SolutionStrategyProviders.DynamicProgramming();
+    assertEquals(provider.defaultCost(), Calibration.defaults().cost(provider));
+    assertEquals(
+        new Calibration.Cost(1, 2),
+        Calibration.of(Map.of("dynamic-programming", new Calibration.Cost(1, 2))).cost(provider));
+  }
+
+  @Test
+  public void fit_pointsOnLine_shouldReturnLine() {
+    final Calibration.Cost cost =
+        Calibration.fit(new double[] {10, 100, 1000}, new double[] {520, 700, 2500});
+    assertEquals(500, cost.fixedNanos(), 1e-6);
+    assertEquals(2, cost.nanosPerUnit(), 1e-9);
+  }
+
+  @Test
+  public void fit_negativeFixedCost_shouldFitThroughOrigin() {
+    final Calibration.Cost cost = Calibration.fit(new double[] {10, 20}, new double[] {5, 40});
+    assertEquals(0, cost.fixedNanos());
+    assertTrue(cost.nanosPerUnit() > 0);
+  }
+
+  @Test
+  public void fit_singlePoint_shouldFitThroughOrigin() {
+    final Calibration.Cost cost = Calibration.fit(new double[] {10}, new double[] {50});
+    assertEquals(new Calibration.Cost(0, 5), cost);
+  }
+
+  @Test
+  public void measure_nullProviders_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> Calibration.measure(null));
+  }
+
+  @Test
+  public void measure_provider_shouldFitCost() throws SolutionException {
+    final Calibration calibration =
+        Calibration.measure(List.of(new SolutionStrategyProviders.DynamicProgramming()));
+    assertEquals(1, calibration.costs().size());
+    assertTrue(calibration.costs().get("dynamic-programming").nanosPerUnit() > 0);
+  }
+
+}
@@ -0,0 +1,139 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Cells;
+import hedgehog.model.Garden;
+import hedgehog.model.Gardens;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class DynamicProgrammingSolutionStrategyTest {
+
+  @Test
+  public void solve_nullGarden_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new DynamicProgrammingSolutionStrategy().solve(null));
+  }
+
+  @Test
+  public void solve_happyPathTest() throws SolutionException {
+
+    assertEquals(
+        12,
+        new DynamicProgrammingSolutionStrategy()
+            .solve(
+                new Garden.Builder()
+                    .width(3)
+                    .height(3)
+                    .appleRow(Arrays.asList(1, 2, 3))
+                    .appleRow(Arrays.asList(1, 3, 3))
+                    .appleRow(Arrays.asList(1, 2, 3))
+                    .build()));
+
+    assertEquals(
+        156,
+        new DynamicProgrammingSolutionStrategy()
+            .solve(
+                new Garden.Builder()
+                    .width(12)
+                    .height(13)
+                    .appleRow(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12))
+                    .appleRow(Arrays.asList(2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 1))
+                    .appleRow(Arrays.asList(3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 1, 2))
+                    .appleRow(Arrays.asList(4, 5, 6, 7, 8, 9, 10, 11, 12, 1, 2, 3))
+                    .appleRow(Arrays.asList(5, 6, 7, 8, 9, 10, 11, 12, 1, 2, 3, 4))
+                    .appleRow(Arrays.asList(6, 7, 8, 9, 10, 11, 12, 1, 2, 3, 4, 5))
+                    .appleRow(Arrays.asList(7, 8, 9, 10, 11, 12, 1, 2, 3, 4, 5, 6))
+                    .appleRow(Arrays.asList(8, 9, 10, 11, 12, 1, 2, 3, 4, 5, 6, 7))
+                    .appleRow(Arrays.asList(9, 10, 11, 12, 1, 2, 3, 4, 5, 6, 7, 8))
+                    .appleRow(Arrays.asList(10, 11, 12, 1, 2, 3, 4, 5, 6, 7, 8, 9))
+                    .appleRow(Arrays.asList(11, 12, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10))
+                    .appleRow(Arrays.asList(12, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11))
+                    .appleRow(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12))
+                    .build()));
+  }
+
+  @Test
+  public void solve_singleRowAndSingleColumnTests() throws SolutionException {
+    assertEquals(
+        6,
+        new DynamicProgrammingSolutionStrategy()
+            .solve(new Garden(3, 1, new int[][] {{1, 2, 3}})));
+    assertEquals(
+        6,
+        new DynamicProgrammingSolutionStrategy()
+            .solve(new Garden(1, 3, new int[][] {{1}, {2}, {3}})));
+  }
+
+  @Test
+  public void solve_shouldMatchBinarySolutionStrategy() throws SolutionException {
+    final Random random = new Random(42);
+    for (int i = 0; i < 50; i++) {
+      final Garden garden = Gardens.random(random, 1 + random.nextInt(8), 2 + random.nextInt(7));
+      assertEquals(
+          new BinarySolutionStrategy().solve(garden),
+          new DynamicProgrammingSolutionStrategy().solve(garden),
+          garden.toString());
+    }
+  }
+
+  @Test
+  public void solve_largeGardenTest() throws SolutionException {
+    final int[][] tall = new int[3000][2000];
+    Arrays.stream(tall).forEach(appleRow -> Arrays.fill(appleRow, 1));
+    assertEquals(
+        4999,
+        new DynamicProgrammingSolutionStrategy().solve(new Garden(2000, 3000, tall)));
+
+    final int[][] wide = new int[2000][3000];
+    Arrays.stream(wide).forEach(appleRow -> Arrays.fill(appleRow, 1));
+    assertEquals(
+        4999,
+        new DynamicProgrammingSolutionStrategy().solve(new Garden(3000, 2000, wide)));
+  }
+
+  @Test
+  public void solve_beyondIntRange_shouldReturnLong() throws SolutionException {
+    final int[][] row = {{Integer.MAX_VALUE, Integer.MAX_VALUE}};
+    final int[][] column = {{Integer.MAX_VALUE}, {Integer.MAX_VALUE}};
+    assertEquals(
+        2L * Integer.MAX_VALUE,
+        new DynamicProgrammingSolutionStrategy().solve(new Garden(2, 1, row)));
+    assertEquals(
+        2L * Integer.MAX_VALUE,
+        new DynamicProgrammingSolutionStrategy().solve(new Garden(1, 2, column)));
+  }
+
+  @Test
+  public void solve_allEncodings_shouldReturnIdenticalSolutions() throws SolutionException {
+    final Random random = new Random(9);
+    for (int i = 0; i < 20; i++) {
+      final int width = 1 + random.nextInt(150);
+      final int height = 1 + random.nextInt(150);
+      final int[][] appleTable = new int[height][width];
+      for (final int[] appleRow : appleTable) {
+        for (int x = 0; x < appleRow.length; x++) {
+          appleRow[x] = random.nextInt(256);
+        }
+      }
+      final Set<Long> solutions = new HashSet<>();
+      for (final Cells.Encoding encoding : Cells.Encoding.values()) {
+        final Garden.Builder builder =
+            new Garden.Builder().encoding(encoding).width(width).height(height);
+        Arrays.stream(appleTable).forEach(builder::appleRow);
+        final Garden garden = builder.build();
+        assertEquals(encoding, garden.cells().encoding());
+        solutions.add(new DynamicProgrammingSolutionStrategy().solve(garden));
+      }
+      assertEquals(1, solutions.size(), solutions.toString());
+    }
+  }
+
+}
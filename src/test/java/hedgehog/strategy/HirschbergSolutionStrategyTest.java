@@ -0,0 +1,99 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import hedgehog.model.Gardens;
+import hedgehog.model.Route;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class HirschbergSolutionStrategyTest {
+
+  @Test
+  public void solveRoute_nullGarden_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new HirschbergSolutionStrategy().solveRoute(null));
+  }
+
+  @Test
+  public void solveRoute_happyPathTest() throws SolutionException {
+
+    final Route route =
+        new HirschbergSolutionStrategy()
+            .solveRoute(
+                new Garden.Builder()
+                    .width(3)
+                    .height(3)
+                    .appleRow(Arrays.asList(1, 2, 3))
+                    .appleRow(Arrays.asList(1, 3, 3))
+                    .appleRow(Arrays.asList(1, 2, 3))
+                    .build());
+
+    assertEquals(12, route.apples());
+    assertEquals("0101", route.toMoveString());
+  }
+
+  @Test
+  public void solveRoute_singleSquareTest() throws SolutionException {
+    final Route route =
+        new HirschbergSolutionStrategy().solveRoute(new Garden(1, 1, new int[][] {{7}}));
+    assertEquals(7, route.apples());
+    assertEquals("", route.toMoveString());
+  }
+
+  @Test
+  public void solveRoute_singleRowAndSingleColumnTests() throws SolutionException {
+
+    final Route row =
+        new HirschbergSolutionStrategy().solveRoute(new Garden(3, 1, new int[][] {{1, 2, 3}}));
+    assertEquals(6, row.apples());
+    assertEquals("00", row.toMoveString());
+
+    final Route column =
+        new HirschbergSolutionStrategy().solveRoute(new Garden(1, 3, new int[][] {{1}, {2}, {3}}));
+    assertEquals(6, column.apples());
+    assertEquals("11", column.toMoveString());
+  }
+
+  @Test
+  public void solveRoute_shouldMatchDynamicProgrammingSolutionStrategy() throws SolutionException {
+
+    final Random random = new Random(42);
+
+    for (int i = 0; i < 100; i++) {
+
+      final int width = 1 + random.nextInt(150);
+      final int height = 1 + random.nextInt(150);
+      final Garden garden = Gardens.random(random, width, height);
+
+      final Route route = new HirschbergSolutionStrategy().solveRoute(garden);
+
+      assertEquals(
+          new DynamicProgrammingSolutionStrategy().solve(garden),
+          route.apples(),
+          garden.toString());
+      assertEquals(route.apples(), walk(garden, route), garden.toString());
+    }
+  }
+
+  private static int walk(final Garden garden, final Route route) {
+    int x = 0;
+    int y = garden.height() - 1;
+    int apples = garden.getApples(x, y);
+    for (int move = 0; move < route.moveCount(); move++) {
+      if (route.isDown(move)) {
+        y--;
+      } else {
+        x++;
+      }
+      apples += garden.getApples(x, y);
+    }
+    return apples;
+  }
+
+}
@@ -0,0 +1,95 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import hedgehog.model.Gardens;
+import hedgehog.model.MutableGarden;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class IncrementalSolverTest {
+
+  @Test
+  public void incrementalSolver_nullGarden_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new IncrementalSolver(null));
+  }
+
+  @Test
+  public void solution_happyPathTests() {
+    final MutableGarden garden =
+        new MutableGarden(new Garden(3, 3, new int[][] {{1, 2, 3}, {1, 2, 3}, {1, 2, 3}}));
+    try (final IncrementalSolver solver = new IncrementalSolver(garden)) {
+      assertEquals(12, solver.solution());
+      assertEquals(9, solver.squaresRecomputed());
+    }
+  }
+
+  @Test
+  public void applesChanged_randomChanges_shouldMatchFullSolve() throws SolutionException {
+
+    final Random random = new Random(7);
+    final SolutionStrategy strategy = new DynamicProgrammingSolutionStrategy();
+
+    for (final int[] dimensions : new int[][] {{1, 1}, {1, 9}, {9, 1}, {13, 7}, {40, 40}}) {
+
+      final int width = dimensions[0];
+      final int height = dimensions[1];
+      final MutableGarden garden = new MutableGarden(Gardens.random(random, width, height));
+
+      try (final IncrementalSolver solver = new IncrementalSolver(garden)) {
+        for (int change = 0; change < 200; change++) {
+          garden.setApples(random.nextInt(width), random.nextInt(height), random.nextInt(100));
+          assertEquals(strategy.solve(garden.toGarden()), solver.solution());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void applesChanged_bottomRightSquare_shouldRecomputeOneSquare() {
+    final MutableGarden garden = new MutableGarden(Gardens.random(new Random(8), 50, 50));
+    try (final IncrementalSolver solver = new IncrementalSolver(garden)) {
+      final long before = solver.squaresRecomputed();
+      garden.setApples(49, 0, garden.getApples(49, 0) + 10);
+      assertEquals(1, solver.squaresRecomputed() - before);
+    }
+  }
+
+  @Test
+  public void applesChanged_offTheBestRoute_shouldStopEarly() throws SolutionException {
+
+    // Every square is worth 1 apart from a rich left column, so the best route runs down the left
+    // column and along the bottom row; taking an apple from a square in the top right changes
+    // nothing but that square.
+    final int[][] appleTable = new int[100][100];
+    for (final int[] appleRow : appleTable) {
+      Arrays.fill(appleRow, 1);
+      appleRow[0] = 1000;
+    }
+    final MutableGarden garden = new MutableGarden(new Garden(100, 100, appleTable));
+
+    try (final IncrementalSolver solver = new IncrementalSolver(garden)) {
+      final long before = solver.squaresRecomputed();
+      garden.setApples(90, 99, 0);
+      assertTrue(solver.squaresRecomputed() - before < 100);
+      assertEquals(
+          new DynamicProgrammingSolutionStrategy().solve(garden.toGarden()), solver.solution());
+    }
+  }
+
+  @Test
+  public void close_shouldStopFollowingChanges() {
+    final MutableGarden garden =
+        new MutableGarden(new Garden(2, 1, new int[][] {{1, 2}}));
+    final IncrementalSolver solver = new IncrementalSolver(garden);
+    solver.close();
+    garden.setApples(0, 0, 5);
+    assertEquals(3, solver.solution());
+  }
+
+}
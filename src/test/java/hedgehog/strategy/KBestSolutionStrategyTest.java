@@ -0,0 +1,157 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import hedgehog.model.Gardens;
+import hedgehog.model.Route;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class KBestSolutionStrategyTest {
+
+  @Test
+  public void solveTopK_nullGarden_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new KBestSolutionStrategy().solveTopK(null, 3));
+  }
+
+  @Test
+  public void solveTopK_zeroK_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new KBestSolutionStrategy().solveTopK(new Garden(1, 1, new int[][] {{7}}), 0));
+  }
+
+  @Test
+  public void solveTopK_happyPathTest() throws SolutionException {
+
+    final List<Route> routes =
+        new KBestSolutionStrategy()
+            .solveTopK(
+                new Garden.Builder()
+                    .width(3)
+                    .height(3)
+                    .appleRow(Arrays.asList(1, 2, 3))
+                    .appleRow(Arrays.asList(1, 3, 3))
+                    .appleRow(Arrays.asList(1, 2, 3))
+                    .build(),
+                3);
+
+    assertEquals(3, routes.size());
+    assertEquals(12, routes.get(0).apples());
+    assertEquals(12, routes.get(1).apples());
+    assertEquals(
+        Set.of("0011", "0101"),
+        Set.of(routes.get(0).toMoveString(), routes.get(1).toMoveString()));
+    assertEquals(11, routes.get(2).apples());
+  }
+
+  @Test
+  public void solveTopK_moreThanEveryRoute_shouldReturnEveryRoute() throws SolutionException {
+    final List<Route> routes =
+        new KBestSolutionStrategy()
+            .solveTopK(new Garden(3, 2, new int[][] {{1, 2, 3}, {4, 5, 6}}), 10);
+    assertEquals(3, routes.size());
+    assertEquals(
+        List.of("100", "010", "001"),
+        routes.stream().map(Route::toMoveString).toList());
+  }
+
+  @Test
+  public void solveTopK_singleSquareTest() throws SolutionException {
+    final List<Route> routes =
+        new KBestSolutionStrategy().solveTopK(new Garden(1, 1, new int[][] {{7}}), 5);
+    assertEquals(1, routes.size());
+    assertEquals(7, routes.get(0).apples());
+    assertEquals("", routes.get(0).toMoveString());
+  }
+
+  @Test
+  public void solveTopK_shouldMatchEveryRoute() throws SolutionException {
+
+    final Random random = new Random(22);
+
+    for (int i = 0; i < 50; i++) {
+
+      final Garden garden =
+          Gardens.random(random, 1 + random.nextInt(7), 1 + random.nextInt(7), 10);
+      final int k = 1 + random.nextInt(40);
+      final List<Long> everyRoute = new ArrayList<>();
+      collectEveryRoute(garden, 0, 0, 0, everyRoute);
+      everyRoute.sort(Comparator.reverseOrder());
+
+      final List<Route> routes = new KBestSolutionStrategy().solveTopK(garden, k);
+      final Set<String> moveStrings = new HashSet<>();
+
+      assertEquals(Math.min(k, everyRoute.size()), routes.size(), garden.toString());
+
+      for (int r = 0; r < routes.size(); r++) {
+        final Route route = routes.get(r);
+        assertEquals(everyRoute.get(r), route.apples(), garden.toString());
+        assertEquals(route.apples(), collect(garden, route), garden.toString());
+        moveStrings.add(route.toMoveString());
+      }
+
+      assertEquals(routes.size(), moveStrings.size(), garden.toString());
+    }
+  }
+
+  @Test
+  public void solveRoute_shouldMatchDynamicProgramming() throws SolutionException {
+    final Random random = new Random(23);
+    for (int i = 0; i < 20; i++) {
+      final Garden garden =
+          Gardens.random(random, 1 + random.nextInt(50), 1 + random.nextInt(50), 10);
+      final Route route = new KBestSolutionStrategy().solveRoute(garden);
+      assertEquals(new DynamicProgrammingSolutionStrategy().solve(garden), route.apples());
+      assertEquals(route.apples(), collect(garden, route));
+    }
+  }
+
+  private static void collectEveryRoute(
+      final Garden garden,
+      final int x,
+      final int row,
+      final long apples,
+      final List<Long> everyRoute) {
+
+    final long collected = apples + garden.getApples(x, garden.height() - 1 - row);
+
+    if (x == garden.width() - 1 && row == garden.height() - 1) {
+      everyRoute.add(collected);
+      return;
+    }
+    if (x < garden.width() - 1) {
+      collectEveryRoute(garden, x + 1, row, collected, everyRoute);
+    }
+    if (row < garden.height() - 1) {
+      collectEveryRoute(garden, x, row + 1, collected, everyRoute);
+    }
+  }
+
+  private static long collect(final Garden garden, final Route route) {
+    int x = 0;
+    int row = 0;
+    long apples = garden.getApples(x, garden.height() - 1);
+    for (int move = 0; move < route.moveCount(); move++) {
+      if (route.isDown(move)) {
+        row++;
+      } else {
+        x++;
+      }
+      apples += garden.getApples(x, garden.height() - 1 - row);
+    }
+    return apples;
+  }
+
+}
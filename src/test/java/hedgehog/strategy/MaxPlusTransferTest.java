@@ -0,0 +1,93 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.model.Garden;
+import hedgehog.model.Gardens;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MaxPlusTransferTest {
+
+  @TempDir
+  Path temporaryDirectory;
+
+  @Test
+  public void of_nullBand_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> MaxPlusTransfer.of(null));
+  }
+
+  @Test
+  public void get_happyPathTests() {
+    final MaxPlusTransfer transfer =
+        MaxPlusTransfer.of(new Garden(3, 2, new int[][] {{1, 2, 3}, {4, 5, 6}}));
+    assertEquals(3, transfer.width());
+    assertEquals(5, transfer.get(0, 0));
+    assertEquals(16, transfer.get(0, 2));
+    assertEquals(13, transfer.get(1, 2));
+    assertEquals(9, transfer.get(2, 2));
+    assertEquals(MaxPlusTransfer.UNREACHABLE, transfer.get(2, 1));
+    assertThrows(IllegalArgumentException.class, () -> transfer.get(3, 0));
+  }
+
+  @Test
+  public void apply_wrongLength_shouldThrowIllegalArgument() {
+    final MaxPlusTransfer transfer = MaxPlusTransfer.of(new Garden(2, 1, new int[][] {{1, 2}}));
+    assertThrows(IllegalArgumentException.class, () -> transfer.apply(new long[3]));
+  }
+
+  @Test
+  public void apply_bandsInOrder_shouldMatchDynamicProgramming() throws Exception {
+
+    final Random random = new Random(23);
+    final SolutionStrategy strategy = new DynamicProgrammingSolutionStrategy();
+
+    for (int run = 0; run < 50; run++) {
+
+      final int width = 1 + random.nextInt(20);
+      final int height = 1 + random.nextInt(30);
+      final int[][] appleTable = Gardens.appleTable(random, width, height, 100);
+
+      long[] vector = MaxPlusTransfer.start(width);
+      for (int top = 0; top < height; ) {
+        final int rows = 1 + random.nextInt(height - top);
+        final int[][] band = Arrays.copyOfRange(appleTable, top, top + rows);
+        vector = MaxPlusTransfer.of(new Garden(width, rows, band)).apply(vector);
+        top += rows;
+      }
+
+      assertEquals(strategy.solve(new Garden(width, height, appleTable)), vector[width - 1]);
+    }
+  }
+
+  @Test
+  public void read_writtenTransfer_shouldEqualTransfer() throws Exception {
+    final MaxPlusTransfer transfer =
+        MaxPlusTransfer.of(new Garden(3, 2, new int[][] {{1, 2, 3}, {4, 5, 6}}));
+    final Path path = temporaryDirectory.resolve("band.transfer");
+    transfer.write(path);
+    final MaxPlusTransfer read = MaxPlusTransfer.read(path);
+    assertEquals(3, read.width());
+    assertArrayEquals(
+        transfer.apply(MaxPlusTransfer.start(3)), read.apply(MaxPlusTransfer.start(3)));
+  }
+
+  @Test
+  public void read_damagedTransfer_shouldThrowInputRead() throws Exception {
+    final Path path = temporaryDirectory.resolve("band.transfer");
+    MaxPlusTransfer.of(new Garden(3, 2, new int[][] {{1, 2, 3}, {4, 5, 6}})).write(path);
+    try (final RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      file.seek(12);
+      file.write(file.read() ^ 1);
+    }
+    assertThrows(InputReadException.class, () -> MaxPlusTransfer.read(path));
+  }
+
+}
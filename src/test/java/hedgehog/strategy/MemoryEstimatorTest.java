@@ -0,0 +1,85 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import hedgehog.io.GardenHeader;
+import hedgehog.model.Cells;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class MemoryEstimatorTest {
+
+  private static final MemoryEstimator ESTIMATOR =
+      new MemoryEstimator(
+          List.of(
+              new SolutionStrategyProviders.Exhaustive(),
+              new SolutionStrategyProviders.DynamicProgramming(),
+              new SolutionStrategyProviders.ParallelWavefront(),
+              new SolutionStrategyProviders.Sparse()));
+
+  @Test
+  public void memoryEstimator_nullProviders_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new MemoryEstimator(null));
+  }
+
+  @Test
+  public void estimate_nullHeader_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> ESTIMATOR.estimate(null));
+  }
+
+  @Test
+  public void estimate_wideText_shouldAssumeWidestCells() {
+    final MemoryEstimator.Estimate estimate =
+        ESTIMATOR.estimate(
+            new GardenHeader(1000, 500, GardenHeader.Format.TEXT, Cells.Encoding.INT, -1));
+    assertEquals(500_000L * (2 + 4) + 1000 * 64, estimate.gardenBytes());
+    assertEquals((1000 + 500) * 8, estimate.solveBytes());
+    assertEquals(estimate.gardenBytes() + estimate.solveBytes(), estimate.inMemoryBytes());
+    assertEquals(Math.max(1000 * (4 + 4), 500 * (4 + 4 + 8)), estimate.outOfCoreBytes());
+  }
+
+  @Test
+  public void estimate_tallBinary_shouldHoldOnlyARow() {
+    final MemoryEstimator.Estimate estimate =
+        ESTIMATOR.estimate(
+            new GardenHeader(100, 2000, GardenHeader.Format.BINARY, Cells.Encoding.BYTE, 200_032));
+    assertEquals(100 * 4, estimate.gardenBytes());
+    assertEquals((100 + 2000) * 8, estimate.solveBytes());
+    assertEquals(100 * (4 + 1 + 8), estimate.outOfCoreBytes());
+  }
+
+  @Test
+  public void estimate_sparse_shouldBoundTreesByFileSize() {
+    final MemoryEstimator.Estimate estimate =
+        ESTIMATOR.estimate(
+            new GardenHeader(1000, 1000, GardenHeader.Format.SPARSE, Cells.Encoding.INT, 600));
+    assertEquals(100 * 28, estimate.gardenBytes());
+    assertEquals(Long.MAX_VALUE, estimate.outOfCoreBytes());
+  }
+
+  @Test
+  public void estimate_unsolvableByProvider_shouldIgnoreItsMemory() {
+    final MemoryEstimator exhaustive =
+        new MemoryEstimator(List.of(new SolutionStrategyProviders.Exhaustive()));
+    assertEquals(
+        3 * 3 * 4,
+        exhaustive
+            .estimate(new GardenHeader(3, 3, GardenHeader.Format.TEXT, Cells.Encoding.INT, -1))
+            .solveBytes());
+    assertEquals(
+        0,
+        exhaustive
+            .estimate(new GardenHeader(100, 100, GardenHeader.Format.TEXT, Cells.Encoding.INT, -1))
+            .solveBytes());
+  }
+
+  @Test
+  public void estimate_registeredProviders_shouldCoverDynamicProgramming() {
+    final GardenHeader header =
+        new GardenHeader(300, 200, GardenHeader.Format.TEXT, Cells.Encoding.INT, -1);
+    assertTrue(new MemoryEstimator().estimate(header).solveBytes() >= 200 * 8);
+  }
+
+}
@@ -0,0 +1,90 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MultiProcessSolutionStrategyTest {
+
+  @TempDir
+  Path temporaryDirectory;
+
+  @Test
+  public void multiProcessSolutionStrategy_zeroWorkers_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new MultiProcessSolutionStrategy(0));
+  }
+
+  @Test
+  public void multiProcessSolutionStrategy_emptyCommand_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new MultiProcessSolutionStrategy(2, temporaryDirectory, List.of()));
+  }
+
+  @Test
+  public void solve_nullGarden_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new MultiProcessSolutionStrategy(2).solve(null));
+  }
+
+  @Test
+  public void solve_severalWorkerProcesses_shouldMatchDynamicProgramming() throws Exception {
+
+    final Random random = new Random(29);
+    final int[][] appleTable = new int[41][17];
+    for (final int[] appleRow : appleTable) {
+      for (int x = 0; x < appleRow.length; x++) {
+        appleRow[x] = random.nextInt(1000);
+      }
+    }
+    final Garden garden = new Garden(17, 41, appleTable);
+
+    final long solution =
+        new MultiProcessSolutionStrategy(
+            3, temporaryDirectory, MultiProcessSolutionStrategy.defaultCommand())
+            .solve(garden);
+
+    assertEquals(new DynamicProgrammingSolutionStrategy().solve(garden), solution);
+    assertEmpty(temporaryDirectory);
+  }
+
+  @Test
+  public void solve_moreWorkersThanRows_shouldMatchDynamicProgramming() throws Exception {
+    final Garden garden = new Garden(3, 2, new int[][] {{1, 2, 3}, {4, 5, 6}});
+    assertEquals(
+        16,
+        new MultiProcessSolutionStrategy(
+            5, temporaryDirectory, MultiProcessSolutionStrategy.defaultCommand())
+            .solve(garden));
+  }
+
+  @Test
+  public void solve_failingWorker_shouldThrowSolution() throws Exception {
+    final List<String> command =
+        List.of(MultiProcessSolutionStrategy.defaultCommand().get(0), "-cp", "/classesNotFound");
+    final SolutionException e =
+        assertThrows(
+            SolutionException.class,
+            () -> new MultiProcessSolutionStrategy(2, temporaryDirectory, command)
+                .solve(new Garden(2, 2, new int[][] {{1, 2}, {3, 4}})));
+    assertEquals(IllegalStateException.class, e.getCause().getClass());
+    assertEmpty(temporaryDirectory);
+  }
+
+  private static void assertEmpty(final Path directory) throws Exception {
+    try (final Stream<Path> paths = Files.list(directory)) {
+      assertEquals(0, paths.count());
+    }
+  }
+
+}
@@ -0,0 +1,157 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.exception.SolutionException;
+import hedgehog.io.BinaryGardenFormat;
+import hedgehog.model.Garden;
+import hedgehog.model.Gardens;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class OutOfCoreSolverTest {
+
+  @TempDir
+  Path temporaryDirectory;
+
+  @Test
+  public void outOfCoreSolver_zeroMemoryBudget_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new OutOfCoreSolver(0, 1, false));
+  }
+
+  @Test
+  public void outOfCoreSolver_zeroMaxBandHeight_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new OutOfCoreSolver(1024, 0, false));
+  }
+
+  @Test
+  public void outOfCoreSolver_nullTemporaryDirectory_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new OutOfCoreSolver(1024, 1, false, null));
+  }
+
+  @Test
+  public void solve_budgetTooSmall_shouldThrowSolution() {
+    assertThrows(
+        SolutionException.class,
+        () -> new OutOfCoreSolver(16, 1, false).solve("/happyPath.txt"));
+  }
+
+  @Test
+  public void solve_invalidGarden_shouldThrowInputRead() {
+    assertThrows(
+        InputReadException.class,
+        () -> new OutOfCoreSolver(1024, 1, false).solve("/tooFewRows.txt"));
+  }
+
+  @Test
+  public void solve_happyPathTests() throws Exception {
+    final OutOfCoreSolver.Report report =
+        new OutOfCoreSolver(1024, 2, false).solve("/happyPath.txt");
+    assertEquals(129, report.solution());
+    assertEquals(2, report.bandHeight());
+    assertEquals(37, report.bytesRead());
+    assertFalse(report.transposed());
+  }
+
+  @Test
+  public void solve_budget_shouldBoundBandHeight() throws Exception {
+    // A row of maxima of 3 longs leaves 100 - 24 bytes for rows of 3 cells as ints and as read.
+    final OutOfCoreSolver.Report report =
+        new OutOfCoreSolver(100, 100, false).solve("/happyPath.txt");
+    assertEquals(129, report.solution());
+    assertEquals(3, report.bandHeight());
+  }
+
+  @Test
+  public void solve_randomGardens_shouldMatchDynamicProgramming() throws Exception {
+
+    final Random random = new Random(19);
+    final SolutionStrategy strategy = new DynamicProgrammingSolutionStrategy();
+
+    for (final int[] dimensions : new int[][] {{1, 1}, {1, 30}, {30, 1}, {57, 13}, {13, 57}}) {
+
+      final Garden garden = Gardens.random(random, dimensions[0], dimensions[1], 200);
+      final Path text = temporaryDirectory.resolve("garden.txt");
+      final Path binary = temporaryDirectory.resolve("garden.hdgh");
+      writeText(garden, text);
+      BinaryGardenFormat.write(garden, binary);
+
+      for (final boolean transpose : new boolean[] {false, true}) {
+        for (final int bandHeight : new int[] {1, 4, 1000}) {
+          final OutOfCoreSolver solver =
+              new OutOfCoreSolver(1 << 20, bandHeight, transpose, temporaryDirectory);
+          for (final Path path : new Path[] {text, binary}) {
+            final OutOfCoreSolver.Report report = solver.solve(path.toString());
+            assertEquals(strategy.solve(garden), report.solution(), path.toString());
+            assertEquals(transpose && garden.width() > garden.height(), report.transposed());
+          }
+        }
+      }
+    }
+
+    try (final Stream<Path> files = Files.list(temporaryDirectory)) {
+      assertEquals(2, files.count());
+    }
+  }
+
+  @Test
+  public void solve_transposed_shouldReportTemporaryFile() throws Exception {
+    final Garden garden = Gardens.random(new Random(20), 40, 5, 200);
+    final Path binary = temporaryDirectory.resolve("garden.hdgh");
+    BinaryGardenFormat.write(garden, binary);
+
+    final OutOfCoreSolver.Report report =
+        new OutOfCoreSolver(1 << 20, 8, true, temporaryDirectory).solve(binary.toString());
+
+    assertTrue(report.transposed());
+    assertEquals(200, report.bytesWritten());
+    assertEquals(Files.size(binary) + 200, report.bytesRead());
+    assertEquals(8, report.bandHeight());
+    assertTrue(report.megabytesPerSecond() > 0);
+  }
+
+  @Test
+  public void bandRows_shouldBeBoundedByBandHeightAndRows() {
+    assertEquals(8, OutOfCoreSolver.bandRows(8, 40, 5, 1));
+    assertEquals(5, OutOfCoreSolver.bandRows(8, 5, 40, 4));
+  }
+
+  @Test
+  public void bandRows_moreCellsThanAnInt_shouldKeepBandsIndexable() {
+    // A transposed 65536 x 32768 garden: 2^31 cells, read as 65536 rows of 32768.
+    final int rows = OutOfCoreSolver.bandRows(Integer.MAX_VALUE, 65_536, 32_768, 4);
+    assertTrue(rows > 0);
+    assertTrue((long) rows * 32_768 * 4 <= Garden.MAX_CELLS);
+    assertTrue((long) (rows + 1) * 32_768 * 4 > Garden.MAX_CELLS);
+  }
+
+  @Test
+  public void bandRows_rowTooLong_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> OutOfCoreSolver.bandRows(1, 1, Integer.MAX_VALUE, 4));
+  }
+
+  private static void writeText(final Garden garden, final Path path) throws Exception {
+    final StringBuilder text = new StringBuilder();
+    text.append(garden.width()).append(' ').append(garden.height()).append('\n');
+    for (final int[] appleRow : garden.appleTable()) {
+      for (int x = 0; x < appleRow.length; x++) {
+        text.append(x == 0 ? "" : " ").append(appleRow[x]);
+      }
+      text.append('\n');
+    }
+    Files.writeString(path, text);
+  }
+
+}
@@ -0,0 +1,73 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import hedgehog.model.Gardens;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+public class ParallelWavefrontSolutionStrategyTest {
+
+  @Test
+  public void parallelWavefrontSolutionStrategy_nullForkJoinPool_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ParallelWavefrontSolutionStrategy(null, 16));
+  }
+
+  @Test
+  public void parallelWavefrontSolutionStrategy_zeroTileSize_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ParallelWavefrontSolutionStrategy(ForkJoinPool.commonPool(), 0));
+  }
+
+  @Test
+  public void solve_nullGarden_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ParallelWavefrontSolutionStrategy().solve(null));
+  }
+
+  @Test
+  public void solve_happyPathTest() throws SolutionException {
+    assertEquals(
+        12,
+        new ParallelWavefrontSolutionStrategy(ForkJoinPool.commonPool(), 2)
+            .solve(
+                new Garden.Builder()
+                    .width(3)
+                    .height(3)
+                    .appleRow(Arrays.asList(1, 2, 3))
+                    .appleRow(Arrays.asList(1, 3, 3))
+                    .appleRow(Arrays.asList(1, 2, 3))
+                    .build()));
+  }
+
+  @Test
+  public void solve_shouldMatchDynamicProgrammingSolutionStrategy() throws SolutionException {
+
+    final Random random = new Random(42);
+    final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+
+    try {
+      for (int i = 0; i < 50; i++) {
+        final Garden garden =
+            Gardens.random(random, 1 + random.nextInt(200), 1 + random.nextInt(200));
+        final int tileSize = 1 + random.nextInt(32);
+        assertEquals(
+            new DynamicProgrammingSolutionStrategy().solve(garden),
+            new ParallelWavefrontSolutionStrategy(forkJoinPool, tileSize).solve(garden),
+            String.format("%s [tileSize == %d]", garden, tileSize));
+      }
+    } finally {
+      forkJoinPool.shutdown();
+    }
+  }
+
+}
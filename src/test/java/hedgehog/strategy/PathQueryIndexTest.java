@@ -0,0 +1,129 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import hedgehog.model.Gardens;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class PathQueryIndexTest {
+
+  private static final int[][] APPLE_TABLE = {{1, 2, 3}, {1, 2, 3}, {1, 2, 3}};
+
+  @Test
+  public void pathQueryIndex_nullGarden_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new PathQueryIndex(null));
+  }
+
+  @Test
+  public void query_notRightAndDown_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new PathQueryIndex.Query(1, 0, 0, 0));
+    assertThrows(IllegalArgumentException.class, () -> new PathQueryIndex.Query(0, 0, 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> new PathQueryIndex.Query(-1, 0, 0, 0));
+  }
+
+  @Test
+  public void query_outsideGarden_shouldThrowIllegalArgument() {
+    final PathQueryIndex index = new PathQueryIndex(new Garden(3, 3, APPLE_TABLE));
+    assertThrows(
+        IllegalArgumentException.class, () -> index.query(new PathQueryIndex.Query(0, 3, 0, 0)));
+    assertThrows(
+        IllegalArgumentException.class, () -> index.query(new PathQueryIndex.Query(0, 2, 3, 0)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> index.query(List.of(new PathQueryIndex.Query(0, 2, 3, 0))));
+  }
+
+  @Test
+  public void query_happyPathTests() {
+    final PathQueryIndex index = new PathQueryIndex(new Garden(3, 3, APPLE_TABLE));
+    assertEquals(12, index.query(new PathQueryIndex.Query(0, 2, 2, 0)));
+    assertEquals(2, index.query(new PathQueryIndex.Query(1, 1, 1, 1)));
+    assertEquals(8, index.query(new PathQueryIndex.Query(1, 2, 2, 1)));
+    assertEquals(3, index.query(new PathQueryIndex.Query(0, 2, 0, 0)));
+    assertArrayEquals(
+        new long[] {12, 2, 8, 3},
+        index.query(
+            List.of(
+                new PathQueryIndex.Query(0, 2, 2, 0),
+                new PathQueryIndex.Query(1, 1, 1, 1),
+                new PathQueryIndex.Query(1, 2, 2, 1),
+                new PathQueryIndex.Query(0, 2, 0, 0))));
+  }
+
+  @Test
+  public void query_fullGarden_shouldMatchSolve() throws SolutionException {
+    final Random random = new Random(21);
+    for (final int[] dimensions : new int[][] {{1, 1}, {30, 7}, {7, 30}}) {
+      final Garden garden = Gardens.random(random, dimensions[0], dimensions[1]);
+      assertEquals(
+          new DynamicProgrammingSolutionStrategy().solve(garden),
+          new PathQueryIndex(garden)
+              .query(new PathQueryIndex.Query(0, garden.height() - 1, garden.width() - 1, 0)));
+    }
+  }
+
+  @Test
+  public void query_randomBatches_shouldMatchSubGardens() throws SolutionException {
+
+    final Random random = new Random(22);
+
+    for (final int[] dimensions : new int[][] {{1, 40}, {40, 1}, {25, 31}, {64, 9}, {9, 64}}) {
+
+      final Garden garden = Gardens.random(random, dimensions[0], dimensions[1]);
+      final PathQueryIndex index = new PathQueryIndex(garden);
+      final List<PathQueryIndex.Query> queries = queries(garden, 300, random);
+      queries.add(queries.get(0));
+
+      final long[] expected = new long[queries.size()];
+      for (int i = 0; i < expected.length; i++) {
+        expected[i] = solveSubGarden(garden, queries.get(i));
+      }
+
+      for (final PathQueryIndex.Mode mode : PathQueryIndex.Mode.values()) {
+        assertArrayEquals(expected, index.query(queries, mode), mode.toString());
+      }
+    }
+  }
+
+  @Test
+  public void query_emptyBatch_shouldReturnEmpty() {
+    assertArrayEquals(
+        new long[0], new PathQueryIndex(new Garden(3, 3, APPLE_TABLE)).query(List.of()));
+  }
+
+  private static List<PathQueryIndex.Query> queries(
+      final Garden garden,
+      final int count,
+      final Random random) {
+    final List<PathQueryIndex.Query> queries = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      final int fromX = random.nextInt(garden.width());
+      final int toX = fromX + random.nextInt(garden.width() - fromX);
+      final int toY = random.nextInt(garden.height());
+      final int fromY = toY + random.nextInt(garden.height() - toY);
+      queries.add(new PathQueryIndex.Query(fromX, fromY, toX, toY));
+    }
+    return queries;
+  }
+
+  private static long solveSubGarden(final Garden garden, final PathQueryIndex.Query query)
+      throws SolutionException {
+    final int width = query.toX() - query.fromX() + 1;
+    final int height = query.fromY() - query.toY() + 1;
+    final int[][] appleTable = new int[height][width];
+    for (int row = 0; row < height; row++) {
+      for (int x = 0; x < width; x++) {
+        appleTable[row][x] = garden.getApples(query.fromX() + x, query.fromY() - row);
+      }
+    }
+    return new DynamicProgrammingSolutionStrategy().solve(new Garden(width, height, appleTable));
+  }
+
+}
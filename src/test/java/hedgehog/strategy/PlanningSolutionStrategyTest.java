@@ -0,0 +1,139 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class PlanningSolutionStrategyTest {
+
+  private static final Calibration CALIBRATION =
+      Calibration.of(
+          Map.of(
+              "exhaustive", new Calibration.Cost(10_000, 20),
+              "dynamic-programming", new Calibration.Cost(1_000, 2),
+              "parallel-wavefront", new Calibration.Cost(100_000, 2),
+              "sparse", new Calibration.Cost(1_000, 20)));
+
+  @Test
+  public void planningSolutionStrategy_nullArguments_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new PlanningSolutionStrategy(null, Calibration.defaults()));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new PlanningSolutionStrategy(new SolutionStrategyRegistry(), null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new PlanningSolutionStrategy(
+                new SolutionStrategyRegistry(List.of()), Calibration.defaults()));
+  }
+
+  @Test
+  public void plan_happyPathTests() {
+
+    final PlanningSolutionStrategy planner =
+        new PlanningSolutionStrategy(new SolutionStrategyRegistry(), CALIBRATION);
+
+    assertEquals(
+        "dynamic-programming", name(planner, new GardenProfile(3, 3, 9, false, 1L << 30, 1)));
+    assertEquals(
+        "dynamic-programming",
+        name(planner, new GardenProfile(1000, 1000, 1_000_000, false, 1L << 30, 1)));
+    assertEquals(
+        "parallel-wavefront",
+        name(planner, new GardenProfile(1000, 1000, 1_000_000, false, 1L << 30, 8)));
+    assertEquals(
+        "sparse", name(planner, new GardenProfile(3000, 3000, 10_000, true, 1L << 30, 1)));
+    assertEquals(
+        "dynamic-programming",
+        name(planner, new GardenProfile(3000, 3000, 900_000, true, 1L << 30, 1)));
+  }
+
+  @Test
+  public void plan_notEnoughMemory_shouldPassOverStrategy() {
+
+    final PlanningSolutionStrategy planner =
+        new PlanningSolutionStrategy(new SolutionStrategyRegistry(), CALIBRATION);
+    final PlanningSolutionStrategy.Plan plan =
+        planner.plan(new GardenProfile(3000, 3000, 10_000, true, 100_000, 1));
+
+    assertEquals("dynamic-programming", plan.provider().name());
+    assertTrue(
+        plan.reason().contains("sparse needs 240000 bytes, 100000 available"), plan.reason());
+  }
+
+  @Test
+  public void plan_reason_shouldGiveDensityOnlyForSparseGardens() {
+
+    final PlanningSolutionStrategy planner =
+        new PlanningSolutionStrategy(new SolutionStrategyRegistry(), CALIBRATION);
+    final String dense = planner.plan(new GardenProfile(3, 3, 9, false, 1L << 30, 1)).reason();
+    final String sparse =
+        planner.plan(new GardenProfile(3000, 3000, 10_000, true, 1L << 30, 1)).reason();
+
+    assertFalse(dense.contains("density"), dense);
+    assertTrue(sparse.contains("density 0.0011"), sparse);
+  }
+
+  @Test
+  public void solve_noStrategyCanSolve_shouldThrowSolution() {
+    final PlanningSolutionStrategy planner =
+        new PlanningSolutionStrategy(
+            new SolutionStrategyRegistry(List.of(new SolutionStrategyProviders.Sparse())),
+            Calibration.defaults());
+    final SolutionException e =
+        assertThrows(
+            SolutionException.class,
+            () -> planner.solve(new Garden(2, 2, new int[][] {{1, 2}, {3, 4}})));
+    assertEquals(IllegalStateException.class, e.getCause().getClass());
+  }
+
+  @Test
+  public void solve_nullGarden_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new PlanningSolutionStrategy().solve(null));
+  }
+
+  @Test
+  public void solve_shouldMatchDynamicProgramming() throws SolutionException {
+
+    final Random random = new Random(23);
+    final PlanningSolutionStrategy planner = new PlanningSolutionStrategy();
+
+    for (int i = 0; i < 20; i++) {
+
+      final int width = 1 + random.nextInt(300);
+      final int height = 1 + random.nextInt(300);
+      final int count = random.nextInt(Math.min(width, height));
+      final int[] x = new int[count];
+      final int[] y = new int[count];
+      final int[] apples = new int[count];
+      for (int t = 0; t < count; t++) {
+        x[t] = t;
+        y[t] = random.nextInt(height);
+        apples[t] = 1 + random.nextInt(100);
+      }
+      final Garden garden = Garden.sparse(width, height, x, y, apples);
+
+      assertEquals(
+          new DynamicProgrammingSolutionStrategy().solve(garden), planner.solve(garden));
+    }
+  }
+
+  private static String name(
+      final PlanningSolutionStrategy planner,
+      final GardenProfile profile) {
+    return planner.plan(profile).provider().name();
+  }
+
+}
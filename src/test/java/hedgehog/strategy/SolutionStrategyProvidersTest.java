@@ -0,0 +1,53 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class SolutionStrategyProvidersTest {
+
+  private static final List<SolutionStrategyProvider> PROVIDERS =
+      List.of(
+          new SolutionStrategyProviders.Exhaustive(),
+          new SolutionStrategyProviders.DynamicProgramming(),
+          new SolutionStrategyProviders.ParallelWavefront(),
+          new SolutionStrategyProviders.Sparse());
+
+  @Test
+  public void samples_shouldSolveAsDynamicProgramming() throws SolutionException {
+    for (final SolutionStrategyProvider provider : PROVIDERS) {
+      assertTrue(provider.samples().size() >= 2, provider.name());
+      for (final Garden sample : provider.samples()) {
+        assertEquals(
+            new DynamicProgrammingSolutionStrategy().solve(sample),
+            provider.create().solve(sample),
+            provider.name());
+        assertTrue(Double.isFinite(provider.work(GardenProfile.of(sample))), provider.name());
+      }
+    }
+  }
+
+  @Test
+  public void work_exhaustive_shouldCountRoutes() {
+    final SolutionStrategyProvider provider = new SolutionStrategyProviders.Exhaustive();
+    assertEquals(6, provider.work(new GardenProfile(3, 3, 9, false, 1 << 20, 1)), 1e-9);
+    assertEquals(3, provider.work(new GardenProfile(3, 3, 9, false, 1 << 20, 2)), 1e-9);
+    assertEquals(
+        Double.POSITIVE_INFINITY,
+        provider.work(new GardenProfile(40, 40, 1600, false, 1 << 20, 1)));
+  }
+
+  @Test
+  public void work_sparse_shouldOnlySolveSparseGardens() {
+    final SolutionStrategyProvider provider = new SolutionStrategyProviders.Sparse();
+    assertTrue(Double.isFinite(provider.work(new GardenProfile(9, 9, 3, true, 1 << 20, 1))));
+    assertEquals(
+        Double.POSITIVE_INFINITY,
+        provider.work(new GardenProfile(9, 9, 81, false, 1 << 20, 1)));
+  }
+
+}
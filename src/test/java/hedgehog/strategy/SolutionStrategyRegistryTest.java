@@ -0,0 +1,50 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class SolutionStrategyRegistryTest {
+
+  @Test
+  public void solutionStrategyRegistry_nullProviders_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new SolutionStrategyRegistry((Iterable<SolutionStrategyProvider>) null));
+  }
+
+  @Test
+  public void solutionStrategyRegistry_duplicateNames_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new SolutionStrategyRegistry(
+                List.of(
+                    new SolutionStrategyProviders.Sparse(),
+                    new SolutionStrategyProviders.Sparse())));
+  }
+
+  @Test
+  public void providers_serviceLoader_shouldFindEveryProvider() {
+    assertEquals(
+        List.of("exhaustive", "dynamic-programming", "parallel-wavefront", "sparse"),
+        new SolutionStrategyRegistry()
+            .providers()
+            .stream()
+            .map(SolutionStrategyProvider::name)
+            .toList());
+  }
+
+  @Test
+  public void provider_happyPathTests() {
+    final SolutionStrategyRegistry registry = new SolutionStrategyRegistry();
+    assertEquals(
+        SolutionStrategyProviders.Sparse.class,
+        registry.provider("sparse").orElseThrow().getClass());
+    assertTrue(registry.provider("unknown").isEmpty());
+  }
+
+}
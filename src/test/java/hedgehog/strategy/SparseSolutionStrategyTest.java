@@ -0,0 +1,69 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class SparseSolutionStrategyTest {
+
+  @Test
+  public void solve_nullGarden_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new SparseSolutionStrategy().solve(null));
+  }
+
+  @Test
+  public void solve_noTrees_shouldReturnZero() throws SolutionException {
+    final Garden garden = Garden.sparse(1000, 1000, new int[0], new int[0], new int[0]);
+    assertEquals(0, new SparseSolutionStrategy().solve(garden));
+  }
+
+  @Test
+  public void solve_happyPathTests() throws SolutionException {
+    // No route reaches both the bottom left and the top right corners, so the best takes the
+    // top left and bottom left trees rather than those along the diagonal.
+    final Garden garden =
+        Garden.sparse(
+            5,
+            5,
+            new int[] {0, 2, 3, 4, 0},
+            new int[] {4, 2, 1, 4, 0},
+            new int[] {1, 3, 2, 5, 7});
+    assertEquals(8, new SparseSolutionStrategy().solve(garden));
+  }
+
+  @Test
+  public void solve_randomSparseGardens_shouldMatchDynamicProgramming() throws SolutionException {
+
+    final Random random = new Random(17);
+    final SolutionStrategy expected = new DynamicProgrammingSolutionStrategy();
+    final SolutionStrategy actual = new SparseSolutionStrategy();
+
+    for (int run = 0; run < 200; run++) {
+
+      final int width = 1 + random.nextInt(40);
+      final int height = 1 + random.nextInt(40);
+      final int count = random.nextInt(width * height / 4 + 1);
+      final int[] x = new int[count];
+      final int[] y = new int[count];
+      final int[] apples = new int[count];
+
+      // Distinct squares, by drawing indexes without replacement.
+      final int[] indexes = random.ints(0, width * height).distinct().limit(count).toArray();
+      for (int t = 0; t < count; t++) {
+        x[t] = indexes[t] % width;
+        y[t] = indexes[t] / width;
+        apples[t] = random.nextInt(1000);
+      }
+
+      final Garden garden = Garden.sparse(width, height, x, y, apples);
+      final long solution = expected.solve(garden);
+      assertEquals(solution, actual.solve(garden));
+      assertEquals(solution, actual.solve(new Garden(width, height, garden.appleTable())));
+    }
+  }
+
+}
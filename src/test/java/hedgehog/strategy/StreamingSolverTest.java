@@ -0,0 +1,91 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.exception.InputReadException;
+import hedgehog.exception.SolutionException;
+import hedgehog.io.FileInputReader;
+import hedgehog.model.Garden;
+import hedgehog.model.Gardens;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class StreamingSolverTest {
+
+  @Test
+  public void dimensions_zeroWidth_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new StreamingSolver().dimensions(0, 1));
+  }
+
+  @Test
+  public void dimensions_zeroHeight_shouldThrowIllegalArgument() {
+    assertThrows(IllegalArgumentException.class, () -> new StreamingSolver().dimensions(1, 0));
+  }
+
+  @Test
+  public void dimensions_calledTwice_shouldThrowIllegalState() {
+    final StreamingSolver streamingSolver = new StreamingSolver();
+    streamingSolver.dimensions(1, 1);
+    assertThrows(IllegalStateException.class, () -> streamingSolver.dimensions(1, 1));
+  }
+
+  @Test
+  public void row_noDimensions_shouldThrowIllegalState() {
+    assertThrows(IllegalStateException.class, () -> new StreamingSolver().row(new int[] {1}));
+  }
+
+  @Test
+  public void row_shortRow_shouldThrowIllegalArgument() {
+    final StreamingSolver streamingSolver = new StreamingSolver();
+    streamingSolver.dimensions(2, 1);
+    assertThrows(IllegalArgumentException.class, () -> streamingSolver.row(new int[] {1}));
+  }
+
+  @Test
+  public void row_tooManyRows_shouldThrowIllegalState() {
+    final StreamingSolver streamingSolver = new StreamingSolver();
+    streamingSolver.dimensions(1, 1);
+    streamingSolver.row(new int[] {1});
+    assertThrows(IllegalStateException.class, () -> streamingSolver.row(new int[] {1}));
+  }
+
+  @Test
+  public void solution_tooFewRows_shouldThrowIllegalState() {
+    final StreamingSolver streamingSolver = new StreamingSolver();
+    streamingSolver.dimensions(1, 2);
+    streamingSolver.row(new int[] {1});
+    assertThrows(IllegalStateException.class, () -> streamingSolver.solution());
+  }
+
+  @Test
+  public void solution_happyPathTest() throws InputReadException, SolutionException {
+    final StreamingSolver streamingSolver = new StreamingSolver();
+    new FileInputReader().read("/happyPath.txt", streamingSolver);
+    assertEquals(129, streamingSolver.solution());
+  }
+
+  @Test
+  public void solution_shouldMatchDynamicProgrammingSolutionStrategy() throws SolutionException {
+
+    final Random random = new Random(42);
+
+    for (int i = 0; i < 50; i++) {
+
+      final int width = 1 + random.nextInt(100);
+      final int height = 1 + random.nextInt(100);
+      final int[][] appleTable = Gardens.appleTable(random, width, height, 100);
+
+      final StreamingSolver streamingSolver = new StreamingSolver();
+      streamingSolver.dimensions(width, height);
+      for (final int[] appleRow : appleTable) {
+        streamingSolver.row(appleRow);
+      }
+
+      assertEquals(
+          new DynamicProgrammingSolutionStrategy().solve(new Garden(width, height, appleTable)),
+          streamingSolver.solution());
+    }
+  }
+
+}
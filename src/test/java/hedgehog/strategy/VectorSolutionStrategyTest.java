@@ -0,0 +1,76 @@
+package hedgehog.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hedgehog.exception.SolutionException;
+import hedgehog.model.Garden;
+import hedgehog.model.Gardens;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class VectorSolutionStrategyTest {
+
+  @Test
+  public void solve_nullGarden_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new VectorSolutionStrategy().solve((Garden) null));
+  }
+
+  @Test
+  public void solve_nullSkewedGarden_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new VectorSolutionStrategy().solve((SkewedGarden) null));
+  }
+
+  @Test
+  public void skew_nullGarden_shouldThrowIllegalArgument() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new VectorSolutionStrategy().skew(null));
+  }
+
+  @Test
+  public void solve_happyPathTest() throws SolutionException {
+    assertEquals(
+        12,
+        new VectorSolutionStrategy()
+            .solve(
+                new Garden.Builder()
+                    .width(3)
+                    .height(3)
+                    .appleRow(Arrays.asList(1, 2, 3))
+                    .appleRow(Arrays.asList(1, 3, 3))
+                    .appleRow(Arrays.asList(1, 2, 3))
+                    .build()));
+  }
+
+  @Test
+  public void solve_shouldMatchDynamicProgrammingSolutionStrategy() throws SolutionException {
+    final Random random = new Random(42);
+    for (int i = 0; i < 100; i++) {
+      final Garden garden =
+          Gardens.random(random, 1 + random.nextInt(100), 1 + random.nextInt(100));
+      final VectorSolutionStrategy vectorSolutionStrategy = new VectorSolutionStrategy();
+      final long expected = new DynamicProgrammingSolutionStrategy().solve(garden);
+      assertEquals(expected, vectorSolutionStrategy.solve(garden), garden.toString());
+      assertEquals(
+          expected,
+          vectorSolutionStrategy.solve(vectorSolutionStrategy.skew(garden)),
+          garden.toString());
+    }
+  }
+
+  @Test
+  public void solve_possibleIntOverflow_shouldMatchDynamicProgrammingSolutionStrategy()
+      throws SolutionException {
+    final Garden garden = new Garden(2, 2, new int[][] {{1, 1}, {1, Integer.MAX_VALUE - 2}});
+    assertEquals(
+        new DynamicProgrammingSolutionStrategy().solve(garden),
+        new VectorSolutionStrategy().solve(garden));
+  }
+
+}